@@ -2,7 +2,6 @@ package com.attendify.attendify_api.auth.controller;
 
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
@@ -17,7 +16,9 @@ import com.attendify.attendify_api.auth.dto.RegisterAdminRequestDTO;
 import com.attendify.attendify_api.auth.dto.RegisterRequestDTO;
 import com.attendify.attendify_api.auth.service.AuthService;
 import com.attendify.attendify_api.shared.dto.MessageResponseDTO;
+import com.attendify.attendify_api.shared.security.RequiresPermission;
 import com.attendify.attendify_api.shared.security.SecurityConstants;
+import com.attendify.attendify_api.user.entity.enums.Permission;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -66,7 +67,7 @@ public class AuthController {
     })
     @SecurityRequirement(name = "bearerAuth")
     @PostMapping("/register")
-    @PreAuthorize("hasAuthority('USER_FORCE_CREATE')")
+    @RequiresPermission(Permission.USER_FORCE_CREATE)
     public ResponseEntity<AuthResponseDTO> registerByAdmin(@Valid @RequestBody RegisterAdminRequestDTO dto) {
         return ResponseEntity
                 .status(HttpStatus.CREATED)
@@ -1,8 +1,11 @@
 package com.attendify.attendify_api.auth.entity;
 
+import java.time.LocalDateTime;
+
 import com.attendify.attendify_api.auth.entity.enums.TokenPurpose;
 import com.attendify.attendify_api.auth.entity.enums.TokenType;
 import com.attendify.attendify_api.shared.audit.SoftDeletableEntity;
+import com.attendify.attendify_api.shared.security.TokenHashUtils;
 import com.attendify.attendify_api.user.entity.User;
 
 import jakarta.persistence.Column;
@@ -13,7 +16,6 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
-import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
@@ -30,17 +32,16 @@ import lombok.NoArgsConstructor;
 @NoArgsConstructor
 @AllArgsConstructor
 @Entity
-@Table(name = "tokens", indexes = {
-        @Index(name = "index_token_value", columnList = "token")
-})
+@Table(name = "tokens")
 public class Token extends SoftDeletableEntity {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     @Column(name = "token_id")
     private Long id;
 
-    @Column(unique = true, nullable = false, length = 512)
-    private String token;
+    // SHA-256 digest of the refresh token, the raw token is never stored
+    @Column(name = "token_hash", unique = true, nullable = false, length = TokenHashUtils.SHA_256_LENGTH)
+    private byte[] tokenHash;
 
     @Enumerated(EnumType.STRING)
     @Column(nullable = false)
@@ -58,7 +59,22 @@ public class Token extends SoftDeletableEntity {
     @Column(nullable = false)
     private boolean expired;
 
+    @NotNull
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
+    // Set once revoked, the purge retention of a revoked token counts from here
+    @Column(name = "revoked_at")
+    private LocalDateTime revokedAt;
+
     @ManyToOne(fetch = FetchType.LAZY, optional = false)
     @JoinColumn(name = "user_id", nullable = false)
     private User user;
+
+    // Revoked tokens are also marked expired, as every revocation path always did
+    public void revoke() {
+        this.revoked = true;
+        this.expired = true;
+        this.revokedAt = LocalDateTime.now();
+    }
 }
@@ -0,0 +1,74 @@
+package com.attendify.attendify_api.auth.job;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.attendify.attendify_api.auth.repository.TokenRepository;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+// Periodically deletes refresh tokens that expired or were revoked past the retention window
+@Slf4j
+@Component
+public class TokenPurgeJob {
+    private final TokenRepository tokenRepository;
+    private final TokenPurgeProperties properties;
+    private final Counter purgedCounter;
+    private final Timer batchTimer;
+
+    public TokenPurgeJob(
+            TokenRepository tokenRepository,
+            TokenPurgeProperties properties,
+            MeterRegistry meterRegistry) {
+        this.tokenRepository = tokenRepository;
+        this.properties = properties;
+        this.purgedCounter = Counter.builder("attendify.tokens.purged")
+                .description("Refresh token rows deleted by the purge job")
+                .register(meterRegistry);
+        this.batchTimer = Timer.builder("attendify.tokens.purge.batch")
+                .description("Latency of a single token purge batch")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(
+            fixedDelayString = "${application.security.token-purge.interval:PT1H}",
+            initialDelayString = "${application.security.token-purge.initial-delay:PT5M}")
+    public void purge() {
+        if (!properties.isEnabled())
+            return;
+
+        LocalDateTime cutoff = LocalDateTime.now().minus(properties.getRetention());
+        int batchSize = properties.getBatchSize();
+
+        long total = 0L;
+
+        // Each batch deletes the oldest purgeable rows and commits on its own to keep locks short, the next one
+        // continues from where the index range now starts
+        while (true) {
+            Timer.Sample sample = Timer.start();
+
+            List<Long> ids = tokenRepository.findPurgeableIds(cutoff, batchSize);
+            if (ids.isEmpty())
+                break;
+
+            int deleted = tokenRepository.deleteAllByIdIn(ids);
+            sample.stop(batchTimer);
+
+            purgedCounter.increment(deleted);
+            total += deleted;
+
+            // A batch deleted by another instance meanwhile is not read again
+            if (ids.size() < batchSize || deleted == 0)
+                break;
+        }
+
+        if (total > 0)
+            log.info("Purged {} expired or revoked tokens older than {}", total, cutoff);
+    }
+}
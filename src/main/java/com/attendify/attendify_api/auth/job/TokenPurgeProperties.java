@@ -0,0 +1,27 @@
+package com.attendify.attendify_api.auth.job;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "application.security.token-purge")
+public class TokenPurgeProperties {
+    private boolean enabled = true;
+
+    // How long tokens are kept after they expire or are revoked, whichever comes first
+    @NotNull
+    private Duration retention = Duration.ofDays(7);
+
+    // Maximum rows deleted per transaction
+    @Min(1)
+    private int batchSize = 1000;
+}
@@ -1,5 +1,6 @@
 package com.attendify.attendify_api.auth.repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -15,7 +16,8 @@ import jakarta.transaction.Transactional;
 
 @Repository
 public interface TokenRepository extends JpaRepository<Token, Long> {
-    Optional<Token> findByToken(String token);
+    // Look up a token by the SHA-256 digest of its value
+    Optional<Token> findByTokenHash(byte[] tokenHash);
 
     // Fetch all non-expired and non-revoked tokens for a specific user
     @Query("""
@@ -31,11 +33,48 @@ public interface TokenRepository extends JpaRepository<Token, Long> {
     @Transactional
     @Query("""
                 UPDATE Token t
-                SET t.expired = true, t.revoked = true
+                SET t.expired = true, t.revoked = true, t.revokedAt = :now
                 WHERE t.user.id = :id
                 AND t.tokenPurpose = 'REFRESH'
                 AND t.expired = false
                 AND t.revoked = false
             """)
-    void revokeAllUserTokens(@Param("id") Long id);
+    void revokeAllUserTokens(@Param("id") Long id, @Param("now") LocalDateTime now);
+
+    // Revoke all active refresh tokens for a user and insert the new one in one round trip
+    @Modifying
+    @Transactional
+    @Query(value = """
+                WITH revoked AS (
+                    UPDATE tokens
+                    SET expired = true, revoked = true, revoked_at = :createdAt
+                    WHERE user_id = :userId
+                    AND token_purpose = 'REFRESH'
+                    AND expired = false
+                    AND revoked = false
+                )
+                INSERT INTO tokens (token_hash, token_type, token_purpose, revoked, expired, expires_at, user_id, created_at)
+                VALUES (:tokenHash, 'BEARER', 'REFRESH', false, false, :expiresAt, :userId, :createdAt)
+            """, nativeQuery = true)
+    int rotateRefreshToken(
+            @Param("userId") Long userId,
+            @Param("tokenHash") byte[] tokenHash,
+            @Param("expiresAt") LocalDateTime expiresAt,
+            @Param("createdAt") LocalDateTime createdAt);
+
+    // Up to limit IDs of tokens that expired or were revoked before the cutoff, oldest first. LEAST skips a null
+    // revoked_at, the expression is served by idx_tokens_purgeable_at (db/upgrade/005_token_purge.sql).
+    @Query(value = """
+                SELECT token_id FROM tokens
+                WHERE LEAST(expires_at, revoked_at) < :cutoff
+                ORDER BY LEAST(expires_at, revoked_at)
+                LIMIT :limit
+            """, nativeQuery = true)
+    List<Long> findPurgeableIds(@Param("cutoff") LocalDateTime cutoff, @Param("limit") int limit);
+
+    // Physically delete a batch of tokens by ID
+    @Modifying
+    @Transactional
+    @Query(value = "DELETE FROM tokens WHERE token_id IN (:ids)", nativeQuery = true)
+    int deleteAllByIdIn(@Param("ids") List<Long> ids);
 }
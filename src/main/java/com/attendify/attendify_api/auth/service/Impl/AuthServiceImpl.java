@@ -1,10 +1,13 @@
 package com.attendify.attendify_api.auth.service.Impl;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
 import java.util.Set;
 
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -23,11 +26,15 @@ import com.attendify.attendify_api.auth.enums.LogoutResult;
 import com.attendify.attendify_api.auth.enums.PasswordResult;
 import com.attendify.attendify_api.auth.repository.TokenRepository;
 import com.attendify.attendify_api.auth.service.AuthService;
+import com.attendify.attendify_api.event.cache.EventReadCache;
 import com.attendify.attendify_api.shared.exception.NotFoundException;
 import com.attendify.attendify_api.shared.security.CustomUserDetails;
 import com.attendify.attendify_api.shared.security.SecurityConstants;
 import com.attendify.attendify_api.shared.security.SecurityUtils;
+import com.attendify.attendify_api.shared.security.TokenHashUtils;
+import com.attendify.attendify_api.shared.security.jwt.JwtProperties;
 import com.attendify.attendify_api.shared.security.jwt.JwtService;
+import com.attendify.attendify_api.shared.security.jwt.VerifiedToken;
 import com.attendify.attendify_api.user.entity.User;
 import com.attendify.attendify_api.user.entity.enums.Role;
 import com.attendify.attendify_api.user.repository.UserRepository;
@@ -44,6 +51,8 @@ public class AuthServiceImpl implements AuthService {
     private final AuthenticationManager authenticationManager;
     private final TokenRepository tokenRepository;
     private final SecurityUtils securityUtils;
+    private final JwtProperties jwtProperties;
+    private final EventReadCache eventReadCache;
 
     @Override
     @Transactional
@@ -68,17 +77,26 @@ public class AuthServiceImpl implements AuthService {
     @Override
     @Transactional
     public AuthResponseDTO login(LoginRequestDTO dto) {
-        // Authenticate credentials against Spring Security
-        authenticationManager.authenticate(
+        // Authenticate credentials against Spring Security, this loads the user and its roles once
+        Authentication authentication = authenticationManager.authenticate(
                 new UsernamePasswordAuthenticationToken(
                         dto.email(),
                         dto.password()));
 
-        User user = getEmailOrElseThrow(dto.email());
+        if (!(authentication.getPrincipal() instanceof CustomUserDetails principal))
+            throw new BadCredentialsException("Invalid email or password");
 
-        tokenRepository.revokeAllUserTokens(user.getId());
+        var accessToken = jwtService.generateToken(principal, TokenPurpose.ACCESS);
+        var refreshToken = jwtService.generateToken(principal, TokenPurpose.REFRESH);
 
-        return generateTokens(user);
+        // Revoke previous refresh tokens and store the new one in a single statement
+        tokenRepository.rotateRefreshToken(
+                principal.getId(),
+                TokenHashUtils.sha256(refreshToken),
+                refreshTokenExpiresAt(),
+                LocalDateTime.now());
+
+        return new AuthResponseDTO(accessToken, refreshToken);
     }
 
     @Override
@@ -86,31 +104,29 @@ public class AuthServiceImpl implements AuthService {
     public AuthResponseDTO refreshToken(String header) {
         String refreshToken = extractToken(header);
 
-        final Long userId;
+        // Signature and expiry are verified once here
+        final VerifiedToken verifiedToken;
         try {
-            userId = jwtService.extractUserId(refreshToken);
+            verifiedToken = jwtService.verify(refreshToken);
         } catch (JwtException | IllegalArgumentException e) {
             throw new BadCredentialsException("Invalid or expired refresh token");
         }
 
-        var storedToken = tokenRepository.findByToken(refreshToken)
+        if (!verifiedToken.isPurpose(TokenPurpose.REFRESH))
+            throw new BadCredentialsException("Invalid or expired refresh token");
+
+        var storedToken = tokenRepository.findByTokenHash(TokenHashUtils.sha256(refreshToken))
                 .orElseThrow(() -> new BadCredentialsException("Refresh token not found"));
 
         if (storedToken.isExpired() || storedToken.isRevoked())
             throw new BadCredentialsException("Refresh token is no longer valid");
 
-        var userEntity = userRepository.findById(userId)
+        var userEntity = userRepository.findById(verifiedToken.userId())
                 .orElseThrow(() -> new NotFoundException(
                         "User not found"));
 
-        var userDetails = getUser(userEntity);
-
-        if (!jwtService.isTokenValid(refreshToken, userDetails))
-            throw new BadCredentialsException("Refresh token is no longer valid");
-
         // Revoke old refresh token and persist
-        storedToken.setExpired(true);
-        storedToken.setRevoked(true);
+        storedToken.revoke();
         tokenRepository.save(storedToken);
 
         return generateTokens(userEntity);
@@ -122,12 +138,12 @@ public class AuthServiceImpl implements AuthService {
         final String jwt = extractToken(header);
 
         try {
-            jwtService.extractUserId(jwt);
+            jwtService.verify(jwt);
         } catch (JwtException | IllegalArgumentException e) {
             return LogoutResult.TOKEN_NOT_FOUND;
         }
 
-        var refreshTokenOpt = tokenRepository.findByToken(jwt);
+        var refreshTokenOpt = tokenRepository.findByTokenHash(TokenHashUtils.sha256(jwt));
         if (refreshTokenOpt.isEmpty())
             return LogoutResult.TOKEN_NOT_FOUND;
 
@@ -136,8 +152,7 @@ public class AuthServiceImpl implements AuthService {
             return LogoutResult.ALREADY_REVOKED;
 
         // Revoke token to prevent further use
-        refreshToken.setRevoked(true);
-        refreshToken.setExpired(true);
+        refreshToken.revoke();
         tokenRepository.save(refreshToken);
 
         return LogoutResult.SUCCESS;
@@ -156,10 +171,11 @@ public class AuthServiceImpl implements AuthService {
 
         // Update password securely
         user.setPassword(passwordEncoder.encode(dto.newPassword()));
+        securityUtils.invalidateTokens(user);
         userRepository.save(user);
 
         // Revoke all tokens to enforce re-authentication
-        tokenRepository.revokeAllUserTokens(user.getId());
+        tokenRepository.revokeAllUserTokens(user.getId(), LocalDateTime.now());
 
         return PasswordResult.SUCCESS;
     }
@@ -180,10 +196,13 @@ public class AuthServiceImpl implements AuthService {
 
         // Update email
         user.setEmail(dto.newEmail());
+        securityUtils.invalidateTokens(user);
         userRepository.save(user);
+        // Cached event details show the old email
+        eventReadCache.evictAttendeeAfterCommit(user.getId());
 
         // Revoke all tokens to enforce re-authentication
-        tokenRepository.revokeAllUserTokens(user.getId());
+        tokenRepository.revokeAllUserTokens(user.getId(), LocalDateTime.now());
 
         return EmailResult.SUCCESS;
     }
@@ -210,11 +229,6 @@ public class AuthServiceImpl implements AuthService {
         return generateTokens(savedUser);
     }
 
-    private User getEmailOrElseThrow(String email) {
-        return userRepository.findByEmail(email)
-                .orElseThrow(() -> new BadCredentialsException("Invalid email or password"));
-    }
-
     private CustomUserDetails getUser(User user) {
         return new CustomUserDetails(user);
     }
@@ -224,15 +238,21 @@ public class AuthServiceImpl implements AuthService {
         var token = Token
                 .builder()
                 .user(user)
-                .token(jwt)
+                .tokenHash(TokenHashUtils.sha256(jwt))
                 .tokenType(TokenType.BEARER)
                 .tokenPurpose(TokenPurpose.REFRESH)
                 .expired(false)
                 .revoked(false)
+                .expiresAt(refreshTokenExpiresAt())
                 .build();
         tokenRepository.save(token);
     }
 
+    // Expiry recorded for a refresh token issued now
+    private LocalDateTime refreshTokenExpiresAt() {
+        return LocalDateTime.now().plus(Duration.ofMillis(jwtProperties.getRefreshExpirationMs()));
+    }
+
     // Generate both access and refresh tokens
     private AuthResponseDTO generateTokens(User user) {
         var accessToken = jwtService.generateToken(getUser(user), TokenPurpose.ACCESS);
@@ -0,0 +1,36 @@
+package com.attendify.attendify_api.event.cache;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "application.events.cache")
+public class EventCacheProperties {
+    // Serves event details and listings from memory, writes evict them on commit
+    private boolean enabled = true;
+
+    // Longest time an entry is served, bounds what other nodes may still see after a write
+    @NotNull
+    private Duration ttl = Duration.ofSeconds(30);
+
+    // Independently locked partitions of each cache, rounded up to a power of two
+    @Min(1)
+    private int stripes = 16;
+
+    // Event details kept across all stripes, least recently read ones are dropped beyond this
+    @Min(1)
+    private int maxDetails = 10_000;
+
+    // Listing pages kept across all stripes, least recently read ones are dropped beyond this
+    @Min(1)
+    private int maxListings = 2_000;
+}
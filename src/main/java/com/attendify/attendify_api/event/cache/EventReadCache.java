@@ -0,0 +1,149 @@
+package com.attendify.attendify_api.event.cache;
+
+import java.util.Locale;
+import java.util.function.Supplier;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.attendify.attendify_api.event.dto.EventFilterDTO;
+import com.attendify.attendify_api.event.dto.EventResponseDTO;
+import com.attendify.attendify_api.event.dto.EventSimpleDTO;
+import com.attendify.attendify_api.event.entity.enums.EventLocation;
+import com.attendify.attendify_api.event.entity.enums.EventSearchMode;
+import com.attendify.attendify_api.event.entity.enums.EventStatus;
+import com.attendify.attendify_api.shared.dto.PageResponseDTO;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+// Event details by ID and listing pages by filter, served from memory. Misses are loaded in their own read-only
+// transaction, so hits never take a database connection.
+// A detail is evicted when its event, its registrations, its categories or the attendees it shows change. A listing may
+// gain or lose any event on a write, so event and category writes drop every listing.
+@Component
+public class EventReadCache {
+    private final EventCacheProperties properties;
+    private final TransactionTemplate readOnlyTransaction;
+    private final ExpiringLruCache<Long, EventResponseDTO> details;
+    private final ExpiringLruCache<ListingKey, PageResponseDTO<EventSimpleDTO>> listings;
+
+    public EventReadCache(
+            EventCacheProperties properties,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+
+        long ttlNanos = properties.getTtl().toNanos();
+        this.details = new ExpiringLruCache<>("detail", properties.getMaxDetails(), properties.getStripes(),
+                ttlNanos, meterRegistry);
+        this.listings = new ExpiringLruCache<>("listing", properties.getMaxListings(), properties.getStripes(),
+                ttlNanos, meterRegistry);
+    }
+
+    public EventResponseDTO detail(Long eventId, Supplier<EventResponseDTO> loader) {
+        if (!properties.isEnabled())
+            return load(loader);
+
+        return details.get(eventId, () -> load(loader));
+    }
+
+    public PageResponseDTO<EventSimpleDTO> listing(
+            EventFilterDTO filter,
+            Pageable pageable,
+            boolean count,
+            Supplier<PageResponseDTO<EventSimpleDTO>> loader) {
+        if (!properties.isEnabled())
+            return load(loader);
+
+        return listings.get(ListingKey.of(filter, pageable, count), () -> load(loader));
+    }
+
+    // The event itself changed, it may also have entered or left any listing
+    public void evictEventAfterCommit(Long eventId) {
+        afterCommit(() -> {
+            details.invalidate(eventId);
+            listings.invalidateAll();
+        });
+    }
+
+    // Registrations of the event changed, only its count and first attendees in the detail are affected
+    public void evictDetailAfterCommit(Long eventId) {
+        afterCommit(() -> details.invalidate(eventId));
+    }
+
+    // Details embed category names and keyword listings match them
+    public void evictCategoryAfterCommit(Long categoryId) {
+        afterCommit(() -> {
+            details.invalidateIf(detail -> detail.categories().stream()
+                    .anyMatch(category -> category.id().equals(categoryId)));
+            listings.invalidateAll();
+        });
+    }
+
+    // Details embed the email and roles of their first attendees, a deleted attendee also leaves the list
+    public void evictAttendeeAfterCommit(Long userId) {
+        afterCommit(() -> details.invalidateIf(detail -> detail.registeredUsers().stream()
+                .anyMatch(user -> user.id().equals(userId))));
+    }
+
+    // A restored user may rejoin the first attendees of any event
+    public void evictDetailsAfterCommit() {
+        afterCommit(details::invalidateAll);
+    }
+
+    private <T> T load(Supplier<T> loader) {
+        return readOnlyTransaction.execute(status -> loader.get());
+    }
+
+    private void afterCommit(Runnable eviction) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            eviction.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                eviction.run();
+            }
+        });
+    }
+
+    // Filters that return the same events map to the same key: text is case and spacing insensitive in every mode
+    record ListingKey(
+            String text,
+            EventSearchMode searchMode,
+            boolean sortByRank,
+            boolean onlyUpcoming,
+            EventLocation location,
+            EventStatus status,
+            long offset,
+            int size,
+            String sort,
+            boolean count) {
+
+        static ListingKey of(EventFilterDTO filter, Pageable pageable, boolean count) {
+            String text = filter.text() == null || filter.text().isBlank()
+                    ? null
+                    : filter.text().trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+
+            return new ListingKey(
+                    text,
+                    text == null ? null : filter.searchMode(),
+                    text != null && Boolean.TRUE.equals(filter.sortByRank()),
+                    Boolean.TRUE.equals(filter.onlyUpcoming()),
+                    filter.location(),
+                    filter.status(),
+                    pageable.getOffset(),
+                    pageable.getPageSize(),
+                    pageable.getSort().toString(),
+                    count);
+        }
+    }
+}
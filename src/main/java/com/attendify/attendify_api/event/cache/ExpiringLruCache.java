@@ -0,0 +1,162 @@
+package com.attendify.attendify_api.event.cache;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+// Size and TTL bounded map split into independently locked LRU stripes.
+// A value loaded while an invalidation of its stripe ran is returned but not kept, so a read racing a write never pins
+// stale data. Invalidating one key only holds back loads of its own stripe.
+final class ExpiringLruCache<K, V> {
+    private final Stripe<K, V>[] stripes;
+    private final int stripeMask;
+    private final long ttlNanos;
+
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter expired;
+    private final Counter evicted;
+    private final Counter invalidated;
+
+    @SuppressWarnings("unchecked")
+    ExpiringLruCache(String name, int maxEntries, int stripeCount, long ttlNanos, MeterRegistry meterRegistry) {
+        int count = 1;
+        while (count < stripeCount)
+            count <<= 1;
+
+        this.evicted = evictions(meterRegistry, name, "size");
+        this.stripes = new Stripe[count];
+        for (int i = 0; i < count; i++)
+            stripes[i] = new Stripe<>(Math.max(1, maxEntries / count), evicted);
+
+        this.stripeMask = count - 1;
+        this.ttlNanos = ttlNanos;
+        this.hits = Counter.builder("attendify.events.cache.gets")
+                .tag("cache", name)
+                .tag("result", "hit")
+                .description("Reads of the event cache")
+                .register(meterRegistry);
+        this.misses = Counter.builder("attendify.events.cache.gets")
+                .tag("cache", name)
+                .tag("result", "miss")
+                .description("Reads of the event cache")
+                .register(meterRegistry);
+        this.expired = evictions(meterRegistry, name, "expired");
+        this.invalidated = evictions(meterRegistry, name, "invalidated");
+
+        Gauge.builder("attendify.events.cache.size", this, ExpiringLruCache::size)
+                .tag("cache", name)
+                .description("Entries held by the event cache")
+                .register(meterRegistry);
+    }
+
+    V get(K key, Supplier<V> loader) {
+        Stripe<K, V> stripe = stripeFor(key);
+        long loadedIn;
+
+        synchronized (stripe) {
+            loadedIn = stripe.generation;
+            Entry<V> entry = stripe.entries.get(key);
+
+            if (entry != null) {
+                if (System.nanoTime() - entry.loadedAt() < ttlNanos) {
+                    hits.increment();
+                    return entry.value();
+                }
+
+                stripe.entries.remove(key);
+                expired.increment();
+            }
+        }
+
+        misses.increment();
+
+        V value = loader.get();
+
+        synchronized (stripe) {
+            if (stripe.generation == loadedIn)
+                stripe.entries.put(key, new Entry<>(value, System.nanoTime()));
+        }
+
+        return value;
+    }
+
+    void invalidate(K key) {
+        Stripe<K, V> stripe = stripeFor(key);
+
+        synchronized (stripe) {
+            stripe.generation++;
+            if (stripe.entries.remove(key) != null)
+                invalidated.increment();
+        }
+    }
+
+    void invalidateIf(Predicate<V> condition) {
+        for (Stripe<K, V> stripe : stripes) {
+            synchronized (stripe) {
+                stripe.generation++;
+                int before = stripe.entries.size();
+                stripe.entries.values().removeIf(entry -> condition.test(entry.value()));
+                invalidated.increment(before - stripe.entries.size());
+            }
+        }
+    }
+
+    void invalidateAll() {
+        invalidateIf(value -> true);
+    }
+
+    int size() {
+        int size = 0;
+
+        for (Stripe<K, V> stripe : stripes) {
+            synchronized (stripe) {
+                size += stripe.entries.size();
+            }
+        }
+
+        return size;
+    }
+
+    private Stripe<K, V> stripeFor(K key) {
+        int hash = key.hashCode();
+        return stripes[(hash ^ (hash >>> 16)) & stripeMask];
+    }
+
+    private static Counter evictions(MeterRegistry meterRegistry, String name, String cause) {
+        return Counter.builder("attendify.events.cache.evictions")
+                .tag("cache", name)
+                .tag("cause", cause)
+                .description("Entries dropped from the event cache")
+                .register(meterRegistry);
+    }
+
+    private record Entry<V>(V value, long loadedAt) {
+    }
+
+    private static final class Stripe<K, V> {
+        // Access-ordered, the eldest entry is the least recently read
+        private final Map<K, Entry<V>> entries;
+
+        // Bumped by every invalidation reaching the stripe, loads that started before it are not stored
+        private long generation;
+
+        Stripe(int maxEntries, Counter evicted) {
+            this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<K, Entry<V>> eldest) {
+                    if (size() <= maxEntries)
+                        return false;
+
+                    evicted.increment();
+                    return true;
+                }
+            };
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.attendify.attendify_api.event.checkin;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.attendify.attendify_api.event.entity.enums.EventStatus;
+import com.attendify.attendify_api.event.repository.EventRepository;
+import com.attendify.attendify_api.shared.exception.NotFoundException;
+
+import lombok.RequiredArgsConstructor;
+
+// Short-lived copy of the event fields a scan is authorized against, so a door full of scanners reads each event once per TTL.
+// Updates and deletes drop the entry on commit, the TTL only bounds what other nodes may still see.
+@Component
+@RequiredArgsConstructor
+public class CheckInEventCache {
+    // Expired entries are swept once the table grows beyond this size
+    private static final int SWEEP_THRESHOLD = 1_000;
+
+    private final EventRepository eventRepository;
+    private final CheckInProperties properties;
+    private final Map<Long, Entry> windows = new ConcurrentHashMap<>();
+
+    public EventWindow get(Long eventId) {
+        long now = System.nanoTime();
+        Entry entry = windows.get(eventId);
+
+        if (entry != null && now - entry.loadedAt() < properties.getEventCacheTtl().toNanos())
+            return entry.window();
+
+        EventWindow window = eventRepository.findById(eventId)
+                .map(event -> new EventWindow(event.getCreatedBy(), event.getStatus(), event.getStartDate()))
+                .orElseThrow(() -> new NotFoundException("Event not found"));
+
+        windows.put(eventId, new Entry(window, now));
+
+        if (windows.size() > SWEEP_THRESHOLD)
+            windows.values().removeIf(stale -> now - stale.loadedAt() >= properties.getEventCacheTtl().toNanos());
+
+        return window;
+    }
+
+    // Drops the cached window once the surrounding transaction commits
+    public void invalidateAfterCommit(Long eventId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            windows.remove(eventId);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                windows.remove(eventId);
+            }
+        });
+    }
+
+    public record EventWindow(Long ownerId, EventStatus status, LocalDateTime startDate) {
+    }
+
+    private record Entry(EventWindow window, long loadedAt) {
+    }
+}
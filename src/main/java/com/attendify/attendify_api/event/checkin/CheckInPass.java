@@ -0,0 +1,5 @@
+package com.attendify.attendify_api.event.checkin;
+
+// Identifiers carried by a signed check-in pass
+public record CheckInPass(Long registrationId, Long eventId, Long userId) {
+}
@@ -0,0 +1,107 @@
+package com.attendify.attendify_api.event.checkin;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.util.Arrays;
+import java.util.Base64;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import com.attendify.attendify_api.shared.security.jwt.JwtProperties;
+
+import io.jsonwebtoken.io.Decoders;
+
+// Issues and verifies check-in passes: version, registration, event and user ids followed by a truncated HMAC-SHA256.
+// The signing key is derived from the JWT secret under its own label, so a pass can never be replayed as a token or vice versa.
+@Component
+public class CheckInPassCodec {
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final byte[] KEY_LABEL = "attendify-check-in-pass".getBytes(StandardCharsets.US_ASCII);
+
+    private static final byte VERSION = 1;
+    private static final int PAYLOAD_LENGTH = 1 + 3 * Long.BYTES;
+    // 128 bits of tag are plenty for an online check that never reveals which byte was wrong
+    private static final int TAG_LENGTH = 16;
+    private static final int PASS_LENGTH = PAYLOAD_LENGTH + TAG_LENGTH;
+
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+    private static final int ENCODED_LENGTH = ENCODER.encodeToString(new byte[PASS_LENGTH]).length();
+
+    private final SecretKeySpec passKey;
+    // Mac instances are not thread-safe, one per scanner thread avoids a provider lookup per pass
+    private final ThreadLocal<Mac> macs;
+
+    @Autowired
+    public CheckInPassCodec(JwtProperties jwtProperties) {
+        this(Decoders.BASE64.decode(jwtProperties.getSecretKey()));
+    }
+
+    CheckInPassCodec(byte[] secret) {
+        this.passKey = new SecretKeySpec(hmac(new SecretKeySpec(secret, ALGORITHM), KEY_LABEL), ALGORITHM);
+        this.macs = ThreadLocal.withInitial(() -> newMac(passKey));
+    }
+
+    public String issue(CheckInPass pass) {
+        ByteBuffer buffer = ByteBuffer.allocate(PASS_LENGTH)
+                .put(VERSION)
+                .putLong(pass.registrationId())
+                .putLong(pass.eventId())
+                .putLong(pass.userId());
+
+        Mac mac = macs.get();
+        mac.update(buffer.array(), 0, PAYLOAD_LENGTH);
+        buffer.put(mac.doFinal(), 0, TAG_LENGTH);
+
+        return ENCODER.encodeToString(buffer.array());
+    }
+
+    // Returns the pass carried by the encoded value, or null when it is malformed or its signature does not match
+    public CheckInPass verify(String encoded) {
+        if (encoded == null || encoded.length() != ENCODED_LENGTH)
+            return null;
+
+        byte[] bytes;
+
+        try {
+            bytes = DECODER.decode(encoded);
+        } catch (IllegalArgumentException ex) {
+            return null;
+        }
+
+        if (bytes.length != PASS_LENGTH || bytes[0] != VERSION)
+            return null;
+
+        Mac mac = macs.get();
+        mac.update(bytes, 0, PAYLOAD_LENGTH);
+        byte[] expected = Arrays.copyOf(mac.doFinal(), TAG_LENGTH);
+
+        // Constant-time comparison, the tag must not leak through response timing
+        if (!MessageDigest.isEqual(expected, Arrays.copyOfRange(bytes, PAYLOAD_LENGTH, PASS_LENGTH)))
+            return null;
+
+        ByteBuffer buffer = ByteBuffer.wrap(bytes, 1, PAYLOAD_LENGTH - 1);
+
+        return new CheckInPass(buffer.getLong(), buffer.getLong(), buffer.getLong());
+    }
+
+    private static byte[] hmac(SecretKeySpec key, byte[] data) {
+        return newMac(key).doFinal(data);
+    }
+
+    private static Mac newMac(SecretKeySpec key) {
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(key);
+            return mac;
+        } catch (GeneralSecurityException ex) {
+            throw new IllegalStateException("HmacSHA256 is not available", ex);
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.attendify.attendify_api.event.checkin;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "application.events.check-in")
+public class CheckInProperties {
+    // Check-ins written per UPDATE batch
+    @Min(1)
+    private int batchSize = 500;
+
+    // Longest time a scanned pass waits for its batch to fill up
+    @NotNull
+    private Duration flushInterval = Duration.ofMillis(50);
+
+    // Scanned passes allowed to wait for the writer before new ones are answered with 429
+    @Min(1)
+    private int queueCapacity = 20_000;
+
+    // How long the owner, status and start date of an event are trusted before being read again
+    @NotNull
+    private Duration eventCacheTtl = Duration.ofSeconds(30);
+}
@@ -0,0 +1,166 @@
+package com.attendify.attendify_api.event.checkin;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.context.SmartLifecycle;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+// Persists check-ins of scanned passes in batches on a dedicated thread.
+// The update only matches an active, not yet checked-in registration with all three ids of the pass,
+// so repeated scans and passes of cancelled registrations are dropped by the database.
+@Slf4j
+@Component
+public class CheckInWriteBehind implements SmartLifecycle {
+    private static final String CHECK_IN = """
+                UPDATE event_registrations
+                SET checked_in = true, updated_at = ?, updated_by = ?, roster_version = pg_current_xact_id()::text::bigint
+                WHERE event_registration_id = ?
+                  AND event_id = ?
+                  AND user_id = ?
+                  AND deleted_at IS NULL
+                  AND checked_in = false
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final CheckInProperties properties;
+    private final BlockingQueue<PendingCheckIn> queue;
+
+    private final Counter writtenCounter;
+    private final Counter ignoredCounter;
+    private final Timer batchTimer;
+
+    private volatile boolean running;
+    private Thread worker;
+
+    public CheckInWriteBehind(
+            JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            CheckInProperties properties,
+            MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.properties = properties;
+        this.queue = new ArrayBlockingQueue<>(properties.getQueueCapacity());
+        this.writtenCounter = Counter.builder("attendify.check-in.write-behind.written")
+                .description("Scanned check-ins persisted by the batch writer")
+                .register(meterRegistry);
+        this.ignoredCounter = Counter.builder("attendify.check-in.write-behind.ignored")
+                .description("Scanned check-ins matching no active, unchecked registration")
+                .register(meterRegistry);
+        this.batchTimer = Timer.builder("attendify.check-in.write-behind.batch")
+                .description("Latency of a single check-in batch")
+                .register(meterRegistry);
+        Gauge.builder("attendify.check-in.write-behind.queued", queue, BlockingQueue::size)
+                .description("Check-ins waiting for the batch writer")
+                .register(meterRegistry);
+    }
+
+    // Hands a check-in to the writer, returns false when the queue is full
+    public boolean offer(PendingCheckIn checkIn) {
+        return running && queue.offer(checkIn);
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        worker = new Thread(this::run, "check-in-write-behind");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        worker.interrupt();
+
+        try {
+            worker.join(TimeUnit.SECONDS.toMillis(30));
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void run() {
+        List<PendingCheckIn> batch = new ArrayList<>(properties.getBatchSize());
+        long flushIntervalNanos = properties.getFlushInterval().toNanos();
+
+        // Keeps going after stop() until everything accepted so far is written
+        while (running || !queue.isEmpty() || !batch.isEmpty()) {
+            try {
+                if (batch.isEmpty()) {
+                    PendingCheckIn first = queue.poll(flushIntervalNanos, TimeUnit.NANOSECONDS);
+                    if (first == null)
+                        continue;
+                    batch.add(first);
+                }
+
+                queue.drainTo(batch, properties.getBatchSize() - batch.size());
+                write(batch);
+                batch.clear();
+            } catch (InterruptedException ex) {
+                // Woken up by stop(), the loop condition decides whether work is left
+            } catch (RuntimeException ex) {
+                if (!running) {
+                    log.error("Dropping {} scanned check-ins on shutdown", batch.size() + queue.size(), ex);
+                    return;
+                }
+
+                // The update is idempotent, retrying a partially applied batch is safe
+                log.error("Failed to write {} scanned check-ins, retrying", batch.size(), ex);
+                pauseBeforeRetry();
+            }
+        }
+    }
+
+    private void write(List<PendingCheckIn> batch) {
+        Timer.Sample sample = Timer.start();
+
+        int[] updated = transactionTemplate.execute(status -> jdbcTemplate.batchUpdate(CHECK_IN, batch, batch.size(),
+                (ps, checkIn) -> {
+                    ps.setTimestamp(1, Timestamp.valueOf(checkIn.checkedInAt()));
+                    ps.setLong(2, checkIn.checkedInBy());
+                    ps.setLong(3, checkIn.pass().registrationId());
+                    ps.setLong(4, checkIn.pass().eventId());
+                    ps.setLong(5, checkIn.pass().userId());
+                })[0]);
+
+        int written = 0;
+
+        for (int rows : updated) {
+            if (rows != 0)
+                written++;
+        }
+
+        writtenCounter.increment(written);
+        ignoredCounter.increment(batch.size() - written);
+        sample.stop(batchTimer);
+    }
+
+    private void pauseBeforeRetry() {
+        try {
+            TimeUnit.SECONDS.sleep(1);
+        } catch (InterruptedException ex) {
+            // Woken up by stop(), retry right away
+        }
+    }
+}
@@ -0,0 +1,7 @@
+package com.attendify.attendify_api.event.checkin;
+
+import java.time.LocalDateTime;
+
+// A verified pass waiting to be written by the check-in batch writer
+public record PendingCheckIn(CheckInPass pass, Long checkedInBy, LocalDateTime checkedInAt) {
+}
@@ -5,7 +5,6 @@ import java.net.URI;
 import org.springdoc.core.annotations.ParameterObject;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -13,6 +12,7 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.attendify.attendify_api.event.dto.CategoryRequestDTO;
@@ -20,6 +20,8 @@ import com.attendify.attendify_api.event.dto.CategoryResponseDTO;
 import com.attendify.attendify_api.event.dto.CategorySimpleDTO;
 import com.attendify.attendify_api.event.service.CategoryService;
 import com.attendify.attendify_api.shared.dto.PageResponseDTO;
+import com.attendify.attendify_api.shared.security.RequiresPermission;
+import com.attendify.attendify_api.user.entity.enums.Permission;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -52,7 +54,7 @@ public class CategoryController {
     })
     @SecurityRequirement(name = "bearerAuth")
     @PostMapping
-    @PreAuthorize("hasAuthority('CATEGORY_CREATE')")
+    @RequiresPermission(Permission.CATEGORY_CREATE)
     public ResponseEntity<CategoryResponseDTO> createCategory(@Valid @RequestBody CategoryRequestDTO dto) {
         CategoryResponseDTO created = categoryService.create(dto);
 
@@ -74,7 +76,7 @@ public class CategoryController {
     })
     @SecurityRequirement(name = "bearerAuth")
     @PutMapping("/{id}")
-    @PreAuthorize("hasAuthority('CATEGORY_UPDATE')")
+    @RequiresPermission(Permission.CATEGORY_UPDATE)
     public ResponseEntity<CategoryResponseDTO> updateCategory(
             @PathVariable Long id,
             @Valid @RequestBody CategoryRequestDTO dto) {
@@ -96,7 +98,7 @@ public class CategoryController {
     })
     @SecurityRequirement(name = "bearerAuth")
     @DeleteMapping("/{id}")
-    @PreAuthorize("hasAuthority('CATEGORY_DELETE')")
+    @RequiresPermission(Permission.CATEGORY_DELETE)
     public ResponseEntity<Void> deleteCategory(@PathVariable Long id) {
         categoryService.delete(id);
 
@@ -117,7 +119,7 @@ public class CategoryController {
     })
     @SecurityRequirement(name = "bearerAuth")
     @PutMapping("/{id}/restore")
-    @PreAuthorize("hasAuthority('CATEGORY_RESTORE')")
+    @RequiresPermission(Permission.CATEGORY_RESTORE)
     public ResponseEntity<Void> restoreCategory(@PathVariable Long id) {
         categoryService.restore(id);
 
@@ -151,8 +153,10 @@ public class CategoryController {
     })
     @SecurityRequirement(name = "bearerAuth")
     @GetMapping
-    public ResponseEntity<PageResponseDTO<CategorySimpleDTO>> getAllCategories(@ParameterObject Pageable pageable) {
-        return ResponseEntity.ok(categoryService.findAll(pageable));
+    public ResponseEntity<PageResponseDTO<CategorySimpleDTO>> getAllCategories(
+            @ParameterObject Pageable pageable,
+            @RequestParam(defaultValue = "true") boolean count) {
+        return ResponseEntity.ok(categoryService.findAll(pageable, count));
     }
 
     @Operation(
@@ -167,9 +171,11 @@ public class CategoryController {
     })
     @SecurityRequirement(name = "bearerAuth")
     @GetMapping("/deleted")
-    @PreAuthorize("hasAuthority('CATEGORY_READ_DELETED')")
-    public ResponseEntity<PageResponseDTO<CategorySimpleDTO>> getAllCategoriesDeleted(@ParameterObject Pageable pageable) {
-        return ResponseEntity.ok(categoryService.findAllDeleted(pageable));
+    @RequiresPermission(Permission.CATEGORY_READ_DELETED)
+    public ResponseEntity<PageResponseDTO<CategorySimpleDTO>> getAllCategoriesDeleted(
+            @ParameterObject Pageable pageable,
+            @RequestParam(defaultValue = "true") boolean count) {
+        return ResponseEntity.ok(categoryService.findAllDeleted(pageable, count));
     }
 
     @Operation(
@@ -184,8 +190,10 @@ public class CategoryController {
     })
     @SecurityRequirement(name = "bearerAuth")
     @GetMapping("/with-deleted")
-    @PreAuthorize("hasAuthority('CATEGORY_READ_WITH_DELETED')")
-    public ResponseEntity<PageResponseDTO<CategorySimpleDTO>> getAllCategoriesWithDeleted(@ParameterObject Pageable pageable) {
-        return ResponseEntity.ok(categoryService.findAllWithDeleted(pageable));
+    @RequiresPermission(Permission.CATEGORY_READ_WITH_DELETED)
+    public ResponseEntity<PageResponseDTO<CategorySimpleDTO>> getAllCategoriesWithDeleted(
+            @ParameterObject Pageable pageable,
+            @RequestParam(defaultValue = "true") boolean count) {
+        return ResponseEntity.ok(categoryService.findAllWithDeleted(pageable, count));
     }
 }
@@ -1,11 +1,11 @@
 package com.attendify.attendify_api.event.controller;
 
 import java.net.URI;
+import java.util.List;
 
 import org.springdoc.core.annotations.ParameterObject;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -13,14 +13,18 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.attendify.attendify_api.event.dto.EventFilterDTO;
 import com.attendify.attendify_api.event.dto.EventRequestDTO;
 import com.attendify.attendify_api.event.dto.EventResponseDTO;
 import com.attendify.attendify_api.event.dto.EventSimpleDTO;
+import com.attendify.attendify_api.event.dto.EventSuggestionDTO;
 import com.attendify.attendify_api.event.service.EventService;
 import com.attendify.attendify_api.shared.dto.PageResponseDTO;
+import com.attendify.attendify_api.shared.security.RequiresPermission;
+import com.attendify.attendify_api.user.entity.enums.Permission;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -28,6 +32,8 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import lombok.RequiredArgsConstructor;
 
 @Tag(
@@ -53,7 +59,7 @@ public class EventController {
     })
     @SecurityRequirement(name = "bearerAuth")
     @PostMapping
-    @PreAuthorize("hasAuthority('EVENT_CREATE')")
+    @RequiresPermission(Permission.EVENT_CREATE)
     public ResponseEntity<EventResponseDTO> createEvent(@Valid @RequestBody EventRequestDTO dto) {
         EventResponseDTO created = eventService.create(dto);
 
@@ -75,7 +81,7 @@ public class EventController {
     })
     @SecurityRequirement(name = "bearerAuth")
     @PutMapping("/{id}")
-    @PreAuthorize("hasAuthority('EVENT_UPDATE')")
+    @RequiresPermission(Permission.EVENT_UPDATE)
     public ResponseEntity<EventResponseDTO> updateEvent(
             @PathVariable Long id,
             @Valid @RequestBody EventRequestDTO dto) {
@@ -97,7 +103,7 @@ public class EventController {
     })
     @SecurityRequirement(name = "bearerAuth")
     @DeleteMapping("/{id}")
-    @PreAuthorize("hasAuthority('EVENT_DELETE')")
+    @RequiresPermission(Permission.EVENT_DELETE)
     public ResponseEntity<Void> deleteEvent(@PathVariable Long id) {
         eventService.delete(id);
 
@@ -118,7 +124,7 @@ public class EventController {
     })
     @SecurityRequirement(name = "bearerAuth")
     @PutMapping("/{id}/restore")
-    @PreAuthorize("hasAuthority('EVENT_RESTORE')")
+    @RequiresPermission(Permission.EVENT_RESTORE)
     public ResponseEntity<Void> restoreEvent(@PathVariable Long id) {
         eventService.restore(id);
 
@@ -126,6 +132,23 @@ public class EventController {
         return ResponseEntity.noContent().build();
     }
 
+    @Operation(
+        summary = "Suggest events and categories",
+        description = "Returns up to limit published events and categories having a word that starts with the prefix, for search-as-you-type. Served from memory, no count and no pagination."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Suggestions retrieved successfully"),
+            @ApiResponse(responseCode = "400", description = "Invalid limit"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized")
+    })
+    @SecurityRequirement(name = "bearerAuth")
+    @GetMapping("/suggest")
+    public ResponseEntity<List<EventSuggestionDTO>> suggest(
+            @RequestParam String prefix,
+            @RequestParam(defaultValue = "10") @Min(1) @Max(20) int limit) {
+        return ResponseEntity.ok(eventService.suggest(prefix, limit));
+    }
+
     @Operation(
         summary = "Get event by ID",
         description = "Retrieves a single active event by its ID."
@@ -154,8 +177,9 @@ public class EventController {
     @GetMapping
     public ResponseEntity<PageResponseDTO<EventSimpleDTO>> getAllEvents(
             @ParameterObject EventFilterDTO eventFilter,
-            @ParameterObject Pageable pageable) {
-        return ResponseEntity.ok(eventService.findAll(eventFilter, pageable));
+            @ParameterObject Pageable pageable,
+            @RequestParam(defaultValue = "true") boolean count) {
+        return ResponseEntity.ok(eventService.findAll(eventFilter, pageable, count));
     }
 
     @Operation(
@@ -172,8 +196,9 @@ public class EventController {
     @GetMapping("/{id}/category")
     public ResponseEntity<PageResponseDTO<EventSimpleDTO>> getByCategory(
             @PathVariable Long id,
-            @ParameterObject Pageable pageable) {
-        return ResponseEntity.ok(eventService.findByCategory(id, pageable));
+            @ParameterObject Pageable pageable,
+            @RequestParam(defaultValue = "true") boolean count) {
+        return ResponseEntity.ok(eventService.findByCategory(id, pageable, count));
     }
 
     @Operation(
@@ -188,9 +213,11 @@ public class EventController {
     })
     @SecurityRequirement(name = "bearerAuth")
     @GetMapping("/deleted")
-    @PreAuthorize("hasAuthority('EVENT_READ_DELETED')")
-    public ResponseEntity<PageResponseDTO<EventSimpleDTO>> getAllEventsDeleted(@ParameterObject Pageable pageable) {
-        return ResponseEntity.ok(eventService.findAllDeleted(pageable));
+    @RequiresPermission(Permission.EVENT_READ_DELETED)
+    public ResponseEntity<PageResponseDTO<EventSimpleDTO>> getAllEventsDeleted(
+            @ParameterObject Pageable pageable,
+            @RequestParam(defaultValue = "true") boolean count) {
+        return ResponseEntity.ok(eventService.findAllDeleted(pageable, count));
     }
 
     @Operation(
@@ -205,8 +232,10 @@ public class EventController {
     })
     @SecurityRequirement(name = "bearerAuth")
     @GetMapping("/with-deleted")
-    @PreAuthorize("hasAuthority('EVENT_READ_WITH_DELETED')")
-    public ResponseEntity<PageResponseDTO<EventSimpleDTO>> getAllWithDeleted(@ParameterObject Pageable pageable) {
-        return ResponseEntity.ok(eventService.findAllWithDeleted(pageable));
+    @RequiresPermission(Permission.EVENT_READ_WITH_DELETED)
+    public ResponseEntity<PageResponseDTO<EventSimpleDTO>> getAllWithDeleted(
+            @ParameterObject Pageable pageable,
+            @RequestParam(defaultValue = "true") boolean count) {
+        return ResponseEntity.ok(eventService.findAllWithDeleted(pageable, count));
     }
 }
@@ -1,11 +1,13 @@
 package com.attendify.attendify_api.event.controller;
 
 import java.net.URI;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
 
 import org.springdoc.core.annotations.ParameterObject;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -13,13 +15,30 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import com.attendify.attendify_api.event.dto.EventRegistrationAdminRequestDTO;
+import com.attendify.attendify_api.event.dto.EventRegistrationBulkRequestDTO;
+import com.attendify.attendify_api.event.dto.EventRegistrationBulkResponseDTO;
+import com.attendify.attendify_api.event.dto.EventRegistrationCheckInBatchRequestDTO;
+import com.attendify.attendify_api.event.dto.EventRegistrationCheckInBatchResponseDTO;
 import com.attendify.attendify_api.event.dto.EventRegistrationRequestDTO;
+import com.attendify.attendify_api.event.dto.EventRegistrationPassDTO;
 import com.attendify.attendify_api.event.dto.EventRegistrationResponseDTO;
+import com.attendify.attendify_api.event.dto.EventRegistrationScanRequestDTO;
+import com.attendify.attendify_api.event.dto.EventRegistrationScanResponseDTO;
+import com.attendify.attendify_api.event.dto.EventRegistrationTicketDTO;
+import com.attendify.attendify_api.event.dto.EventRosterReconcileRequestDTO;
+import com.attendify.attendify_api.event.dto.EventRosterReconcileResponseDTO;
+import com.attendify.attendify_api.event.dto.WaitlistPositionDTO;
+import com.attendify.attendify_api.event.roster.RosterStream;
 import com.attendify.attendify_api.event.service.EventRegistrationService;
+import com.attendify.attendify_api.shared.dto.CursorPageResponseDTO;
 import com.attendify.attendify_api.shared.dto.PageResponseDTO;
+import com.attendify.attendify_api.shared.security.RequiresPermission;
+import com.attendify.attendify_api.user.entity.enums.Permission;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -27,6 +46,8 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import lombok.RequiredArgsConstructor;
 
 @Tag(
@@ -41,11 +62,12 @@ public class EventRegistrationController {
 
     @Operation(
         summary = "Register user to an event",
-        description = "Registers the authenticated user to an event if capacity is available and the event has not ended."
+        description = "Registers the authenticated user to an event if capacity is available and the event has not ended. When the event is full, the user joins its waitlist instead."
     )
     @ApiResponses({
             @ApiResponse(responseCode = "201", description = "Registration created successfully"),
-            @ApiResponse(responseCode = "400", description = "Already registered, event full, or event already ended"),
+            @ApiResponse(responseCode = "202", description = "Event is full, user added to the waitlist"),
+            @ApiResponse(responseCode = "400", description = "Already registered, already waitlisted, or event already ended"),
             @ApiResponse(responseCode = "401", description = "Unauthorized"),
             @ApiResponse(responseCode = "403", description = "Insufficient permissions"),
             @ApiResponse(responseCode = "404", description = "Event or user not found")
@@ -55,10 +77,55 @@ public class EventRegistrationController {
     public ResponseEntity<EventRegistrationResponseDTO> createRegistration(@Valid @RequestBody EventRegistrationRequestDTO dto) {
         EventRegistrationResponseDTO created = eventRegistrationService.create(dto);
 
+        // Returns 202 Accepted while the user waits for a seat
+        if (created.waitlistPosition() != null)
+            return ResponseEntity.accepted().body(created);
+
         // Returns 201 Created with URI pointing to new resource
         return ResponseEntity.created(URI.create("/attendify/v1/registrations/" + created.id())).body(created);
     }
 
+    @Operation(
+        summary = "Queue a registration to an event",
+        description = "Queues a registration of the authenticated user and returns a ticket right away. Queued registrations are decided in batches under the same rules as a direct registration, poll the ticket for the outcome."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "202", description = "Registration queued, see the ticket"),
+            @ApiResponse(responseCode = "400", description = "Validation error"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized"),
+            @ApiResponse(responseCode = "429", description = "Event queue is full")
+    })
+    @SecurityRequirement(name = "bearerAuth")
+    @PostMapping("/intake")
+    public ResponseEntity<EventRegistrationTicketDTO> enqueueRegistration(@Valid @RequestBody EventRegistrationRequestDTO dto) {
+        EventRegistrationTicketDTO ticket = eventRegistrationService.enqueue(dto);
+
+        // Returns 202 Accepted with URI pointing to the ticket
+        return ResponseEntity.accepted()
+                .location(URI.create("/attendify/v1/registrations/intake/" + ticket.ticketId()))
+                .body(ticket);
+    }
+
+    @Operation(
+        summary = "Get a queued registration",
+        description = "Returns the state of a registration ticket of the authenticated user. With wait, the request is held until the ticket is decided or the given number of seconds has passed."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Ticket retrieved successfully"),
+            @ApiResponse(responseCode = "400", description = "Invalid wait"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized"),
+            @ApiResponse(responseCode = "404", description = "Ticket not found or expired")
+    })
+    @SecurityRequirement(name = "bearerAuth")
+    @GetMapping("/intake/{ticketId}")
+    public CompletableFuture<ResponseEntity<EventRegistrationTicketDTO>> getRegistrationTicket(
+            @PathVariable String ticketId,
+            @RequestParam(defaultValue = "0") @Min(0) @Max(20) long wait) {
+        // The request thread is released while waiting
+        return eventRegistrationService.getTicket(ticketId, Duration.ofSeconds(wait))
+                .thenApply(ResponseEntity::ok);
+    }
+
     @Operation(
         summary = "Force register a user to an event (ADMIN/MANAGER)",
         description = "Registers a user to an event if capacity is available and the event has not ended. The authenticated user must be the owner of the event or have force create permission."
@@ -71,7 +138,7 @@ public class EventRegistrationController {
     })
     @SecurityRequirement(name = "bearerAuth")
     @PostMapping("/force")
-    @PreAuthorize("hasAuthority('EVENT_REGISTRATION_CREATE')")
+    @RequiresPermission(Permission.EVENT_REGISTRATION_CREATE)
     public ResponseEntity<EventRegistrationResponseDTO> forceRegisterUser(
             @Valid @RequestBody EventRegistrationAdminRequestDTO dto
     ) {
@@ -81,6 +148,25 @@ public class EventRegistrationController {
         return ResponseEntity.created(URI.create("/attendify/v1/registrations/" + created.id())).body(created);
     }
 
+    @Operation(
+        summary = "Force register many users to an event (ADMIN/MANAGER)",
+        description = "Registers a roster of users to an event in one request and returns the outcome for each user. The authenticated user must be the owner of the event or have force create permission."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Roster processed, see the per-user results"),
+            @ApiResponse(responseCode = "400", description = "Validation or business rule error"),
+            @ApiResponse(responseCode = "403", description = "Insufficient permissions"),
+            @ApiResponse(responseCode = "404", description = "Event not found")
+    })
+    @SecurityRequirement(name = "bearerAuth")
+    @PostMapping("/force/bulk")
+    @RequiresPermission(Permission.EVENT_REGISTRATION_CREATE)
+    public ResponseEntity<EventRegistrationBulkResponseDTO> forceRegisterUsers(
+            @Valid @RequestBody EventRegistrationBulkRequestDTO dto
+    ) {
+        return ResponseEntity.ok(eventRegistrationService.createByForceBulk(dto));
+    }
+
     @Operation(
         summary = "Cancel an event registration",
         description = "Soft deletes a registration. The authenticated user must be the owner or have force delete permission."
@@ -94,7 +180,7 @@ public class EventRegistrationController {
     })
     @SecurityRequirement(name = "bearerAuth")
     @DeleteMapping("/{id}")
-    @PreAuthorize("hasAuthority('EVENT_REGISTRATION_DELETE')")
+    @RequiresPermission(Permission.EVENT_REGISTRATION_DELETE)
     public ResponseEntity<Void> deleteRegistration(@PathVariable Long id) {
         eventRegistrationService.delete(id);
 
@@ -115,7 +201,7 @@ public class EventRegistrationController {
     })
     @SecurityRequirement(name = "bearerAuth")
     @PutMapping("/{id}/restore")
-    @PreAuthorize("hasAuthority('EVENT_REGISTRATION_RESTORE')")
+    @RequiresPermission(Permission.EVENT_REGISTRATION_RESTORE)
     public ResponseEntity<Void> restoreRegistration(@PathVariable Long id) {
         eventRegistrationService.restore(id);
 
@@ -136,13 +222,162 @@ public class EventRegistrationController {
     })
     @SecurityRequirement(name = "bearerAuth")
     @PutMapping("/{id}/check-in")
-    @PreAuthorize("hasAuthority('EVENT_REGISTRATION_CHECKIN')")
+    @RequiresPermission(Permission.EVENT_REGISTRATION_CHECKIN)
     public ResponseEntity<EventRegistrationResponseDTO> checkIn(@PathVariable Long id) {
         EventRegistrationResponseDTO checkIn = eventRegistrationService.checkIn(id);
 
         return ResponseEntity.ok(checkIn);
     }
 
+    @Operation(
+        summary = "Check-in many registrations (ADMIN/MANAGER)",
+        description = "Marks many registrations of one event as checked in and returns the outcome for each one. The authenticated user must be the owner of the event or have force check-in permission."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Batch processed, see the per-registration results"),
+            @ApiResponse(responseCode = "400", description = "Event unpublished or has not started"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized"),
+            @ApiResponse(responseCode = "403", description = "Not owner and missing force check-in permission"),
+            @ApiResponse(responseCode = "404", description = "Event not found")
+    })
+    @SecurityRequirement(name = "bearerAuth")
+    @PutMapping("/check-in/batch")
+    @RequiresPermission(Permission.EVENT_REGISTRATION_CHECKIN)
+    public ResponseEntity<EventRegistrationCheckInBatchResponseDTO> checkInBatch(
+            @Valid @RequestBody EventRegistrationCheckInBatchRequestDTO dto) {
+        return ResponseEntity.ok(eventRegistrationService.checkInBatch(dto));
+    }
+
+    @Operation(
+        summary = "Get the check-in pass of a registration",
+        description = "Returns the signed pass presented at the door. The authenticated user must be the attendee or have force read permission."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Pass issued successfully"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized"),
+            @ApiResponse(responseCode = "403", description = "Not the attendee and missing force read permission"),
+            @ApiResponse(responseCode = "404", description = "Registration not found")
+    })
+    @SecurityRequirement(name = "bearerAuth")
+    @GetMapping("/{id}/pass")
+    public ResponseEntity<EventRegistrationPassDTO> getPass(@PathVariable Long id) {
+        return ResponseEntity.ok(eventRegistrationService.getPass(id));
+    }
+
+    @Operation(
+        summary = "Check-in with a scanned pass (ADMIN/MANAGER)",
+        description = "Verifies a signed pass without reading the registration and queues its check-in. Repeated scans and passes of cancelled registrations are ignored by the writer. The authenticated user must be the owner of the event or have force check-in permission."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "202", description = "Pass verified, check-in queued"),
+            @ApiResponse(responseCode = "400", description = "Invalid pass, pass of another event, event unpublished or has not started"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized"),
+            @ApiResponse(responseCode = "403", description = "Not owner and missing force check-in permission"),
+            @ApiResponse(responseCode = "404", description = "Event not found"),
+            @ApiResponse(responseCode = "429", description = "Check-in queue is full")
+    })
+    @SecurityRequirement(name = "bearerAuth")
+    @PostMapping("/check-in/scan")
+    @RequiresPermission(Permission.EVENT_REGISTRATION_CHECKIN)
+    public ResponseEntity<EventRegistrationScanResponseDTO> scanPass(
+            @Valid @RequestBody EventRegistrationScanRequestDTO dto) {
+        // Returns 202 Accepted, the check-in is written by the batch writer
+        return ResponseEntity.accepted().body(eventRegistrationService.scan(dto));
+    }
+
+    @Operation(
+        summary = "Download the roster of an event (ADMIN/MANAGER)",
+        description = "Streams a compact binary snapshot of the active registrations of an event for offline check-in devices. The body starts with a header (format byte, kind byte, event ID, roster version) followed by 17-byte entries (registration ID, user ID, flags). The authenticated user must be the owner of the event or have force read permission."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Roster streamed successfully"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized"),
+            @ApiResponse(responseCode = "403", description = "Not owner and missing force read permission"),
+            @ApiResponse(responseCode = "404", description = "Event not found")
+    })
+    @SecurityRequirement(name = "bearerAuth")
+    @GetMapping(value = "/roster/{eventId}", produces = MediaType.APPLICATION_OCTET_STREAM_VALUE)
+    @RequiresPermission(Permission.EVENT_REGISTRATION_READ_BY_EVENT)
+    public ResponseEntity<StreamingResponseBody> getRoster(@PathVariable Long eventId) {
+        RosterStream roster = eventRegistrationService.getRoster(eventId);
+
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_OCTET_STREAM).body(roster::writeTo);
+    }
+
+    @Operation(
+        summary = "Download roster changes of an event (ADMIN/MANAGER)",
+        description = "Streams the registrations changed since the given roster version, in the snapshot format. Cancelled registrations are flagged so devices can drop them, and a change may be sent again by the next request since entries carry the full state. The authenticated user must be the owner of the event or have force read permission."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Roster changes streamed successfully"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized"),
+            @ApiResponse(responseCode = "403", description = "Not owner and missing force read permission"),
+            @ApiResponse(responseCode = "404", description = "Event not found")
+    })
+    @SecurityRequirement(name = "bearerAuth")
+    @GetMapping(value = "/roster/{eventId}/changes", produces = MediaType.APPLICATION_OCTET_STREAM_VALUE)
+    @RequiresPermission(Permission.EVENT_REGISTRATION_READ_BY_EVENT)
+    public ResponseEntity<StreamingResponseBody> getRosterChanges(
+            @PathVariable Long eventId,
+            @RequestParam("since") @Min(0) long sinceVersion) {
+        RosterStream changes = eventRegistrationService.getRosterChanges(eventId, sinceVersion);
+
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_OCTET_STREAM).body(changes::writeTo);
+    }
+
+    @Operation(
+        summary = "Reconcile offline check-ins (ADMIN/MANAGER)",
+        description = "Applies check-ins recorded by a device while offline and returns every roster change since the version the device holds. The authenticated user must be the owner of the event or have force check-in permission."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Check-ins applied, see the per-registration results and changes"),
+            @ApiResponse(responseCode = "400", description = "Event unpublished or has not started"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized"),
+            @ApiResponse(responseCode = "403", description = "Not owner and missing force check-in permission"),
+            @ApiResponse(responseCode = "404", description = "Event not found")
+    })
+    @SecurityRequirement(name = "bearerAuth")
+    @PostMapping("/roster/{eventId}/reconcile")
+    @RequiresPermission(Permission.EVENT_REGISTRATION_CHECKIN)
+    public ResponseEntity<EventRosterReconcileResponseDTO> reconcileRoster(
+            @PathVariable Long eventId,
+            @Valid @RequestBody EventRosterReconcileRequestDTO dto) {
+        return ResponseEntity.ok(eventRegistrationService.reconcileRoster(eventId, dto));
+    }
+
+    @Operation(
+        summary = "Get my waitlist position",
+        description = "Returns the position of the authenticated user in the waitlist of a full event."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Waitlist position retrieved successfully"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized"),
+            @ApiResponse(responseCode = "404", description = "User is not on the waitlist for this event")
+    })
+    @SecurityRequirement(name = "bearerAuth")
+    @GetMapping("/waitlist/{eventId}")
+    public ResponseEntity<WaitlistPositionDTO> getWaitlistPosition(@PathVariable Long eventId) {
+        return ResponseEntity.ok(eventRegistrationService.getWaitlistPosition(eventId));
+    }
+
+    @Operation(
+        summary = "Leave a waitlist",
+        description = "Removes the authenticated user from the waitlist of an event."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "204", description = "Waitlist left successfully"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized"),
+            @ApiResponse(responseCode = "404", description = "User is not on the waitlist for this event")
+    })
+    @SecurityRequirement(name = "bearerAuth")
+    @DeleteMapping("/waitlist/{eventId}")
+    public ResponseEntity<Void> leaveWaitlist(@PathVariable Long eventId) {
+        eventRegistrationService.leaveWaitlist(eventId);
+
+        // No content returned after leaving the waitlist
+        return ResponseEntity.noContent().build();
+    }
+
     @Operation(
         summary = "Get users registered for an event (ADMIN/MANAGER)",
         description = "Returns a paginated list of users registered to the given event."
@@ -155,11 +390,12 @@ public class EventRegistrationController {
     })
     @SecurityRequirement(name = "bearerAuth")
     @GetMapping("/{eventId}")
-    @PreAuthorize("hasAuthority('EVENT_REGISTRATION_READ_BY_EVENT')")
+    @RequiresPermission(Permission.EVENT_REGISTRATION_READ_BY_EVENT)
     public ResponseEntity<PageResponseDTO<EventRegistrationResponseDTO>> getUsersByEvent(
             @PathVariable Long eventId,
-            @ParameterObject Pageable pageable) {
-        return ResponseEntity.ok(eventRegistrationService.getUsersByEvent(eventId, pageable));
+            @ParameterObject Pageable pageable,
+            @RequestParam(defaultValue = "true") boolean count) {
+        return ResponseEntity.ok(eventRegistrationService.getUsersByEvent(eventId, pageable, count));
     }
 
     @Operation(
@@ -172,8 +408,48 @@ public class EventRegistrationController {
     })
     @SecurityRequirement(name = "bearerAuth")
     @GetMapping("/me")
-    public ResponseEntity<PageResponseDTO<EventRegistrationResponseDTO>> getMyEvents(@ParameterObject Pageable pageable) {
-        return ResponseEntity.ok(eventRegistrationService.getMyEvents(pageable));
+    public ResponseEntity<PageResponseDTO<EventRegistrationResponseDTO>> getMyEvents(
+            @ParameterObject Pageable pageable,
+            @RequestParam(defaultValue = "true") boolean count) {
+        return ResponseEntity.ok(eventRegistrationService.getMyEvents(pageable, count));
+    }
+
+    @Operation(
+        summary = "Scroll users registered for an event (ADMIN/MANAGER)",
+        description = "Returns registrations of the given event in registration order, one page after the given cursor. Every page costs the same regardless of depth, no total count is returned."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Registrations retrieved successfully"),
+            @ApiResponse(responseCode = "400", description = "Invalid cursor or size"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized"),
+            @ApiResponse(responseCode = "403", description = "Not owner and missing force read permission"),
+            @ApiResponse(responseCode = "404", description = "Event not found")
+    })
+    @SecurityRequirement(name = "bearerAuth")
+    @GetMapping("/{eventId}/cursor")
+    @RequiresPermission(Permission.EVENT_REGISTRATION_READ_BY_EVENT)
+    public ResponseEntity<CursorPageResponseDTO<EventRegistrationResponseDTO>> getUsersByEventAfter(
+            @PathVariable Long eventId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") @Min(1) @Max(100) int size) {
+        return ResponseEntity.ok(eventRegistrationService.getUsersByEventAfter(eventId, cursor, size));
+    }
+
+    @Operation(
+        summary = "Scroll my registered events",
+        description = "Returns registrations of the authenticated user in registration order, one page after the given cursor. No total count is returned."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Registrations retrieved successfully"),
+            @ApiResponse(responseCode = "400", description = "Invalid cursor or size"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized")
+    })
+    @SecurityRequirement(name = "bearerAuth")
+    @GetMapping("/me/cursor")
+    public ResponseEntity<CursorPageResponseDTO<EventRegistrationResponseDTO>> getMyEventsAfter(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") @Min(1) @Max(100) int size) {
+        return ResponseEntity.ok(eventRegistrationService.getMyEventsAfter(cursor, size));
     }
 
     @Operation(
@@ -187,9 +463,11 @@ public class EventRegistrationController {
     })
     @SecurityRequirement(name = "bearerAuth")
     @GetMapping()
-    @PreAuthorize("hasAuthority('EVENT_REGISTRATION_FORCE_READ')")
-    public ResponseEntity<PageResponseDTO<EventRegistrationResponseDTO>> getAllEventRegistrations(@ParameterObject Pageable pageable) {
-        return ResponseEntity.ok(eventRegistrationService.findAll(pageable));
+    @RequiresPermission(Permission.EVENT_REGISTRATION_FORCE_READ)
+    public ResponseEntity<PageResponseDTO<EventRegistrationResponseDTO>> getAllEventRegistrations(
+            @ParameterObject Pageable pageable,
+            @RequestParam(defaultValue = "true") boolean count) {
+        return ResponseEntity.ok(eventRegistrationService.findAll(pageable, count));
     }
 
     @Operation(
@@ -203,9 +481,11 @@ public class EventRegistrationController {
     })
     @SecurityRequirement(name = "bearerAuth")
     @GetMapping("/deleted")
-    @PreAuthorize("hasAuthority('EVENT_REGISTRATION_READ_DELETED')")
-    public ResponseEntity<PageResponseDTO<EventRegistrationResponseDTO>> getAllEventRegistrationsDeleted(@ParameterObject Pageable pageable) {
-        return ResponseEntity.ok(eventRegistrationService.findAllDeleted(pageable));
+    @RequiresPermission(Permission.EVENT_REGISTRATION_READ_DELETED)
+    public ResponseEntity<PageResponseDTO<EventRegistrationResponseDTO>> getAllEventRegistrationsDeleted(
+            @ParameterObject Pageable pageable,
+            @RequestParam(defaultValue = "true") boolean count) {
+        return ResponseEntity.ok(eventRegistrationService.findAllDeleted(pageable, count));
     }
 
     @Operation(
@@ -219,8 +499,10 @@ public class EventRegistrationController {
     })
     @SecurityRequirement(name = "bearerAuth")
     @GetMapping("/with-deleted")
-    @PreAuthorize("hasAuthority('EVENT_REGISTRATION_READ_WITH_DELETED')")
-    public ResponseEntity<PageResponseDTO<EventRegistrationResponseDTO>> getAllEventRegistrationsIncludingDeleted(@ParameterObject Pageable pageable) {
-        return ResponseEntity.ok(eventRegistrationService.findAllWithDeleted(pageable));
+    @RequiresPermission(Permission.EVENT_REGISTRATION_READ_WITH_DELETED)
+    public ResponseEntity<PageResponseDTO<EventRegistrationResponseDTO>> getAllEventRegistrationsIncludingDeleted(
+            @ParameterObject Pageable pageable,
+            @RequestParam(defaultValue = "true") boolean count) {
+        return ResponseEntity.ok(eventRegistrationService.findAllWithDeleted(pageable, count));
     }
 }
@@ -1,6 +1,8 @@
 package com.attendify.attendify_api.event.dto;
 
 import com.attendify.attendify_api.event.entity.enums.EventLocation;
+import com.attendify.attendify_api.event.entity.enums.EventSearchMode;
+import com.attendify.attendify_api.event.entity.enums.EventStatus;
 
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.Builder;
@@ -13,6 +15,20 @@ public record EventFilterDTO(
         )
         String text,
 
+        @Schema(
+            description = "How the text filter matches events. CONTAINS (default) matches any substring of the "
+                    + "title or description, KEYWORD matches words and word prefixes of the title, description or "
+                    + "category names, FULL_TEXT matches whole words of the title or description and title "
+                    + "substrings. Sorted KEYWORD requests match every word as a substring of the same fields.",
+            example = "FULL_TEXT"
+        )
+        EventSearchMode searchMode,
+
+        @Schema(
+            description = "If true, FULL_TEXT results are ordered by relevance. Ignored when a sort is requested."
+        )
+        Boolean sortByRank,
+
         @Schema(
             description = "If true, returns only upcoming events. If false or null, returns all events."
         )
@@ -21,5 +37,10 @@ public record EventFilterDTO(
         @Schema(
             description = "Physical, virtual or hybrid location of the event."
         )
-        EventLocation location) {
+        EventLocation location,
+
+        @Schema(
+            description = "Returns only events in this status. If null, returns events in any status."
+        )
+        EventStatus status) {
 }
@@ -0,0 +1,29 @@
+package com.attendify.attendify_api.event.dto;
+
+import java.util.List;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Builder;
+
+@Builder
+@Schema(description = "Request body for registering many users to an event at once.")
+public record EventRegistrationBulkRequestDTO(
+    @Schema(
+        description = "Unique identifier of the event.",
+        example = "1"
+    )
+    @NotNull(message = "Event ID is required")
+    Long eventId,
+
+    @Schema(
+        description = "Identifiers of the users to register, duplicates are ignored.",
+        example = "[1, 2, 3]"
+    )
+    @NotEmpty(message = "At least one user ID is required")
+    @Size(max = 5000, message = "At most 5000 users can be registered per request")
+    List<@NotNull(message = "User ID is required") Long> userIds
+) {
+}
@@ -0,0 +1,57 @@
+package com.attendify.attendify_api.event.dto;
+
+import java.util.List;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+
+@Schema(description = "Outcome of a bulk registration, one result per distinct user.")
+@Builder
+public record EventRegistrationBulkResponseDTO(
+        @Schema(
+            description = "Unique identifier of the event.",
+            example = "1"
+        )
+        Long eventId,
+
+        @Schema(
+            description = "Number of users registered by this request.",
+            example = "2"
+        )
+        int registered,
+
+        @Schema(
+            description = "Per-user outcomes, in request order."
+        )
+        List<Result> results) {
+
+    @Schema(description = "Outcome for a single user.")
+    public record Result(
+            @Schema(
+                description = "Unique identifier of the user.",
+                example = "1"
+            )
+            Long userId,
+
+            @Schema(
+                description = "What happened to this user.",
+                example = "REGISTERED"
+            )
+            Status status) {
+    }
+
+    @Schema(description = "Possible outcomes of a bulk registration.")
+    public enum Status {
+        @Schema(description = "The user was registered.")
+        REGISTERED,
+
+        @Schema(description = "The user already had a registration for the event.")
+        ALREADY_REGISTERED,
+
+        @Schema(description = "No active user exists with this ID.")
+        USER_NOT_FOUND,
+
+        @Schema(description = "The event ran out of seats before this user.")
+        EVENT_FULL
+    }
+}
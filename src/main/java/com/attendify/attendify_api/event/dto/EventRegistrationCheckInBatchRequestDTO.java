@@ -0,0 +1,29 @@
+package com.attendify.attendify_api.event.dto;
+
+import java.util.List;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Builder;
+
+@Builder
+@Schema(description = "Request body for checking in many registrations of one event at once.")
+public record EventRegistrationCheckInBatchRequestDTO(
+    @Schema(
+        description = "Unique identifier of the event the registrations belong to.",
+        example = "1"
+    )
+    @NotNull(message = "Event ID is required")
+    Long eventId,
+
+    @Schema(
+        description = "Identifiers of the registrations to check in, duplicates are ignored.",
+        example = "[10, 11, 12]"
+    )
+    @NotEmpty(message = "At least one registration ID is required")
+    @Size(max = 1000, message = "At most 1000 registrations can be checked in per request")
+    List<@NotNull(message = "Registration ID is required") Long> registrationIds
+) {
+}
@@ -0,0 +1,54 @@
+package com.attendify.attendify_api.event.dto;
+
+import java.util.List;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+
+@Schema(description = "Outcome of a batch check-in, one result per distinct registration.")
+@Builder
+public record EventRegistrationCheckInBatchResponseDTO(
+        @Schema(
+            description = "Unique identifier of the event.",
+            example = "1"
+        )
+        Long eventId,
+
+        @Schema(
+            description = "Number of registrations checked in by this request.",
+            example = "2"
+        )
+        int checkedIn,
+
+        @Schema(
+            description = "Per-registration outcomes, in request order."
+        )
+        List<Result> results) {
+
+    @Schema(description = "Outcome for a single registration.")
+    public record Result(
+            @Schema(
+                description = "Unique identifier of the registration.",
+                example = "10"
+            )
+            Long registrationId,
+
+            @Schema(
+                description = "What happened to this registration.",
+                example = "CHECKED_IN"
+            )
+            Status status) {
+    }
+
+    @Schema(description = "Possible outcomes of a batch check-in.")
+    public enum Status {
+        @Schema(description = "The registration was checked in.")
+        CHECKED_IN,
+
+        @Schema(description = "The registration was already checked in.")
+        ALREADY_CHECKED_IN,
+
+        @Schema(description = "No active registration with this ID exists for the event.")
+        NOT_FOUND
+    }
+}
@@ -0,0 +1,26 @@
+package com.attendify.attendify_api.event.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+
+@Schema(description = "Signed check-in pass of a registration, usually rendered as a QR code.")
+@Builder
+public record EventRegistrationPassDTO(
+        @Schema(
+            description = "Unique identifier of the registration.",
+            example = "10"
+        )
+        Long registrationId,
+
+        @Schema(
+            description = "Unique identifier of the event the pass admits to.",
+            example = "1"
+        )
+        Long eventId,
+
+        @Schema(
+            description = "Opaque signed pass to present at the door.",
+            example = "AQAAAAAAAAAKAAAAAAAAAAEAAAAAAAAAKl9n3Xb3l0sYQ2vI8dZk3aE"
+        )
+        String pass) {
+}
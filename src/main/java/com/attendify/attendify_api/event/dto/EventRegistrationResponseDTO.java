@@ -9,7 +9,7 @@ import lombok.Builder;
 @Builder
 public record EventRegistrationResponseDTO(
         @Schema(
-            description = "Unique identifier of the event registration.",
+            description = "Unique identifier of the event registration, null while a high-demand registration is still being persisted.",
             example = "1"
         )
         Long id,
@@ -36,5 +36,11 @@ public record EventRegistrationResponseDTO(
             description = "Timestamp when the registration was created.",
             example = "2026-01-01T12:00:00"
         )
-        LocalDateTime createdAt) {
+        LocalDateTime createdAt,
+
+        @Schema(
+            description = "Position in the waitlist when the event was full, null once the user holds a seat.",
+            example = "null"
+        )
+        Long waitlistPosition) {
 }
@@ -0,0 +1,27 @@
+package com.attendify.attendify_api.event.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Builder;
+
+@Builder
+@Schema(description = "Request body sent by a door scanner for one presented pass.")
+public record EventRegistrationScanRequestDTO(
+    @Schema(
+        description = "Unique identifier of the event the scanner is admitting to.",
+        example = "1"
+    )
+    @NotNull(message = "Event ID is required")
+    Long eventId,
+
+    @Schema(
+        description = "Signed pass read from the attendee.",
+        example = "AQAAAAAAAAAKAAAAAAAAAAEAAAAAAAAAKl9n3Xb3l0sYQ2vI8dZk3aE"
+    )
+    @NotBlank(message = "Pass is required")
+    @Size(max = 128, message = "Pass is too long")
+    String pass
+) {
+}
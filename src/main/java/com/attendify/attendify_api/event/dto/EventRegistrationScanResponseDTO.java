@@ -0,0 +1,26 @@
+package com.attendify.attendify_api.event.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+
+@Schema(description = "Identifiers read from a verified pass whose check-in has been queued.")
+@Builder
+public record EventRegistrationScanResponseDTO(
+        @Schema(
+            description = "Unique identifier of the registration.",
+            example = "10"
+        )
+        Long registrationId,
+
+        @Schema(
+            description = "Unique identifier of the event.",
+            example = "1"
+        )
+        Long eventId,
+
+        @Schema(
+            description = "Unique identifier of the attendee.",
+            example = "42"
+        )
+        Long userId) {
+}
@@ -0,0 +1,54 @@
+package com.attendify.attendify_api.event.dto;
+
+import java.time.LocalDateTime;
+
+import com.attendify.attendify_api.event.intake.RegistrationTicket;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+
+@Schema(description = "State of a queued registration request.")
+@Builder
+public record EventRegistrationTicketDTO(
+        @Schema(
+            description = "Identifier to poll the ticket with.",
+            example = "3f2b8c1e-7d4a-4f0e-9a51-2c6d8e0b7a13"
+        )
+        String ticketId,
+
+        @Schema(
+            description = "Unique identifier of the event.",
+            example = "1"
+        )
+        Long eventId,
+
+        @Schema(
+            description = "Where the request stands.",
+            example = "REGISTERED"
+        )
+        RegistrationTicket.Status status,
+
+        @Schema(
+            description = "Unique identifier of the registration, set once registered.",
+            example = "10"
+        )
+        Long registrationId,
+
+        @Schema(
+            description = "1-based position in the waitlist at the time the user joined it, set once waitlisted.",
+            example = "3"
+        )
+        Long waitlistPosition,
+
+        @Schema(
+            description = "Reason the request was rejected or failed.",
+            example = "User is already registered for this event"
+        )
+        String message,
+
+        @Schema(
+            description = "When the request was queued.",
+            example = "2026-01-01T12:00:00"
+        )
+        LocalDateTime createdAt) {
+}
@@ -67,6 +67,12 @@ public record EventRequestDTO(
         @NotNull(message = "Status is required")
         EventStatus status,
 
+        @Schema(
+            description = "Whether seats are reserved in memory and registrations persisted in batches. Defaults to false.",
+            example = "false"
+        )
+        Boolean highDemand,
+
         @Schema(
             description = "Set of category IDs associated with the event.",
             example = "[1]"
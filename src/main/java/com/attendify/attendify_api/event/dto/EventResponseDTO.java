@@ -1,6 +1,7 @@
 package com.attendify.attendify_api.event.dto;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Set;
 
 import com.attendify.attendify_api.event.entity.enums.EventLocation;
@@ -62,9 +63,22 @@ public record EventResponseDTO(
         EventStatus status,
 
         @Schema(
-            description = "Users currently registered for the event."
+            description = "Whether seats are reserved in memory and registrations persisted in batches.",
+            example = "false"
         )
-        Set<UserSummaryDTO> registeredUsers,
+        Boolean highDemand,
+
+        @Schema(
+            description = "Number of users currently registered for the event.",
+            example = "120"
+        )
+        Integer registeredCount,
+
+        @Schema(
+            description = "First users registered for the event, in registration order. "
+                    + "The full list is served by the paginated registration endpoints."
+        )
+        List<UserSummaryDTO> registeredUsers,
 
         @Schema(
             description = "Categories assigned to the event."
@@ -0,0 +1,30 @@
+package com.attendify.attendify_api.event.dto;
+
+import java.util.List;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Builder;
+
+@Builder
+@Schema(description = "Check-ins recorded by a device while offline, sent back together with the roster version it holds.")
+public record EventRosterReconcileRequestDTO(
+    @Schema(
+        description = "Roster version the device last synced to, changes since it are returned.",
+        example = "42"
+    )
+    @NotNull(message = "Roster version is required")
+    @Min(value = 0, message = "Roster version cannot be negative")
+    Long sinceVersion,
+
+    @Schema(
+        description = "Identifiers of the registrations checked in offline, duplicates are ignored.",
+        example = "[10, 11, 12]"
+    )
+    @NotNull(message = "Checked-in registration IDs are required")
+    @Size(max = 1000, message = "At most 1000 registrations can be reconciled per request")
+    List<@NotNull(message = "Registration ID is required") Long> checkedInIds
+) {
+}
@@ -0,0 +1,59 @@
+package com.attendify.attendify_api.event.dto;
+
+import java.util.List;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+
+@Schema(description = "Outcome of the offline check-ins and every roster change the device has not seen yet.")
+@Builder
+public record EventRosterReconcileResponseDTO(
+        @Schema(
+            description = "Unique identifier of the event.",
+            example = "1"
+        )
+        Long eventId,
+
+        @Schema(
+            description = "Roster version the device holds once it applies the changes.",
+            example = "57"
+        )
+        long rosterVersion,
+
+        @Schema(
+            description = "Per-registration outcomes of the offline check-ins, in request order."
+        )
+        List<EventRegistrationCheckInBatchResponseDTO.Result> results,
+
+        @Schema(
+            description = "Registrations changed since the version sent by the device, including its own check-ins."
+        )
+        List<Change> changes) {
+
+    @Schema(description = "Current state of a changed registration.")
+    public record Change(
+            @Schema(
+                description = "Unique identifier of the registration.",
+                example = "10"
+            )
+            Long registrationId,
+
+            @Schema(
+                description = "Unique identifier of the attendee.",
+                example = "42"
+            )
+            Long userId,
+
+            @Schema(
+                description = "Whether the attendee is checked in.",
+                example = "true"
+            )
+            boolean checkedIn,
+
+            @Schema(
+                description = "Whether the registration was cancelled and must be dropped from the device.",
+                example = "false"
+            )
+            boolean cancelled) {
+    }
+}
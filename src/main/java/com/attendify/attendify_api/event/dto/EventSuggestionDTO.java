@@ -0,0 +1,31 @@
+package com.attendify.attendify_api.event.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+
+@Schema(description = "Event or category whose name starts with, or has a word starting with, the typed prefix.")
+@Builder
+public record EventSuggestionDTO(
+        @Schema(
+            description = "Whether the suggestion is an event or a category.",
+            example = "EVENT"
+        )
+        Type type,
+
+        @Schema(
+            description = "Unique identifier of the event or category.",
+            example = "1"
+        )
+        Long id,
+
+        @Schema(
+            description = "Title of the event or name of the category.",
+            example = "Spring Boot Workshop"
+        )
+        String name) {
+
+    public enum Type {
+        EVENT,
+        CATEGORY
+    }
+}
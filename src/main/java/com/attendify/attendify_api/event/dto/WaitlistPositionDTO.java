@@ -0,0 +1,20 @@
+package com.attendify.attendify_api.event.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+
+@Schema(description = "Position of the authenticated user in the waitlist of a full event.")
+@Builder
+public record WaitlistPositionDTO(
+        @Schema(
+            description = "Unique identifier of the event.",
+            example = "1"
+        )
+        Long eventId,
+
+        @Schema(
+            description = "1-based position in the waitlist, the first user is promoted when a seat frees up.",
+            example = "3"
+        )
+        Long position) {
+}
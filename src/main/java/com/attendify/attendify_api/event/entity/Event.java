@@ -42,6 +42,8 @@ import lombok.NoArgsConstructor;
 @Table(name = "events", indexes = {
         @Index(name = "idx_event_start_date", columnList = "start_date"),
         @Index(name = "idx_event_location", columnList = "location"),
+        // Serves the search index and suggestion refreshes, which read events changed since their last pass
+        @Index(name = "idx_event_updated_at", columnList = "updated_at"),
 })
 @SQLRestriction("deleted_at IS NULL")
 public class Event extends SoftDeletableEntity {
@@ -76,11 +78,23 @@ public class Event extends SoftDeletableEntity {
     @NotNull
     private Integer capacity;
 
+    // Maintained only through atomic repository updates, never by entity flushes
+    @Builder.Default
+    @Column(name = "registered_count", nullable = false, updatable = false)
+    @NotNull
+    private Integer registeredCount = 0;
+
     @Enumerated(EnumType.STRING)
     @Column(nullable = false)
     @NotNull
     private EventStatus status;
 
+    // Seats are claimed in memory and registrations persisted in batches, for ticket-drop style events
+    @Builder.Default
+    @Column(name = "high_demand", nullable = false)
+    @NotNull
+    private Boolean highDemand = false;
+
     @JsonIgnore
     @Builder.Default
     @OneToMany(mappedBy = "event", fetch = FetchType.LAZY)
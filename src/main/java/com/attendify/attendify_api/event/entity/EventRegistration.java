@@ -30,8 +30,10 @@ import lombok.NoArgsConstructor;
 @AllArgsConstructor
 @Entity
 @Table(name = "event_registrations", indexes = {
-        @Index(name = "idx_event_registration_event", columnList = "event_id"),
-        @Index(name = "idx_event_registration_user", columnList = "user_id"),
+        // Composite with the ID so keyset pages are read straight from the index in order
+        @Index(name = "idx_event_registration_event_keyset", columnList = "event_id, event_registration_id"),
+        @Index(name = "idx_event_registration_user_keyset", columnList = "user_id, event_registration_id"),
+        @Index(name = "idx_event_registration_roster", columnList = "event_id, roster_version"),
 }, uniqueConstraints = {
         @UniqueConstraint(columnNames = { "user_id", "event_id" })
 })
@@ -55,4 +57,10 @@ public class EventRegistration extends SoftDeletableEntity {
     @NotNull
     @Column(nullable = false)
     private Boolean checkedIn = false;
+
+    // ID of the transaction that last changed this registration, lets check-in devices sync deltas (see RosterExporter)
+    @Builder.Default
+    @NotNull
+    @Column(name = "roster_version", nullable = false)
+    private Long rosterVersion = 0L;
 }
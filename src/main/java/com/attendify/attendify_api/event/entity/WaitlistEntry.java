@@ -0,0 +1,51 @@
+package com.attendify.attendify_api.event.entity;
+
+import com.attendify.attendify_api.shared.audit.AuditableEntity;
+import com.attendify.attendify_api.user.entity.User;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+
+// Place of a user in the FIFO queue of a full event, removed once promoted or abandoned.
+// The identity column gives the queue order, the (event_id, waitlist_entry_id) index serves both
+// promotion and position lookups.
+@Data
+@EqualsAndHashCode(callSuper = false, onlyExplicitlyIncluded = true)
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "event_waitlist", indexes = {
+        @Index(name = "idx_event_waitlist_event_order", columnList = "event_id, waitlist_entry_id"),
+}, uniqueConstraints = {
+        @UniqueConstraint(columnNames = { "event_id", "user_id" })
+})
+public class WaitlistEntry extends AuditableEntity {
+    @EqualsAndHashCode.Include
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "waitlist_entry_id")
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "user_id", nullable = false)
+    private User user;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "event_id", nullable = false)
+    private Event event;
+}
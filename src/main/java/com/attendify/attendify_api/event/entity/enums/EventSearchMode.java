@@ -0,0 +1,14 @@
+package com.attendify.attendify_api.event.entity.enums;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Defines how the free text filter matches events.")
+public enum EventSearchMode {
+    // Words and word prefixes of the title, description or category names, resolved by the in-process index.
+    // Sorted requests, or any while the index is not built, match every word as a substring in the database.
+    KEYWORD,
+    // Substring of the title or description, no index can serve it. The default.
+    CONTAINS,
+    // Words of the title or description, or a substring of the title, served by the search indexes
+    FULL_TEXT
+}
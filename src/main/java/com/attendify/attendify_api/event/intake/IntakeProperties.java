@@ -0,0 +1,37 @@
+package com.attendify.attendify_api.event.intake;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "application.events.intake")
+public class IntakeProperties {
+    // Threads draining event queues, also the most connections the intake holds at once
+    @Min(1)
+    private int workers = 4;
+
+    // Registrations decided per transaction, bounds how long the event row stays locked
+    @Min(1)
+    private int batchSize = 500;
+
+    // Registrations allowed to wait per event before new ones are answered with 429
+    @Min(1)
+    private int queueCapacity = 20_000;
+
+    // How long a decided ticket can still be polled
+    @NotNull
+    private Duration ticketTtl = Duration.ofMinutes(10);
+
+    // Longest time a status request waits for its ticket to be decided, below the async request timeout
+    @NotNull
+    private Duration maxWait = Duration.ofSeconds(20);
+}
@@ -0,0 +1,325 @@
+package com.attendify.attendify_api.event.intake;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.attendify.attendify_api.event.cache.EventReadCache;
+import com.attendify.attendify_api.event.entity.Event;
+import com.attendify.attendify_api.event.entity.enums.EventStatus;
+import com.attendify.attendify_api.event.intake.RegistrationTicket.Outcome;
+import com.attendify.attendify_api.event.repository.EventRegistrationRepository;
+import com.attendify.attendify_api.event.repository.EventRepository;
+import com.attendify.attendify_api.event.repository.WaitlistEntryRepository;
+import com.attendify.attendify_api.shared.exception.TooManyRequestsException;
+import com.attendify.attendify_api.user.repository.UserRepository;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+// Queues self registrations per event and decides them in batches, so a launch costs one event lock
+// and one seat count per batch instead of one per request, and request threads never wait on the lock.
+// Each event is drained by at most one worker at a time, and the worker pool caps the connections in use.
+// Queues and tickets live in memory, a ticket is only as durable as this instance.
+@Slf4j
+@Component
+public class RegistrationIntake {
+    private final EventRepository eventRepository;
+    private final EventRegistrationRepository eventRegistrationRepository;
+    private final WaitlistEntryRepository waitlistEntryRepository;
+    private final UserRepository userRepository;
+    private final EventReadCache eventReadCache;
+    private final IntakeProperties properties;
+    private final TransactionTemplate transactionTemplate;
+    private final ExecutorService executor;
+
+    private final Map<Long, Lane> lanes = new ConcurrentHashMap<>();
+    private final Map<String, RegistrationTicket> tickets = new ConcurrentHashMap<>();
+    // Queued tickets by user and event, a repeated request gets the ticket already waiting
+    private final Map<PendingKey, RegistrationTicket> pending = new ConcurrentHashMap<>();
+    private final AtomicInteger queued = new AtomicInteger();
+
+    private final Map<RegistrationTicket.Status, Counter> decidedCounters = new ConcurrentHashMap<>();
+    private final MeterRegistry meterRegistry;
+    private final Timer batchTimer;
+
+    private volatile boolean accepting = true;
+
+    public RegistrationIntake(
+            EventRepository eventRepository,
+            EventRegistrationRepository eventRegistrationRepository,
+            WaitlistEntryRepository waitlistEntryRepository,
+            UserRepository userRepository,
+            EventReadCache eventReadCache,
+            IntakeProperties properties,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry) {
+        this.eventRepository = eventRepository;
+        this.eventRegistrationRepository = eventRegistrationRepository;
+        this.waitlistEntryRepository = waitlistEntryRepository;
+        this.userRepository = userRepository;
+        this.eventReadCache = eventReadCache;
+        this.properties = properties;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.executor = Executors.newFixedThreadPool(properties.getWorkers(),
+                new CustomizableThreadFactory("registration-intake-"));
+        this.meterRegistry = meterRegistry;
+        this.batchTimer = Timer.builder("attendify.registrations.intake.batch")
+                .description("Latency of a single intake batch")
+                .register(meterRegistry);
+        Gauge.builder("attendify.registrations.intake.queued", queued, AtomicInteger::get)
+                .description("Registrations waiting in event queues")
+                .register(meterRegistry);
+    }
+
+    // Queues a registration of the user for the event, answers 429 once the event queue is full
+    public RegistrationTicket submit(Long userId, Long eventId) {
+        if (!accepting)
+            throw new TooManyRequestsException("Registration intake is shutting down, please retry", 1);
+
+        RegistrationTicket ticket = new RegistrationTicket(userId, eventId);
+        RegistrationTicket waiting = pending.putIfAbsent(new PendingKey(eventId, userId), ticket);
+
+        if (waiting != null)
+            return waiting;
+
+        boolean[] offered = { false };
+
+        // Offered under the map bin lock, so a worker retiring the lane cannot miss the ticket
+        Lane lane = lanes.compute(eventId, (id, current) -> {
+            Lane target = current != null ? current : new Lane(properties.getQueueCapacity());
+            offered[0] = target.queue.offer(ticket);
+            return target;
+        });
+
+        if (!offered[0]) {
+            pending.remove(new PendingKey(eventId, userId), ticket);
+            throw new TooManyRequestsException("Registration queue is full, please retry", 1);
+        }
+
+        tickets.put(ticket.getId(), ticket);
+        queued.incrementAndGet();
+        schedule(eventId, lane);
+
+        return ticket;
+    }
+
+    public RegistrationTicket find(String ticketId) {
+        return tickets.get(ticketId);
+    }
+
+    // Completes with the decision, or with the ticket still queued once the wait is over
+    public CompletableFuture<Outcome> await(RegistrationTicket ticket, Duration wait) {
+        long millis = Math.min(wait.toMillis(), properties.getMaxWait().toMillis());
+
+        if (ticket.isDecided() || millis <= 0)
+            return CompletableFuture.completedFuture(ticket.outcome());
+
+        return ticket.whenDecided().completeOnTimeout(ticket.outcome(), millis, TimeUnit.MILLISECONDS);
+    }
+
+    @Scheduled(
+            fixedDelayString = "${application.events.intake.sweep-interval:PT1M}",
+            initialDelayString = "${application.events.intake.sweep-interval:PT1M}")
+    // Forgets decided tickets once they can no longer be polled
+    public void sweepTickets() {
+        long cutoff = System.nanoTime() - properties.getTicketTtl().toNanos();
+
+        tickets.values().removeIf(ticket -> ticket.isDecided() && ticket.getDecidedAt() - cutoff < 0);
+    }
+
+    @PreDestroy
+    void shutdown() throws InterruptedException {
+        accepting = false;
+        executor.shutdown();
+
+        // Queued tickets are only in memory, give the workers a chance to decide them
+        if (!executor.awaitTermination(30, TimeUnit.SECONDS))
+            log.error("Dropping {} queued registrations on shutdown", queued.get());
+    }
+
+    private void schedule(Long eventId, Lane lane) {
+        if (lane.scheduled.compareAndSet(false, true))
+            executor.execute(() -> drain(eventId, lane));
+    }
+
+    private void drain(Long eventId, Lane lane) {
+        List<RegistrationTicket> batch = new ArrayList<>(properties.getBatchSize());
+
+        do {
+            while (lane.queue.drainTo(batch, properties.getBatchSize()) > 0) {
+                queued.addAndGet(-batch.size());
+                decide(eventId, batch);
+                batch.clear();
+            }
+
+            lane.scheduled.set(false);
+
+            // A ticket offered after the last drain but before the flag was cleared is picked up here
+        } while (!lane.queue.isEmpty() && lane.scheduled.compareAndSet(false, true));
+
+        lanes.computeIfPresent(eventId,
+                (id, current) -> current == lane && lane.queue.isEmpty() && !lane.scheduled.get() ? null : current);
+    }
+
+    private void decide(Long eventId, List<RegistrationTicket> batch) {
+        Timer.Sample sample = Timer.start();
+        Map<RegistrationTicket, Outcome> decisions;
+
+        try {
+            decisions = transactionTemplate.execute(status -> decideBatch(eventId, batch));
+        } catch (RuntimeException ex) {
+            log.error("Failed to decide {} queued registrations for event {}", batch.size(), eventId, ex);
+
+            decisions = new IdentityHashMap<>();
+            for (RegistrationTicket ticket : batch)
+                decisions.put(ticket, Outcome.failed("Registration could not be processed, please retry"));
+        }
+
+        // Published only after commit, a polled REGISTERED ticket is always backed by a row
+        for (RegistrationTicket ticket : batch) {
+            Outcome outcome = decisions.get(ticket);
+
+            pending.remove(new PendingKey(eventId, ticket.getUserId()), ticket);
+            ticket.decide(outcome);
+            decidedCounter(outcome.status()).increment();
+        }
+
+        sample.stop(batchTimer);
+    }
+
+    private Map<RegistrationTicket, Outcome> decideBatch(Long eventId, List<RegistrationTicket> batch) {
+        Map<RegistrationTicket, Outcome> decisions = new IdentityHashMap<>();
+
+        // One lock for the whole batch, the same row every other seat claim of the event waits on
+        Event event = eventRepository.findByIdForUpdate(eventId).orElse(null);
+        String refusal = refusal(event);
+
+        if (refusal != null) {
+            batch.forEach(ticket -> decisions.put(ticket, Outcome.rejected(refusal)));
+            return decisions;
+        }
+
+        List<Long> userIds = batch.stream().map(RegistrationTicket::getUserId).toList();
+        Set<Long> existingUsers = userRepository.findExistingIds(userIds);
+        Set<Long> registeredUsers = eventRegistrationRepository.findRegisteredUserIds(eventId, userIds);
+        Set<Long> waitlistedUsers = waitlistEntryRepository.findWaitlistedUserIds(eventId, userIds);
+
+        List<RegistrationTicket> candidates = new ArrayList<>(batch.size());
+
+        for (RegistrationTicket ticket : batch) {
+            Long userId = ticket.getUserId();
+
+            if (!existingUsers.contains(userId))
+                decisions.put(ticket, Outcome.rejected("User not found"));
+            else if (registeredUsers.contains(userId))
+                decisions.put(ticket, Outcome.rejected("User is already registered for this event"));
+            else if (waitlistedUsers.contains(userId))
+                decisions.put(ticket, Outcome.rejected("User is already on the waitlist for this event"));
+            else
+                candidates.add(ticket);
+        }
+
+        int seats = claimSeats(event, candidates.size());
+        List<RegistrationTicket> accepted = candidates.subList(0, seats);
+        List<RegistrationTicket> overflow = candidates.subList(seats, candidates.size());
+        LocalDateTime now = LocalDateTime.now();
+
+        if (!accepted.isEmpty())
+            register(event, accepted, now, decisions);
+
+        if (!overflow.isEmpty()) {
+            Map<Long, Long> positions = waitlistEntryRepository.enqueueAll(eventId,
+                    overflow.stream().map(RegistrationTicket::getUserId).toList(), now);
+
+            overflow.forEach(ticket -> decisions.put(ticket, Outcome.waitlisted(positions.get(ticket.getUserId()))));
+        }
+
+        return decisions;
+    }
+
+    private void register(Event event, List<RegistrationTicket> accepted, LocalDateTime now,
+            Map<RegistrationTicket, Outcome> decisions) {
+        Map<Long, Long> inserted = eventRegistrationRepository.insertAllIfAbsent(event.getId(),
+                accepted.stream().map(RegistrationTicket::getUserId).toList(), null, now);
+
+        if (!inserted.isEmpty()) {
+            eventRepository.addSeats(event.getId(), inserted.size());
+            eventReadCache.evictDetailAfterCommit(event.getId());
+        }
+
+        for (RegistrationTicket ticket : accepted) {
+            Long registrationId = inserted.get(ticket.getUserId());
+
+            decisions.put(ticket, registrationId != null
+                    ? Outcome.registered(registrationId)
+                    : Outcome.rejected("User is already registered for this event"));
+        }
+    }
+
+    // Seats available to the batch, the event row is already locked. Seats leased to high-demand reservations are
+    // counted in registered_count.
+    private int claimSeats(Event event, int requested) {
+        if (requested == 0)
+            return 0;
+
+        return Math.max(0, Math.min(requested, event.getCapacity() - event.getRegisteredCount()));
+    }
+
+    // Same rules as a synchronous registration, applied once for the whole batch
+    private static String refusal(Event event) {
+        if (event == null)
+            return "Event not found";
+
+        if (event.getStatus() != EventStatus.PUBLISHED)
+            return "Cannot join at UNPUBLISHED events.";
+
+        if (event.getEndDate().isBefore(LocalDateTime.now()))
+            return "Cannot register for a past event";
+
+        return null;
+    }
+
+    private Counter decidedCounter(RegistrationTicket.Status status) {
+        return decidedCounters.computeIfAbsent(status, key -> Counter.builder("attendify.registrations.intake.decided")
+                .tag("status", key.name().toLowerCase())
+                .description("Queued registrations decided by the intake")
+                .register(meterRegistry));
+    }
+
+    private static final class Lane {
+        private final BlockingQueue<RegistrationTicket> queue;
+        // Set while a worker owns the lane, so an event is never drained by two workers at once
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+
+        private Lane(int capacity) {
+            this.queue = new LinkedBlockingQueue<>(capacity);
+        }
+    }
+
+    private record PendingKey(Long eventId, Long userId) {
+    }
+}
@@ -0,0 +1,79 @@
+package com.attendify.attendify_api.event.intake;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+
+// A registration request accepted by the intake, decided once the batch it was drained with commits
+@Getter
+public final class RegistrationTicket {
+    private static final Outcome QUEUED = new Outcome(Status.QUEUED, null, null, null);
+
+    private final String id = UUID.randomUUID().toString();
+    private final Long userId;
+    private final Long eventId;
+    private final LocalDateTime createdAt = LocalDateTime.now();
+
+    // Monotonic time of the decision, 0 while queued
+    private volatile long decidedAt;
+
+    @Getter(AccessLevel.NONE)
+    private final CompletableFuture<Outcome> outcome = new CompletableFuture<>();
+
+    RegistrationTicket(Long userId, Long eventId) {
+        this.userId = userId;
+        this.eventId = eventId;
+    }
+
+    public Outcome outcome() {
+        return outcome.getNow(QUEUED);
+    }
+
+    // Completes with the decision, a caller cancelling or timing out its copy leaves the ticket untouched
+    public CompletableFuture<Outcome> whenDecided() {
+        return outcome.copy();
+    }
+
+    public boolean isDecided() {
+        return outcome.isDone();
+    }
+
+    void decide(Outcome decision) {
+        decidedAt = System.nanoTime();
+        outcome.complete(decision);
+    }
+
+    public enum Status {
+        // Waiting in the event queue
+        QUEUED,
+        // Registered, the registration ID is set
+        REGISTERED,
+        // The event was full, the waitlist position is set
+        WAITLISTED,
+        // Refused by a business rule, the message says why
+        REJECTED,
+        // The batch could not be written, the request may be sent again
+        FAILED
+    }
+
+    public record Outcome(Status status, Long registrationId, Long waitlistPosition, String message) {
+        static Outcome registered(Long registrationId) {
+            return new Outcome(Status.REGISTERED, registrationId, null, null);
+        }
+
+        static Outcome waitlisted(Long position) {
+            return new Outcome(Status.WAITLISTED, null, position, null);
+        }
+
+        static Outcome rejected(String message) {
+            return new Outcome(Status.REJECTED, null, null, message);
+        }
+
+        static Outcome failed(String message) {
+            return new Outcome(Status.FAILED, null, null, message);
+        }
+    }
+}
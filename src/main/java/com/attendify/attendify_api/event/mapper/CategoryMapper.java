@@ -1,6 +1,6 @@
 package com.attendify.attendify_api.event.mapper;
 
-import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Component;
 
 import com.attendify.attendify_api.event.dto.CategoryRequestDTO;
@@ -43,8 +43,8 @@ public class CategoryMapper {
                 .build();
     }
 
-    // Converts a Spring Page of entities to a standardized paginated response
-    public PageResponseDTO<CategorySimpleDTO> toPageResponse(Page<Category> page) {
+    // Converts a Spring Page or Slice of entities to a standardized paginated response
+    public PageResponseDTO<CategorySimpleDTO> toPageResponse(Slice<Category> page) {
         return PageMappingUtils.toPageResponse(page, this::toSimple);
     }
 }
@@ -1,11 +1,13 @@
 package com.attendify.attendify_api.event.mapper;
 
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
 
-import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Component;
 
 import com.attendify.attendify_api.event.dto.CategorySimpleDTO;
@@ -14,17 +16,17 @@ import com.attendify.attendify_api.event.dto.EventResponseDTO;
 import com.attendify.attendify_api.event.dto.EventSimpleDTO;
 import com.attendify.attendify_api.event.entity.Category;
 import com.attendify.attendify_api.event.entity.Event;
+import com.attendify.attendify_api.event.repository.EventRegistrationRepository.AttendeeView;
 import com.attendify.attendify_api.shared.dto.PageResponseDTO;
 import com.attendify.attendify_api.shared.mapper.PageMappingUtils;
 import com.attendify.attendify_api.user.dto.UserSummaryDTO;
-import com.attendify.attendify_api.user.mapper.UserMapper;
+import com.attendify.attendify_api.user.entity.enums.Role;
 
 import lombok.RequiredArgsConstructor;
 
 @Component
 @RequiredArgsConstructor
 public class EventMapper {
-    private final UserMapper userMapper;
     private final CategoryMapper categoryMapper;
 
     // Converts DTO to new Event entity
@@ -39,6 +41,7 @@ public class EventMapper {
                 .location(dto.location())
                 .capacity(dto.capacity())
                 .status(dto.status())
+                .highDemand(Boolean.TRUE.equals(dto.highDemand()))
                 .categories(categories)
                 .build();
     }
@@ -55,19 +58,14 @@ public class EventMapper {
         event.setLocation(dto.location());
         event.setCapacity(dto.capacity());
         event.setStatus(dto.status());
+        event.setHighDemand(Boolean.TRUE.equals(dto.highDemand()));
 
         event.getCategories().clear();
         event.getCategories().addAll(categories);
     }
 
-    // Converts entity to detailed response DTO
-    public EventResponseDTO toResponse(Event event) {
-        Set<UserSummaryDTO> registeredUsers = Optional.ofNullable(event.getRegistrations())
-                .orElse(Collections.emptySet())
-                .stream()
-                .map(reg -> userMapper.toSummary(reg.getUser()))
-                .collect(Collectors.toSet());
-
+    // Converts entity to detailed response DTO, attendees are the bounded first page read by the service
+    public EventResponseDTO toResponse(Event event, List<UserSummaryDTO> attendees) {
         Set<CategorySimpleDTO> categories = Optional.ofNullable(event.getCategories())
                 .orElse(Collections.emptySet())
                 .stream()
@@ -83,11 +81,28 @@ public class EventMapper {
                 .location(event.getLocation())
                 .capacity(event.getCapacity())
                 .status(event.getStatus())
-                .registeredUsers(registeredUsers)
+                .highDemand(event.getHighDemand())
+                .registeredCount(event.getRegisteredCount())
+                .registeredUsers(attendees)
                 .categories(categories)
                 .build();
     }
 
+    // Converts a projected attendee row to a user summary
+    public UserSummaryDTO toAttendee(AttendeeView attendee) {
+        Set<Role> roles = attendee.getRoles() == null
+                ? Set.of()
+                : Arrays.stream(attendee.getRoles().split(","))
+                        .map(Role::valueOf)
+                        .collect(Collectors.toSet());
+
+        return UserSummaryDTO.builder()
+                .id(attendee.getId())
+                .email(attendee.getEmail())
+                .roles(roles)
+                .build();
+    }
+
     // Converts entity to simplified DTO
     public EventSimpleDTO toSimple(Event event) {
         return EventSimpleDTO.builder()
@@ -99,8 +114,8 @@ public class EventMapper {
                 .build();
     }
 
-    // Converts a Spring Page of entities to a standardized paginated response
-    public PageResponseDTO<EventSimpleDTO> toPageResponse(Page<Event> page) {
+    // Converts a Spring Page or Slice of entities to a standardized paginated response
+    public PageResponseDTO<EventSimpleDTO> toPageResponse(Slice<Event> page) {
         return PageMappingUtils.toPageResponse(page, this::toSimple);
     }
 }
@@ -1,12 +1,20 @@
 package com.attendify.attendify_api.event.mapper;
 
-import org.springframework.data.domain.Page;
+import java.util.List;
+
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Component;
 
 import com.attendify.attendify_api.event.dto.EventRegistrationResponseDTO;
+import com.attendify.attendify_api.event.dto.EventRegistrationTicketDTO;
 import com.attendify.attendify_api.event.entity.Event;
 import com.attendify.attendify_api.event.entity.EventRegistration;
+import com.attendify.attendify_api.event.entity.WaitlistEntry;
+import com.attendify.attendify_api.event.intake.RegistrationTicket;
+import com.attendify.attendify_api.event.reservation.PendingRegistration;
+import com.attendify.attendify_api.shared.dto.CursorPageResponseDTO;
 import com.attendify.attendify_api.shared.dto.PageResponseDTO;
+import com.attendify.attendify_api.shared.mapper.CursorMappingUtils;
 import com.attendify.attendify_api.shared.mapper.PageMappingUtils;
 import com.attendify.attendify_api.user.entity.User;
 
@@ -32,8 +40,47 @@ public class EventRegistrationMapper {
                 .build();
     }
 
-    // Converts a Spring Page of entities to a standardized paginated response
-    public PageResponseDTO<EventRegistrationResponseDTO> toPageResponse(Page<EventRegistration> page) {
+    // Converts a seat reserved in memory to a response, the row is written later by the batch writer
+    public EventRegistrationResponseDTO toPendingResponse(PendingRegistration pending) {
+        return EventRegistrationResponseDTO.builder()
+                .userId(pending.userId())
+                .eventId(pending.eventId())
+                .checkedIn(false)
+                .createdAt(pending.createdAt())
+                .build();
+    }
+
+    // Converts a waitlist entry to a response, the user is promoted to a registration when a seat frees up
+    public EventRegistrationResponseDTO toWaitlistedResponse(WaitlistEntry entry, long position) {
+        return EventRegistrationResponseDTO.builder()
+                .userId(entry.getUser().getId())
+                .eventId(entry.getEvent().getId())
+                .checkedIn(false)
+                .createdAt(entry.getCreatedAt())
+                .waitlistPosition(position)
+                .build();
+    }
+
+    // Converts a queued registration to a response, the outcome is empty until its batch commits
+    public EventRegistrationTicketDTO toTicketResponse(RegistrationTicket ticket, RegistrationTicket.Outcome outcome) {
+        return EventRegistrationTicketDTO.builder()
+                .ticketId(ticket.getId())
+                .eventId(ticket.getEventId())
+                .status(outcome.status())
+                .registrationId(outcome.registrationId())
+                .waitlistPosition(outcome.waitlistPosition())
+                .message(outcome.message())
+                .createdAt(ticket.getCreatedAt())
+                .build();
+    }
+
+    // Converts a Spring Page or Slice of entities to a standardized paginated response
+    public PageResponseDTO<EventRegistrationResponseDTO> toPageResponse(Slice<EventRegistration> page) {
         return PageMappingUtils.toPageResponse(page, this::toResponse);
     }
+
+    // Converts a keyset page of entities, fetched with one extra row, to a cursor response
+    public CursorPageResponseDTO<EventRegistrationResponseDTO> toCursorResponse(List<EventRegistration> rows, int size) {
+        return CursorMappingUtils.toCursorResponse(rows, size, EventRegistration::getId, this::toResponse);
+    }
 }
@@ -0,0 +1,82 @@
+package com.attendify.attendify_api.event.persistence;
+
+import java.util.List;
+
+import org.hibernate.boot.model.FunctionContributions;
+import org.hibernate.boot.model.FunctionContributor;
+import org.hibernate.query.ReturnableType;
+import org.hibernate.query.sqm.function.AbstractSqmSelfRenderingFunctionDescriptor;
+import org.hibernate.query.sqm.produce.function.StandardArgumentsValidators;
+import org.hibernate.query.sqm.produce.function.StandardFunctionArgumentTypeResolvers;
+import org.hibernate.query.sqm.produce.function.StandardFunctionReturnTypeResolvers;
+import org.hibernate.sql.ast.SqlAstTranslator;
+import org.hibernate.sql.ast.spi.SqlAppender;
+import org.hibernate.sql.ast.tree.SqlAstNode;
+import org.hibernate.sql.ast.tree.expression.ColumnReference;
+import org.hibernate.sql.ast.tree.expression.Expression;
+import org.hibernate.type.BasicType;
+import org.hibernate.type.BasicTypeRegistry;
+import org.hibernate.type.StandardBasicTypes;
+
+// PostgreSQL full-text functions usable from criteria queries, registered through META-INF/services.
+// Matching is rendered with the @@ operator, the function form of it cannot use the GIN index.
+// The search_vector column is left out of the Event mapping so loading an event never reads it. Both functions take
+// the event ID as first argument and render the column of the same table alias instead.
+public class EventSearchFunctions implements FunctionContributor {
+    public static final String MATCH = "event_search_match";
+    public static final String RANK = "event_search_rank";
+
+    // Created by EventSearchIndexes, the text configuration must be the one of the functions below
+    static final String SEARCH_VECTOR_COLUMN = "search_vector";
+
+    @Override
+    public void contributeFunctions(FunctionContributions functionContributions) {
+        BasicTypeRegistry types = functionContributions.getTypeConfiguration().getBasicTypeRegistry();
+
+        functionContributions.getFunctionRegistry().register(MATCH, new SearchVectorFunction(MATCH,
+                "(", " @@ websearch_to_tsquery('simple', ", "))",
+                types.resolve(StandardBasicTypes.BOOLEAN)));
+        functionContributions.getFunctionRegistry().register(RANK, new SearchVectorFunction(RANK,
+                "ts_rank(", ", websearch_to_tsquery('simple', ", "))",
+                types.resolve(StandardBasicTypes.DOUBLE)));
+    }
+
+    // Renders prefix, the search vector of the alias owning the ID argument, infix, the text argument, suffix
+    private static final class SearchVectorFunction extends AbstractSqmSelfRenderingFunctionDescriptor {
+        private final String prefix;
+        private final String infix;
+        private final String suffix;
+
+        private SearchVectorFunction(String name, String prefix, String infix, String suffix, BasicType<?> type) {
+            super(name,
+                    StandardArgumentsValidators.exactly(2),
+                    StandardFunctionReturnTypeResolvers.invariant(type),
+                    StandardFunctionArgumentTypeResolvers.NULL);
+            this.prefix = prefix;
+            this.infix = infix;
+            this.suffix = suffix;
+        }
+
+        @Override
+        public void render(
+                SqlAppender sqlAppender,
+                List<? extends SqlAstNode> arguments,
+                ReturnableType<?> returnType,
+                SqlAstTranslator<?> walker) {
+            ColumnReference id = ((Expression) arguments.get(0)).getColumnReference();
+
+            if (id == null)
+                throw new IllegalArgumentException(getName() + " expects the event ID column as first argument");
+
+            sqlAppender.appendSql(prefix);
+            if (id.getQualifier() != null) {
+                sqlAppender.appendSql(id.getQualifier());
+                sqlAppender.appendSql('.');
+            }
+            sqlAppender.appendSql(SEARCH_VECTOR_COLUMN);
+            sqlAppender.appendSql(infix);
+            arguments.get(1).accept(walker);
+            sqlAppender.appendSql(suffix);
+        }
+    }
+}
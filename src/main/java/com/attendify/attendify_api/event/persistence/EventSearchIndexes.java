@@ -0,0 +1,84 @@
+package com.attendify.attendify_api.event.persistence;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+// Column and indexes behind FULL_TEXT search for schemas built by Hibernate, whose index metadata can only describe
+// B-tree indexes, the column is deliberately not mapped. Deployed schemas get them from db/upgrade instead.
+// Indexes are built concurrently outside any transaction so the events table stays writable meanwhile.
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class EventSearchIndexes {
+    // Weighted words of the title and description, matched and ranked through EventSearchFunctions
+    private static final String ADD_SEARCH_VECTOR_COLUMN = """
+                ALTER TABLE events ADD COLUMN IF NOT EXISTS search_vector tsvector GENERATED ALWAYS AS (
+                    setweight(to_tsvector('simple', coalesce(title, '')), 'A')
+                    || setweight(to_tsvector('simple', coalesce(description, '')), 'B')
+                ) STORED
+            """;
+
+    private static final String CREATE_TRIGRAM_EXTENSION = "CREATE EXTENSION IF NOT EXISTS pg_trgm";
+
+    private static final String CREATE_SEARCH_VECTOR_INDEX = """
+                CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_event_search_vector
+                ON events USING GIN (search_vector)
+            """;
+
+    // Serves lower(title) LIKE '%text%', the substring half of FULL_TEXT search
+    private static final String CREATE_TITLE_TRIGRAM_INDEX = """
+                CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_event_title_trgm
+                ON events USING GIN (lower(title) gin_trgm_ops)
+            """;
+
+    // A failed concurrent build leaves an INVALID index that IF NOT EXISTS would keep forever
+    private static final String FIND_INVALID_INDEXES = """
+                SELECT c.relname FROM pg_index i
+                JOIN pg_class c ON c.oid = i.indexrelid
+                WHERE c.relname IN ('idx_event_search_vector', 'idx_event_title_trgm')
+                AND NOT i.indisvalid
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final EventSearchProperties properties;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void createIfMissing() {
+        if (!properties.isCreateIndexes())
+            return;
+
+        dropInvalidIndexes();
+
+        if (execute(ADD_SEARCH_VECTOR_COLUMN, "the search vector column"))
+            execute(CREATE_SEARCH_VECTOR_INDEX, "the search vector index");
+
+        // Needs a role allowed to create extensions, without it title substrings are matched by a scan
+        if (execute(CREATE_TRIGRAM_EXTENSION, "the pg_trgm extension"))
+            execute(CREATE_TITLE_TRIGRAM_INDEX, "the title trigram index");
+    }
+
+    private void dropInvalidIndexes() {
+        try {
+            jdbcTemplate.queryForList(FIND_INVALID_INDEXES, String.class).forEach(index -> execute(
+                    "DROP INDEX CONCURRENTLY IF EXISTS " + index, "a replacement for the invalid index " + index));
+        } catch (DataAccessException ex) {
+            log.warn("Failed to look for invalid event search indexes", ex);
+        }
+    }
+
+    private boolean execute(String statement, String name) {
+        try {
+            jdbcTemplate.execute(statement);
+            return true;
+        } catch (DataAccessException ex) {
+            log.warn("Failed to create {}, event search falls back to scans", name, ex);
+            return false;
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.attendify.attendify_api.event.persistence;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "application.events.search")
+public class EventSearchProperties {
+    // Creates the search_vector column, the pg_trgm extension and the search indexes on startup when they are missing.
+    // Meant for schemas built by Hibernate, deployed schemas get them from the db/upgrade scripts.
+    private boolean createIndexes = false;
+
+    // Resolves keyword searches from the in-process index instead of the database
+    private boolean indexEnabled = true;
+
+    // Delay between refreshes of the search index and suggestions from rows changed on other instances
+    private Duration refreshInterval = Duration.ofSeconds(30);
+}
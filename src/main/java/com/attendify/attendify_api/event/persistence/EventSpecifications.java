@@ -9,9 +9,18 @@ import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Component;
 
 import com.attendify.attendify_api.event.dto.EventFilterDTO;
+import com.attendify.attendify_api.event.entity.Category;
 import com.attendify.attendify_api.event.entity.Event;
+import com.attendify.attendify_api.event.entity.enums.EventSearchMode;
+import com.attendify.attendify_api.event.search.SearchTokenizer;
 
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Join;
 import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
 import lombok.RequiredArgsConstructor;
 
 @Component
@@ -25,14 +34,17 @@ public class EventSpecifications {
 
             var text = eventFilter.text();
             var location = eventFilter.location();
+            var status = eventFilter.status();
 
-            // Filter by text in title or description
+            // Filter by text in title or description, and category names for keyword searches the index cannot answer
             if (text != null && !text.isBlank()) {
-                String like = "%" + text.toLowerCase().trim() + "%";
-                predicates.add(
-                        cb.or(
-                                cb.like(cb.lower(root.get("title")), like),
-                                cb.like(cb.lower(root.get("description")), like)));
+                if (eventFilter.searchMode() == EventSearchMode.FULL_TEXT)
+                    predicates.add(fullText(root, query, cb, text.trim(),
+                            Boolean.TRUE.equals(eventFilter.sortByRank())));
+                else if (eventFilter.searchMode() == EventSearchMode.KEYWORD)
+                    predicates.add(keywords(root, query, cb, text));
+                else
+                    predicates.add(contains(root, cb, text));
             }
 
             // Filter only upcoming events
@@ -49,8 +61,66 @@ public class EventSpecifications {
                         cb.equal(root.get("location"), location));
             }
 
+            // Filter by exact status match
+            if (status != null) {
+                predicates.add(
+                        cb.equal(root.get("status"), status));
+            }
+
             // Combine all predicates with AND
             return cb.and(predicates.toArray(new Predicate[0]));
         };
     }
+
+    // Substring of the title or description, always a sequential scan
+    private Predicate contains(Root<Event> root, CriteriaBuilder cb, String text) {
+        String like = "%" + text.toLowerCase().trim() + "%";
+
+        return cb.or(
+                cb.like(cb.lower(root.get("title")), like),
+                cb.like(cb.lower(root.get("description")), like));
+    }
+
+    // Every word of the text within the title, description or a category name, the closest SQL match of the index
+    private Predicate keywords(Root<Event> root, CriteriaQuery<?> query, CriteriaBuilder cb, String text) {
+        List<Predicate> words = new ArrayList<>();
+
+        for (String word : SearchTokenizer.tokenize(text)) {
+            String like = "%" + word + "%";
+
+            Subquery<Long> inCategory = query.subquery(Long.class);
+            Join<Event, Category> category = inCategory.correlate(root).join("categories");
+            inCategory.select(category.get("id"))
+                    .where(cb.like(cb.lower(category.get("name")), like));
+
+            words.add(cb.or(
+                    cb.like(cb.lower(root.get("title")), like),
+                    cb.like(cb.lower(root.get("description")), like),
+                    cb.exists(inCategory)));
+        }
+
+        return cb.and(words.toArray(new Predicate[0]));
+    }
+
+    // Words of the title or description through the GIN index on search_vector, or a title substring through the
+    // trigram index on lower(title), so partial words typed in a search box still find titles
+    private Predicate fullText(
+            Root<Event> root,
+            CriteriaQuery<?> query,
+            CriteriaBuilder cb,
+            String text,
+            boolean sortByRank) {
+        // The search_vector column is not mapped, the functions locate it through the event ID
+        Expression<Long> id = root.get("id");
+
+        // A requested sort replaces this order, count queries drop it
+        if (sortByRank)
+            query.orderBy(
+                    cb.desc(cb.function(EventSearchFunctions.RANK, Double.class, id, cb.literal(text))),
+                    cb.asc(id));
+
+        return cb.or(
+                cb.isTrue(cb.function(EventSearchFunctions.MATCH, Boolean.class, id, cb.literal(text))),
+                cb.like(cb.lower(root.get("title")), "%" + text.toLowerCase() + "%"));
+    }
 }
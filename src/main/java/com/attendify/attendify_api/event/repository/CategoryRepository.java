@@ -3,6 +3,7 @@ package com.attendify.attendify_api.event.repository;
 import java.util.Optional;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -25,4 +26,13 @@ public interface CategoryRepository extends JpaRepository<Category, Long> {
     // Fetch all categories, including both active and soft-deleted
     @Query(value = "SELECT * FROM categories", nativeQuery = true)
     Page<Category> findAllWithDeleted(Pageable pageable);
+
+    // Slice variants of the listings above, they read one extra row instead of running a COUNT query
+    Slice<Category> findSliceBy(Pageable pageable);
+
+    @Query(value = "SELECT * FROM categories WHERE deleted_at IS NOT NULL", nativeQuery = true)
+    Slice<Category> findSliceDeleted(Pageable pageable);
+
+    @Query(value = "SELECT * FROM categories", nativeQuery = true)
+    Slice<Category> findSliceWithDeleted(Pageable pageable);
 }
@@ -0,0 +1,12 @@
+package com.attendify.attendify_api.event.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+// Set-based registration writes that bypass the entity lifecycle
+public interface EventRegistrationBatchRepository {
+    // Registers users in one statement, skipping users that already hold a registration. A null creator means
+    // each user registered itself. Returns the new registration ID of every inserted user.
+    Map<Long, Long> insertAllIfAbsent(Long eventId, List<Long> userIds, Long createdBy, LocalDateTime createdAt);
+}
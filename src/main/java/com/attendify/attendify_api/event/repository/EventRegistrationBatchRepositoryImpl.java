@@ -0,0 +1,51 @@
+package com.attendify.attendify_api.event.repository;
+
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+class EventRegistrationBatchRepositoryImpl implements EventRegistrationBatchRepository {
+    // Without a creator the user is its own. Rows covered by the unique constraint are skipped instead of failing
+    // the statement, so a registration committed concurrently cannot roll back the whole batch.
+    private static final String INSERT_IF_ABSENT = """
+                INSERT INTO event_registrations (user_id, event_id, checked_in, created_at, created_by, roster_version)
+                SELECT u.user_id, ?, false, ?, coalesce(CAST(? AS bigint), u.user_id), pg_current_xact_id()::text::bigint
+                FROM unnest(?) AS u(user_id)
+                ON CONFLICT (user_id, event_id) DO NOTHING
+                RETURNING user_id, event_registration_id
+            """;
+
+    // Runs on the connection bound to the surrounding JPA transaction
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public Map<Long, Long> insertAllIfAbsent(Long eventId, List<Long> userIds, Long createdBy,
+            LocalDateTime createdAt) {
+        Map<Long, Long> inserted = new HashMap<>();
+
+        if (userIds.isEmpty())
+            return inserted;
+
+        jdbcTemplate.query(connection -> {
+            PreparedStatement ps = connection.prepareStatement(INSERT_IF_ABSENT);
+            ps.setLong(1, eventId);
+            ps.setTimestamp(2, Timestamp.valueOf(createdAt));
+            ps.setObject(3, createdBy, Types.BIGINT);
+            ps.setArray(4, connection.createArrayOf("bigint", userIds.toArray()));
+            return ps;
+        }, rs -> {
+            inserted.put(rs.getLong(1), rs.getLong(2));
+        });
+
+        return inserted;
+    }
+}
@@ -1,9 +1,15 @@
 package com.attendify.attendify_api.event.repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -12,11 +18,73 @@ import org.springframework.stereotype.Repository;
 import com.attendify.attendify_api.event.entity.EventRegistration;
 
 @Repository
-public interface EventRegistrationRepository extends JpaRepository<EventRegistration, Long> {
+public interface EventRegistrationRepository
+        extends JpaRepository<EventRegistration, Long>, EventRegistrationBatchRepository {
     Boolean existsByUser_IdAndEvent_Id(Long userId, Long eventId);
 
     long countByEvent_Id(Long eventId);
 
+    // Check for any registration of the user to the event, including soft-deleted ones the unique constraint still covers
+    @Query(value = """
+                SELECT EXISTS (
+                    SELECT 1 FROM event_registrations
+                    WHERE user_id = :userId
+                    AND event_id = :eventId
+                )
+            """, nativeQuery = true)
+    boolean existsByUserIdAndEventIdWithDeleted(@Param("userId") Long userId, @Param("eventId") Long eventId);
+
+    // Users among the given ones that have any registration to the event, including soft-deleted ones
+    @Query(value = """
+                SELECT user_id FROM event_registrations
+                WHERE event_id = :eventId
+                AND user_id IN (:userIds)
+            """, nativeQuery = true)
+    Set<Long> findRegisteredUserIds(@Param("eventId") Long eventId, @Param("userIds") Collection<Long> userIds);
+
+    // Check in every pending registration of the event among the given ones in one statement,
+    // returns the IDs that changed
+    @Query(value = """
+                UPDATE event_registrations
+                SET checked_in = true, updated_at = :now, updated_by = :updatedBy, roster_version = pg_current_xact_id()::text::bigint
+                WHERE event_id = :eventId
+                AND event_registration_id IN (:ids)
+                AND deleted_at IS NULL
+                AND checked_in = false
+                RETURNING event_registration_id
+            """, nativeQuery = true)
+    List<Long> checkInAll(
+            @Param("eventId") Long eventId,
+            @Param("ids") Collection<Long> ids,
+            @Param("updatedBy") Long updatedBy,
+            @Param("now") LocalDateTime now);
+
+    // IDs among the given ones that are active registrations of the event
+    @Query(value = """
+                SELECT event_registration_id FROM event_registrations
+                WHERE event_id = :eventId
+                AND event_registration_id IN (:ids)
+                AND deleted_at IS NULL
+            """, nativeQuery = true)
+    Set<Long> findActiveIds(@Param("eventId") Long eventId, @Param("ids") Collection<Long> ids);
+
+    // First active registrants of the event in registration order, projected with their roles in one round trip
+    @Query(value = """
+                SELECT u.user_id AS id, u.email AS email, string_agg(ur.role, ',') AS roles
+                FROM (
+                    SELECT event_registration_id, user_id FROM event_registrations
+                    WHERE event_id = :eventId
+                    AND deleted_at IS NULL
+                    ORDER BY event_registration_id
+                    LIMIT :limit
+                ) r
+                JOIN users u ON u.user_id = r.user_id AND u.deleted_at IS NULL
+                LEFT JOIN user_roles ur ON ur.user_id = u.user_id
+                GROUP BY r.event_registration_id, u.user_id, u.email
+                ORDER BY r.event_registration_id
+            """, nativeQuery = true)
+    List<AttendeeView> findFirstAttendees(@Param("eventId") Long eventId, @Param("limit") int limit);
+
     // Fetch registrations for a specific event, eagerly fetching user and event to avoid N+1
     @Query("""
                 SELECT er FROM EventRegistration er
@@ -35,6 +103,35 @@ public interface EventRegistrationRepository extends JpaRepository<EventRegistra
             """)
     Page<EventRegistration> findByUser_IdFetch(@Param("userId") Long userId, Pageable pageable);
 
+    // Keyset page of the registrations of an event, with user and event fetched.
+    // Reads the rows after the given ID along the (event_id, event_registration_id) index, no OFFSET and no COUNT.
+    @Query("""
+                SELECT er FROM EventRegistration er
+                JOIN FETCH er.user
+                JOIN FETCH er.event
+                WHERE er.event.id = :eventId
+                AND er.id > :afterId
+                ORDER BY er.id
+            """)
+    List<EventRegistration> findByEvent_IdAfter(
+            @Param("eventId") Long eventId,
+            @Param("afterId") long afterId,
+            Limit limit);
+
+    // Keyset page of the registrations of a user, read along the (user_id, event_registration_id) index
+    @Query("""
+                SELECT er FROM EventRegistration er
+                JOIN FETCH er.user
+                JOIN FETCH er.event
+                WHERE er.user.id = :userId
+                AND er.id > :afterId
+                ORDER BY er.id
+            """)
+    List<EventRegistration> findByUser_IdAfter(
+            @Param("userId") Long userId,
+            @Param("afterId") long afterId,
+            Limit limit);
+
     // Fetch a registration by ID, including soft-deleted entries
     @Query(value = "SELECT * FROM event_registrations WHERE event_registration_id = :id", nativeQuery = true)
     Optional<EventRegistration> findByIdWithDeleted(@Param("id") Long id);
@@ -46,4 +143,38 @@ public interface EventRegistrationRepository extends JpaRepository<EventRegistra
     // Fetch all registrations, including both active and soft-deleted
     @Query(value = "SELECT * FROM event_registrations", nativeQuery = true)
     Page<EventRegistration> findAllWithDeleted(Pageable pageable);
+
+    // Slice variants of the listings above, they read one extra row instead of running a COUNT query
+    Slice<EventRegistration> findSliceBy(Pageable pageable);
+
+    @Query("""
+                SELECT er FROM EventRegistration er
+                JOIN FETCH er.user
+                JOIN FETCH er.event
+                WHERE er.event.id = :eventId
+            """)
+    Slice<EventRegistration> findSliceByEvent_IdFetch(@Param("eventId") Long id, Pageable pageable);
+
+    @Query("""
+                SELECT er FROM EventRegistration er
+                JOIN FETCH er.user
+                JOIN FETCH er.event
+                WHERE er.user.id = :userId
+            """)
+    Slice<EventRegistration> findSliceByUser_IdFetch(@Param("userId") Long userId, Pageable pageable);
+
+    @Query(value = "SELECT * FROM event_registrations WHERE deleted_at IS NOT NULL", nativeQuery = true)
+    Slice<EventRegistration> findSliceDeleted(Pageable pageable);
+
+    @Query(value = "SELECT * FROM event_registrations", nativeQuery = true)
+    Slice<EventRegistration> findSliceWithDeleted(Pageable pageable);
+
+    // Registered user as read by findFirstAttendees, roles are comma separated
+    interface AttendeeView {
+        Long getId();
+
+        String getEmail();
+
+        String getRoles();
+    }
 }
@@ -4,9 +4,11 @@ import java.util.Optional;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -24,6 +26,70 @@ public interface EventRepository extends JpaRepository<Event, Long>, JpaSpecific
     @Query("SELECT e FROM Event e WHERE e.id = :id")
     Optional<Event> findByIdForUpdate(@Param("id") Long id);
 
+    // Atomically claim a seat, only succeeds while the event is below capacity
+    @Modifying
+    @Query(value = """
+                UPDATE events
+                SET registered_count = registered_count + 1
+                WHERE event_id = :id
+                AND deleted_at IS NULL
+                AND registered_count < capacity
+            """, nativeQuery = true)
+    int claimSeat(@Param("id") Long id);
+
+    // Atomically add a seat ignoring capacity (forced registrations and restores)
+    @Modifying
+    @Query(value = """
+                UPDATE events
+                SET registered_count = registered_count + 1
+                WHERE event_id = :id
+            """, nativeQuery = true)
+    int forceClaimSeat(@Param("id") Long id);
+
+    // Add several seats at once, the caller holds the event lock and already checked capacity
+    @Modifying
+    @Query(value = """
+                UPDATE events
+                SET registered_count = registered_count + :seats
+                WHERE event_id = :id
+            """, nativeQuery = true)
+    int addSeats(@Param("id") Long id, @Param("seats") int seats);
+
+    // Leases seats of a high-demand event to one instance, only succeeds while all of them fit in the capacity
+    @Modifying
+    @Query(value = """
+                UPDATE events
+                SET registered_count = registered_count + :seats
+                WHERE event_id = :id
+                AND deleted_at IS NULL
+                AND registered_count + :seats <= capacity
+            """, nativeQuery = true)
+    int leaseSeats(@Param("id") Long id, @Param("seats") int seats);
+
+    // Gives back seats leased but not used
+    @Modifying
+    @Query(value = """
+                UPDATE events
+                SET registered_count = GREATEST(registered_count - :seats, 0)
+                WHERE event_id = :id
+            """, nativeQuery = true)
+    int releaseSeats(@Param("id") Long id, @Param("seats") int seats);
+
+    // Atomically release a previously claimed seat
+    @Modifying
+    @Query(value = """
+                UPDATE events
+                SET registered_count = registered_count - 1
+                WHERE event_id = :id
+                AND registered_count > 0
+            """, nativeQuery = true)
+    int releaseSeat(@Param("id") Long id);
+
+    // Roster version stamped on the registrations changed by the current transaction: its own transaction ID,
+    // handed out without touching the event row so concurrent check-ins and registrations never queue on it
+    @Query(value = "SELECT pg_current_xact_id()::text::bigint", nativeQuery = true)
+    long currentRosterVersion();
+
     // Fetch an event by ID, including soft-deleted entries
     @Query(value = "SELECT * FROM events WHERE event_id = :id", nativeQuery = true)
     Optional<Event> findByIdWithDeleted(@Param("id") Long id);
@@ -35,4 +101,13 @@ public interface EventRepository extends JpaRepository<Event, Long>, JpaSpecific
     // Fetch all events, including both active and soft-deleted
     @Query(value = "SELECT * FROM events", nativeQuery = true)
     Page<Event> findAllWithDeleted(Pageable pageable);
+
+    // Slice variants of the listings above, they read one extra row instead of running a COUNT query
+    Slice<Event> findSliceByCategories_Id(Long categoryId, Pageable pageable);
+
+    @Query(value = "SELECT * FROM events WHERE deleted_at IS NOT NULL", nativeQuery = true)
+    Slice<Event> findSliceDeleted(Pageable pageable);
+
+    @Query(value = "SELECT * FROM events", nativeQuery = true)
+    Slice<Event> findSliceWithDeleted(Pageable pageable);
 }
@@ -0,0 +1,12 @@
+package com.attendify.attendify_api.event.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+// Set-based waitlist writes that bypass the entity lifecycle
+public interface WaitlistEntryBatchRepository {
+    // Appends users to the event queue in the given order, each as the creator of its own entry.
+    // Returns the 1-based queue position of every given user, including ones that were already waiting.
+    Map<Long, Long> enqueueAll(Long eventId, List<Long> userIds, LocalDateTime createdAt);
+}
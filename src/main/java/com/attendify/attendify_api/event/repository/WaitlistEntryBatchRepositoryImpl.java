@@ -0,0 +1,64 @@
+package com.attendify.attendify_api.event.repository;
+
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+class WaitlistEntryBatchRepositoryImpl implements WaitlistEntryBatchRepository {
+    // The ordinality keeps the identity values, and so the queue order, in the order of the given users
+    private static final String ENQUEUE = """
+                INSERT INTO event_waitlist (event_id, user_id, created_at, created_by)
+                SELECT ?, u.user_id, ?, u.user_id
+                FROM unnest(?) WITH ORDINALITY AS u(user_id, ord)
+                ORDER BY u.ord
+                ON CONFLICT (event_id, user_id) DO NOTHING
+            """;
+
+    // Walks the event queue once through the (event_id, waitlist_entry_id) index
+    private static final String SELECT_POSITIONS = """
+                SELECT user_id, position FROM (
+                    SELECT user_id, ROW_NUMBER() OVER (ORDER BY waitlist_entry_id) AS position
+                    FROM event_waitlist
+                    WHERE event_id = ?
+                ) queue
+                WHERE user_id = ANY(?)
+            """;
+
+    // Runs on the connection bound to the surrounding JPA transaction
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public Map<Long, Long> enqueueAll(Long eventId, List<Long> userIds, LocalDateTime createdAt) {
+        Map<Long, Long> positions = new HashMap<>();
+
+        if (userIds.isEmpty())
+            return positions;
+
+        jdbcTemplate.update(connection -> {
+            PreparedStatement ps = connection.prepareStatement(ENQUEUE);
+            ps.setLong(1, eventId);
+            ps.setTimestamp(2, Timestamp.valueOf(createdAt));
+            ps.setArray(3, connection.createArrayOf("bigint", userIds.toArray()));
+            return ps;
+        });
+
+        jdbcTemplate.query(connection -> {
+            PreparedStatement ps = connection.prepareStatement(SELECT_POSITIONS);
+            ps.setLong(1, eventId);
+            ps.setArray(2, connection.createArrayOf("bigint", userIds.toArray()));
+            return ps;
+        }, rs -> {
+            positions.put(rs.getLong(1), rs.getLong(2));
+        });
+
+        return positions;
+    }
+}
@@ -0,0 +1,112 @@
+package com.attendify.attendify_api.event.repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.attendify.attendify_api.event.entity.WaitlistEntry;
+
+@Repository
+public interface WaitlistEntryRepository extends JpaRepository<WaitlistEntry, Long>, WaitlistEntryBatchRepository {
+    boolean existsByUser_IdAndEvent_Id(Long userId, Long eventId);
+
+    // 1-based position of the user in the event queue, 0 if the user is not waitlisted.
+    // Counts index entries up to the user's own, no table scan and no sort.
+    @Query(value = """
+                SELECT COUNT(*) FROM event_waitlist w
+                WHERE w.event_id = :eventId
+                AND w.waitlist_entry_id <= (
+                    SELECT own.waitlist_entry_id FROM event_waitlist own
+                    WHERE own.event_id = :eventId
+                    AND own.user_id = :userId
+                )
+            """, nativeQuery = true)
+    long findPosition(@Param("eventId") Long eventId, @Param("userId") Long userId);
+
+    // Users among the given ones already waiting for the event
+    @Query(value = """
+                SELECT user_id FROM event_waitlist
+                WHERE event_id = :eventId
+                AND user_id IN (:userIds)
+            """, nativeQuery = true)
+    Set<Long> findWaitlistedUserIds(@Param("eventId") Long eventId, @Param("userIds") Collection<Long> userIds);
+
+    // Remove the user from the event queue
+    @Modifying
+    @Query(value = "DELETE FROM event_waitlist WHERE event_id = :eventId AND user_id = :userId", nativeQuery = true)
+    int deleteByEventIdAndUserId(@Param("eventId") Long eventId, @Param("userId") Long userId);
+
+    // Remove several users from the event queue
+    @Modifying
+    @Query(value = "DELETE FROM event_waitlist WHERE event_id = :eventId AND user_id IN (:userIds)", nativeQuery = true)
+    int deleteByEventIdAndUserIdIn(@Param("eventId") Long eventId, @Param("userIds") Collection<Long> userIds);
+
+    // Open events that still have users waiting, rechecked periodically in case a promotion signal was lost.
+    // Queues of ended, canceled or deleted events can never be promoted and are left out.
+    @Query(value = """
+                SELECT e.event_id FROM events e
+                WHERE e.status = 'PUBLISHED'
+                AND e.deleted_at IS NULL
+                AND e.end_date > :now
+                AND EXISTS (SELECT 1 FROM event_waitlist w WHERE w.event_id = e.event_id)
+            """, nativeQuery = true)
+    List<Long> findWaitlistedEventIds(@Param("now") LocalDateTime now);
+
+    // Moves the head of the queue into registrations in one statement and returns how many were promoted.
+    // The event row is locked only for this statement, so seat claims from user requests wait at most one batch.
+    // The batch is capped by the free seats, only published events that have not ended promote.
+    // Promoted registrations carry the transaction ID as their roster version.
+    // Users already holding a registration, even a soft-deleted one, cannot be promoted. Their entries leave the
+    // queue too so they do not block it, and are reported as removed but not promoted.
+    @Query(value = """
+                WITH event AS (
+                    SELECT LEAST(GREATEST(capacity - registered_count, 0), :limit) AS seats
+                    FROM events
+                    WHERE event_id = :eventId
+                    AND deleted_at IS NULL
+                    AND status = 'PUBLISHED'
+                    AND end_date > :now
+                    FOR UPDATE
+                ), next AS (
+                    SELECT w.waitlist_entry_id FROM event_waitlist w
+                    WHERE w.event_id = :eventId
+                    ORDER BY w.waitlist_entry_id
+                    LIMIT COALESCE((SELECT seats FROM event), 0)
+                    FOR UPDATE SKIP LOCKED
+                ), removed AS (
+                    DELETE FROM event_waitlist w
+                    USING next n
+                    WHERE w.waitlist_entry_id = n.waitlist_entry_id
+                    RETURNING w.user_id, w.event_id, w.waitlist_entry_id
+                ), inserted AS (
+                    INSERT INTO event_registrations (user_id, event_id, checked_in, created_at, created_by, roster_version)
+                    SELECT user_id, event_id, false, :now, user_id, pg_current_xact_id()::text::bigint FROM removed
+                    ORDER BY waitlist_entry_id
+                    ON CONFLICT (user_id, event_id) DO NOTHING
+                    RETURNING event_id
+                ), counted AS (
+                    UPDATE events
+                    SET registered_count = registered_count + (SELECT COUNT(*) FROM inserted)
+                    WHERE event_id = :eventId
+                )
+                SELECT (SELECT COUNT(*) FROM removed) AS removed, (SELECT COUNT(*) FROM inserted) AS promoted
+            """, nativeQuery = true)
+    PromotionView promoteNext(
+            @Param("eventId") Long eventId,
+            @Param("limit") int limit,
+            @Param("now") LocalDateTime now);
+
+    // Outcome of promoteNext, removed entries that were not promoted belonged to users already registered
+    interface PromotionView {
+        long getRemoved();
+
+        long getPromoted();
+    }
+}
@@ -0,0 +1,45 @@
+package com.attendify.attendify_api.event.reservation;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "application.events.high-demand")
+public class HighDemandProperties {
+    // Cells each seat counter is split into, rounded up to a power of two
+    @Min(1)
+    private int stripes = Runtime.getRuntime().availableProcessors();
+
+    // Seats leased from the event row at once, a crashed instance loses at most this many per event
+    @Min(1)
+    private int leaseSize = 32;
+
+    // Leases not refilled for this long are given back to the event
+    @NotNull
+    private Duration leaseIdleTimeout = Duration.ofSeconds(30);
+
+    // Registrations written per INSERT batch
+    @Min(1)
+    private int batchSize = 500;
+
+    // Longest time a registration waits for its batch to fill up
+    @NotNull
+    private Duration flushInterval = Duration.ofMillis(20);
+
+    // Times a registration is written on its own before it is dropped, one second apart
+    @Min(1)
+    private int writeAttempts = 3;
+
+    // Registrations allowed to wait for the writer before new ones are answered with 429
+    @Min(1)
+    private int queueCapacity = 50_000;
+}
@@ -0,0 +1,11 @@
+package com.attendify.attendify_api.event.reservation;
+
+import java.time.LocalDateTime;
+
+// Registration whose seat is already claimed from a lease, waiting to be written by the batch writer
+public record PendingRegistration(
+        Long userId,
+        Long eventId,
+        Long createdBy,
+        LocalDateTime createdAt) {
+}
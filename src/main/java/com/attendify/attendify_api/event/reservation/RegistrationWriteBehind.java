@@ -0,0 +1,252 @@
+package com.attendify.attendify_api.event.reservation;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import org.springframework.context.SmartLifecycle;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.attendify.attendify_api.event.cache.EventReadCache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+// Persists registrations of high-demand events in batches on a dedicated thread.
+// A registration stays pending from the moment its seat is claimed until its batch commits. Its seat was already
+// counted in registered_count when leased, so only the rows are written.
+// A failed batch is retried row by row, so one bad row cannot hold back the rest. Rows still failing after
+// write-attempts, and rows left on shutdown, are logged as dead letters and give their seat back.
+@Slf4j
+@Component
+public class RegistrationWriteBehind implements SmartLifecycle {
+    private static final String INSERT_REGISTRATION = """
+                INSERT INTO event_registrations (user_id, event_id, checked_in, created_at, created_by, roster_version)
+                VALUES (?, ?, false, ?, ?, pg_current_xact_id()::text::bigint)
+                ON CONFLICT (user_id, event_id) DO NOTHING
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final EventReadCache eventReadCache;
+    private final HighDemandProperties properties;
+    private final BlockingQueue<PendingRegistration> queue;
+
+    // Pending user and event pairs, guards against duplicates not yet visible in the database
+    private final Set<PendingKey> pendingKeys = ConcurrentHashMap.newKeySet();
+
+    private final Counter writtenCounter;
+    private final Counter droppedCounter;
+    private final Timer batchTimer;
+
+    // Called for rows that will not be written, so their seat can be given back
+    private volatile Consumer<PendingRegistration> droppedHandler = pending -> {
+    };
+
+    private volatile boolean running;
+    private Thread worker;
+
+    public RegistrationWriteBehind(
+            JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            EventReadCache eventReadCache,
+            HighDemandProperties properties,
+            MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.eventReadCache = eventReadCache;
+        this.properties = properties;
+        this.queue = new ArrayBlockingQueue<>(properties.getQueueCapacity());
+        this.writtenCounter = Counter.builder("attendify.registrations.write-behind.written")
+                .description("High-demand registrations persisted by the batch writer")
+                .register(meterRegistry);
+        this.droppedCounter = Counter.builder("attendify.registrations.write-behind.dropped")
+                .description("High-demand registrations given up by the batch writer")
+                .register(meterRegistry);
+        this.batchTimer = Timer.builder("attendify.registrations.write-behind.batch")
+                .description("Latency of a single registration batch")
+                .register(meterRegistry);
+        Gauge.builder("attendify.registrations.write-behind.queued", queue, BlockingQueue::size)
+                .description("Registrations waiting for the batch writer")
+                .register(meterRegistry);
+    }
+
+    void onDropped(Consumer<PendingRegistration> handler) {
+        this.droppedHandler = handler;
+    }
+
+    // Marks the user as registering for the event, returns false if a registration is already pending
+    boolean markPending(Long eventId, Long userId) {
+        return pendingKeys.add(new PendingKey(eventId, userId));
+    }
+
+    void unmarkPending(Long eventId, Long userId) {
+        pendingKeys.remove(new PendingKey(eventId, userId));
+    }
+
+    // Hands a registration to the writer, returns false when the queue is full
+    boolean offer(PendingRegistration registration) {
+        return running && queue.offer(registration);
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        worker = new Thread(this::run, "registration-write-behind");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        worker.interrupt();
+
+        try {
+            worker.join(TimeUnit.SECONDS.toMillis(30));
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void run() {
+        List<PendingRegistration> batch = new ArrayList<>(properties.getBatchSize());
+        long flushIntervalNanos = properties.getFlushInterval().toNanos();
+        int failedAttempts = 0;
+
+        // Keeps going after stop() until everything accepted so far is written
+        while (running || !queue.isEmpty() || !batch.isEmpty()) {
+            try {
+                if (batch.isEmpty()) {
+                    PendingRegistration first = queue.poll(flushIntervalNanos, TimeUnit.NANOSECONDS);
+                    if (first == null)
+                        continue;
+                    batch.add(first);
+                }
+
+                // Rows being retried are not joined by new ones, those would share their attempts
+                if (failedAttempts == 0)
+                    queue.drainTo(batch, properties.getBatchSize() - batch.size());
+
+                write(batch);
+                batch.clear();
+                failedAttempts = 0;
+            } catch (InterruptedException ex) {
+                // Woken up by stop(), the loop condition decides whether work is left
+            } catch (RuntimeException ex) {
+                log.warn("Failed to write {} high-demand registrations, writing them one by one", batch.size(), ex);
+
+                batch.removeIf(this::writeAlone);
+                failedAttempts = batch.isEmpty() ? 0 : failedAttempts + 1;
+
+                if (!running) {
+                    queue.drainTo(batch);
+                    deadLetter(batch, "the writer is shutting down");
+                    return;
+                }
+
+                if (failedAttempts >= properties.getWriteAttempts()) {
+                    deadLetter(batch, "it failed " + failedAttempts + " times");
+                    batch.clear();
+                    failedAttempts = 0;
+                } else if (failedAttempts > 0) {
+                    pauseBeforeRetry();
+                }
+            }
+        }
+    }
+
+    // Returns whether the row is done with, written or skipped as a duplicate
+    private boolean writeAlone(PendingRegistration registration) {
+        try {
+            write(List.of(registration));
+            return true;
+        } catch (RuntimeException ex) {
+            log.warn("Failed to write the high-demand registration of user {} for event {}", registration.userId(),
+                    registration.eventId(), ex);
+            return false;
+        }
+    }
+
+    private void deadLetter(List<PendingRegistration> registrations, String reason) {
+        for (PendingRegistration registration : registrations) {
+            log.error("Dropping the high-demand registration of user {} for event {} made at {} by {}, {}",
+                    registration.userId(), registration.eventId(), registration.createdAt(),
+                    registration.createdBy(), reason);
+
+            unmarkPending(registration.eventId(), registration.userId());
+            droppedHandler.accept(registration);
+        }
+
+        droppedCounter.increment(registrations.size());
+    }
+
+    private void write(List<PendingRegistration> batch) {
+        Timer.Sample sample = Timer.start();
+
+        int[] inserted = transactionTemplate.execute(status -> {
+            int[] rows = jdbcTemplate.batchUpdate(INSERT_REGISTRATION, batch, batch.size(), (ps, registration) -> {
+                ps.setLong(1, registration.userId());
+                ps.setLong(2, registration.eventId());
+                ps.setTimestamp(3, Timestamp.valueOf(registration.createdAt()));
+                ps.setObject(4, registration.createdBy(), Types.BIGINT);
+            })[0];
+
+            Set<Long> changedEvents = new HashSet<>();
+            for (int i = 0; i < batch.size(); i++) {
+                if (rows[i] != 0)
+                    changedEvents.add(batch.get(i).eventId());
+            }
+
+            changedEvents.forEach(eventReadCache::evictDetailAfterCommit);
+
+            return rows;
+        });
+
+        int written = 0;
+
+        for (int i = 0; i < batch.size(); i++) {
+            PendingRegistration registration = batch.get(i);
+
+            unmarkPending(registration.eventId(), registration.userId());
+
+            if (inserted[i] == 0)
+                droppedHandler.accept(registration);
+            else
+                written++;
+        }
+
+        writtenCounter.increment(written);
+        sample.stop(batchTimer);
+    }
+
+    private void pauseBeforeRetry() {
+        try {
+            TimeUnit.SECONDS.sleep(1);
+        } catch (InterruptedException ex) {
+            // Woken up by stop(), retry right away
+        }
+    }
+
+    private record PendingKey(Long eventId, Long userId) {
+    }
+}
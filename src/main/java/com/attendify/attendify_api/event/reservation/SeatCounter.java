@@ -0,0 +1,81 @@
+package com.attendify.attendify_api.event.reservation;
+
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+// Seats of one event leased to this instance and not handed out yet, split across cells so concurrent claims rarely
+// touch the same cache line. A claim only succeeds by taking a seat from a positive cell, so the total handed out
+// never exceeds what was added.
+final class SeatCounter {
+    // Ints per 64-byte cache line, each cell sits on its own line
+    private static final int PADDING = 16;
+
+    private final AtomicIntegerArray cells;
+    private final int mask;
+
+    SeatCounter(int available, int stripes) {
+        int size = 1;
+        while (size < stripes)
+            size <<= 1;
+
+        this.cells = new AtomicIntegerArray(size * PADDING);
+        this.mask = size - 1;
+
+        add(available);
+    }
+
+    // Takes a seat from the caller's cell, falling back to the other cells once it is empty
+    boolean tryClaim() {
+        int start = probe();
+
+        for (int i = 0; i <= mask; i++) {
+            int index = ((start + i) & mask) * PADDING;
+            int seats;
+
+            while ((seats = cells.get(index)) > 0) {
+                if (cells.compareAndSet(index, seats, seats - 1))
+                    return true;
+            }
+        }
+
+        return false;
+    }
+
+    void release() {
+        cells.incrementAndGet(probe() * PADDING);
+    }
+
+    // Spreads newly leased seats over every cell
+    void add(int seats) {
+        int size = mask + 1;
+
+        for (int i = 0; i < size; i++)
+            cells.addAndGet(i * PADDING, seats / size + (i < seats % size ? 1 : 0));
+    }
+
+    // Takes every seat left, so they can be given back to the event
+    int drain() {
+        int sum = 0;
+
+        for (int i = 0; i <= mask; i++)
+            sum += cells.getAndSet(i * PADDING, 0);
+
+        return sum;
+    }
+
+    // Seats still available
+    int available() {
+        int sum = 0;
+
+        for (int i = 0; i <= mask; i++)
+            sum += cells.get(i * PADDING);
+
+        return sum;
+    }
+
+    private int probe() {
+        long id = Thread.currentThread().threadId();
+        int hash = (int) (id ^ (id >>> 32)) * 0x9E3779B9;
+
+        return (hash ^ (hash >>> 16)) & mask;
+    }
+}
@@ -0,0 +1,217 @@
+package com.attendify.attendify_api.event.reservation;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.attendify.attendify_api.event.entity.Event;
+import com.attendify.attendify_api.event.repository.EventRepository;
+import com.attendify.attendify_api.shared.exception.BadRequestException;
+import com.attendify.attendify_api.shared.exception.TooManyRequestsException;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+// Seat bookkeeping for high-demand events, so a registration costs no row lock.
+// Each instance leases blocks of seats from the event row, counted in registered_count like registered seats, with one
+// conditional update per block. Registrations then claim from the local lease in memory, so every instance together
+// never hands out more than the capacity. Other registration paths claim from registered_count directly.
+// Unused seats go back to the event once idle, on capacity or mode changes and on shutdown. A crashed instance keeps
+// at most one block per event until registered_count is recounted.
+@Slf4j
+@Component
+public class SeatReservationEngine {
+    private final EventRepository eventRepository;
+    private final RegistrationWriteBehind writeBehind;
+    private final HighDemandProperties properties;
+    private final TransactionTemplate leaseTransaction;
+    private final Map<Long, Lease> leases = new ConcurrentHashMap<>();
+
+    public SeatReservationEngine(
+            EventRepository eventRepository,
+            RegistrationWriteBehind writeBehind,
+            HighDemandProperties properties,
+            PlatformTransactionManager transactionManager) {
+        this.eventRepository = eventRepository;
+        this.writeBehind = writeBehind;
+        this.properties = properties;
+
+        // Leases commit on their own, a rolled back caller must not take leased seats back from the event row
+        this.leaseTransaction = new TransactionTemplate(transactionManager);
+        this.leaseTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+        // A row the writer could not insert gives its seat back
+        writeBehind.onDropped(pending -> release(pending.eventId()));
+    }
+
+    // Claims a seat and queues the registration for the batch writer, returns null when the event is full
+    public PendingRegistration reserve(Event event, Long userId, Long createdBy) {
+        if (!writeBehind.markPending(event.getId(), userId))
+            throw new BadRequestException("User is already registered for this event");
+
+        boolean claimed = false;
+
+        try {
+            if (!claim(event.getId())) {
+                writeBehind.unmarkPending(event.getId(), userId);
+                return null;
+            }
+
+            claimed = true;
+
+            PendingRegistration pending = new PendingRegistration(userId, event.getId(), createdBy,
+                    LocalDateTime.now());
+
+            if (!writeBehind.offer(pending))
+                throw new TooManyRequestsException("Registration queue is full, please retry", 1);
+
+            return pending;
+        } catch (RuntimeException ex) {
+            if (claimed)
+                release(event.getId());
+
+            writeBehind.unmarkPending(event.getId(), userId);
+            throw ex;
+        }
+    }
+
+    // Gives the lease back once the current transaction commits, capacity or mode may have changed
+    public void invalidateAfterCommit(Long eventId) {
+        afterCommit(() -> {
+            Lease lease = leases.remove(eventId);
+
+            if (lease != null)
+                giveBack(eventId, lease.close());
+        });
+    }
+
+    @Scheduled(fixedDelayString = "${application.events.high-demand.lease-idle-timeout:PT30S}")
+    // Gives back leases not refilled for a while, so their seats reach other instances and the waitlist
+    public void returnIdleLeases() {
+        long idleBefore = System.nanoTime() - properties.getLeaseIdleTimeout().toNanos();
+
+        leases.forEach((eventId, lease) -> {
+            if (lease.leasedAt - idleBefore < 0 && leases.remove(eventId, lease))
+                giveBack(eventId, lease.close());
+        });
+    }
+
+    @PreDestroy
+    // The batch writer has stopped by now, every seat still leased is unused
+    public void returnAllLeases() {
+        leases.forEach((eventId, lease) -> {
+            if (leases.remove(eventId, lease))
+                giveBack(eventId, lease.close());
+        });
+    }
+
+    // Seat of a registration that will not be written, kept for the next claim while the lease is open
+    void release(Long eventId) {
+        Lease lease = leases.get(eventId);
+
+        if (lease == null || !lease.release())
+            giveBack(eventId, 1);
+    }
+
+    private boolean claim(Long eventId) {
+        while (true) {
+            Lease lease = leases.computeIfAbsent(eventId, id -> new Lease(properties.getStripes()));
+
+            if (lease.seats.tryClaim())
+                return true;
+
+            synchronized (lease) {
+                // Replaced meanwhile by invalidation or idleness, claim from its successor
+                if (lease.closed)
+                    continue;
+
+                // Refilled by another thread while this one waited
+                if (lease.seats.tryClaim())
+                    return true;
+
+                int leased = leaseFromEvent(eventId);
+                if (leased == 0)
+                    return false;
+
+                lease.leasedAt = System.nanoTime();
+                lease.seats.add(leased - 1);
+                return true;
+            }
+        }
+    }
+
+    // A full block while it fits, otherwise single seats up to the last one
+    private int leaseFromEvent(Long eventId) {
+        int block = properties.getLeaseSize();
+
+        if (lease(eventId, block))
+            return block;
+
+        return block > 1 && lease(eventId, 1) ? 1 : 0;
+    }
+
+    private boolean lease(Long eventId, int seats) {
+        Integer updated = leaseTransaction.execute(status -> eventRepository.leaseSeats(eventId, seats));
+        return updated != null && updated > 0;
+    }
+
+    private void giveBack(Long eventId, int seats) {
+        if (seats == 0)
+            return;
+
+        try {
+            leaseTransaction.executeWithoutResult(status -> eventRepository.releaseSeats(eventId, seats));
+        } catch (RuntimeException ex) {
+            log.error("Failed to give {} leased seats back to event {}, recount its registered_count", seats, eventId,
+                    ex);
+        }
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    // Seats of one event leased to this instance. Claims take seats without locking, refills and closing are
+    // serialized on the lease so no seat is added to a lease already given back.
+    private static final class Lease {
+        private final SeatCounter seats;
+        private volatile long leasedAt = System.nanoTime();
+        private boolean closed;
+
+        Lease(int stripes) {
+            this.seats = new SeatCounter(0, stripes);
+        }
+
+        synchronized boolean release() {
+            if (closed)
+                return false;
+
+            seats.release();
+            return true;
+        }
+
+        // Returns the seats left, later releases go straight back to the event
+        synchronized int close() {
+            closed = true;
+            return seats.drain();
+        }
+    }
+}
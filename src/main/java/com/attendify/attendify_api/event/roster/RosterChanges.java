@@ -0,0 +1,7 @@
+package com.attendify.attendify_api.event.roster;
+
+import java.util.List;
+
+// Registrations changed after a given roster version, together with the version they bring the device to
+public record RosterChanges(long version, List<RosterEntry> entries) {
+}
@@ -0,0 +1,5 @@
+package com.attendify.attendify_api.event.roster;
+
+// One registration as seen by an offline check-in device
+public record RosterEntry(Long registrationId, Long userId, boolean checkedIn, boolean cancelled) {
+}
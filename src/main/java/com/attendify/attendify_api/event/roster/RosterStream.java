@@ -0,0 +1,10 @@
+package com.attendify.attendify_api.event.roster;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+// A roster export that is written straight to the response once authorization has passed
+@FunctionalInterface
+public interface RosterStream {
+    void writeTo(OutputStream out) throws IOException;
+}
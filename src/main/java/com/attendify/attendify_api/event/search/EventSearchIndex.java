@@ -0,0 +1,536 @@
+package com.attendify.attendify_api.event.search;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.attendify.attendify_api.event.dto.EventFilterDTO;
+import com.attendify.attendify_api.event.entity.Category;
+import com.attendify.attendify_api.event.entity.Event;
+import com.attendify.attendify_api.event.entity.enums.EventLocation;
+import com.attendify.attendify_api.event.entity.enums.EventStatus;
+import com.attendify.attendify_api.event.persistence.EventSearchProperties;
+import com.attendify.attendify_api.shared.persistence.UpdatedAtFollower;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+// In-process inverted index of active events over the words of their title, description and category names.
+// Keyword searches resolve the matching IDs here, only the requested page of events is then read from the database.
+// Built on startup, then kept current by the event and category services and by periodic refreshes through
+// UpdatedAtFollower.
+@Slf4j
+@Component
+public class EventSearchIndex {
+    private static final String SELECT_CATEGORIES = "SELECT category_id, name FROM categories WHERE deleted_at IS NULL";
+
+    private static final String SELECT_EVENTS = """
+                SELECT event_id, title, description, status, location, start_date
+                FROM events
+                WHERE deleted_at IS NULL
+            """;
+
+    private static final String SELECT_EVENT_CATEGORIES = "SELECT event_id, category_id FROM event_categories";
+
+    // Soft-deleted rows included, so events and categories deleted elsewhere are dropped
+    private static final String SELECT_CHANGED_CATEGORIES = """
+                SELECT category_id, name, deleted_at IS NOT NULL, updated_at
+                FROM categories
+                WHERE updated_at > ?
+            """;
+
+    private static final String SELECT_CHANGED_EVENTS = """
+                SELECT event_id, title, description, status, location, start_date, deleted_at IS NOT NULL, updated_at
+                FROM events
+                WHERE updated_at > ?
+            """;
+
+    private static final String SELECT_CATEGORIES_OF_EVENTS = """
+                SELECT event_id, category_id FROM event_categories WHERE event_id = ANY(?)
+            """;
+
+    // Rows fetched per round trip while building
+    private static final int FETCH_SIZE = 1_000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final EventSearchProperties properties;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final UpdatedAtFollower follower = new UpdatedAtFollower(this::write);
+
+    // Guarded by lock
+    private NavigableMap<String, Postings> postings = new TreeMap<>();
+    private Map<Long, Document> documents = new HashMap<>();
+    private Map<Long, String[]> categoryTokens = new HashMap<>();
+
+    public EventSearchIndex(
+            JdbcTemplate jdbcTemplate,
+            EventSearchProperties properties,
+            MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.properties = properties;
+
+        Gauge.builder("attendify.events.search-index.documents", this,
+                index -> index.read(() -> index.documents.size()))
+                .description("Events held by the search index")
+                .register(meterRegistry);
+        Gauge.builder("attendify.events.search-index.tokens", this,
+                index -> index.read(() -> index.postings.size()))
+                .description("Distinct words held by the search index")
+                .register(meterRegistry);
+        Gauge.builder("attendify.events.search-index.memory", this, EventSearchIndex::estimatedBytes)
+                .description("Estimated heap retained by the search index")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    public boolean isReady() {
+        return follower.isReady();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    // Loads every active event in three streamed queries, without entities
+    public synchronized void build() {
+        if (!properties.isIndexEnabled())
+            return;
+
+        LocalDateTime loadedFrom = follower.startBuild();
+
+        try {
+            load(loadedFrom);
+        } catch (RuntimeException ex) {
+            // Keyword searches keep going to the database
+            follower.abortBuild();
+            log.error("Failed to build the event search index", ex);
+        }
+    }
+
+    // Applies events and categories changed on other instances since the last build or refresh, and retries a build
+    // that failed
+    @Scheduled(fixedDelayString = "${application.events.search.refresh-interval:PT30S}")
+    public synchronized void refresh() {
+        if (!properties.isIndexEnabled())
+            return;
+
+        if (!follower.isReady()) {
+            build();
+            return;
+        }
+
+        try {
+            loadChanges();
+        } catch (DataAccessException ex) {
+            // Searches keep using the index as it is, the same changes are read again next time
+            log.warn("Failed to refresh the event search index", ex);
+        }
+    }
+
+    private void load(LocalDateTime loadedFrom) {
+        long started = System.nanoTime();
+        NavigableMap<String, Postings> builtPostings = new TreeMap<>();
+        Map<Long, Document> builtDocuments = new HashMap<>();
+        Map<Long, String[]> builtCategories = new HashMap<>();
+        Map<Long, List<Long>> eventCategories = new HashMap<>();
+
+        jdbcTemplate.query(SELECT_CATEGORIES, rs -> {
+            builtCategories.put(rs.getLong(1), tokens(rs.getString(2)));
+        });
+
+        jdbcTemplate.query(SELECT_EVENT_CATEGORIES, rs -> {
+            if (builtCategories.containsKey(rs.getLong(2)))
+                eventCategories.computeIfAbsent(rs.getLong(1), id -> new ArrayList<>()).add(rs.getLong(2));
+        });
+
+        jdbcTemplate.query(connection -> {
+            PreparedStatement ps = connection.prepareStatement(SELECT_EVENTS);
+            ps.setFetchSize(FETCH_SIZE);
+            return ps;
+        }, rs -> {
+            long id = rs.getLong(1);
+            long[] categoryIds = eventCategories.getOrDefault(id, List.of()).stream()
+                    .mapToLong(Long::longValue)
+                    .toArray();
+
+            builtDocuments.put(id, document(rs, categoryIds));
+        });
+
+        // Event IDs ascend in load order when added in sorted order, every posting is then an append
+        builtDocuments.keySet().stream().sorted().forEach(id -> {
+            for (String token : effectiveTokens(builtDocuments.get(id), builtCategories))
+                builtPostings.computeIfAbsent(token, t -> new Postings()).add(id);
+        });
+
+        follower.finishBuild(loadedFrom, () -> {
+            postings = builtPostings;
+            documents = builtDocuments;
+            categoryTokens = builtCategories;
+        });
+
+        log.info("Indexed {} events and {} words for search in {} ms, ~{} KiB",
+                builtDocuments.size(), builtPostings.size(), (System.nanoTime() - started) / 1_000_000,
+                estimatedBytes() / 1024);
+    }
+
+    // Changed rows are collected first, the index is only locked to swap them in
+    private void loadChanges() {
+        Timestamp since = follower.startRefresh();
+        // Null tokens for deleted categories
+        Map<Long, String[]> changedCategories = new HashMap<>();
+        // Null for deleted events, categories are attached once read
+        Map<Long, Document> changedEvents = new HashMap<>();
+
+        jdbcTemplate.query(SELECT_CHANGED_CATEGORIES, rs -> {
+            changedCategories.put(rs.getLong(1), rs.getBoolean(3) ? null : tokens(rs.getString(2)));
+            follower.read(rs.getTimestamp(4));
+        }, since);
+
+        jdbcTemplate.query(SELECT_CHANGED_EVENTS, rs -> {
+            changedEvents.put(rs.getLong(1), rs.getBoolean(7) ? null : document(rs, new long[0]));
+            follower.read(rs.getTimestamp(8));
+        }, since);
+
+        Map<Long, List<Long>> eventCategories = new HashMap<>();
+        Long[] active = changedEvents.entrySet().stream()
+                .filter(entry -> entry.getValue() != null)
+                .map(Map.Entry::getKey)
+                .toArray(Long[]::new);
+
+        if (active.length > 0) {
+            jdbcTemplate.query(connection -> {
+                PreparedStatement ps = connection.prepareStatement(SELECT_CATEGORIES_OF_EVENTS);
+                ps.setArray(1, connection.createArrayOf("bigint", active));
+                return ps;
+            }, rs -> {
+                eventCategories.computeIfAbsent(rs.getLong(1), id -> new ArrayList<>()).add(rs.getLong(2));
+            });
+        }
+
+        follower.finishRefresh(() -> {
+            changedCategories.forEach(this::replaceCategory);
+
+            changedEvents.forEach((id, document) -> {
+                unlink(id);
+
+                if (document != null)
+                    link(id, document.withCategories(eventCategories.getOrDefault(id, List.of()).stream()
+                            .mapToLong(Long::longValue)
+                            .toArray()));
+            });
+        });
+    }
+
+    // Indexes the event as it is now once the surrounding transaction commits, replacing any previous version
+    public void indexAfterCommit(Event event) {
+        Long id = event.getId();
+        Map<Long, String[]> categories = new HashMap<>();
+
+        for (Category category : event.getCategories())
+            categories.put(category.getId(), tokens(category.getName()));
+
+        Document document = new Document(
+                tokens(event.getTitle() + " " + event.getDescription()),
+                categories.keySet().stream().mapToLong(Long::longValue).toArray(),
+                event.getStatus(),
+                event.getLocation(),
+                event.getStartDate());
+
+        afterCommit(() -> {
+            unlink(id);
+            categoryTokens.putAll(categories);
+            link(id, document);
+        });
+    }
+
+    // Drops a soft-deleted event once the surrounding transaction commits
+    public void removeAfterCommit(Long eventId) {
+        afterCommit(() -> unlink(eventId));
+    }
+
+    // Re-indexes the events of a renamed, deleted (null name) or restored category once the transaction commits
+    public void updateCategoryAfterCommit(Long categoryId, String name) {
+        String[] renamed = name == null ? new String[0] : tokens(name);
+
+        afterCommit(() -> replaceCategory(categoryId, name == null ? null : renamed));
+    }
+
+    // Active events matching every word of the text, a word also matches longer words it starts,
+    // narrowed by the other filters and ordered by ID
+    public Hits search(EventFilterDTO filter, long offset, int limit) {
+        Set<String> words = SearchTokenizer.tokenize(filter.text());
+        LocalDateTime upcomingFrom = Boolean.TRUE.equals(filter.onlyUpcoming())
+                ? LocalDateTime.now(ZoneOffset.UTC)
+                : null;
+
+        return read(() -> {
+            long[] matches = null;
+
+            for (String word : words) {
+                long[] ids = startingWith(word);
+                matches = matches == null ? ids : intersect(matches, ids);
+
+                if (matches.length == 0)
+                    break;
+            }
+
+            List<Long> page = new ArrayList<>(limit);
+            int total = 0;
+
+            for (long id : matches == null ? new long[0] : matches) {
+                Document document = documents.get(id);
+
+                if (!document.matches(filter.location(), filter.status(), upcomingFrom))
+                    continue;
+
+                if (total >= offset && page.size() < limit)
+                    page.add(id);
+
+                total++;
+            }
+
+            return new Hits(page, total);
+        });
+    }
+
+    // Shallow sizes of the postings, documents and their arrays with compressed references, strings shared
+    // between documents and postings are counted once
+    public long estimatedBytes() {
+        return read(() -> {
+            long bytes = 0;
+
+            for (Map.Entry<String, Postings> entry : postings.entrySet())
+                bytes += 40 + stringBytes(entry.getKey()) + 24 + 16 + 8L * entry.getValue().ids.length;
+
+            for (Document document : documents.values())
+                bytes += 48 + 16 + 4L * document.tokens.length + 16 + 8L * document.categoryIds.length + 48;
+
+            for (String[] tokens : categoryTokens.values())
+                bytes += 48 + 16 + 4L * tokens.length;
+
+            return bytes;
+        });
+    }
+
+    private long[] startingWith(String prefix) {
+        List<Postings> matching = new ArrayList<>(postings.subMap(prefix, true, prefix + Character.MAX_VALUE, false)
+                .values());
+
+        if (matching.size() == 1)
+            return matching.get(0).toArray();
+
+        return matching.stream()
+                .flatMapToLong(ids -> Arrays.stream(ids.ids, 0, ids.size))
+                .sorted()
+                .distinct()
+                .toArray();
+    }
+
+    // Re-links the events of the category under its new words, null tokens drop the category
+    private void replaceCategory(Long categoryId, String[] tokens) {
+        Map<Long, Document> affected = new HashMap<>();
+
+        documents.forEach((id, document) -> {
+            if (document.hasCategory(categoryId))
+                affected.put(id, document);
+        });
+
+        affected.keySet().forEach(this::unlink);
+
+        if (tokens == null)
+            categoryTokens.remove(categoryId);
+        else
+            categoryTokens.put(categoryId, tokens);
+
+        affected.forEach(this::link);
+    }
+
+    private void link(Long id, Document document) {
+        documents.put(id, document);
+
+        for (String token : effectiveTokens(document, categoryTokens))
+            postings.computeIfAbsent(token, t -> new Postings()).add(id);
+    }
+
+    private void unlink(Long id) {
+        Document document = documents.remove(id);
+
+        if (document == null)
+            return;
+
+        for (String token : effectiveTokens(document, categoryTokens)) {
+            Postings ids = postings.get(token);
+
+            if (ids != null && ids.remove(id) && ids.size == 0)
+                postings.remove(token);
+        }
+    }
+
+    private void afterCommit(Runnable change) {
+        if (properties.isIndexEnabled())
+            follower.afterCommit(change);
+    }
+
+    private void write(Runnable action) {
+        lock.writeLock().lock();
+        try {
+            action.run();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private <T> T read(Supplier<T> action) {
+        lock.readLock().lock();
+        try {
+            return action.get();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private static Set<String> effectiveTokens(Document document, Map<Long, String[]> categories) {
+        Set<String> tokens = new HashSet<>(Arrays.asList(document.tokens));
+
+        for (long categoryId : document.categoryIds)
+            tokens.addAll(Arrays.asList(categories.getOrDefault(categoryId, new String[0])));
+
+        return tokens;
+    }
+
+    // Reads the title, description, status, location and start date columns, in that order from the second
+    private static Document document(ResultSet rs, long[] categoryIds) throws SQLException {
+        return new Document(
+                tokens(rs.getString(2) + " " + rs.getString(3)),
+                categoryIds,
+                EventStatus.valueOf(rs.getString(4)),
+                EventLocation.valueOf(rs.getString(5)),
+                rs.getTimestamp(6).toLocalDateTime());
+    }
+
+    // Tokens are interned so every document and posting key holding a word shares one string
+    private static String[] tokens(String text) {
+        return SearchTokenizer.tokenize(text).stream()
+                .map(String::intern)
+                .toArray(String[]::new);
+    }
+
+    private static long[] intersect(long[] left, long[] right) {
+        long[] result = new long[Math.min(left.length, right.length)];
+        int i = 0;
+        int j = 0;
+        int size = 0;
+
+        while (i < left.length && j < right.length) {
+            if (left[i] < right[j])
+                i++;
+            else if (left[i] > right[j])
+                j++;
+            else {
+                result[size++] = left[i];
+                i++;
+                j++;
+            }
+        }
+
+        return Arrays.copyOf(result, size);
+    }
+
+    private static long stringBytes(String value) {
+        return 24 + 16 + value.length();
+    }
+
+    // One page of matching event IDs and the number of matches across all pages
+    public record Hits(List<Long> ids, int total) {
+    }
+
+    private record Document(
+            String[] tokens,
+            long[] categoryIds,
+            EventStatus status,
+            EventLocation location,
+            LocalDateTime startDate) {
+
+        Document withCategories(long[] ids) {
+            return new Document(tokens, ids, status, location, startDate);
+        }
+
+        boolean hasCategory(long categoryId) {
+            for (long id : categoryIds) {
+                if (id == categoryId)
+                    return true;
+            }
+
+            return false;
+        }
+
+        boolean matches(EventLocation wantedLocation, EventStatus wantedStatus, LocalDateTime upcomingFrom) {
+            return (wantedLocation == null || location == wantedLocation)
+                    && (wantedStatus == null || status == wantedStatus)
+                    && (upcomingFrom == null || !startDate.isBefore(upcomingFrom));
+        }
+    }
+
+    // Sorted event IDs holding one word, appends are the common case since new events get the highest ID
+    private static final class Postings {
+        private long[] ids = new long[2];
+        private int size;
+
+        void add(long id) {
+            if (size > 0 && ids[size - 1] < id) {
+                grow();
+                ids[size++] = id;
+                return;
+            }
+
+            int index = Arrays.binarySearch(ids, 0, size, id);
+            if (index >= 0)
+                return;
+
+            int insertAt = -index - 1;
+            grow();
+            System.arraycopy(ids, insertAt, ids, insertAt + 1, size - insertAt);
+            ids[insertAt] = id;
+            size++;
+        }
+
+        boolean remove(long id) {
+            int index = Arrays.binarySearch(ids, 0, size, id);
+            if (index < 0)
+                return false;
+
+            System.arraycopy(ids, index + 1, ids, index, size - index - 1);
+            size--;
+            return true;
+        }
+
+        long[] toArray() {
+            return Arrays.copyOf(ids, size);
+        }
+
+        private void grow() {
+            if (size == ids.length)
+                ids = Arrays.copyOf(ids, size * 2);
+        }
+    }
+}
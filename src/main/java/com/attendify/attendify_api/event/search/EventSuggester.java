@@ -0,0 +1,222 @@
+package com.attendify.attendify_api.event.search;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.attendify.attendify_api.event.dto.EventSuggestionDTO;
+import com.attendify.attendify_api.event.dto.EventSuggestionDTO.Type;
+import com.attendify.attendify_api.event.entity.Event;
+import com.attendify.attendify_api.event.entity.enums.EventStatus;
+import com.attendify.attendify_api.shared.persistence.UpdatedAtFollower;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+// Type-ahead over published event titles and category names, answered from memory without touching the database.
+// Every name is keyed once per word it holds, from that word to its end, so "jazz ni" and "night" both find
+// "Jazz Night". Reads walk a skip list without locking, writes are serialized through UpdatedAtFollower, which
+// also picks up names changed on other instances.
+@Slf4j
+@Component
+public class EventSuggester {
+    private static final String SELECT_EVENTS = """
+                SELECT event_id, title FROM events
+                WHERE deleted_at IS NULL
+                AND status = 'PUBLISHED'
+            """;
+
+    private static final String SELECT_CATEGORIES = "SELECT category_id, name FROM categories WHERE deleted_at IS NULL";
+
+    // Unpublished and soft-deleted rows included, so their suggestions are dropped
+    private static final String SELECT_CHANGED_EVENTS = """
+                SELECT event_id, title, status = 'PUBLISHED' AND deleted_at IS NULL, updated_at
+                FROM events
+                WHERE updated_at > ?
+            """;
+
+    private static final String SELECT_CHANGED_CATEGORIES = """
+                SELECT category_id, name, deleted_at IS NULL, updated_at
+                FROM categories
+                WHERE updated_at > ?
+            """;
+
+    // Separates the name suffix from the target in a key, sorts before any character of a name
+    private static final char SEPARATOR = '\u0000';
+
+    private final JdbcTemplate jdbcTemplate;
+    private final UpdatedAtFollower follower = new UpdatedAtFollower();
+
+    private volatile NavigableMap<String, EventSuggestionDTO> entries = new ConcurrentSkipListMap<>();
+
+    // Keys held by every suggestion, to drop them on change. Only written through the follower.
+    private Map<Target, List<String>> keys = new HashMap<>();
+
+    public EventSuggester(JdbcTemplate jdbcTemplate, MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+
+        Gauge.builder("attendify.events.suggest.keys", this, suggester -> suggester.entries.size())
+                .description("Name suffixes held for type-ahead suggestions")
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void build() {
+        LocalDateTime loadedFrom = follower.startBuild();
+
+        try {
+            NavigableMap<String, EventSuggestionDTO> builtEntries = new ConcurrentSkipListMap<>();
+            Map<Target, List<String>> builtKeys = new HashMap<>();
+
+            jdbcTemplate.query(SELECT_EVENTS, rs -> {
+                put(builtEntries, builtKeys, Type.EVENT, rs.getLong(1), rs.getString(2));
+            });
+            jdbcTemplate.query(SELECT_CATEGORIES, rs -> {
+                put(builtEntries, builtKeys, Type.CATEGORY, rs.getLong(1), rs.getString(2));
+            });
+
+            follower.finishBuild(loadedFrom, () -> {
+                entries = builtEntries;
+                keys = builtKeys;
+            });
+
+            log.info("Loaded {} event and category names for suggestions", builtKeys.size());
+        } catch (RuntimeException ex) {
+            follower.abortBuild();
+            log.error("Failed to load suggestions, the suggest endpoint answers empty lists", ex);
+        }
+    }
+
+    // Applies names changed on other instances since the last build or refresh, and retries a build that failed
+    @Scheduled(fixedDelayString = "${application.events.search.refresh-interval:PT30S}")
+    public synchronized void refresh() {
+        if (!follower.isReady()) {
+            build();
+            return;
+        }
+
+        Timestamp since = follower.startRefresh();
+        // Null names for suggestions to drop
+        Map<Target, String> changed = new LinkedHashMap<>();
+
+        try {
+            jdbcTemplate.query(SELECT_CHANGED_EVENTS, rs -> {
+                changed.put(new Target(Type.EVENT, rs.getLong(1)), rs.getBoolean(3) ? rs.getString(2) : null);
+                follower.read(rs.getTimestamp(4));
+            }, since);
+            jdbcTemplate.query(SELECT_CHANGED_CATEGORIES, rs -> {
+                changed.put(new Target(Type.CATEGORY, rs.getLong(1)), rs.getBoolean(3) ? rs.getString(2) : null);
+                follower.read(rs.getTimestamp(4));
+            }, since);
+        } catch (DataAccessException ex) {
+            // Suggestions stay as they are, the same changes are read again next time
+            log.warn("Failed to refresh suggestions", ex);
+            return;
+        }
+
+        follower.finishRefresh(() -> changed.forEach((target, name) -> replace(target.type(), target.id(), name)));
+    }
+
+    // Up to limit distinct events and categories matching the prefix, in order of the matched name suffix
+    public List<EventSuggestionDTO> suggest(String prefix, int limit) {
+        String key = normalize(prefix);
+
+        if (key.isEmpty())
+            return List.of();
+
+        Map<Target, EventSuggestionDTO> found = new LinkedHashMap<>();
+
+        for (EventSuggestionDTO suggestion : entries.subMap(key, true, key + Character.MAX_VALUE, false).values()) {
+            found.putIfAbsent(new Target(suggestion.type(), suggestion.id()), suggestion);
+
+            if (found.size() == limit)
+                break;
+        }
+
+        return List.copyOf(found.values());
+    }
+
+    // Suggests the event while it is published, its title as it is now, once the surrounding transaction commits
+    public void putEventAfterCommit(Event event) {
+        Long id = event.getId();
+        String title = event.getStatus() == EventStatus.PUBLISHED && event.getDeletedAt() == null
+                ? event.getTitle()
+                : null;
+
+        follower.afterCommit(() -> replace(Type.EVENT, id, title));
+    }
+
+    public void removeEventAfterCommit(Long eventId) {
+        follower.afterCommit(() -> replace(Type.EVENT, eventId, null));
+    }
+
+    // Suggests the category under its current name, a null name drops it
+    public void putCategoryAfterCommit(Long categoryId, String name) {
+        follower.afterCommit(() -> replace(Type.CATEGORY, categoryId, name));
+    }
+
+    private void replace(Type type, Long id, String name) {
+        List<String> previous = keys.remove(new Target(type, id));
+
+        if (previous != null)
+            previous.forEach(entries::remove);
+
+        if (name != null)
+            put(entries, keys, type, id, name);
+    }
+
+    private static void put(
+            NavigableMap<String, EventSuggestionDTO> entries,
+            Map<Target, List<String>> keys,
+            Type type,
+            long id,
+            String name) {
+        EventSuggestionDTO suggestion = EventSuggestionDTO.builder()
+                .type(type)
+                .id(id)
+                .name(name)
+                .build();
+        String target = SEPARATOR + type.name() + SEPARATOR + id;
+        String normalized = normalize(name);
+        List<String> added = new ArrayList<>();
+
+        // One key per word start: "jazz night", then "night"
+        int start = 0;
+
+        while (true) {
+            String key = normalized.substring(start) + target;
+            entries.put(key, suggestion);
+            added.add(key);
+
+            int space = normalized.indexOf(' ', start);
+            if (space < 0)
+                break;
+
+            start = space + 1;
+        }
+
+        keys.put(new Target(type, id), added);
+    }
+
+    // Words of the text separated by single spaces, a trailing partial word is kept as typed
+    private static String normalize(String text) {
+        return String.join(" ", SearchTokenizer.words(text));
+    }
+
+    private record Target(Type type, long id) {
+    }
+}
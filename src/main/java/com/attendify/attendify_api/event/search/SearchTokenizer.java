@@ -0,0 +1,41 @@
+package com.attendify.attendify_api.event.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+// Splits text into lower-cased words without accents, the same way for indexed fields and queries
+public final class SearchTokenizer {
+    private static final Pattern MARKS = Pattern.compile("\\p{M}+");
+    private static final Pattern SEPARATORS = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    private SearchTokenizer() {
+    }
+
+    // Distinct tokens in order of first appearance
+    public static Set<String> tokenize(String text) {
+        return new LinkedHashSet<>(words(text));
+    }
+
+    // Every token in order, repeated ones included
+    public static List<String> words(String text) {
+        List<String> tokens = new ArrayList<>();
+
+        if (text == null || text.isBlank())
+            return tokens;
+
+        String folded = MARKS.matcher(Normalizer.normalize(text, Normalizer.Form.NFD)).replaceAll("")
+                .toLowerCase(Locale.ROOT);
+
+        for (String token : SEPARATORS.split(folded)) {
+            if (!token.isEmpty())
+                tokens.add(token);
+        }
+
+        return tokens;
+    }
+}
@@ -18,9 +18,9 @@ public interface CategoryService {
 
     CategoryResponseDTO findById(Long id);
 
-    PageResponseDTO<CategorySimpleDTO> findAll(Pageable pageable);
+    PageResponseDTO<CategorySimpleDTO> findAll(Pageable pageable, boolean count);
 
-    PageResponseDTO<CategorySimpleDTO> findAllDeleted(Pageable pageable);
+    PageResponseDTO<CategorySimpleDTO> findAllDeleted(Pageable pageable, boolean count);
 
-    PageResponseDTO<CategorySimpleDTO> findAllWithDeleted(Pageable pageable);
+    PageResponseDTO<CategorySimpleDTO> findAllWithDeleted(Pageable pageable, boolean count);
 }
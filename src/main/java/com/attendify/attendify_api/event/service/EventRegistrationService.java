@@ -1,30 +1,72 @@
 package com.attendify.attendify_api.event.service;
 
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+
 import org.springframework.data.domain.Pageable;
 
 import com.attendify.attendify_api.event.dto.EventRegistrationAdminRequestDTO;
+import com.attendify.attendify_api.event.dto.EventRegistrationBulkRequestDTO;
+import com.attendify.attendify_api.event.dto.EventRegistrationBulkResponseDTO;
+import com.attendify.attendify_api.event.dto.EventRegistrationCheckInBatchRequestDTO;
+import com.attendify.attendify_api.event.dto.EventRegistrationCheckInBatchResponseDTO;
 import com.attendify.attendify_api.event.dto.EventRegistrationRequestDTO;
+import com.attendify.attendify_api.event.dto.EventRegistrationPassDTO;
 import com.attendify.attendify_api.event.dto.EventRegistrationResponseDTO;
+import com.attendify.attendify_api.event.dto.EventRegistrationScanRequestDTO;
+import com.attendify.attendify_api.event.dto.EventRegistrationScanResponseDTO;
+import com.attendify.attendify_api.event.dto.EventRegistrationTicketDTO;
+import com.attendify.attendify_api.event.dto.EventRosterReconcileRequestDTO;
+import com.attendify.attendify_api.event.dto.EventRosterReconcileResponseDTO;
+import com.attendify.attendify_api.event.dto.WaitlistPositionDTO;
+import com.attendify.attendify_api.event.roster.RosterStream;
+import com.attendify.attendify_api.shared.dto.CursorPageResponseDTO;
 import com.attendify.attendify_api.shared.dto.PageResponseDTO;
 
 public interface EventRegistrationService {
     EventRegistrationResponseDTO create(EventRegistrationRequestDTO dto);
 
+    EventRegistrationTicketDTO enqueue(EventRegistrationRequestDTO dto);
+
+    CompletableFuture<EventRegistrationTicketDTO> getTicket(String ticketId, Duration wait);
+
     EventRegistrationResponseDTO createByForce(EventRegistrationAdminRequestDTO dto);
 
+    EventRegistrationBulkResponseDTO createByForceBulk(EventRegistrationBulkRequestDTO dto);
+
     void delete(Long id);
 
     void restore(Long id);
 
     EventRegistrationResponseDTO checkIn(Long id);
 
-    PageResponseDTO<EventRegistrationResponseDTO> getUsersByEvent(Long id, Pageable pageable);
+    EventRegistrationCheckInBatchResponseDTO checkInBatch(EventRegistrationCheckInBatchRequestDTO dto);
+
+    EventRegistrationPassDTO getPass(Long id);
+
+    EventRegistrationScanResponseDTO scan(EventRegistrationScanRequestDTO dto);
+
+    RosterStream getRoster(Long eventId);
+
+    RosterStream getRosterChanges(Long eventId, long sinceVersion);
+
+    EventRosterReconcileResponseDTO reconcileRoster(Long eventId, EventRosterReconcileRequestDTO dto);
+
+    WaitlistPositionDTO getWaitlistPosition(Long eventId);
+
+    void leaveWaitlist(Long eventId);
+
+    PageResponseDTO<EventRegistrationResponseDTO> getUsersByEvent(Long id, Pageable pageable, boolean count);
+
+    PageResponseDTO<EventRegistrationResponseDTO> getMyEvents(Pageable pageable, boolean count);
+
+    CursorPageResponseDTO<EventRegistrationResponseDTO> getUsersByEventAfter(Long id, String cursor, int size);
 
-    PageResponseDTO<EventRegistrationResponseDTO> getMyEvents(Pageable pageable);
+    CursorPageResponseDTO<EventRegistrationResponseDTO> getMyEventsAfter(String cursor, int size);
 
-    PageResponseDTO<EventRegistrationResponseDTO> findAll(Pageable pageable);
+    PageResponseDTO<EventRegistrationResponseDTO> findAll(Pageable pageable, boolean count);
 
-    PageResponseDTO<EventRegistrationResponseDTO> findAllDeleted(Pageable pageable);
+    PageResponseDTO<EventRegistrationResponseDTO> findAllDeleted(Pageable pageable, boolean count);
 
-    PageResponseDTO<EventRegistrationResponseDTO> findAllWithDeleted(Pageable pageable);
+    PageResponseDTO<EventRegistrationResponseDTO> findAllWithDeleted(Pageable pageable, boolean count);
 }
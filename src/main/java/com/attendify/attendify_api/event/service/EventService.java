@@ -1,11 +1,14 @@
 package com.attendify.attendify_api.event.service;
 
+import java.util.List;
+
 import org.springframework.data.domain.Pageable;
 
 import com.attendify.attendify_api.event.dto.EventFilterDTO;
 import com.attendify.attendify_api.event.dto.EventRequestDTO;
 import com.attendify.attendify_api.event.dto.EventResponseDTO;
 import com.attendify.attendify_api.event.dto.EventSimpleDTO;
+import com.attendify.attendify_api.event.dto.EventSuggestionDTO;
 import com.attendify.attendify_api.shared.dto.PageResponseDTO;
 
 public interface EventService {
@@ -19,11 +22,13 @@ public interface EventService {
 
     EventResponseDTO findById(Long id);
 
-    PageResponseDTO<EventSimpleDTO> findAll(EventFilterDTO EventFilter, Pageable pageable);
+    PageResponseDTO<EventSimpleDTO> findAll(EventFilterDTO EventFilter, Pageable pageable, boolean count);
+
+    List<EventSuggestionDTO> suggest(String prefix, int limit);
 
-    PageResponseDTO<EventSimpleDTO> findByCategory(Long categoryId, Pageable pageable);
+    PageResponseDTO<EventSimpleDTO> findByCategory(Long categoryId, Pageable pageable, boolean count);
 
-    PageResponseDTO<EventSimpleDTO> findAllDeleted(Pageable pageable);
+    PageResponseDTO<EventSimpleDTO> findAllDeleted(Pageable pageable, boolean count);
 
-    PageResponseDTO<EventSimpleDTO> findAllWithDeleted(Pageable pageable);
+    PageResponseDTO<EventSimpleDTO> findAllWithDeleted(Pageable pageable, boolean count);
 }
@@ -1,16 +1,19 @@
 package com.attendify.attendify_api.event.service.impl;
 
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.attendify.attendify_api.event.cache.EventReadCache;
 import com.attendify.attendify_api.event.dto.CategoryRequestDTO;
 import com.attendify.attendify_api.event.dto.CategoryResponseDTO;
 import com.attendify.attendify_api.event.dto.CategorySimpleDTO;
 import com.attendify.attendify_api.event.entity.Category;
 import com.attendify.attendify_api.event.mapper.CategoryMapper;
 import com.attendify.attendify_api.event.repository.CategoryRepository;
+import com.attendify.attendify_api.event.search.EventSearchIndex;
+import com.attendify.attendify_api.event.search.EventSuggester;
 import com.attendify.attendify_api.event.service.CategoryService;
 import com.attendify.attendify_api.shared.dto.PageResponseDTO;
 import com.attendify.attendify_api.shared.exception.BadRequestException;
@@ -27,6 +30,9 @@ public class CategoryServiceImpl implements CategoryService {
     private final CategoryMapper categoryMapper;
     private final CategoryRepository categoryRepository;
     private final SecurityUtils securityUtils;
+    private final EventSearchIndex eventSearchIndex;
+    private final EventSuggester eventSuggester;
+    private final EventReadCache eventReadCache;
 
     @Override
     @Transactional
@@ -38,6 +44,8 @@ public class CategoryServiceImpl implements CategoryService {
 
         categoryRepository.save(category);
 
+        eventSuggester.putCategoryAfterCommit(category.getId(), category.getName());
+
         return categoryMapper.toResponse(category);
     }
 
@@ -57,6 +65,11 @@ public class CategoryServiceImpl implements CategoryService {
 
         categoryMapper.updateEntity(category, dto);
 
+        // Events are also found by the names of their categories
+        eventSearchIndex.updateCategoryAfterCommit(id, category.getName());
+        eventSuggester.putCategoryAfterCommit(id, category.getName());
+        eventReadCache.evictCategoryAfterCommit(id);
+
         return categoryMapper.toResponse(category);
     }
 
@@ -75,6 +88,10 @@ public class CategoryServiceImpl implements CategoryService {
         category.softDelete(securityUtils.getCurrentAuditorId());
 
         categoryRepository.save(category);
+
+        eventSearchIndex.updateCategoryAfterCommit(id, null);
+        eventSuggester.putCategoryAfterCommit(id, null);
+        eventReadCache.evictCategoryAfterCommit(id);
     }
 
     @Override
@@ -88,6 +105,10 @@ public class CategoryServiceImpl implements CategoryService {
         category.restore();
 
         categoryRepository.save(category);
+
+        eventSearchIndex.updateCategoryAfterCommit(id, category.getName());
+        eventSuggester.putCategoryAfterCommit(id, category.getName());
+        eventReadCache.evictCategoryAfterCommit(id);
     }
 
     @Override
@@ -101,8 +122,11 @@ public class CategoryServiceImpl implements CategoryService {
     @Override
     @Transactional(readOnly = true)
     public PageResponseDTO<CategorySimpleDTO> findAll(
-            Pageable pageable) {
-        Page<Category> page = categoryRepository.findAll(pageable);
+            Pageable pageable,
+            boolean count) {
+        Slice<Category> page = count
+                ? categoryRepository.findAll(pageable)
+                : categoryRepository.findSliceBy(pageable);
 
         return categoryMapper.toPageResponse(page);
     }
@@ -110,8 +134,11 @@ public class CategoryServiceImpl implements CategoryService {
     @Override
     @Transactional(readOnly = true)
     public PageResponseDTO<CategorySimpleDTO> findAllDeleted(
-            Pageable pageable) {
-        Page<Category> page = categoryRepository.findAllDeleted(pageable);
+            Pageable pageable,
+            boolean count) {
+        Slice<Category> page = count
+                ? categoryRepository.findAllDeleted(pageable)
+                : categoryRepository.findSliceDeleted(pageable);
 
         return categoryMapper.toPageResponse(page);
     }
@@ -119,8 +146,11 @@ public class CategoryServiceImpl implements CategoryService {
     @Override
     @Transactional(readOnly = true)
     public PageResponseDTO<CategorySimpleDTO> findAllWithDeleted(
-            Pageable pageable) {
-        Page<Category> page = categoryRepository.findAllWithDeleted(pageable);
+            Pageable pageable,
+            boolean count) {
+        Slice<Category> page = count
+                ? categoryRepository.findAllWithDeleted(pageable)
+                : categoryRepository.findSliceWithDeleted(pageable);
 
         return categoryMapper.toPageResponse(page);
     }
@@ -1,25 +1,64 @@
 package com.attendify.attendify_api.event.service.impl;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
-
-import org.springframework.data.domain.Page;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.attendify.attendify_api.event.cache.EventReadCache;
+import com.attendify.attendify_api.event.checkin.CheckInEventCache;
+import com.attendify.attendify_api.event.checkin.CheckInPass;
+import com.attendify.attendify_api.event.checkin.CheckInPassCodec;
+import com.attendify.attendify_api.event.checkin.CheckInWriteBehind;
+import com.attendify.attendify_api.event.checkin.PendingCheckIn;
 import com.attendify.attendify_api.event.dto.EventRegistrationAdminRequestDTO;
+import com.attendify.attendify_api.event.dto.EventRegistrationBulkRequestDTO;
+import com.attendify.attendify_api.event.dto.EventRegistrationBulkResponseDTO;
+import com.attendify.attendify_api.event.dto.EventRegistrationCheckInBatchRequestDTO;
+import com.attendify.attendify_api.event.dto.EventRegistrationCheckInBatchResponseDTO;
 import com.attendify.attendify_api.event.dto.EventRegistrationRequestDTO;
+import com.attendify.attendify_api.event.dto.EventRegistrationPassDTO;
 import com.attendify.attendify_api.event.dto.EventRegistrationResponseDTO;
+import com.attendify.attendify_api.event.dto.EventRegistrationScanRequestDTO;
+import com.attendify.attendify_api.event.dto.EventRegistrationScanResponseDTO;
+import com.attendify.attendify_api.event.dto.EventRegistrationTicketDTO;
+import com.attendify.attendify_api.event.dto.EventRosterReconcileRequestDTO;
+import com.attendify.attendify_api.event.dto.EventRosterReconcileResponseDTO;
+import com.attendify.attendify_api.event.dto.WaitlistPositionDTO;
 import com.attendify.attendify_api.event.entity.Event;
 import com.attendify.attendify_api.event.entity.EventRegistration;
+import com.attendify.attendify_api.event.entity.WaitlistEntry;
 import com.attendify.attendify_api.event.entity.enums.EventStatus;
+import com.attendify.attendify_api.event.intake.RegistrationIntake;
+import com.attendify.attendify_api.event.intake.RegistrationTicket;
 import com.attendify.attendify_api.event.mapper.EventRegistrationMapper;
 import com.attendify.attendify_api.event.repository.EventRegistrationRepository;
 import com.attendify.attendify_api.event.repository.EventRepository;
+import com.attendify.attendify_api.event.repository.WaitlistEntryRepository;
+import com.attendify.attendify_api.event.reservation.PendingRegistration;
+import com.attendify.attendify_api.event.roster.RosterChanges;
+import com.attendify.attendify_api.event.roster.RosterExporter;
+import com.attendify.attendify_api.event.roster.RosterStream;
+import com.attendify.attendify_api.event.reservation.SeatReservationEngine;
 import com.attendify.attendify_api.event.service.EventRegistrationService;
+import com.attendify.attendify_api.event.waitlist.WaitlistPromoter;
+import com.attendify.attendify_api.shared.dto.CursorPageResponseDTO;
 import com.attendify.attendify_api.shared.dto.PageResponseDTO;
 import com.attendify.attendify_api.shared.exception.BadRequestException;
 import com.attendify.attendify_api.shared.exception.NotFoundException;
+import com.attendify.attendify_api.shared.exception.TooManyRequestsException;
+import com.attendify.attendify_api.shared.mapper.CursorMappingUtils;
 import com.attendify.attendify_api.shared.security.SecurityUtils;
 import com.attendify.attendify_api.user.entity.User;
 import com.attendify.attendify_api.user.entity.enums.Permission;
@@ -35,13 +74,22 @@ public class EventRegistrationServiceImpl implements EventRegistrationService {
     private final UserRepository userRepository;
     private final EventRepository eventRepository;
     private final SecurityUtils securityUtils;
+    private final SeatReservationEngine seatReservationEngine;
+    private final WaitlistEntryRepository waitlistEntryRepository;
+    private final WaitlistPromoter waitlistPromoter;
+    private final CheckInPassCodec checkInPassCodec;
+    private final CheckInEventCache checkInEventCache;
+    private final CheckInWriteBehind checkInWriteBehind;
+    private final RosterExporter rosterExporter;
+    private final RegistrationIntake registrationIntake;
+    private final EventReadCache eventReadCache;
 
     @Override
     @Transactional
     public EventRegistrationResponseDTO create(EventRegistrationRequestDTO dto) {
         Long userId = securityUtils.getAuthenticatedUserId();
         User user = getUserOrElseThrow(userId);
-        Event event = getEventForUpdateOrElseThrow(dto.eventId());
+        Event event = getEventOrElseThrow(dto.eventId());
 
         if (event.getStatus() != EventStatus.PUBLISHED)
             throw new BadRequestException("Cannot join at UNPUBLISHED events.");
@@ -52,22 +100,53 @@ public class EventRegistrationServiceImpl implements EventRegistrationService {
         if (event.getEndDate().isBefore(LocalDateTime.now()))
             throw new BadRequestException("Cannot register for a past event");
 
-        long currentRegistrations = eventRegistrationRepository.countByEvent_Id(event.getId());
-        if (currentRegistrations >= event.getCapacity())
-            throw new BadRequestException("Event is at full capacity");
+        if (event.getHighDemand())
+            return reserveHighDemand(user, event);
 
         EventRegistration eventRegistration = eventRegistrationMapper.toEntity(user, event);
 
-        eventRegistrationRepository.save(eventRegistration);
+        saveRegistration(eventRegistration, "User is already registered for this event");
+
+        // Claimed last so the event row stays locked only until commit
+        if (eventRepository.claimSeat(event.getId()) == 0) {
+            // Full, take the registration back out and queue the user instead
+            eventRegistrationRepository.delete(eventRegistration);
+            eventRegistrationRepository.flush();
+
+            return joinWaitlist(user, event);
+        }
+
+        stampRoster(eventRegistration);
+        eventReadCache.evictDetailAfterCommit(event.getId());
 
         return eventRegistrationMapper.toResponse(eventRegistration);
     }
 
+    @Override
+    public EventRegistrationTicketDTO enqueue(EventRegistrationRequestDTO dto) {
+        // No database work here, the event and the user are checked once per batch by the intake
+        RegistrationTicket ticket = registrationIntake.submit(securityUtils.getAuthenticatedUserId(), dto.eventId());
+
+        return eventRegistrationMapper.toTicketResponse(ticket, ticket.outcome());
+    }
+
+    @Override
+    public CompletableFuture<EventRegistrationTicketDTO> getTicket(String ticketId, Duration wait) {
+        RegistrationTicket ticket = registrationIntake.find(ticketId);
+
+        // Tickets of other users are reported as missing, their IDs are not meant to be shared
+        if (ticket == null || !ticket.getUserId().equals(securityUtils.getAuthenticatedUserId()))
+            throw new NotFoundException("Registration ticket not found");
+
+        return registrationIntake.await(ticket, wait)
+                .thenApply(outcome -> eventRegistrationMapper.toTicketResponse(ticket, outcome));
+    }
+
     @Override
     @Transactional
     public EventRegistrationResponseDTO createByForce(EventRegistrationAdminRequestDTO dto) {
         User user = getUserOrElseThrow(dto.userId());
-        Event event = getEventForUpdateOrElseThrow(dto.eventId());
+        Event event = getEventOrElseThrow(dto.eventId());
 
         securityUtils.checkOwnerOrPermission(event.getCreatedBy(), Permission.EVENT_REGISTRATION_FORCE_CREATE,
                 "force register users to this event");
@@ -75,22 +154,97 @@ public class EventRegistrationServiceImpl implements EventRegistrationService {
         if (eventRegistrationRepository.existsByUser_IdAndEvent_Id(user.getId(), event.getId()))
             throw new BadRequestException("User is already registered to this event");
 
-        if (!securityUtils.hasPermission(Permission.EVENT_REGISTRATION_FORCE_CREATE)) {
-            if (event.getEndDate().isBefore(LocalDateTime.now()))
-                throw new BadRequestException("Cannot register for a past event");
+        boolean force = securityUtils.hasPermission(Permission.EVENT_REGISTRATION_FORCE_CREATE);
 
-            long currentRegistrations = eventRegistrationRepository.countByEvent_Id(event.getId());
-            if (currentRegistrations >= event.getCapacity())
-                throw new BadRequestException("Event is at full capacity");
-        }
+        if (!force && event.getEndDate().isBefore(LocalDateTime.now()))
+            throw new BadRequestException("Cannot register for a past event");
 
         EventRegistration registration = eventRegistrationMapper.toEntity(user, event);
 
-        eventRegistrationRepository.save(registration);
+        saveRegistration(registration, "User is already registered to this event");
+
+        // Users with force permission may exceed capacity, but the counter is still kept in sync.
+        // Seats leased to high-demand reservations are already counted, so they are respected here too.
+        if (force)
+            eventRepository.forceClaimSeat(event.getId());
+        else if (eventRepository.claimSeat(event.getId()) == 0)
+            throw new BadRequestException("Event is at full capacity");
+
+        stampRoster(registration);
+        eventReadCache.evictDetailAfterCommit(event.getId());
+
+        // The user now holds a seat, a waitlist entry would only block the queue
+        waitlistEntryRepository.deleteByEventIdAndUserId(event.getId(), user.getId());
 
         return eventRegistrationMapper.toResponse(registration);
     }
 
+    @Override
+    @Transactional
+    public EventRegistrationBulkResponseDTO createByForceBulk(EventRegistrationBulkRequestDTO dto) {
+        // Locked once for the whole roster, concurrent seat claims wait until this transaction commits
+        Event event = eventRepository.findByIdForUpdate(dto.eventId())
+                .orElseThrow(() -> new NotFoundException("Event not found"));
+
+        securityUtils.checkOwnerOrPermission(event.getCreatedBy(), Permission.EVENT_REGISTRATION_FORCE_CREATE,
+                "force register users to this event");
+
+        boolean force = securityUtils.hasPermission(Permission.EVENT_REGISTRATION_FORCE_CREATE);
+
+        if (!force && event.getEndDate().isBefore(LocalDateTime.now()))
+            throw new BadRequestException("Cannot register for a past event");
+
+        Set<Long> userIds = new LinkedHashSet<>(dto.userIds());
+        Set<Long> existingUsers = userRepository.findExistingIds(userIds);
+        Set<Long> registeredUsers = eventRegistrationRepository.findRegisteredUserIds(event.getId(), userIds);
+
+        List<Long> candidates = userIds.stream()
+                .filter(existingUsers::contains)
+                .filter(userId -> !registeredUsers.contains(userId))
+                .toList();
+
+        int seats = claimBulkSeats(event, candidates.size(), force);
+        List<Long> accepted = candidates.subList(0, seats);
+        Set<Long> inserted = Set.of();
+
+        if (!accepted.isEmpty()) {
+            inserted = eventRegistrationRepository.insertAllIfAbsent(event.getId(), accepted,
+                    securityUtils.getCurrentAuditorId(), LocalDateTime.now()).keySet();
+        }
+
+        if (!inserted.isEmpty()) {
+            eventRepository.addSeats(event.getId(), inserted.size());
+            eventReadCache.evictDetailAfterCommit(event.getId());
+
+            // Registered users no longer need their place in the queue
+            waitlistEntryRepository.deleteByEventIdAndUserIdIn(event.getId(), inserted);
+        }
+
+        Set<Long> acceptedIds = new HashSet<>(accepted);
+        List<EventRegistrationBulkResponseDTO.Result> results = new ArrayList<>(userIds.size());
+
+        for (Long userId : userIds) {
+            EventRegistrationBulkResponseDTO.Status status;
+
+            if (!existingUsers.contains(userId))
+                status = EventRegistrationBulkResponseDTO.Status.USER_NOT_FOUND;
+            else if (inserted.contains(userId))
+                status = EventRegistrationBulkResponseDTO.Status.REGISTERED;
+            else if (registeredUsers.contains(userId) || acceptedIds.contains(userId))
+                status = EventRegistrationBulkResponseDTO.Status.ALREADY_REGISTERED;
+            else
+                status = EventRegistrationBulkResponseDTO.Status.EVENT_FULL;
+
+            results.add(new EventRegistrationBulkResponseDTO.Result(userId, status));
+        }
+
+        return EventRegistrationBulkResponseDTO.builder()
+                .eventId(event.getId())
+                .registered(inserted.size())
+                .results(results)
+                .build();
+    }
+
     @Override
     @Transactional
     public void delete(Long id) {
@@ -112,8 +266,15 @@ public class EventRegistrationServiceImpl implements EventRegistrationService {
         }
 
         registration.softDelete(securityUtils.getCurrentAuditorId());
+        stampRoster(registration);
 
         eventRegistrationRepository.save(registration);
+
+        eventRepository.releaseSeat(registration.getEvent().getId());
+        eventReadCache.evictDetailAfterCommit(registration.getEvent().getId());
+
+        // The freed seat goes to the head of the waitlist, outside this request
+        waitlistPromoter.requestPromotionAfterCommit(registration.getEvent().getId());
     }
 
     @Override
@@ -125,8 +286,12 @@ public class EventRegistrationServiceImpl implements EventRegistrationService {
             throw new BadRequestException("Event registration is not deleted");
 
         eventRegistration.restore();
+        stampRoster(eventRegistration);
 
         eventRegistrationRepository.save(eventRegistration);
+
+        eventRepository.forceClaimSeat(eventRegistration.getEvent().getId());
+        eventReadCache.evictDetailAfterCommit(eventRegistration.getEvent().getId());
     }
 
     @Override
@@ -150,21 +315,159 @@ public class EventRegistrationServiceImpl implements EventRegistrationService {
         }
 
         registration.setCheckedIn(true);
+        stampRoster(registration);
 
         return eventRegistrationMapper.toResponse(registration);
     }
 
+    @Override
+    @Transactional
+    public EventRegistrationCheckInBatchResponseDTO checkInBatch(EventRegistrationCheckInBatchRequestDTO dto) {
+        Event event = getEventOrElseThrow(dto.eventId());
+
+        List<EventRegistrationCheckInBatchResponseDTO.Result> results = checkInAll(event, dto.registrationIds());
+
+        return EventRegistrationCheckInBatchResponseDTO.builder()
+                .eventId(event.getId())
+                .checkedIn((int) results.stream()
+                        .filter(result -> result.status() == EventRegistrationCheckInBatchResponseDTO.Status.CHECKED_IN)
+                        .count())
+                .results(results)
+                .build();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public RosterStream getRoster(Long eventId) {
+        checkRosterAccess(eventId);
+
+        return out -> rosterExporter.writeSnapshot(eventId, out);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public RosterStream getRosterChanges(Long eventId, long sinceVersion) {
+        checkRosterAccess(eventId);
+
+        return out -> rosterExporter.writeChanges(eventId, sinceVersion, out);
+    }
+
+    @Override
+    @Transactional
+    public EventRosterReconcileResponseDTO reconcileRoster(Long eventId, EventRosterReconcileRequestDTO dto) {
+        Event event = getEventOrElseThrow(eventId);
+
+        List<EventRegistrationCheckInBatchResponseDTO.Result> results = checkInAll(event, dto.checkedInIds());
+
+        // Read after the check-ins so the device also receives the versions they were written with
+        RosterChanges changes = rosterExporter.findChanges(eventId, dto.sinceVersion());
+
+        return EventRosterReconcileResponseDTO.builder()
+                .eventId(eventId)
+                .rosterVersion(changes.version())
+                .results(results)
+                .changes(changes.entries().stream()
+                        .map(entry -> new EventRosterReconcileResponseDTO.Change(entry.registrationId(),
+                                entry.userId(), entry.checkedIn(), entry.cancelled()))
+                        .toList())
+                .build();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public EventRegistrationPassDTO getPass(Long id) {
+        EventRegistration registration = getEventRegistrationOrElseThrow(id);
+
+        // Verify the current user is the attendee or has force read permission
+        securityUtils.checkOwnerOrPermission(registration.getUser().getId(), Permission.EVENT_REGISTRATION_FORCE_READ,
+                "read the pass of this registration");
+
+        CheckInPass pass = new CheckInPass(registration.getId(), registration.getEvent().getId(),
+                registration.getUser().getId());
+
+        return EventRegistrationPassDTO.builder()
+                .registrationId(pass.registrationId())
+                .eventId(pass.eventId())
+                .pass(checkInPassCodec.issue(pass))
+                .build();
+    }
+
+    @Override
+    public EventRegistrationScanResponseDTO scan(EventRegistrationScanRequestDTO dto) {
+        // The signature vouches for the ids, the registration itself is only touched by the batch writer
+        CheckInPass pass = checkInPassCodec.verify(dto.pass());
+
+        if (pass == null)
+            throw new BadRequestException("Invalid check-in pass");
+
+        if (!pass.eventId().equals(dto.eventId()))
+            throw new BadRequestException("Pass belongs to another event");
+
+        CheckInEventCache.EventWindow event = checkInEventCache.get(pass.eventId());
+
+        // Verify the current user is the owner of the event or has force check-in permission
+        securityUtils.checkOwnerOrPermission(event.ownerId(), Permission.EVENT_REGISTRATION_FORCE_CHECKIN,
+                "check-in registrations of this event");
+
+        if (!securityUtils.hasPermission(Permission.EVENT_REGISTRATION_FORCE_CHECKIN)) {
+            if (event.status() != EventStatus.PUBLISHED)
+                throw new BadRequestException("Cannot check-in at UNPUBLISHED events.");
+
+            if (event.startDate().isAfter(LocalDateTime.now()))
+                throw new BadRequestException("Cannot check-in before event starts");
+        }
+
+        PendingCheckIn checkIn = new PendingCheckIn(pass, securityUtils.getCurrentAuditorId(), LocalDateTime.now());
+
+        if (!checkInWriteBehind.offer(checkIn))
+            throw new TooManyRequestsException("Check-in queue is full, please retry", 1);
+
+        return EventRegistrationScanResponseDTO.builder()
+                .registrationId(pass.registrationId())
+                .eventId(pass.eventId())
+                .userId(pass.userId())
+                .build();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public WaitlistPositionDTO getWaitlistPosition(Long eventId) {
+        Long userId = securityUtils.getAuthenticatedUserId();
+
+        long position = waitlistEntryRepository.findPosition(eventId, userId);
+
+        if (position == 0)
+            throw new NotFoundException("User is not on the waitlist for this event");
+
+        return WaitlistPositionDTO.builder()
+                .eventId(eventId)
+                .position(position)
+                .build();
+    }
+
+    @Override
+    @Transactional
+    public void leaveWaitlist(Long eventId) {
+        Long userId = securityUtils.getAuthenticatedUserId();
+
+        if (waitlistEntryRepository.deleteByEventIdAndUserId(eventId, userId) == 0)
+            throw new NotFoundException("User is not on the waitlist for this event");
+    }
+
     @Override
     @Transactional(readOnly = true)
     public PageResponseDTO<EventRegistrationResponseDTO> getUsersByEvent(
             Long id,
-            Pageable pageable) {
+            Pageable pageable,
+            boolean count) {
         Event event = getEventOrElseThrow(id);
 
         securityUtils.checkOwnerOrPermission(event.getCreatedBy(), Permission.EVENT_REGISTRATION_FORCE_READ_BY_EVENT,
                 "view registrations for this event");
 
-        Page<EventRegistration> page = eventRegistrationRepository.findByEvent_IdFetch(id, pageable);
+        Slice<EventRegistration> page = count
+                ? eventRegistrationRepository.findByEvent_IdFetch(id, pageable)
+                : eventRegistrationRepository.findSliceByEvent_IdFetch(id, pageable);
 
         return eventRegistrationMapper.toPageResponse(page);
     }
@@ -172,18 +475,56 @@ public class EventRegistrationServiceImpl implements EventRegistrationService {
     @Override
     @Transactional(readOnly = true)
     public PageResponseDTO<EventRegistrationResponseDTO> getMyEvents(
-            Pageable pageable) {
+            Pageable pageable,
+            boolean count) {
         Long userId = securityUtils.getAuthenticatedUserId();
 
-        Page<EventRegistration> page = eventRegistrationRepository.findByUser_IdFetch(userId, pageable);
+        Slice<EventRegistration> page = count
+                ? eventRegistrationRepository.findByUser_IdFetch(userId, pageable)
+                : eventRegistrationRepository.findSliceByUser_IdFetch(userId, pageable);
 
         return eventRegistrationMapper.toPageResponse(page);
     }
 
     @Override
     @Transactional(readOnly = true)
-    public PageResponseDTO<EventRegistrationResponseDTO> findAll(Pageable pageable) {
-        Page<EventRegistration> page = eventRegistrationRepository.findAll(pageable);
+    public CursorPageResponseDTO<EventRegistrationResponseDTO> getUsersByEventAfter(
+            Long id,
+            String cursor,
+            int size) {
+        long afterId = CursorMappingUtils.decodeCursor(cursor);
+        Event event = getEventOrElseThrow(id);
+
+        securityUtils.checkOwnerOrPermission(event.getCreatedBy(), Permission.EVENT_REGISTRATION_FORCE_READ_BY_EVENT,
+                "view registrations for this event");
+
+        // One row more than requested tells whether a next page exists without counting
+        List<EventRegistration> rows = eventRegistrationRepository.findByEvent_IdAfter(id, afterId,
+                Limit.of(size + 1));
+
+        return eventRegistrationMapper.toCursorResponse(rows, size);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPageResponseDTO<EventRegistrationResponseDTO> getMyEventsAfter(
+            String cursor,
+            int size) {
+        long afterId = CursorMappingUtils.decodeCursor(cursor);
+        Long userId = securityUtils.getAuthenticatedUserId();
+
+        List<EventRegistration> rows = eventRegistrationRepository.findByUser_IdAfter(userId, afterId,
+                Limit.of(size + 1));
+
+        return eventRegistrationMapper.toCursorResponse(rows, size);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public PageResponseDTO<EventRegistrationResponseDTO> findAll(Pageable pageable, boolean count) {
+        Slice<EventRegistration> page = count
+                ? eventRegistrationRepository.findAll(pageable)
+                : eventRegistrationRepository.findSliceBy(pageable);
 
         return eventRegistrationMapper.toPageResponse(page);
     }
@@ -191,8 +532,11 @@ public class EventRegistrationServiceImpl implements EventRegistrationService {
     @Override
     @Transactional(readOnly = true)
     public PageResponseDTO<EventRegistrationResponseDTO> findAllDeleted(
-            Pageable pageable) {
-        Page<EventRegistration> page = eventRegistrationRepository.findAllDeleted(pageable);
+            Pageable pageable,
+            boolean count) {
+        Slice<EventRegistration> page = count
+                ? eventRegistrationRepository.findAllDeleted(pageable)
+                : eventRegistrationRepository.findSliceDeleted(pageable);
 
         return eventRegistrationMapper.toPageResponse(page);
     }
@@ -200,12 +544,72 @@ public class EventRegistrationServiceImpl implements EventRegistrationService {
     @Override
     @Transactional(readOnly = true)
     public PageResponseDTO<EventRegistrationResponseDTO> findAllWithDeleted(
-            Pageable pageable) {
-        Page<EventRegistration> page = eventRegistrationRepository.findAllWithDeleted(pageable);
+            Pageable pageable,
+            boolean count) {
+        Slice<EventRegistration> page = count
+                ? eventRegistrationRepository.findAllWithDeleted(pageable)
+                : eventRegistrationRepository.findSliceWithDeleted(pageable);
 
         return eventRegistrationMapper.toPageResponse(page);
     }
 
+    // Helper that checks in many registrations of one event, authorized and validated once for the whole batch
+    private List<EventRegistrationCheckInBatchResponseDTO.Result> checkInAll(Event event, List<Long> registrationIds) {
+        securityUtils.checkOwnerOrPermission(event.getCreatedBy(), Permission.EVENT_REGISTRATION_FORCE_CHECKIN,
+                "check-in registrations of this event");
+
+        if (!securityUtils.hasPermission(Permission.EVENT_REGISTRATION_FORCE_CHECKIN)) {
+            if (event.getStatus() != EventStatus.PUBLISHED)
+                throw new BadRequestException("Cannot check-in at UNPUBLISHED events.");
+
+            if (event.getStartDate().isAfter(LocalDateTime.now()))
+                throw new BadRequestException("Cannot check-in before event starts");
+        }
+
+        Set<Long> ids = new LinkedHashSet<>(registrationIds);
+
+        if (ids.isEmpty())
+            return List.of();
+
+        Set<Long> checkedIn = new HashSet<>(eventRegistrationRepository.checkInAll(event.getId(), ids,
+                securityUtils.getCurrentAuditorId(), LocalDateTime.now()));
+
+        // Only needed to tell already checked-in registrations from unknown ones
+        Set<Long> active = checkedIn.size() == ids.size()
+                ? checkedIn
+                : eventRegistrationRepository.findActiveIds(event.getId(), ids);
+
+        List<EventRegistrationCheckInBatchResponseDTO.Result> results = new ArrayList<>(ids.size());
+
+        for (Long id : ids) {
+            EventRegistrationCheckInBatchResponseDTO.Status status;
+
+            if (checkedIn.contains(id))
+                status = EventRegistrationCheckInBatchResponseDTO.Status.CHECKED_IN;
+            else if (active.contains(id))
+                status = EventRegistrationCheckInBatchResponseDTO.Status.ALREADY_CHECKED_IN;
+            else
+                status = EventRegistrationCheckInBatchResponseDTO.Status.NOT_FOUND;
+
+            results.add(new EventRegistrationCheckInBatchResponseDTO.Result(id, status));
+        }
+
+        return results;
+    }
+
+    // Helper that verifies the current user may download the roster of an event
+    private void checkRosterAccess(Long eventId) {
+        Event event = getEventOrElseThrow(eventId);
+
+        securityUtils.checkOwnerOrPermission(event.getCreatedBy(), Permission.EVENT_REGISTRATION_FORCE_READ_BY_EVENT,
+                "view registrations for this event");
+    }
+
+    // Helper that records a registration change in the roster of its event, without locking the event row
+    private void stampRoster(EventRegistration registration) {
+        registration.setRosterVersion(eventRepository.currentRosterVersion());
+    }
+
     // Helper that fetch a user
     private User getUserOrElseThrow(Long id) {
         return userRepository.findById(id)
@@ -218,10 +622,60 @@ public class EventRegistrationServiceImpl implements EventRegistrationService {
                 .orElseThrow(() -> new NotFoundException("Event not found"));
     }
 
-    // Helper that fetch an event for update
-    private Event getEventForUpdateOrElseThrow(Long id) {
-        return eventRepository.findByIdForUpdate(id)
-                .orElseThrow(() -> new NotFoundException("Event not found"));
+    // Helper that decides how many of the requested seats a bulk registration gets, the event row is already locked
+    private int claimBulkSeats(Event event, int requested, boolean force) {
+        if (requested == 0)
+            return 0;
+
+        if (force)
+            return requested;
+
+        return Math.max(0, Math.min(requested, event.getCapacity() - event.getRegisteredCount()));
+    }
+
+    // Helper that claims a seat in memory and leaves the insert to the batch writer
+    private EventRegistrationResponseDTO reserveHighDemand(User user, Event event) {
+        // Soft-deleted registrations still hold the unique constraint, the batch insert would silently skip them
+        if (eventRegistrationRepository.existsByUserIdAndEventIdWithDeleted(user.getId(), event.getId()))
+            throw new BadRequestException("User is already registered for this event");
+
+        PendingRegistration pending = seatReservationEngine.reserve(event, user.getId(),
+                securityUtils.getCurrentAuditorId());
+
+        if (pending == null)
+            return joinWaitlist(user, event);
+
+        return eventRegistrationMapper.toPendingResponse(pending);
+    }
+
+    // Helper that queues the user for a full event
+    private EventRegistrationResponseDTO joinWaitlist(User user, Event event) {
+        if (waitlistEntryRepository.existsByUser_IdAndEvent_Id(user.getId(), event.getId()))
+            throw new BadRequestException("User is already on the waitlist for this event");
+
+        WaitlistEntry entry = WaitlistEntry.builder()
+                .user(user)
+                .event(event)
+                .build();
+
+        try {
+            waitlistEntryRepository.saveAndFlush(entry);
+        } catch (DataIntegrityViolationException ex) {
+            throw new BadRequestException("User is already on the waitlist for this event");
+        }
+
+        long position = waitlistEntryRepository.findPosition(event.getId(), user.getId());
+
+        return eventRegistrationMapper.toWaitlistedResponse(entry, position);
+    }
+
+    // Helper that inserts a registration, translating a unique constraint race into a business error
+    private void saveRegistration(EventRegistration registration, String duplicateMessage) {
+        try {
+            eventRegistrationRepository.saveAndFlush(registration);
+        } catch (DataIntegrityViolationException ex) {
+            throw new BadRequestException(duplicateMessage);
+        }
     }
 
     // Helper that fetch a registration
@@ -2,28 +2,46 @@ package com.attendify.attendify_api.event.service.impl;
 
 import java.time.LocalDateTime;
 import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
-import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.attendify.attendify_api.event.cache.EventReadCache;
+import com.attendify.attendify_api.event.checkin.CheckInEventCache;
 import com.attendify.attendify_api.event.dto.EventFilterDTO;
 import com.attendify.attendify_api.event.dto.EventRequestDTO;
 import com.attendify.attendify_api.event.dto.EventResponseDTO;
 import com.attendify.attendify_api.event.dto.EventSimpleDTO;
+import com.attendify.attendify_api.event.dto.EventSuggestionDTO;
 import com.attendify.attendify_api.event.entity.Category;
 import com.attendify.attendify_api.event.entity.Event;
+import com.attendify.attendify_api.event.entity.enums.EventSearchMode;
 import com.attendify.attendify_api.event.mapper.EventMapper;
 import com.attendify.attendify_api.event.persistence.EventSpecifications;
 import com.attendify.attendify_api.event.repository.CategoryRepository;
+import com.attendify.attendify_api.event.repository.EventRegistrationRepository;
 import com.attendify.attendify_api.event.repository.EventRepository;
+import com.attendify.attendify_api.event.reservation.SeatReservationEngine;
+import com.attendify.attendify_api.event.search.EventSearchIndex;
+import com.attendify.attendify_api.event.search.EventSuggester;
 import com.attendify.attendify_api.event.service.EventService;
+import com.attendify.attendify_api.event.waitlist.WaitlistPromoter;
 import com.attendify.attendify_api.shared.dto.PageResponseDTO;
 import com.attendify.attendify_api.shared.exception.BadRequestException;
 import com.attendify.attendify_api.shared.exception.NotFoundException;
 import com.attendify.attendify_api.shared.security.SecurityUtils;
+import com.attendify.attendify_api.user.dto.UserSummaryDTO;
 import com.attendify.attendify_api.user.entity.enums.Permission;
 
 import jakarta.validation.ValidationException;
@@ -32,11 +50,21 @@ import lombok.RequiredArgsConstructor;
 @Service
 @RequiredArgsConstructor
 public class EventServiceImpl implements EventService {
+    // Attendees embedded in the event detail, the rest is paginated by the registration endpoints
+    static final int DETAIL_ATTENDEES = 20;
+
     private final EventMapper eventMapper;
     private final EventRepository eventRepository;
+    private final EventRegistrationRepository eventRegistrationRepository;
     private final CategoryRepository categoryRepository;
     private final EventSpecifications eventSpecification;
     private final SecurityUtils securityUtils;
+    private final SeatReservationEngine seatReservationEngine;
+    private final WaitlistPromoter waitlistPromoter;
+    private final CheckInEventCache checkInEventCache;
+    private final EventSearchIndex eventSearchIndex;
+    private final EventSuggester eventSuggester;
+    private final EventReadCache eventReadCache;
 
     @Override
     @Transactional
@@ -50,7 +78,12 @@ public class EventServiceImpl implements EventService {
 
         Event event = eventRepository.save(entity);
 
-        return eventMapper.toResponse(event);
+        eventSearchIndex.indexAfterCommit(event);
+        eventSuggester.putEventAfterCommit(event);
+        eventReadCache.evictEventAfterCommit(event.getId());
+
+        // A new event has no registrations yet
+        return eventMapper.toResponse(event, List.of());
     }
 
     @Override
@@ -69,7 +102,15 @@ public class EventServiceImpl implements EventService {
 
         eventMapper.updateEntity(event, dto, categories);
 
-        return eventMapper.toResponse(event);
+        // Capacity or mode may have changed, the seat counter is rebuilt on the next registration
+        seatReservationEngine.invalidateAfterCommit(id);
+        waitlistPromoter.requestPromotionAfterCommit(id);
+        checkInEventCache.invalidateAfterCommit(id);
+        eventSearchIndex.indexAfterCommit(event);
+        eventSuggester.putEventAfterCommit(event);
+        eventReadCache.evictEventAfterCommit(event.getId());
+
+        return toDetail(event);
     }
 
     @Override
@@ -86,6 +127,12 @@ public class EventServiceImpl implements EventService {
         event.softDelete(securityUtils.getCurrentAuditorId());
 
         eventRepository.save(event);
+
+        // Scanners must stop admitting to a deleted event
+        checkInEventCache.invalidateAfterCommit(id);
+        eventSearchIndex.removeAfterCommit(id);
+        eventSuggester.removeEventAfterCommit(id);
+        eventReadCache.evictEventAfterCommit(id);
     }
 
     @Override
@@ -102,32 +149,58 @@ public class EventServiceImpl implements EventService {
         event.restore();
 
         eventRepository.save(event);
+
+        eventSearchIndex.indexAfterCommit(event);
+        eventSuggester.putEventAfterCommit(event);
+        eventReadCache.evictEventAfterCommit(event.getId());
     }
 
+    // Served from the read cache, misses are loaded in a read-only transaction of the cache
     @Override
-    @Transactional(readOnly = true)
     public EventResponseDTO findById(Long id) {
-        Event event = getEventOrElseThrow(id);
-
-        return eventMapper.toResponse(event);
+        return eventReadCache.detail(id, () -> toDetail(getEventOrElseThrow(id)));
     }
 
     @Override
-    @Transactional(readOnly = true)
     public PageResponseDTO<EventSimpleDTO> findAll(
             EventFilterDTO eventFilter,
-            Pageable pageable) {
-        Page<Event> page = eventRepository.findAll(eventSpecification.build(eventFilter), pageable);
+            Pageable pageable,
+            boolean count) {
+        return eventReadCache.listing(eventFilter, pageable, count,
+                () -> loadAll(eventFilter, pageable, count));
+    }
+
+    // Helper that reads a listing page, through the search index when it can answer
+    private PageResponseDTO<EventSimpleDTO> loadAll(
+            EventFilterDTO eventFilter,
+            Pageable pageable,
+            boolean count) {
+        if (isIndexedSearch(eventFilter, pageable))
+            return findAllFromIndex(eventFilter, pageable, count);
+
+        Specification<Event> specification = eventSpecification.build(eventFilter);
+
+        Slice<Event> page = count
+                ? eventRepository.findAll(specification, pageable)
+                : eventRepository.findBy(specification, query -> query.slice(pageable));
 
         return eventMapper.toPageResponse(page);
     }
 
+    @Override
+    public List<EventSuggestionDTO> suggest(String prefix, int limit) {
+        return eventSuggester.suggest(prefix, limit);
+    }
+
     @Override
     @Transactional(readOnly = true)
     public PageResponseDTO<EventSimpleDTO> findByCategory(
             Long categoryId,
-            Pageable pageable) {
-        Page<Event> page = eventRepository.findByCategories_Id(categoryId, pageable);
+            Pageable pageable,
+            boolean count) {
+        Slice<Event> page = count
+                ? eventRepository.findByCategories_Id(categoryId, pageable)
+                : eventRepository.findSliceByCategories_Id(categoryId, pageable);
 
         return eventMapper.toPageResponse(page);
     }
@@ -135,8 +208,11 @@ public class EventServiceImpl implements EventService {
     @Override
     @Transactional(readOnly = true)
     public PageResponseDTO<EventSimpleDTO> findAllDeleted(
-            Pageable pageable) {
-        Page<Event> page = eventRepository.findAllDeleted(pageable);
+            Pageable pageable,
+            boolean count) {
+        Slice<Event> page = count
+                ? eventRepository.findAllDeleted(pageable)
+                : eventRepository.findSliceDeleted(pageable);
 
         return eventMapper.toPageResponse(page);
     }
@@ -144,8 +220,56 @@ public class EventServiceImpl implements EventService {
     @Override
     @Transactional(readOnly = true)
     public PageResponseDTO<EventSimpleDTO> findAllWithDeleted(
-            Pageable pageable) {
-        Page<Event> page = eventRepository.findAllWithDeleted(pageable);
+            Pageable pageable,
+            boolean count) {
+        Slice<Event> page = count
+                ? eventRepository.findAllWithDeleted(pageable)
+                : eventRepository.findSliceWithDeleted(pageable);
+
+        return eventMapper.toPageResponse(page);
+    }
+
+    // Helper that builds the event detail with its first attendees, read in one projection query
+    private EventResponseDTO toDetail(Event event) {
+        List<UserSummaryDTO> attendees = eventRegistrationRepository
+                .findFirstAttendees(event.getId(), DETAIL_ATTENDEES).stream()
+                .map(eventMapper::toAttendee)
+                .toList();
+
+        return eventMapper.toResponse(event, attendees);
+    }
+
+    // Helper that decides whether a listing is a keyword search the index can answer, it only orders by ID.
+    // Keyword searches are opt-in, the default text mode gives the same results whether the index is used or not.
+    private boolean isIndexedSearch(EventFilterDTO eventFilter, Pageable pageable) {
+        String text = eventFilter.text();
+
+        return text != null && !text.isBlank()
+                && eventFilter.searchMode() == EventSearchMode.KEYWORD
+                && pageable.getSort().isUnsorted()
+                && eventSearchIndex.isReady();
+    }
+
+    // Helper that resolves the page of matching IDs from the index, then reads only those events
+    private PageResponseDTO<EventSimpleDTO> findAllFromIndex(
+            EventFilterDTO eventFilter,
+            Pageable pageable,
+            boolean count) {
+        EventSearchIndex.Hits hits = eventSearchIndex.search(eventFilter, pageable.getOffset(),
+                pageable.getPageSize());
+
+        Map<Long, Event> events = eventRepository.findAllById(hits.ids()).stream()
+                .collect(Collectors.toMap(Event::getId, Function.identity()));
+
+        // Events deleted since the index was read are skipped
+        List<Event> content = hits.ids().stream()
+                .map(events::get)
+                .filter(Objects::nonNull)
+                .toList();
+
+        Slice<Event> page = count
+                ? new PageImpl<>(content, pageable, hits.total())
+                : new SliceImpl<>(content, pageable, pageable.getOffset() + hits.ids().size() < hits.total());
 
         return eventMapper.toPageResponse(page);
     }
@@ -0,0 +1,128 @@
+package com.attendify.attendify_api.event.waitlist;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.attendify.attendify_api.event.cache.EventReadCache;
+import com.attendify.attendify_api.event.repository.WaitlistEntryRepository;
+import com.attendify.attendify_api.event.repository.WaitlistEntryRepository.PromotionView;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+// Moves waitlisted users into freed seats on a background thread.
+// Cancellations only signal the event, several signals before the worker runs collapse into one batch,
+// and the promotion runs in its own short transaction after the cancelling request has committed.
+@Slf4j
+@Component
+public class WaitlistPromoter {
+    private final WaitlistEntryRepository waitlistEntryRepository;
+    private final EventReadCache eventReadCache;
+    private final WaitlistProperties properties;
+    private final TransactionTemplate transactionTemplate;
+    private final Counter promotedCounter;
+    private final Counter skippedCounter;
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(
+            new CustomizableThreadFactory("waitlist-promoter-"));
+
+    // Events signalled but not yet picked up by the worker
+    private final Set<Long> pendingEvents = ConcurrentHashMap.newKeySet();
+
+    public WaitlistPromoter(
+            WaitlistEntryRepository waitlistEntryRepository,
+            EventReadCache eventReadCache,
+            WaitlistProperties properties,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry) {
+        this.waitlistEntryRepository = waitlistEntryRepository;
+        this.eventReadCache = eventReadCache;
+        this.properties = properties;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.promotedCounter = Counter.builder("attendify.waitlist.promoted")
+                .description("Waitlisted users moved into a freed seat")
+                .register(meterRegistry);
+        this.skippedCounter = Counter.builder("attendify.waitlist.skipped")
+                .description("Waitlist entries removed without a seat, their users were already registered")
+                .register(meterRegistry);
+    }
+
+    // Schedules a promotion round for the event once the current transaction commits
+    public void requestPromotionAfterCommit(Long eventId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            requestPromotion(eventId);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                requestPromotion(eventId);
+            }
+        });
+    }
+
+    @Scheduled(
+            fixedDelayString = "${application.events.waitlist.sweep-interval:PT1M}",
+            initialDelayString = "${application.events.waitlist.sweep-interval:PT1M}")
+    // Catches seats freed without a signal, such as capacity increases or signals lost on restart
+    public void sweep() {
+        waitlistEntryRepository.findWaitlistedEventIds(LocalDateTime.now()).forEach(this::requestPromotion);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private void requestPromotion(Long eventId) {
+        if (pendingEvents.add(eventId))
+            executor.execute(() -> {
+                // Cleared first, a signal arriving while this round runs schedules another one
+                pendingEvents.remove(eventId);
+                promote(eventId);
+            });
+    }
+
+    private void promote(Long eventId) {
+        int batchSize = properties.getBatchSize();
+
+        try {
+            PromotionView result;
+
+            do {
+                // Seats leased to high-demand reservations are counted in registered_count, every event promotes alike
+                result = transactionTemplate.execute(status -> waitlistEntryRepository.promoteNext(eventId, batchSize,
+                        LocalDateTime.now()));
+                promotedCounter.increment(result.getPromoted());
+
+                long skipped = result.getRemoved() - result.getPromoted();
+                if (skipped > 0) {
+                    skippedCounter.increment(skipped);
+                    log.warn("Removed {} waitlist entries of event {} whose users were already registered", skipped,
+                            eventId);
+                }
+
+                // The batch has committed, the cached detail no longer shows the promoted attendees
+                if (result.getPromoted() > 0)
+                    eventReadCache.evictDetailAfterCommit(eventId);
+            } while (result.getRemoved() == batchSize);
+        } catch (RuntimeException ex) {
+            // The next sweep retries, the queue itself is untouched by a failed batch
+            log.error("Failed to promote waitlisted users for event {}", eventId, ex);
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.attendify.attendify_api.event.waitlist;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import jakarta.validation.constraints.Min;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "application.events.waitlist")
+public class WaitlistProperties {
+    // Users promoted per transaction, bounds how long the event row stays locked
+    @Min(1)
+    private int batchSize = 100;
+}
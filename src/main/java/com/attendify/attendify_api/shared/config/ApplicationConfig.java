@@ -1,16 +1,28 @@
 package com.attendify.attendify_api.shared.config;
 
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Primary;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.AuthenticationProvider;
 import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.crypto.password.Pbkdf2PasswordEncoder;
 
+import com.attendify.attendify_api.shared.security.BoundedPasswordEncoder;
 import com.attendify.attendify_api.shared.security.CustomUserDetailsService;
+import com.attendify.attendify_api.shared.security.PasswordHashingProperties;
 
 import lombok.RequiredArgsConstructor;
 
@@ -18,6 +30,7 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class ApplicationConfig {
     private final CustomUserDetailsService customUserDetailsService;
+    private final PasswordHashingProperties passwordHashingProperties;
 
     @Bean
     // Provides the AuthenticationManager bean used by Spring Security for authentication
@@ -33,15 +46,46 @@ public class ApplicationConfig {
         DaoAuthenticationProvider daoAuthenticationProvider = new DaoAuthenticationProvider();
 
         daoAuthenticationProvider.setUserDetailsService(customUserDetailsService);
-        daoAuthenticationProvider.setPasswordEncoder(passwordEncoder());
+        daoAuthenticationProvider.setPasswordEncoder(passwordEncoder().forAuthentication());
         daoAuthenticationProvider.setHideUserNotFoundExceptions(false);
+        // Re-encodes outdated hashes after a successful login
+        daoAuthenticationProvider.setUserDetailsPasswordService(customUserDetailsService);
 
         return daoAuthenticationProvider;
     }
 
     @Bean
-    // PasswordEncoder bean using BCrypt for secure password hashing
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    // PasswordEncoder bean that hashes on the bounded executor, using the configured algorithm for new hashes
+    public BoundedPasswordEncoder passwordEncoder() {
+        Map<String, PasswordEncoder> encoders = Map.of(
+                "bcrypt", new BCryptPasswordEncoder(passwordHashingProperties.getBcryptStrength()),
+                "pbkdf2@SpringSecurity_v5_8", Pbkdf2PasswordEncoder.defaultsForSpringSecurity_v5_8());
+
+        DelegatingPasswordEncoder delegatingPasswordEncoder = new DelegatingPasswordEncoder(
+                passwordHashingProperties.getAlgorithm(), encoders);
+
+        // Hashes stored before the {id} prefix was introduced are plain BCrypt
+        delegatingPasswordEncoder.setDefaultPasswordEncoderForMatches(encoders.get("bcrypt"));
+
+        return new BoundedPasswordEncoder(
+                delegatingPasswordEncoder,
+                passwordHashingExecutor(),
+                passwordHashingProperties.getTimeout());
+    }
+
+    @Bean(destroyMethod = "shutdown")
+    // Fixed-size executor with a bounded queue, rejects work once saturated
+    public ExecutorService passwordHashingExecutor() {
+        int threads = passwordHashingProperties.getThreads();
+        int queueCapacity = passwordHashingProperties.getQueueCapacity();
+
+        return new ThreadPoolExecutor(
+                threads,
+                threads,
+                0L,
+                TimeUnit.MILLISECONDS,
+                queueCapacity > 0 ? new ArrayBlockingQueue<>(queueCapacity) : new SynchronousQueue<>(),
+                new CustomizableThreadFactory("password-hash-"),
+                new ThreadPoolExecutor.AbortPolicy());
     }
 }
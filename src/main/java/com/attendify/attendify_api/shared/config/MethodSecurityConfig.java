@@ -0,0 +1,32 @@
+package com.attendify.attendify_api.shared.config;
+
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Role;
+import org.springframework.security.authorization.method.AuthorizationInterceptorsOrder;
+import org.springframework.security.authorization.method.AuthorizationManagerBeforeMethodInterceptor;
+
+import com.attendify.attendify_api.shared.security.PermissionAuthorizationManager;
+
+@Configuration
+public class MethodSecurityConfig {
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    // Authorization manager backing @RequiresPermission, static so it is available before the proxies are built
+    static PermissionAuthorizationManager permissionAuthorizationManager() {
+        return new PermissionAuthorizationManager();
+    }
+
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    // Runs @RequiresPermission checks in the slot otherwise used by @PreAuthorize
+    static AuthorizationManagerBeforeMethodInterceptor requiresPermissionInterceptor(
+            PermissionAuthorizationManager permissionAuthorizationManager) {
+        AuthorizationManagerBeforeMethodInterceptor interceptor = new AuthorizationManagerBeforeMethodInterceptor(
+                permissionAuthorizationManager.getPointcut(), permissionAuthorizationManager);
+
+        interceptor.setOrder(AuthorizationInterceptorsOrder.PRE_AUTHORIZE.getOrder());
+        return interceptor;
+    }
+}
@@ -0,0 +1,10 @@
+package com.attendify.attendify_api.shared.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+@Configuration
+@EnableScheduling
+// Enables @Scheduled background jobs
+public class SchedulingConfig {
+}
@@ -15,9 +15,13 @@ import org.springframework.security.web.authentication.UsernamePasswordAuthentic
 import org.springframework.web.cors.CorsConfiguration;
 
 import com.attendify.attendify_api.shared.exception.ErrorResponse;
+import com.attendify.attendify_api.shared.idempotency.IdempotencyFilter;
 import com.attendify.attendify_api.shared.security.jwt.JwtAuthFilter;
+import com.attendify.attendify_api.shared.security.ratelimit.RateLimitFilter;
+import com.attendify.attendify_api.user.entity.enums.Permission;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
+import jakarta.servlet.DispatcherType;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 
@@ -27,6 +31,8 @@ import lombok.RequiredArgsConstructor;
 @EnableMethodSecurity
 public class SecurityConfig {
     private final JwtAuthFilter jwtAuthFilter;
+    private final RateLimitFilter rateLimitFilter;
+    private final IdempotencyFilter idempotencyFilter;
     private final AuthenticationProvider authenticationProvider;
     private final ObjectMapper objectMapper;
 
@@ -50,6 +56,9 @@ public class SecurityConfig {
                 }))
                 // Configure endpoint authorization
                 .authorizeHttpRequests(auth -> auth
+                        // Async dispatches resume a request already authorized, the token is not parsed again
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC)
+                        .permitAll()
                         // Public endpoints
                         .requestMatchers(
                                 "/attendify/v1/auth/register-user",
@@ -62,6 +71,9 @@ public class SecurityConfig {
                         .permitAll()
                         .requestMatchers("/error")
                         .permitAll()
+                        // Metrics expose traffic, queue depths and cache contents of every user
+                        .requestMatchers("/actuator/metrics", "/actuator/metrics/**")
+                        .hasAuthority(Permission.METRICS_READ.name())
                         // All other requests require authentication
                         .anyRequest()
                         .authenticated())
@@ -72,6 +84,10 @@ public class SecurityConfig {
                 .authenticationProvider(authenticationProvider)
                 // Add JWT filter before the username/password filter
                 .addFilterBefore(jwtAuthFilter, UsernamePasswordAuthenticationFilter.class)
+                // Throttle public auth endpoints before any credential work is done
+                .addFilterBefore(rateLimitFilter, JwtAuthFilter.class)
+                // Replay retried requests once the user is known, before they reach any service
+                .addFilterAfter(idempotencyFilter, JwtAuthFilter.class)
                 // Custom handling for authentication and authorization errors
                 .exceptionHandling(ex -> ex
                         .authenticationEntryPoint((request, response, authException) -> {
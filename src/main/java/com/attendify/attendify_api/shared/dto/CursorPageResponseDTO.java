@@ -0,0 +1,33 @@
+package com.attendify.attendify_api.shared.dto;
+
+import java.util.List;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+
+@Schema(description = "Cursor-paginated response wrapper, pages are read by key so every page costs the same.")
+@Builder
+public record CursorPageResponseDTO<T>(
+        @Schema(
+            description = "List of items in the current page."
+        )
+        List<T> items,
+
+        @Schema(
+            description = "Maximum number of items per page.",
+            example = "20"
+        )
+        int size,
+
+        @Schema(
+            description = "Opaque cursor of the next page, null on the last page.",
+            example = "AAAAAAAAAGQ"
+        )
+        String nextCursor,
+
+        @Schema(
+            description = "Indicates whether more items follow this page.",
+            example = "true"
+        )
+        boolean hasNext) {
+}
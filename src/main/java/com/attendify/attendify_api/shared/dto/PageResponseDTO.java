@@ -26,16 +26,22 @@ public record PageResponseDTO<T>(
         int size,
 
         @Schema(
-            description = "Total number of items across all pages.",
+            description = "Total number of items across all pages, null when requested with count=false.",
             example = "50"
         )
-        long totalItems,
+        Long totalItems,
 
         @Schema(
-            description = "Total number of available pages.",
+            description = "Total number of available pages, null when requested with count=false.",
             example = "5"
         )
-        long totalPages,
+        Long totalPages,
+
+        @Schema(
+            description = "Indicates whether more items follow this page.",
+            example = "true"
+        )
+        boolean hasNext,
 
         @Schema(
             description = "Indicates whether this is the last available page.",
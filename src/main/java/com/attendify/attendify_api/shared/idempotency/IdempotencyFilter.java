@@ -0,0 +1,194 @@
+package com.attendify.attendify_api.shared.idempotency;
+
+import java.io.IOException;
+import java.util.HexFormat;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.PathContainer;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerExceptionResolver;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import com.attendify.attendify_api.shared.exception.BadRequestException;
+import com.attendify.attendify_api.shared.exception.DuplicateException;
+import com.attendify.attendify_api.shared.security.CustomUserDetails;
+import com.attendify.attendify_api.shared.security.TokenHashUtils;
+import com.attendify.attendify_api.shared.web.PeekedBodyRequest;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+// Replays the stored response of a retried request carrying the same Idempotency-Key, before it reaches any service.
+// Keys are scoped to the authenticated user and the endpoint, and bound to the request body they were first sent with.
+@Component
+public class IdempotencyFilter extends OncePerRequestFilter {
+    public static final String HEADER = "Idempotency-Key";
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+
+    private static final int MAX_KEY_LENGTH = 255;
+    private static final HexFormat HEX = HexFormat.of();
+
+    private final IdempotencyStore store;
+    private final IdempotencyProperties properties;
+    private final HandlerExceptionResolver handlerExceptionResolver;
+    private final List<MethodPattern> endpoints;
+
+    public IdempotencyFilter(
+            IdempotencyStore store,
+            IdempotencyProperties properties,
+            @Qualifier("handlerExceptionResolver") HandlerExceptionResolver handlerExceptionResolver) {
+        this.store = store;
+        this.properties = properties;
+        this.handlerExceptionResolver = handlerExceptionResolver;
+        this.endpoints = properties.getEndpoints().values().stream()
+                .map(endpoint -> new MethodPattern(endpoint.getMethod(),
+                        PathPatternParser.defaultInstance.parse(endpoint.getPath())))
+                .toList();
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        if (!properties.isEnabled() || request.getHeader(HEADER) == null)
+            return true;
+
+        PathContainer path = PathContainer.parsePath(request.getServletPath());
+
+        return endpoints.stream().noneMatch(endpoint -> endpoint.matches(request.getMethod(), path));
+    }
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain) throws ServletException, IOException {
+        Long userId = authenticatedUserId();
+
+        // Unauthenticated requests are rejected further down the chain, nothing to replay for them
+        if (userId == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        String key = request.getHeader(HEADER);
+
+        if (!isValidKey(key)) {
+            reject(request, response, new BadRequestException(
+                    "Idempotency-Key must be 1 to 255 printable ASCII characters"));
+            return;
+        }
+
+        PeekedBodyRequest peeked = PeekedBodyRequest.peek(request, properties.getMaxRequestBytes());
+        byte[] body = peeked.getCompleteBody();
+
+        // Too large to fingerprint, processed like a request without key
+        if (body == null) {
+            filterChain.doFilter(peeked, response);
+            return;
+        }
+
+        String keyHash = HEX.formatHex(TokenHashUtils.sha256(
+                userId + " " + request.getMethod() + " " + request.getServletPath() + " " + key));
+        String requestHash = HEX.formatHex(TokenHashUtils.sha256(body));
+
+        IdempotencyStore.Lookup lookup = store.begin(keyHash, requestHash);
+
+        switch (lookup.status()) {
+            case REPLAY -> replay(response, lookup.response());
+            case MISMATCH -> reject(peeked, response, new BadRequestException(
+                    "Idempotency-Key was already used with a different request"));
+            case IN_FLIGHT -> reject(peeked, response, new DuplicateException(
+                    "A request with this Idempotency-Key is still being processed"));
+            case PROCEED -> proceed(peeked, response, filterChain, keyHash, requestHash);
+        }
+    }
+
+    private void proceed(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain,
+            String keyHash,
+            String requestHash) throws ServletException, IOException {
+        ContentCachingResponseWrapper wrapper = new ContentCachingResponseWrapper(response);
+        boolean stored = false;
+
+        try {
+            filterChain.doFilter(request, wrapper);
+
+            if (isReplayable(wrapper.getStatus()) && wrapper.getContentSize() <= properties.getMaxResponseBytes()) {
+                store.complete(keyHash, requestHash, wrapper.getStatus(), wrapper.getContentType(),
+                        wrapper.getContentAsByteArray());
+                stored = true;
+            }
+        } finally {
+            if (!stored)
+                store.abandon(keyHash);
+
+            wrapper.copyBodyToResponse();
+        }
+    }
+
+    private void replay(HttpServletResponse response, IdempotencyStore.StoredResponse stored) throws IOException {
+        response.setStatus(stored.status());
+        response.setHeader(REPLAYED_HEADER, "true");
+
+        if (stored.contentType() != null)
+            response.setContentType(stored.contentType());
+
+        response.setContentLength(stored.body().length);
+        response.getOutputStream().write(stored.body());
+    }
+
+    private void reject(HttpServletRequest request, HttpServletResponse response, RuntimeException ex) {
+        handlerExceptionResolver.resolveException(request, response, null, ex);
+    }
+
+    // Outcomes that would be the same on a retry, auth failures, conflicts, throttling and server errors may not be
+    private static boolean isReplayable(int status) {
+        if (status >= 500)
+            return false;
+
+        return status != HttpStatus.UNAUTHORIZED.value()
+                && status != HttpStatus.FORBIDDEN.value()
+                && status != HttpStatus.REQUEST_TIMEOUT.value()
+                && status != HttpStatus.CONFLICT.value()
+                && status != HttpStatus.TOO_MANY_REQUESTS.value();
+    }
+
+    private static boolean isValidKey(String key) {
+        if (key.isEmpty() || key.length() > MAX_KEY_LENGTH)
+            return false;
+
+        for (int i = 0; i < key.length(); i++) {
+            char c = key.charAt(i);
+
+            if (c < 0x21 || c > 0x7e)
+                return false;
+        }
+
+        return true;
+    }
+
+    private static Long authenticatedUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+
+        if (authentication != null && authentication.getPrincipal() instanceof CustomUserDetails user)
+            return user.getId();
+
+        return null;
+    }
+
+    private record MethodPattern(String method, PathPattern pattern) {
+        boolean matches(String requestMethod, PathContainer path) {
+            return method.equalsIgnoreCase(requestMethod) && pattern.matches(path);
+        }
+    }
+}
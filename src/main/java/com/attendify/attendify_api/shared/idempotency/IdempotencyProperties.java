@@ -0,0 +1,66 @@
+package com.attendify.attendify_api.shared.idempotency;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "application.idempotency")
+public class IdempotencyProperties {
+    private boolean enabled = true;
+
+    // How long a stored response is replayed for the same key
+    @NotNull
+    private Duration ttl = Duration.ofHours(24);
+
+    // How long a claim of a running request holds its key, a node that died mid-request frees it after this
+    @NotNull
+    private Duration pendingTtl = Duration.ofMinutes(2);
+
+    // Independent locks guarding the in-memory responses, rounded up to a power of two
+    @Min(1)
+    private int stripes = 16;
+
+    // Upper bound of responses held in memory by a single stripe, older ones are only found in the database
+    @Min(1)
+    private int maxEntriesPerStripe = 1024;
+
+    // Larger request bodies cannot be fingerprinted and are processed without idempotency
+    @Min(0)
+    private int maxRequestBytes = 16_384;
+
+    // Larger responses are not stored, a retry runs the request again
+    @Min(0)
+    private int maxResponseBytes = 65_536;
+
+    // Maximum expired rows deleted per transaction
+    @Min(1)
+    private int purgeBatchSize = 1000;
+
+    // Endpoints honouring the Idempotency-Key header, by name
+    @Valid
+    private Map<String, Endpoint> endpoints = new LinkedHashMap<>();
+
+    @Getter
+    @Setter
+    public static class Endpoint {
+        @NotBlank
+        private String method;
+
+        // Servlet path pattern, path variables are written as {name}
+        @NotBlank
+        private String path;
+    }
+}
@@ -0,0 +1,48 @@
+package com.attendify.attendify_api.shared.idempotency;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// Persisted copy of a response, replayed when the in-memory store no longer holds it.
+// A row without status is a claim of a request still running, it expires after the pending TTL.
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "idempotency_keys", indexes = {
+        @Index(name = "idx_idempotency_key_expires", columnList = "expires_at"),
+})
+public class IdempotencyRecord {
+    // Hex SHA-256 of the user, endpoint and client key, the raw key is never stored
+    @Id
+    @Column(name = "key_hash", length = 64)
+    private String keyHash;
+
+    // Hex SHA-256 of the request body, a reused key with another body is rejected
+    @Column(name = "request_hash", nullable = false, length = 64)
+    private String requestHash;
+
+    // Null while the request is pending
+    private Integer status;
+
+    @Column(name = "content_type")
+    private String contentType;
+
+    private byte[] body;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+}
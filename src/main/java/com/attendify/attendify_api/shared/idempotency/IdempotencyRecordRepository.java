@@ -0,0 +1,71 @@
+package com.attendify.attendify_api.shared.idempotency;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+@Repository
+public interface IdempotencyRecordRepository extends JpaRepository<IdempotencyRecord, String> {
+    Optional<IdempotencyRecord> findByKeyHashAndExpiresAtAfter(String keyHash, LocalDateTime now);
+
+    // Claims the key with a pending row, returns 0 while another request holds or has answered it.
+    // An expired row is taken over as if it did not exist.
+    @Modifying
+    @Transactional
+    @Query(value = """
+                INSERT INTO idempotency_keys (key_hash, request_hash, created_at, expires_at)
+                VALUES (:keyHash, :requestHash, :createdAt, :expiresAt)
+                ON CONFLICT (key_hash) DO UPDATE
+                SET request_hash = EXCLUDED.request_hash, status = NULL, content_type = NULL, body = NULL,
+                    created_at = EXCLUDED.created_at, expires_at = EXCLUDED.expires_at
+                WHERE idempotency_keys.expires_at <= EXCLUDED.created_at
+            """, nativeQuery = true)
+    int claim(
+            @Param("keyHash") String keyHash,
+            @Param("requestHash") String requestHash,
+            @Param("createdAt") LocalDateTime createdAt,
+            @Param("expiresAt") LocalDateTime expiresAt);
+
+    // Stores the response on the pending row of the key
+    @Modifying
+    @Transactional
+    @Query(value = """
+                UPDATE idempotency_keys
+                SET status = :status, content_type = CAST(:contentType AS VARCHAR), body = :body, expires_at = :expiresAt
+                WHERE key_hash = :keyHash
+                AND status IS NULL
+            """, nativeQuery = true)
+    int complete(
+            @Param("keyHash") String keyHash,
+            @Param("status") int status,
+            @Param("contentType") String contentType,
+            @Param("body") byte[] body,
+            @Param("expiresAt") LocalDateTime expiresAt);
+
+    // Releases a claim whose request will not be replayed
+    @Modifying
+    @Transactional
+    @Query(value = "DELETE FROM idempotency_keys WHERE key_hash = :keyHash AND status IS NULL", nativeQuery = true)
+    int deletePending(@Param("keyHash") String keyHash);
+
+    // Page of keys that expired before the cutoff
+    @Query(value = """
+                SELECT key_hash FROM idempotency_keys
+                WHERE expires_at < :cutoff
+                LIMIT :limit
+            """, nativeQuery = true)
+    List<String> findExpiredKeys(@Param("cutoff") LocalDateTime cutoff, @Param("limit") int limit);
+
+    // Physically delete a batch of records by key
+    @Modifying
+    @Transactional
+    @Query(value = "DELETE FROM idempotency_keys WHERE key_hash IN (:keys)", nativeQuery = true)
+    int deleteAllByKeyHashIn(@Param("keys") List<String> keys);
+}
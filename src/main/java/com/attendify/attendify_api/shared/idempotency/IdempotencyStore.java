@@ -0,0 +1,260 @@
+package com.attendify.attendify_api.shared.idempotency;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+// Responses of requests sent with an Idempotency-Key.
+// Recent responses are served from bounded in-memory stripes, the database is only read when memory misses,
+// which covers restarts, other nodes and entries pushed out of memory.
+// A request claims its key with a pending row before it runs, so the same key sent to two nodes runs once.
+@Slf4j
+@Component
+public class IdempotencyStore {
+    private final IdempotencyRecordRepository repository;
+    private final IdempotencyProperties properties;
+    private final Stripe[] stripes;
+    private final int stripeMask;
+
+    // Keys whose request is running on this node, mapped to their request hash
+    private final Map<String, String> inFlight = new ConcurrentHashMap<>();
+
+    private final Counter memoryHits;
+    private final Counter databaseHits;
+    private final Counter storedCounter;
+
+    public IdempotencyStore(
+            IdempotencyRecordRepository repository,
+            IdempotencyProperties properties,
+            MeterRegistry meterRegistry) {
+        this.repository = repository;
+        this.properties = properties;
+
+        int stripeCount = 1;
+        while (stripeCount < properties.getStripes())
+            stripeCount <<= 1;
+
+        this.stripes = new Stripe[stripeCount];
+        for (int i = 0; i < stripeCount; i++)
+            stripes[i] = new Stripe(properties.getMaxEntriesPerStripe());
+
+        this.stripeMask = stripeCount - 1;
+        this.memoryHits = Counter.builder("attendify.idempotency.replayed")
+                .tag("source", "memory")
+                .description("Responses replayed for a repeated Idempotency-Key")
+                .register(meterRegistry);
+        this.databaseHits = Counter.builder("attendify.idempotency.replayed")
+                .tag("source", "database")
+                .description("Responses replayed for a repeated Idempotency-Key")
+                .register(meterRegistry);
+        this.storedCounter = Counter.builder("attendify.idempotency.stored")
+                .description("Responses stored for later replays")
+                .register(meterRegistry);
+    }
+
+    // Decides what to do with a keyed request, a PROCEED result must be followed by complete() or abandon()
+    public Lookup begin(String keyHash, String requestHash) {
+        StoredResponse stored = fromMemory(keyHash);
+
+        if (stored != null) {
+            memoryHits.increment();
+            return replayOrMismatch(stored, requestHash);
+        }
+
+        if (inFlight.putIfAbsent(keyHash, requestHash) != null)
+            return new Lookup(Lookup.Status.IN_FLIGHT, null);
+
+        boolean claimed = false;
+
+        try {
+            // The first request may have completed between the lookup and the local claim
+            stored = fromMemory(keyHash);
+
+            if (stored != null)
+                return replayOrMismatch(stored, requestHash);
+
+            LocalDateTime now = LocalDateTime.now();
+
+            if (repository.claim(keyHash, requestHash, now, now.plus(properties.getPendingTtl())) > 0) {
+                claimed = true;
+                return new Lookup(Lookup.Status.PROCEED, null);
+            }
+
+            return fromDatabase(keyHash, requestHash, now);
+        } finally {
+            if (!claimed)
+                inFlight.remove(keyHash);
+        }
+    }
+
+    // Keeps the response of a request that went through, then releases its key
+    public void complete(String keyHash, String requestHash, int status, String contentType, byte[] body) {
+        long now = System.currentTimeMillis();
+        StoredResponse response = new StoredResponse(requestHash, status, contentType, body,
+                now + properties.getTtl().toMillis());
+
+        try {
+            remember(keyHash, response);
+
+            // Best effort, after a failed write other nodes run the request again once the claim expires
+            repository.complete(keyHash, status, contentType, body, toLocalDateTime(response.expiresAt()));
+            storedCounter.increment();
+        } catch (DataAccessException ex) {
+            log.warn("Failed to persist idempotent response, keeping it in memory only", ex);
+        } finally {
+            inFlight.remove(keyHash);
+        }
+    }
+
+    // Releases the key of a request whose response must not be replayed, a retry runs it again
+    public void abandon(String keyHash) {
+        try {
+            repository.deletePending(keyHash);
+        } catch (DataAccessException ex) {
+            log.warn("Failed to release idempotency key, it is freed once its claim expires", ex);
+        } finally {
+            inFlight.remove(keyHash);
+        }
+    }
+
+    @Scheduled(
+            fixedDelayString = "${application.idempotency.purge-interval:PT1H}",
+            initialDelayString = "${application.idempotency.purge-interval:PT1H}")
+    // Drops expired responses from memory, then from the database in short transactions
+    public void purgeExpired() {
+        long now = System.currentTimeMillis();
+
+        for (Stripe stripe : stripes) {
+            synchronized (stripe) {
+                stripe.responses.values().removeIf(response -> response.isExpired(now));
+            }
+        }
+
+        LocalDateTime cutoff = toLocalDateTime(now);
+        int batchSize = properties.getPurgeBatchSize();
+        long total = 0L;
+
+        while (true) {
+            List<String> keys = repository.findExpiredKeys(cutoff, batchSize);
+            if (keys.isEmpty())
+                break;
+
+            total += repository.deleteAllByKeyHashIn(keys);
+
+            if (keys.size() < batchSize)
+                break;
+        }
+
+        if (total > 0)
+            log.info("Purged {} expired idempotency keys", total);
+    }
+
+    // The key is held by another request, either still running or answered
+    private Lookup fromDatabase(String keyHash, String requestHash, LocalDateTime now) {
+        IdempotencyRecord record = repository.findByKeyHashAndExpiresAtAfter(keyHash, now).orElse(null);
+
+        // Released or expired since the claim, the client retries like for a running request
+        if (record == null)
+            return new Lookup(Lookup.Status.IN_FLIGHT, null);
+
+        if (record.getStatus() == null) {
+            if (!record.getRequestHash().equals(requestHash))
+                return new Lookup(Lookup.Status.MISMATCH, null);
+
+            return new Lookup(Lookup.Status.IN_FLIGHT, null);
+        }
+
+        StoredResponse stored = new StoredResponse(record.getRequestHash(), record.getStatus(),
+                record.getContentType(), record.getBody(),
+                record.getExpiresAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli());
+
+        databaseHits.increment();
+        remember(keyHash, stored);
+
+        return replayOrMismatch(stored, requestHash);
+    }
+
+    private static Lookup replayOrMismatch(StoredResponse stored, String requestHash) {
+        if (!stored.requestHash().equals(requestHash))
+            return new Lookup(Lookup.Status.MISMATCH, null);
+
+        return new Lookup(Lookup.Status.REPLAY, stored);
+    }
+
+    private StoredResponse fromMemory(String keyHash) {
+        Stripe stripe = stripeFor(keyHash);
+
+        synchronized (stripe) {
+            StoredResponse stored = stripe.responses.get(keyHash);
+
+            if (stored != null && stored.isExpired(System.currentTimeMillis())) {
+                stripe.responses.remove(keyHash);
+                return null;
+            }
+
+            return stored;
+        }
+    }
+
+    private void remember(String keyHash, StoredResponse response) {
+        Stripe stripe = stripeFor(keyHash);
+
+        synchronized (stripe) {
+            stripe.responses.put(keyHash, response);
+        }
+    }
+
+    private Stripe stripeFor(String keyHash) {
+        int hash = keyHash.hashCode();
+        return stripes[(hash ^ (hash >>> 16)) & stripeMask];
+    }
+
+    private static LocalDateTime toLocalDateTime(long epochMillis) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneId.systemDefault());
+    }
+
+    public record Lookup(Status status, StoredResponse response) {
+        public enum Status {
+            // No response yet, the request runs and its key is held until it completes
+            PROCEED,
+            // A response for the same request exists and is sent again
+            REPLAY,
+            // The key was used before with another request body
+            MISMATCH,
+            // The first request with this key is still running, on this node or another
+            IN_FLIGHT
+        }
+    }
+
+    public record StoredResponse(String requestHash, int status, String contentType, byte[] body, long expiresAt) {
+        boolean isExpired(long now) {
+            return now >= expiresAt;
+        }
+    }
+
+    private static final class Stripe {
+        // Insertion-ordered, every entry lives for the same TTL so the eldest is also the closest to expiry
+        private final Map<String, StoredResponse> responses;
+
+        Stripe(int maxEntries) {
+            this.responses = new LinkedHashMap<>() {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, StoredResponse> eldest) {
+                    return size() > maxEntries;
+                }
+            };
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.attendify.attendify_api.shared.mapper;
+
+import java.nio.ByteBuffer;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.Function;
+
+import com.attendify.attendify_api.shared.dto.CursorPageResponseDTO;
+import com.attendify.attendify_api.shared.exception.BadRequestException;
+
+// Utility class for keyset pagination over ascending IDs.
+// Queries fetch one row more than the page size, the extra row only tells whether a next page exists.
+public class CursorMappingUtils {
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    // Key to read after, 0 when no cursor is given so the first page starts at the lowest ID
+    public static long decodeCursor(String cursor) {
+        if (cursor == null || cursor.isBlank())
+            return 0L;
+
+        try {
+            byte[] bytes = DECODER.decode(cursor);
+
+            if (bytes.length == Long.BYTES) {
+                long key = ByteBuffer.wrap(bytes).getLong();
+
+                if (key > 0)
+                    return key;
+            }
+        } catch (IllegalArgumentException ex) {
+            // Reported below like any other malformed cursor
+        }
+
+        throw new BadRequestException("Invalid cursor");
+    }
+
+    public static String encodeCursor(long key) {
+        return ENCODER.encodeToString(ByteBuffer.allocate(Long.BYTES).putLong(key).array());
+    }
+
+    /*
+     * rows: up to size + 1 entities, ordered by ascending key
+     * size: the requested page size
+     * key: extracts the key the rows are ordered by
+     * mapper: a function to convert each entity to a DTO
+     */
+    public static <E, D> CursorPageResponseDTO<D> toCursorResponse(
+            List<E> rows,
+            int size,
+            Function<E, Long> key,
+            Function<E, D> mapper) {
+        boolean hasNext = rows.size() > size;
+        List<E> page = hasNext ? rows.subList(0, size) : rows;
+
+        return CursorPageResponseDTO.<D>builder()
+                .items(page.stream().map(mapper).toList())
+                .size(size)
+                .nextCursor(hasNext ? encodeCursor(key.apply(page.get(page.size() - 1))) : null)
+                .hasNext(hasNext)
+                .build();
+    }
+}
@@ -4,18 +4,22 @@ import java.util.List;
 import java.util.function.Function;
 
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 
 import com.attendify.attendify_api.shared.dto.PageResponseDTO;
 
-// Utility class for mapping Spring Data Page objects to PageResponseDTO
+// Utility class for mapping Spring Data Page and Slice objects to PageResponseDTO
 public class PageMappingUtils {
     /*
-     * page: the Page of entities from the repository
+     * page: the Page or Slice of entities from the repository, a Slice carries no totals
      * mapper: a function to convert each entity to a DTO
      * <E>: the entity type
      * <D>: the DTO type
      */
-    public static <E, D> PageResponseDTO<D> toPageResponse(Page<E> page, Function<E, D> mapper) {
+    public static <E, D> PageResponseDTO<D> toPageResponse(Slice<E> page, Function<E, D> mapper) {
+        // Totals are only known when the repository ran the count query
+        Page<E> counted = page instanceof Page<E> p ? p : null;
+
         return PageResponseDTO.<D>builder()
                 .items(List.copyOf(
                         page.getContent().stream()
@@ -23,8 +27,9 @@ public class PageMappingUtils {
                                 .toList()))
                 .page(page.getNumber())
                 .size(page.getSize())
-                .totalItems(page.getTotalElements())
-                .totalPages(page.getTotalPages())
+                .totalItems(counted != null ? counted.getTotalElements() : null)
+                .totalPages(counted != null ? (long) counted.getTotalPages() : null)
+                .hasNext(page.hasNext())
                 .isLast(page.isLast())
                 .build();
     }
@@ -0,0 +1,129 @@
+package com.attendify.attendify_api.shared.persistence;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+// Keeps an in-memory copy of database rows current on every instance. Changes made here are applied once their
+// transaction commits, changes committed on other instances are read back by periodic refreshes through updated_at.
+// Local changes committed while a full build loads are held back and replayed on top of the built copy.
+// Each refresh reads again the rows changed within OVERLAP of the latest updated_at already seen. updated_at is
+// stamped when a row is written, not when its transaction commits, so a transaction committing more than OVERLAP
+// after its writes, or an instance whose clock runs more than OVERLAP behind, is only seen elsewhere once the row
+// changes again.
+// The owner never runs builds and refreshes concurrently.
+public final class UpdatedAtFollower {
+    public static final Duration OVERLAP = Duration.ofMinutes(1);
+
+    // Runs an action under the lock guarding the owner's copy
+    private final Consumer<Runnable> writeGuard;
+    private final Lock lock = new ReentrantLock();
+
+    // Local changes committed while a build loads. Guarded by writeGuard.
+    private List<Runnable> pendingChanges;
+    private volatile boolean ready;
+
+    // Latest updated_at applied so far, and the latest one read by the running refresh
+    private LocalDateTime appliedUpTo;
+    private LocalDateTime readUpTo;
+
+    // For owners whose copy is only written through this follower
+    public UpdatedAtFollower() {
+        this.writeGuard = this::locked;
+    }
+
+    public UpdatedAtFollower(Consumer<Runnable> writeGuard) {
+        this.writeGuard = writeGuard;
+    }
+
+    // True once a build has completed
+    public boolean isReady() {
+        return ready;
+    }
+
+    // Starts holding back local changes, returns the time the build loads from
+    public LocalDateTime startBuild() {
+        writeGuard.accept(() -> pendingChanges = new ArrayList<>());
+        return LocalDateTime.now();
+    }
+
+    // Swaps the built copy in and replays the local changes held back meanwhile. Rows changed while loading are
+    // read again by the first refresh.
+    public void finishBuild(LocalDateTime loadedFrom, Runnable swap) {
+        writeGuard.accept(() -> {
+            swap.run();
+
+            pendingChanges.forEach(Runnable::run);
+            pendingChanges = null;
+            ready = true;
+        });
+        appliedUpTo = loadedFrom;
+    }
+
+    public void abortBuild() {
+        writeGuard.accept(() -> pendingChanges = null);
+    }
+
+    // Lower bound of updated_at for the rows the refresh reads
+    public Timestamp startRefresh() {
+        readUpTo = appliedUpTo;
+        return Timestamp.valueOf(appliedUpTo.minus(OVERLAP));
+    }
+
+    // Records the updated_at of a row read by the refresh
+    public void read(Timestamp updatedAt) {
+        LocalDateTime candidate = updatedAt.toLocalDateTime();
+
+        if (candidate.isAfter(readUpTo))
+            readUpTo = candidate;
+    }
+
+    // Applies the rows read under the write guard, the next refresh starts from them. A refresh that failed is
+    // simply not finished, the same rows are read again next time.
+    public void finishRefresh(Runnable apply) {
+        writeGuard.accept(apply);
+        appliedUpTo = readUpTo;
+    }
+
+    // Applies a local change once the surrounding transaction commits. Changes arriving before any build are dropped,
+    // the build reads them from the database.
+    public void afterCommit(Runnable change) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            apply(change);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                apply(change);
+            }
+        });
+    }
+
+    private void apply(Runnable change) {
+        writeGuard.accept(() -> {
+            if (pendingChanges != null)
+                pendingChanges.add(change);
+            else if (ready)
+                change.run();
+        });
+    }
+
+    private void locked(Runnable action) {
+        lock.lock();
+        try {
+            action.run();
+        } finally {
+            lock.unlock();
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package com.attendify.attendify_api.shared.security;
+
+import java.time.Duration;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import com.attendify.attendify_api.shared.exception.TooManyRequestsException;
+
+import lombok.RequiredArgsConstructor;
+
+// Runs hashing and verification on a dedicated bounded executor instead of request threads.
+// When the executor queue is full the call is rejected immediately instead of piling up.
+@RequiredArgsConstructor
+public class BoundedPasswordEncoder implements PasswordEncoder {
+    private static final long RETRY_AFTER_SECONDS = 1;
+
+    private final PasswordEncoder delegate;
+    private final ExecutorService executor;
+    private final Duration timeout;
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return submit(() -> delegate.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return submit(() -> delegate.matches(rawPassword, encodedPassword));
+    }
+
+    @Override
+    // Only inspects the hash prefix, cheap enough to run on the caller thread
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    // Encoder for the authentication provider. Matching stays on the bounded executor, while the only hash the
+    // provider encodes is the upgrade of a password it has just verified. That upgrade runs on the caller thread,
+    // so a saturated executor cannot turn a login that already succeeded into a 429.
+    public PasswordEncoder forAuthentication() {
+        return new PasswordEncoder() {
+            @Override
+            public String encode(CharSequence rawPassword) {
+                return delegate.encode(rawPassword);
+            }
+
+            @Override
+            public boolean matches(CharSequence rawPassword, String encodedPassword) {
+                return BoundedPasswordEncoder.this.matches(rawPassword, encodedPassword);
+            }
+
+            @Override
+            public boolean upgradeEncoding(String encodedPassword) {
+                return delegate.upgradeEncoding(encodedPassword);
+            }
+        };
+    }
+
+    private <T> T submit(Callable<T> task) {
+        final Future<T> future;
+        try {
+            future = executor.submit(task);
+        } catch (RejectedExecutionException ex) {
+            throw new TooManyRequestsException(
+                    "Too many authentication requests, please retry later", RETRY_AFTER_SECONDS);
+        }
+
+        try {
+            return future.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException ex) {
+            future.cancel(true);
+            throw new TooManyRequestsException(
+                    "Too many authentication requests, please retry later", RETRY_AFTER_SECONDS);
+        } catch (InterruptedException ex) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while hashing password", ex);
+        } catch (ExecutionException ex) {
+            if (ex.getCause() instanceof RuntimeException runtimeException)
+                throw runtimeException;
+
+            throw new IllegalStateException("Password hashing failed", ex.getCause());
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package com.attendify.attendify_api.shared.security;
 
 import java.util.Collection;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import org.springframework.security.core.GrantedAuthority;
@@ -8,36 +9,78 @@ import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 
 import com.attendify.attendify_api.user.entity.User;
+import com.attendify.attendify_api.user.entity.enums.Permission;
+import com.attendify.attendify_api.user.entity.enums.Role;
 
 import lombok.Getter;
-import lombok.RequiredArgsConstructor;
 
 @Getter
-@RequiredArgsConstructor
 public class CustomUserDetails implements UserDetails {
-    private final User user;
+    private final Long id;
+    private final String email;
+    private final String password;
+    private final Set<Role> roles;
+    private final Long securityVersion;
 
-    public Long getId() {
-        return user.getId();
+    // Derived once from the roles, so permission checks never allocate
+    private final long permissionMask;
+    private final Set<GrantedAuthority> authorities;
+
+    private CustomUserDetails(
+            Long id,
+            String email,
+            String password,
+            Set<Role> roles,
+            Long securityVersion) {
+        this.id = id;
+        this.email = email;
+        this.password = password;
+        this.roles = roles;
+        this.securityVersion = securityVersion;
+        this.permissionMask = Role.maskOf(roles);
+        this.authorities = roles.stream()
+                .flatMap(role -> role.getPermissions().stream())
+                .map(permission -> new SimpleGrantedAuthority(permission.name()))
+                .collect(Collectors.toUnmodifiableSet());
+    }
+
+    // Builds the principal from a loaded user entity (login and token issuing)
+    public CustomUserDetails(User user) {
+        this(user.getId(),
+                user.getEmail(),
+                user.getPassword(),
+                Set.copyOf(user.getRoles()),
+                user.getSecurityVersion());
+    }
+
+    // Builds the principal from verified token claims, without credentials or a database read
+    public static CustomUserDetails fromClaims(
+            Long id,
+            String email,
+            Set<Role> roles,
+            Long securityVersion) {
+        return new CustomUserDetails(id, email, null, Set.copyOf(roles), securityVersion);
+    }
+
+    // Constant-time permission check against the precomputed mask
+    public boolean hasPermission(Permission permission) {
+        return (permissionMask & permission.mask()) != 0;
     }
 
     @Override
     // Returns authorities derived from the user permissions
     public Collection<? extends GrantedAuthority> getAuthorities() {
-        return user.getRoles().stream()
-                .flatMap(role -> role.getPermissions().stream())
-                .map(permission -> new SimpleGrantedAuthority(permission.name()))
-                .collect(Collectors.toUnmodifiableSet());
+        return authorities;
     }
 
     @Override
     public String getPassword() {
-        return user.getPassword();
+        return password;
     }
 
     @Override
     public String getUsername() {
-        return user.getEmail();
+        return email;
     }
 
     @Override
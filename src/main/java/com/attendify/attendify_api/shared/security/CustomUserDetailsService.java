@@ -2,23 +2,42 @@ package com.attendify.attendify_api.shared.security;
 
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import com.attendify.attendify_api.user.entity.User;
 import com.attendify.attendify_api.user.repository.UserRepository;
 
 import lombok.RequiredArgsConstructor;
 
 @Service
 @RequiredArgsConstructor
-public class CustomUserDetailsService implements UserDetailsService {
+public class CustomUserDetailsService implements UserDetailsService, UserDetailsPasswordService {
     private final UserRepository userRepository;
 
     @Override
-    // Loads a user by email for authentication
+    // Loads a user and its roles by email for authentication
     public UserDetails loadUserByUsername(String email) {
-        return userRepository.findByEmail(email)
+        return userRepository.findByEmailWithRoles(email)
                 .map(CustomUserDetails::new)
                 .orElseThrow(() -> new BadCredentialsException("User not found"));
     }
+
+    @Override
+    @Transactional
+    // Persists a hash re-encoded with the current algorithm or cost after a successful login
+    public UserDetails updatePassword(UserDetails userDetails, String newPassword) {
+        if (!(userDetails instanceof CustomUserDetails customUserDetails))
+            return userDetails;
+
+        User user = userRepository.findById(customUserDetails.getId())
+                .orElseThrow(() -> new BadCredentialsException("User not found"));
+
+        user.setPassword(newPassword);
+        userRepository.save(user);
+
+        return new CustomUserDetails(user);
+    }
 }
@@ -0,0 +1,40 @@
+package com.attendify.attendify_api.shared.security;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "application.security.password")
+public class PasswordHashingProperties {
+    // Encoder id used for new hashes, existing hashes are upgraded on the next successful login
+    @NotBlank
+    private String algorithm = "bcrypt";
+
+    @Min(4)
+    @Max(31)
+    private int bcryptStrength = 10;
+
+    // Threads dedicated to hashing, bounds the CPU that password work can take. Half the cores by default, so a burst
+    // of logins leaves the other half to the rest of the traffic.
+    @Min(1)
+    private int threads = Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+
+    // Hashing requests allowed to wait for a thread before new ones are rejected
+    @Min(0)
+    private int queueCapacity = 64;
+
+    // Maximum time a request waits for its hash before giving up
+    @NotNull
+    private Duration timeout = Duration.ofSeconds(5);
+}
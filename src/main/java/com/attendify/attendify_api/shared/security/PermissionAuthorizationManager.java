@@ -0,0 +1,102 @@
+package com.attendify.attendify_api.shared.security;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.aop.Pointcut;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.aop.support.StaticMethodMatcherPointcut;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.security.authentication.AuthenticationTrustResolver;
+import org.springframework.security.authentication.AuthenticationTrustResolverImpl;
+import org.springframework.security.authorization.AuthorizationDecision;
+import org.springframework.security.authorization.AuthorizationManager;
+import org.springframework.security.authorization.AuthorizationResult;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+
+import com.attendify.attendify_api.user.entity.enums.Permission;
+
+// Authorizes methods annotated with @RequiresPermission.
+// The required permission of each method is resolved while the proxies are built at startup,
+// so a call costs one map lookup and one bitmask test.
+public class PermissionAuthorizationManager implements AuthorizationManager<MethodInvocation> {
+    private static final AuthorizationDecision GRANTED = new AuthorizationDecision(true);
+    private static final AuthorizationDecision DENIED = new AuthorizationDecision(false);
+
+    private final AuthenticationTrustResolver trustResolver = new AuthenticationTrustResolverImpl();
+    private final Map<Method, Permission> requiredPermissions = new ConcurrentHashMap<>();
+
+    private final Pointcut pointcut = new StaticMethodMatcherPointcut() {
+        @Override
+        public boolean matches(Method method, Class<?> targetClass) {
+            return resolve(method, targetClass) != null;
+        }
+    };
+
+    // Pointcut that matches annotated methods, recording their permission as a side effect
+    public Pointcut getPointcut() {
+        return pointcut;
+    }
+
+    @Override
+    public AuthorizationResult authorize(Supplier<Authentication> authentication, MethodInvocation invocation) {
+        Permission permission = requiredPermissions.get(invocation.getMethod());
+
+        if (permission == null) {
+            Object target = invocation.getThis();
+            permission = resolve(invocation.getMethod(), target != null ? target.getClass() : null);
+        }
+
+        if (permission == null)
+            return null;
+
+        return isGranted(authentication.get(), permission) ? GRANTED : DENIED;
+    }
+
+    @Override
+    @Deprecated
+    public AuthorizationDecision check(Supplier<Authentication> authentication, MethodInvocation invocation) {
+        return (AuthorizationDecision) authorize(authentication, invocation);
+    }
+
+    // Returns the permission required by the method, or null if it is not annotated
+    Permission resolve(Method method, Class<?> targetClass) {
+        Permission cached = requiredPermissions.get(method);
+
+        if (cached != null)
+            return cached;
+
+        Method specificMethod = AopUtils.getMostSpecificMethod(method, targetClass);
+        RequiresPermission annotation = AnnotatedElementUtils.findMergedAnnotation(specificMethod,
+                RequiresPermission.class);
+
+        if (annotation == null)
+            annotation = AnnotatedElementUtils.findMergedAnnotation(specificMethod.getDeclaringClass(),
+                    RequiresPermission.class);
+
+        if (annotation == null)
+            return null;
+
+        requiredPermissions.put(method, annotation.value());
+        return annotation.value();
+    }
+
+    // Same outcome as hasAuthority('<permission>'): anonymous callers are denied, our principal uses its mask
+    private boolean isGranted(Authentication authentication, Permission permission) {
+        if (authentication == null || !authentication.isAuthenticated() || trustResolver.isAnonymous(authentication))
+            return false;
+
+        if (authentication.getPrincipal() instanceof CustomUserDetails userDetails)
+            return userDetails.hasPermission(permission);
+
+        for (GrantedAuthority authority : authentication.getAuthorities())
+            if (permission.name().equals(authority.getAuthority()))
+                return true;
+
+        return false;
+    }
+}
@@ -0,0 +1,18 @@
+package com.attendify.attendify_api.shared.security;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import com.attendify.attendify_api.user.entity.enums.Permission;
+
+// Requires the authenticated user to hold the given permission before the method runs.
+// Checked by PermissionAuthorizationManager against the principal's permission mask, no SpEL involved.
+@Target({ ElementType.METHOD, ElementType.TYPE })
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface RequiresPermission {
+    Permission value();
+}
@@ -8,6 +8,7 @@ import org.springframework.stereotype.Component;
 
 import com.attendify.attendify_api.user.entity.User;
 import com.attendify.attendify_api.user.entity.enums.Permission;
+import com.attendify.attendify_api.user.repository.UserRepository;
 
 import lombok.RequiredArgsConstructor;
 
@@ -15,15 +16,24 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class SecurityUtils {
     private final AuditorAware<Long> auditorAware;
+    private final UserRepository userRepository;
+    private final SecurityVersionRegistry securityVersionRegistry;
 
     // Returns the ID of the currently authenticated user
     public Long getAuthenticatedUserId() {
         return getPrincipal().getId();
     }
 
-    // Returns the User entity of the currently authenticated user
+    // Loads the User entity of the currently authenticated user, the principal itself is built from token claims
     public User getAuthenticatedUser() {
-        return getPrincipal().getUser();
+        return userRepository.findById(getAuthenticatedUserId())
+                .orElseThrow(() -> new IllegalStateException("Authenticated user no longer exists"));
+    }
+
+    // Invalidates every token issued so far for the user, effective once the transaction commits
+    public void invalidateTokens(User user) {
+        user.bumpSecurityVersion();
+        securityVersionRegistry.publish(user.getId(), user.getSecurityVersion());
     }
 
     // Returns the current user ID from the auditor provider, throws if unauthenticated
@@ -39,6 +49,10 @@ public class SecurityUtils {
         if (authentication == null || !authentication.isAuthenticated())
             return false;
 
+        // Bitmask check on our own principal, no streams or string comparisons
+        if (authentication.getPrincipal() instanceof CustomUserDetails userDetails)
+            return userDetails.hasPermission(permission);
+
         return authentication.getAuthorities().stream()
                 .anyMatch(a -> a.getAuthority().equals(permission.name()));
     }
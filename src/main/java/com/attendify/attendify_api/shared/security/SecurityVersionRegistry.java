@@ -0,0 +1,132 @@
+package com.attendify.attendify_api.shared.security;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.attendify.attendify_api.shared.persistence.UpdatedAtFollower;
+import com.attendify.attendify_api.shared.security.jwt.JwtProperties;
+
+import lombok.extern.slf4j.Slf4j;
+
+// In-memory table of the minimum accepted security version per user.
+// Entries only need to outlive the tokens they invalidate, so they expire after the longest token lifetime.
+// The table is seeded from users changed within that lifetime at startup and then follows users.updated_at through
+// UpdatedAtFollower, so a restart keeps earlier revocations and every instance sees revocations made on the others.
+// Until the first load succeeds every token is rejected.
+@Slf4j
+@Component
+public class SecurityVersionRegistry {
+    // Stale entries are swept once the table grows beyond this size
+    private static final int SWEEP_THRESHOLD = 10_000;
+
+    // Soft-deleted users included, their deletion bumped the version
+    private static final String CHANGED_SINCE = """
+                SELECT user_id, security_version, updated_at
+                FROM users
+                WHERE updated_at > ? AND security_version > 0
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final long retentionMs;
+    private final Map<Long, Entry> versions = new ConcurrentHashMap<>();
+    private final UpdatedAtFollower follower = new UpdatedAtFollower();
+
+    public SecurityVersionRegistry(JwtProperties jwtProperties, JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.retentionMs = Math.max(jwtProperties.getAccessExpirationMs(), jwtProperties.getRefreshExpirationMs());
+    }
+
+    // Returns true if a token carrying the given version is still accepted for the user
+    public boolean isCurrent(Long userId, long tokenVersion) {
+        if (!follower.isReady())
+            return false;
+
+        Entry entry = versions.get(userId);
+
+        if (entry == null)
+            return true;
+
+        if (entry.isExpired(System.currentTimeMillis())) {
+            versions.remove(userId, entry);
+            return true;
+        }
+
+        return tokenVersion >= entry.minVersion();
+    }
+
+    // Records a new security version once the surrounding transaction commits
+    public void publish(Long userId, long newVersion) {
+        follower.afterCommit(() -> record(userId, newVersion));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void seed() {
+        LocalDateTime loadedFrom = follower.startBuild();
+        Timestamp since = Timestamp.valueOf(loadedFrom.minus(Duration.ofMillis(retentionMs)));
+
+        try {
+            jdbcTemplate.query(CHANGED_SINCE, rs -> {
+                record(rs.getLong(1), rs.getLong(2));
+            }, since);
+        } catch (DataAccessException ex) {
+            follower.abortBuild();
+            log.warn("Failed to load security versions changed since {}", since, ex);
+            return;
+        }
+
+        // Versions are recorded as they are read, there is no separate copy to swap in
+        follower.finishBuild(loadedFrom, () -> {
+        });
+    }
+
+    // Picks up versions bumped on other instances, and retries the seed if it failed
+    @Scheduled(fixedDelayString = "${application.security.version-sync.interval:PT5S}")
+    public synchronized void sync() {
+        if (!follower.isReady()) {
+            seed();
+            return;
+        }
+
+        Timestamp since = follower.startRefresh();
+
+        try {
+            jdbcTemplate.query(CHANGED_SINCE, rs -> {
+                record(rs.getLong(1), rs.getLong(2));
+                follower.read(rs.getTimestamp(3));
+            }, since);
+        } catch (DataAccessException ex) {
+            log.warn("Failed to load security versions changed since {}", since, ex);
+            return;
+        }
+
+        follower.finishRefresh(() -> {
+        });
+    }
+
+    private void record(Long userId, long newVersion) {
+        long now = System.currentTimeMillis();
+        long expiresAt = now + retentionMs;
+
+        versions.merge(userId, new Entry(newVersion, expiresAt),
+                (current, next) -> current.minVersion() > next.minVersion() ? current : next);
+
+        if (versions.size() > SWEEP_THRESHOLD)
+            versions.values().removeIf(entry -> entry.isExpired(now));
+    }
+
+    private record Entry(long minVersion, long expiresAt) {
+        boolean isExpired(long now) {
+            return now >= expiresAt;
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.attendify.attendify_api.shared.security;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+// Utility class to derive the fixed-width digest under which tokens are stored and looked up
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class TokenHashUtils {
+    public static final int SHA_256_LENGTH = 32;
+
+    // Returns the 32-byte SHA-256 digest of the token
+    public static byte[] sha256(String token) {
+        return sha256(token.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    // Returns the 32-byte SHA-256 digest of arbitrary bytes
+    public static byte[] sha256(byte[] data) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(data);
+        } catch (NoSuchAlgorithmException ex) {
+            // Every JVM is required to support SHA-256
+            throw new IllegalStateException("SHA-256 is not available", ex);
+        }
+    }
+}
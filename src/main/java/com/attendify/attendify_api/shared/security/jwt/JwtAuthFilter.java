@@ -9,10 +9,10 @@ import org.springframework.security.web.authentication.WebAuthenticationDetailsS
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
+import com.attendify.attendify_api.auth.entity.enums.TokenPurpose;
 import com.attendify.attendify_api.shared.security.CustomUserDetails;
 import com.attendify.attendify_api.shared.security.SecurityConstants;
-import com.attendify.attendify_api.user.entity.User;
-import com.attendify.attendify_api.user.repository.UserRepository;
+import com.attendify.attendify_api.shared.security.SecurityVersionRegistry;
 
 import io.jsonwebtoken.JwtException;
 import jakarta.servlet.FilterChain;
@@ -26,7 +26,7 @@ import lombok.RequiredArgsConstructor;
 public class JwtAuthFilter extends OncePerRequestFilter {
 
     private final JwtService jwtService;
-    private final UserRepository userRepository;
+    private final SecurityVersionRegistry securityVersionRegistry;
 
     // Paths that should bypass JWT authentication
     private static final List<String> SKIP_PATHS = List.of(
@@ -63,26 +63,25 @@ public class JwtAuthFilter extends OncePerRequestFilter {
             return;
         }
 
-        // Extract user ID from JWT, skip filter if invalid
-        final Long userId;
+        // Verify the JWT and rebuild the principal from its claims, skip filter if invalid
+        final CustomUserDetails customUserDetails;
         try {
-            userId = jwtService.extractUserId(jwt);
-        } catch (JwtException | IllegalArgumentException ex) {
-            filterChain.doFilter(request, response);
-            return;
-        }
+            VerifiedToken verified = jwtService.verify(jwt);
 
-        // Load user from DB
-        User user = userRepository.findById(userId).orElse(null);
-        if (user == null) {
+            // Refresh tokens live for days and are only accepted by the refresh endpoint
+            if (!verified.isPurpose(TokenPurpose.ACCESS)) {
+                filterChain.doFilter(request, response);
+                return;
+            }
+
+            customUserDetails = jwtService.extractUserDetails(verified);
+        } catch (JwtException | IllegalArgumentException ex) {
             filterChain.doFilter(request, response);
             return;
         }
 
-        CustomUserDetails customUserDetails = new CustomUserDetails(user);
-
-        // Validate JWT against user details
-        if (!jwtService.isTokenValid(jwt, customUserDetails)) {
+        // Reject tokens issued before a password change, email change or account deletion
+        if (!securityVersionRegistry.isCurrent(customUserDetails.getId(), customUserDetails.getSecurityVersion())) {
             filterChain.doFilter(request, response);
             return;
         }
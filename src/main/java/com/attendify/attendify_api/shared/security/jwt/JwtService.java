@@ -1,39 +1,49 @@
 package com.attendify.attendify_api.shared.security.jwt;
 
+import java.util.Collection;
 import java.util.Date;
+import java.util.HashMap;
 import java.util.Map;
-import java.util.function.Function;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
 
 import javax.crypto.SecretKey;
 
-import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
 
 import com.attendify.attendify_api.auth.entity.enums.TokenPurpose;
 import com.attendify.attendify_api.shared.security.CustomUserDetails;
+import com.attendify.attendify_api.user.entity.enums.Role;
 
 import io.jsonwebtoken.Claims;
-import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.MalformedJwtException;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
-import lombok.RequiredArgsConstructor;
 
 @Service
-@RequiredArgsConstructor
 public class JwtService {
+    // Claims embedded in every token so requests can be authenticated without a database read
+    public static final String EMAIL_CLAIM = "email";
+    public static final String ROLES_CLAIM = "roles";
+    public static final String SECURITY_VERSION_CLAIM = "ver";
+    public static final String PURPOSE_CLAIM = "purpose";
+
     private final JwtProperties jwtProperties;
 
-    // Extracts the subject user ID from a token
-    public String extractSubject(String token) {
-        return extractClaim(token, Claims::getSubject);
-    }
+    // Key and parser are immutable and thread-safe, so they are built once at startup
+    private final SecretKey signInKey;
+    private final JwtParser jwtParser;
 
-    // Extracts a specific claim from the token
-    public <T> T extractClaim(String token, Function<Claims, T> claim) {
-        final Claims claims = extractAllClaims(token);
-        return claim.apply(claims);
+    public JwtService(JwtProperties jwtProperties) {
+        this.jwtProperties = jwtProperties;
+        this.signInKey = Keys.hmacShaKeyFor(Decoders.BASE64.decode(jwtProperties.getSecretKey()));
+        this.jwtParser = Jwts.parser()
+                .verifyWith(signInKey)
+                .build();
     }
 
     // Generates a token for the given user details with default claims
@@ -44,57 +54,56 @@ public class JwtService {
     // Generates a token for the given user details with optional extra claims
     public String generateToken(Map<String, Object> extraClaims, UserDetails userDetails, TokenPurpose tokenPurpose) {
         return switch (tokenPurpose) {
-            case ACCESS -> buildToken(extraClaims, userDetails, jwtProperties.getAccessExpirationMs());
-            case REFRESH -> buildToken(extraClaims, userDetails, jwtProperties.getRefreshExpirationMs());
+            case ACCESS -> buildToken(extraClaims, userDetails, tokenPurpose, jwtProperties.getAccessExpirationMs());
+            case REFRESH -> buildToken(extraClaims, userDetails, tokenPurpose, jwtProperties.getRefreshExpirationMs());
         };
     }
 
-    // Validates the token against the given user details
-    public boolean isTokenValid(String token, UserDetails userDetails) {
-        if (!(userDetails instanceof CustomUserDetails customUserDetails)
-                || customUserDetails.getId() == null)
-            return false;
+    // Parses the token once, verifying signature and expiry, throws JwtException if invalid
+    public VerifiedToken verify(String token) {
+        final Claims claims = jwtParser
+                .parseSignedClaims(token)
+                .getPayload();
 
-        final Long tokenUserId;
+        final Long userId;
         try {
-            tokenUserId = extractUserId(token);
-        } catch (BadCredentialsException ex) {
-            return false;
+            userId = Long.valueOf(claims.getSubject());
+        } catch (NumberFormatException ex) {
+            throw new MalformedJwtException("Invalid token subject");
         }
 
-        return tokenUserId.equals(customUserDetails.getId())
-                && !isTokenExpired(token);
-    }
+        String purpose = claims.get(PURPOSE_CLAIM, String.class);
 
-    // Extracts the user ID from the token
-    public Long extractUserId(String token) {
-        String subject = extractSubject(token);
-        try {
-            return Long.valueOf(subject);
-        } catch (NumberFormatException ex) {
-            throw new BadCredentialsException("Invalid token subject");
-        }
+        return new VerifiedToken(
+                userId,
+                claims.getExpiration(),
+                purpose != null ? TokenPurpose.valueOf(purpose) : null,
+                claims);
     }
 
-    // Extracts all claims from the token
-    private Claims extractAllClaims(String token) {
-        return Jwts.parser()
-                .verifyWith(getSignInKey())
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
-    }
+    // Rebuilds the authenticated principal from the claims of a verified token
+    public CustomUserDetails extractUserDetails(VerifiedToken verifiedToken) {
+        final Claims claims = verifiedToken.claims();
+
+        String email = claims.get(EMAIL_CLAIM, String.class);
+        Collection<?> roles = claims.get(ROLES_CLAIM, Collection.class);
+        Number securityVersion = claims.get(SECURITY_VERSION_CLAIM, Number.class);
+
+        if (email == null || roles == null || securityVersion == null)
+            throw new MalformedJwtException("Token is missing identity claims");
 
-    // Returns the signing key from the configured secret
-    private SecretKey getSignInKey() {
-        byte[] keyByte = Decoders.BASE64.decode(jwtProperties.getSecretKey());
-        return Keys.hmacShaKeyFor(keyByte);
+        Set<Role> parsedRoles = roles.stream()
+                .map(role -> Role.valueOf(String.valueOf(role)))
+                .collect(Collectors.toUnmodifiableSet());
+
+        return CustomUserDetails.fromClaims(verifiedToken.userId(), email, parsedRoles, securityVersion.longValue());
     }
 
     // Builds a JWT with claims, subject, issue date, expiration, and signature
     private String buildToken(
             Map<String, Object> extraClaims,
             UserDetails userDetails,
+            TokenPurpose tokenPurpose,
             long expiration) {
         if (!(userDetails instanceof CustomUserDetails customUserDetails) || customUserDetails.getId() == null)
             throw new IllegalArgumentException("JWT generation requires CustomUserDetails with non-null id as subject");
@@ -105,27 +114,20 @@ public class JwtService {
 
         String subject = Long.toString(customUserDetails.getId());
 
+        Map<String, Object> claims = new HashMap<>(extraClaims);
+        claims.put(EMAIL_CLAIM, customUserDetails.getEmail());
+        claims.put(ROLES_CLAIM, customUserDetails.getRoles().stream().map(Role::name).toList());
+        claims.put(SECURITY_VERSION_CLAIM, customUserDetails.getSecurityVersion());
+        claims.put(PURPOSE_CLAIM, tokenPurpose.name());
+
         return Jwts.builder()
-                .claims(extraClaims)
+                .claims(claims)
+                // Random jti keeps tokens issued within the same millisecond distinct
+                .id(UUID.randomUUID().toString())
                 .subject(subject)
                 .issuedAt(issuedAt)
                 .expiration(expiresAt)
-                .signWith(getSignInKey(), Jwts.SIG.HS256)
+                .signWith(signInKey, Jwts.SIG.HS256)
                 .compact();
     }
-
-    // Checks if the token is expired
-    private boolean isTokenExpired(String token) {
-        try {
-            Date expiration = extractExpiration(token);
-            return expiration.before(new Date());
-        } catch (JwtException ex) {
-            return true;
-        }
-    }
-
-    // Extracts the expiration date from the token
-    private Date extractExpiration(String token) {
-        return extractClaim(token, Claims::getExpiration);
-    }
 }
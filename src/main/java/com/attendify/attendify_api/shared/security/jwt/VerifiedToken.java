@@ -0,0 +1,18 @@
+package com.attendify.attendify_api.shared.security.jwt;
+
+import java.util.Date;
+
+import com.attendify.attendify_api.auth.entity.enums.TokenPurpose;
+
+import io.jsonwebtoken.Claims;
+
+// Result of verifying a token's signature and expiry exactly once
+public record VerifiedToken(
+        Long userId,
+        Date expiration,
+        TokenPurpose purpose,
+        Claims claims) {
+    public boolean isPurpose(TokenPurpose tokenPurpose) {
+        return purpose == tokenPurpose;
+    }
+}
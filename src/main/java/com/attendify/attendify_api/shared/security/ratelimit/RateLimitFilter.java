@@ -0,0 +1,139 @@
+package com.attendify.attendify_api.shared.security.ratelimit;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerExceptionResolver;
+
+import com.attendify.attendify_api.shared.exception.BadRequestException;
+import com.attendify.attendify_api.shared.exception.TooManyRequestsException;
+import com.attendify.attendify_api.shared.web.PeekedBodyRequest;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+// Throttles the public authentication endpoints before any password hash or database lookup is spent.
+// Every request is charged to its client IP, and to the submitted email when the endpoint limits it.
+@Component
+public class RateLimitFilter extends OncePerRequestFilter {
+    private static final String EMAIL_FIELD = "email";
+    private static final long NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    private final RateLimiter rateLimiter;
+    private final RateLimitProperties properties;
+    private final ObjectMapper objectMapper;
+    private final HandlerExceptionResolver handlerExceptionResolver;
+
+    // Endpoint limits indexed by servlet path
+    private final Map<String, NamedEndpoint> endpointsByPath = new HashMap<>();
+
+    public RateLimitFilter(
+            RateLimiter rateLimiter,
+            RateLimitProperties properties,
+            ObjectMapper objectMapper,
+            @Qualifier("handlerExceptionResolver") HandlerExceptionResolver handlerExceptionResolver) {
+        this.rateLimiter = rateLimiter;
+        this.properties = properties;
+        this.objectMapper = objectMapper;
+        this.handlerExceptionResolver = handlerExceptionResolver;
+
+        properties.getEndpoints().forEach((name, endpoint) -> endpointsByPath.put(
+                endpoint.getPath(), new NamedEndpoint(name, endpoint)));
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !properties.isEnabled()
+                || !HttpMethod.POST.matches(request.getMethod())
+                || !endpointsByPath.containsKey(request.getServletPath());
+    }
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain) throws ServletException, IOException {
+        NamedEndpoint endpoint = endpointsByPath.get(request.getServletPath());
+
+        // Client IP as seen by the container, honours forwarded headers when server.forward-headers-strategy is set
+        long waitNanos = rateLimiter.tryAcquire(
+                endpoint.name() + ":ip:" + request.getRemoteAddr(),
+                endpoint.limits().getPerIp());
+
+        if (waitNanos == 0 && endpoint.limits().getPerEmail() != null && isJson(request)) {
+            PeekedBodyRequest peeked = PeekedBodyRequest.peek(request, properties.getMaxBodyBytes());
+
+            // A body too large to inspect would slip past the per-email limit, these endpoints never need one
+            if (peeked.getCompleteBody() == null) {
+                handlerExceptionResolver.resolveException(request, response, null, new BadRequestException(
+                        "Request body too large"));
+                return;
+            }
+
+            String email = extractEmail(peeked.getCompleteBody());
+
+            if (email != null)
+                waitNanos = rateLimiter.tryAcquire(
+                        endpoint.name() + ":email:" + email,
+                        endpoint.limits().getPerEmail());
+
+            request = peeked;
+        }
+
+        if (waitNanos > 0) {
+            long retryAfterSeconds = Math.max(1L, (waitNanos + NANOS_PER_SECOND - 1) / NANOS_PER_SECOND);
+
+            handlerExceptionResolver.resolveException(request, response, null, new TooManyRequestsException(
+                    "Too many requests, please retry later", retryAfterSeconds));
+            return;
+        }
+
+        filterChain.doFilter(request, response);
+    }
+
+    // Normalized email of a JSON body, null if the body is malformed or has none
+    private String extractEmail(byte[] body) {
+        if (body.length == 0)
+            return null;
+
+        try {
+            JsonNode email = objectMapper.readTree(body).path(EMAIL_FIELD);
+
+            if (!email.isTextual() || email.asText().isBlank())
+                return null;
+
+            return email.asText().trim().toLowerCase(Locale.ROOT);
+        } catch (IOException ex) {
+            // Malformed bodies are rejected later by the controller, the IP limit already applies
+            return null;
+        }
+    }
+
+    private boolean isJson(HttpServletRequest request) {
+        String contentType = request.getContentType();
+
+        if (contentType == null)
+            return false;
+
+        try {
+            return MediaType.APPLICATION_JSON.isCompatibleWith(MediaType.parseMediaType(contentType));
+        } catch (IllegalArgumentException ex) {
+            return false;
+        }
+    }
+
+    private record NamedEndpoint(String name, RateLimitProperties.Endpoint limits) {
+    }
+}
@@ -0,0 +1,70 @@
+package com.attendify.attendify_api.shared.security.ratelimit;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "application.security.rate-limit")
+public class RateLimitProperties {
+    private boolean enabled = true;
+
+    // Independent locks guarding the buckets, rounded up to a power of two
+    @Min(1)
+    private int stripes = 64;
+
+    // Upper bound of buckets held by a single stripe, the least recently used bucket is dropped beyond it
+    @Min(1)
+    private int maxBucketsPerStripe = 4096;
+
+    // Buckets untouched for this long are evicted by the sweeper
+    @NotNull
+    private Duration idleTimeout = Duration.ofMinutes(10);
+
+    // Largest request body inspected to extract the email key, larger bodies are rejected on endpoints limited per email
+    @Min(0)
+    private int maxBodyBytes = 4096;
+
+    // Limited endpoints by name, each with its own per-IP and optional per-email limit
+    @Valid
+    private Map<String, Endpoint> endpoints = new LinkedHashMap<>();
+
+    @Getter
+    @Setter
+    public static class Endpoint {
+        // Servlet path the limit applies to, matched exactly
+        @NotBlank
+        private String path;
+
+        @Valid
+        @NotNull
+        private Limit perIp;
+
+        // Optional, only used by endpoints whose JSON body carries an email
+        @Valid
+        private Limit perEmail;
+    }
+
+    @Getter
+    @Setter
+    public static class Limit {
+        // Burst size, also the number of requests refilled over one period
+        @Min(1)
+        private int capacity;
+
+        @NotNull
+        private Duration refillPeriod;
+    }
+}
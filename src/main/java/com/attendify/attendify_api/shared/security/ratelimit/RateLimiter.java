@@ -0,0 +1,101 @@
+package com.attendify.attendify_api.shared.security.ratelimit;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.LongSupplier;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+// In-process token buckets keyed by an arbitrary client key.
+// Keys are spread over independently locked stripes so unrelated clients never contend on the same lock.
+@Component
+public class RateLimiter {
+    private final Stripe[] stripes;
+    private final int stripeMask;
+    private final long idleTimeoutNanos;
+    private final LongSupplier clock;
+
+    @Autowired
+    public RateLimiter(RateLimitProperties properties) {
+        this(properties, System::nanoTime);
+    }
+
+    RateLimiter(RateLimitProperties properties, LongSupplier clock) {
+        int stripeCount = 1;
+        while (stripeCount < properties.getStripes())
+            stripeCount <<= 1;
+
+        this.stripes = new Stripe[stripeCount];
+        for (int i = 0; i < stripeCount; i++)
+            stripes[i] = new Stripe(properties.getMaxBucketsPerStripe());
+
+        this.stripeMask = stripeCount - 1;
+        this.idleTimeoutNanos = properties.getIdleTimeout().toNanos();
+        this.clock = clock;
+    }
+
+    // Takes one token from the bucket of the key, returns 0 when granted or the nanoseconds to wait otherwise
+    public long tryAcquire(String key, RateLimitProperties.Limit limit) {
+        Stripe stripe = stripeFor(key);
+        long now = clock.getAsLong();
+
+        synchronized (stripe) {
+            TokenBucket bucket = stripe.buckets.get(key);
+
+            if (bucket == null) {
+                bucket = new TokenBucket(limit, now);
+                stripe.buckets.put(key, bucket);
+            }
+
+            return bucket.tryConsume(now);
+        }
+    }
+
+    @Scheduled(
+            fixedDelayString = "${application.security.rate-limit.sweep-interval:PT1M}",
+            initialDelayString = "${application.security.rate-limit.sweep-interval:PT1M}")
+    // Drops refilled or idle buckets, one stripe at a time so requests are only briefly blocked
+    public void evictIdle() {
+        for (Stripe stripe : stripes) {
+            long now = clock.getAsLong();
+
+            synchronized (stripe) {
+                stripe.buckets.values().removeIf(bucket -> bucket.isEvictable(now, idleTimeoutNanos));
+            }
+        }
+    }
+
+    // Number of buckets currently held, for tests and diagnostics
+    public int size() {
+        int size = 0;
+
+        for (Stripe stripe : stripes) {
+            synchronized (stripe) {
+                size += stripe.buckets.size();
+            }
+        }
+
+        return size;
+    }
+
+    private Stripe stripeFor(String key) {
+        int hash = key.hashCode();
+        return stripes[(hash ^ (hash >>> 16)) & stripeMask];
+    }
+
+    private static final class Stripe {
+        // Access-ordered so the least recently used bucket is dropped once the stripe is full
+        private final Map<String, TokenBucket> buckets;
+
+        Stripe(int maxBuckets) {
+            this.buckets = new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, TokenBucket> eldest) {
+                    return size() > maxBuckets;
+                }
+            };
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.attendify.attendify_api.shared.security.ratelimit;
+
+// Continuously refilling token bucket, not thread-safe, always accessed under its stripe lock
+final class TokenBucket {
+    private final int capacity;
+    private final double nanosPerToken;
+
+    private double tokens;
+    private long lastRefillNanos;
+    private long lastAccessNanos;
+
+    TokenBucket(RateLimitProperties.Limit limit, long now) {
+        this.capacity = limit.getCapacity();
+        this.nanosPerToken = (double) limit.getRefillPeriod().toNanos() / limit.getCapacity();
+        this.tokens = capacity;
+        this.lastRefillNanos = now;
+        this.lastAccessNanos = now;
+    }
+
+    // Takes one token, returns 0 when granted or the nanoseconds until the next token otherwise
+    long tryConsume(long now) {
+        refill(now);
+        lastAccessNanos = now;
+
+        if (tokens >= 1) {
+            tokens -= 1;
+            return 0L;
+        }
+
+        return (long) Math.ceil((1 - tokens) * nanosPerToken);
+    }
+
+    // A full bucket behaves exactly like a new one, so dropping it loses no state
+    boolean isEvictable(long now, long idleTimeoutNanos) {
+        refill(now);
+        return tokens >= capacity || now - lastAccessNanos >= idleTimeoutNanos;
+    }
+
+    private void refill(long now) {
+        long elapsed = now - lastRefillNanos;
+
+        if (elapsed <= 0)
+            return;
+
+        tokens = Math.min(capacity, tokens + elapsed / nanosPerToken);
+        lastRefillNanos = now;
+    }
+}
@@ -0,0 +1,101 @@
+package com.attendify.attendify_api.shared.web;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+
+// Request whose first bytes were read ahead by a filter and are replayed to the rest of the chain
+public class PeekedBodyRequest extends HttpServletRequestWrapper {
+    private final byte[] head;
+    private final boolean complete;
+    private final ByteArrayInputStream replay;
+    private final ServletInputStream remainder;
+
+    private PeekedBodyRequest(HttpServletRequest request, byte[] head, boolean complete) throws IOException {
+        super(request);
+        this.head = head;
+        this.complete = complete;
+        this.replay = new ByteArrayInputStream(head);
+        // Already at its end when the body was complete, otherwise holds the bytes past the peeked head
+        this.remainder = request.getInputStream();
+    }
+
+    // Reads at most limit bytes ahead, the remainder of a larger body stays on the original stream
+    public static PeekedBodyRequest peek(HttpServletRequest request, int limit) throws IOException {
+        byte[] head = request.getInputStream().readNBytes(limit + 1);
+        boolean complete = head.length <= limit;
+
+        return new PeekedBodyRequest(request, head, complete);
+    }
+
+    // Whole body if it fit within the limit, null otherwise
+    public byte[] getCompleteBody() {
+        return complete ? head : null;
+    }
+
+    @Override
+    public ServletInputStream getInputStream() {
+        return new ServletInputStream() {
+            @Override
+            public int read() throws IOException {
+                return replay.available() > 0 ? replay.read() : remainder.read();
+            }
+
+            @Override
+            public int read(byte[] buffer, int offset, int length) throws IOException {
+                return replay.available() > 0 ? replay.read(buffer, offset, length) : remainder.read(buffer, offset, length);
+            }
+
+            @Override
+            public boolean isFinished() {
+                return replay.available() == 0 && remainder.isFinished();
+            }
+
+            @Override
+            public boolean isReady() {
+                return replay.available() > 0 || remainder.isReady();
+            }
+
+            // The container drives non-blocking reads through the original stream. A complete body has already
+            // reached its end there, so the replayed bytes are offered before the end is reported.
+            @Override
+            public void setReadListener(ReadListener readListener) {
+                remainder.setReadListener(new ReadListener() {
+                    @Override
+                    public void onDataAvailable() throws IOException {
+                        readListener.onDataAvailable();
+                    }
+
+                    @Override
+                    public void onAllDataRead() throws IOException {
+                        if (replay.available() > 0)
+                            readListener.onDataAvailable();
+
+                        readListener.onAllDataRead();
+                    }
+
+                    @Override
+                    public void onError(Throwable throwable) {
+                        readListener.onError(throwable);
+                    }
+                });
+            }
+        };
+    }
+
+    @Override
+    public BufferedReader getReader() {
+        String encoding = getCharacterEncoding();
+        Charset charset = encoding != null ? Charset.forName(encoding) : StandardCharsets.UTF_8;
+
+        return new BufferedReader(new InputStreamReader(getInputStream(), charset));
+    }
+}
@@ -3,17 +3,19 @@ package com.attendify.attendify_api.user.controller;
 import org.springdoc.core.annotations.ParameterObject;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.attendify.attendify_api.shared.dto.PageResponseDTO;
+import com.attendify.attendify_api.shared.security.RequiresPermission;
 import com.attendify.attendify_api.user.dto.UserSummaryDTO;
+import com.attendify.attendify_api.user.entity.enums.Permission;
 import com.attendify.attendify_api.user.service.UserService;
 
 import io.swagger.v3.oas.annotations.Operation;
@@ -59,7 +61,7 @@ public class UserController {
     })
     @SecurityRequirement(name = "bearerAuth")
     @GetMapping("/{id}")
-    @PreAuthorize("hasAuthority('USER_FORCE_READ')")
+    @RequiresPermission(Permission.USER_FORCE_READ)
     public ResponseEntity<UserSummaryDTO> getUser(@PathVariable Long id) {
         return ResponseEntity.ok(userService.getUser(id));
     }
@@ -96,7 +98,7 @@ public class UserController {
     })
     @SecurityRequirement(name = "bearerAuth")
     @DeleteMapping("/{id}")
-    @PreAuthorize("hasAuthority('USER_FORCE_DELETE')")
+    @RequiresPermission(Permission.USER_FORCE_DELETE)
     public ResponseEntity<Void> delete(@PathVariable Long id) {
         userService.delete(id);
 
@@ -117,7 +119,7 @@ public class UserController {
     })
     @SecurityRequirement(name = "bearerAuth")
     @PutMapping("/{id}/restore")
-    @PreAuthorize("hasAuthority('USER_RESTORE')")
+    @RequiresPermission(Permission.USER_RESTORE)
     public ResponseEntity<Void> restore(@PathVariable Long id) {
         userService.restore(id);
 
@@ -137,9 +139,11 @@ public class UserController {
     })
     @SecurityRequirement(name = "bearerAuth")
     @GetMapping()
-    @PreAuthorize("hasAuthority('USER_READ_ALL')")
-    public ResponseEntity<PageResponseDTO<UserSummaryDTO>> getAll(@ParameterObject Pageable pageable) {
-        return ResponseEntity.ok(userService.findAll(pageable));
+    @RequiresPermission(Permission.USER_READ_ALL)
+    public ResponseEntity<PageResponseDTO<UserSummaryDTO>> getAll(
+            @ParameterObject Pageable pageable,
+            @RequestParam(defaultValue = "true") boolean count) {
+        return ResponseEntity.ok(userService.findAll(pageable, count));
     }
 
     @Operation(
@@ -154,9 +158,11 @@ public class UserController {
     })
     @SecurityRequirement(name = "bearerAuth")
     @GetMapping("/deleted")
-    @PreAuthorize("hasAuthority('USER_READ_DELETED')")
-    public ResponseEntity<PageResponseDTO<UserSummaryDTO>> getAllDeleted(@ParameterObject Pageable pageable) {
-        return ResponseEntity.ok(userService.findAllDeleted(pageable));
+    @RequiresPermission(Permission.USER_READ_DELETED)
+    public ResponseEntity<PageResponseDTO<UserSummaryDTO>> getAllDeleted(
+            @ParameterObject Pageable pageable,
+            @RequestParam(defaultValue = "true") boolean count) {
+        return ResponseEntity.ok(userService.findAllDeleted(pageable, count));
     }
 
     @Operation(
@@ -171,8 +177,10 @@ public class UserController {
     })
     @SecurityRequirement(name = "bearerAuth")
     @GetMapping("/with-deleted")
-    @PreAuthorize("hasAuthority('USER_READ_WITH_DELETED')")
-    public ResponseEntity<PageResponseDTO<UserSummaryDTO>> getAllWithDeleted(@ParameterObject Pageable pageable) {
-        return ResponseEntity.ok(userService.findAllWithDeleted(pageable));
+    @RequiresPermission(Permission.USER_READ_WITH_DELETED)
+    public ResponseEntity<PageResponseDTO<UserSummaryDTO>> getAllWithDeleted(
+            @ParameterObject Pageable pageable,
+            @RequestParam(defaultValue = "true") boolean count) {
+        return ResponseEntity.ok(userService.findAllWithDeleted(pageable, count));
     }
 }
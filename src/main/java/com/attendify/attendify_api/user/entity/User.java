@@ -20,6 +20,7 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.Table;
@@ -38,7 +39,10 @@ import lombok.NoArgsConstructor;
 @NoArgsConstructor
 @AllArgsConstructor
 @Entity
-@Table(name = "users")
+@Table(name = "users", indexes = {
+        // Read by every instance to follow security versions changed on the others
+        @Index(name = "idx_users_updated_at", columnList = "updated_at"),
+})
 @SQLRestriction("deleted_at IS NULL")
 public class User extends SoftDeletableEntity {
     @EqualsAndHashCode.Include
@@ -63,6 +67,16 @@ public class User extends SoftDeletableEntity {
     @Column(name = "role", nullable = false)
     private Set<Role> roles = new HashSet<>();
 
+    // Bumped whenever credentials change or the account is deleted, invalidating issued access tokens
+    @Builder.Default
+    @NotNull
+    @Column(name = "security_version", nullable = false)
+    private Long securityVersion = 0L;
+
+    public void bumpSecurityVersion() {
+        this.securityVersion = this.securityVersion + 1;
+    }
+
     @Builder.Default
     @OneToMany(mappedBy = "user", fetch = FetchType.LAZY)
     private Set<Token> tokens = new HashSet<>();
@@ -38,5 +38,28 @@ public enum Permission {
     EVENT_REGISTRATION_FORCE_CHECKIN,
     EVENT_REGISTRATION_DELETE,
     EVENT_REGISTRATION_FORCE_DELETE,
-    EVENT_REGISTRATION_RESTORE
+    EVENT_REGISTRATION_RESTORE,
+
+    METRICS_READ;
+
+    static {
+        // Permission sets are packed into a single long bitmask
+        if (values().length > Long.SIZE)
+            throw new IllegalStateException("Permission bitmask supports at most 64 permissions");
+    }
+
+    // Bit assigned to this permission inside a permission mask
+    public long mask() {
+        return 1L << ordinal();
+    }
+
+    // Packs a set of permissions into a bitmask
+    public static long maskOf(Iterable<Permission> permissions) {
+        long mask = 0L;
+
+        for (Permission permission : permissions)
+            mask |= permission.mask();
+
+        return mask;
+    }
 }
@@ -1,15 +1,14 @@
 package com.attendify.attendify_api.user.entity.enums;
 
+import java.util.Collections;
 import java.util.EnumSet;
 import java.util.Set;
 
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.Getter;
-import lombok.RequiredArgsConstructor;
 
 @Schema(description = "System roles that define user access levels.")
 @Getter
-@RequiredArgsConstructor
 public enum Role {
     @Schema(description = "Standard user with basic access permissions.")
     USER(Set.of(
@@ -34,4 +33,22 @@ public enum Role {
     ADMIN(EnumSet.allOf(Permission.class));
 
     private final Set<Permission> permissions;
+
+    // Permission set precomputed as a bitmask for constant-time checks
+    private final long permissionMask;
+
+    Role(Set<Permission> permissions) {
+        this.permissions = Collections.unmodifiableSet(EnumSet.copyOf(permissions));
+        this.permissionMask = Permission.maskOf(permissions);
+    }
+
+    // Combines the permission masks of several roles
+    public static long maskOf(Iterable<Role> roles) {
+        long mask = 0L;
+
+        for (Role role : roles)
+            mask |= role.permissionMask;
+
+        return mask;
+    }
 }
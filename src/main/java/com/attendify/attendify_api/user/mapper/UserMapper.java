@@ -1,6 +1,6 @@
 package com.attendify.attendify_api.user.mapper;
 
-import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Component;
 
 import com.attendify.attendify_api.shared.dto.PageResponseDTO;
@@ -19,8 +19,8 @@ public class UserMapper {
                 .build();
     }
 
-    // Converts a Spring Page of entities to a standardized paginated response
-    public PageResponseDTO<UserSummaryDTO> toPageResponse(Page<User> page) {
+    // Converts a Spring Page or Slice of entities to a standardized paginated response
+    public PageResponseDTO<UserSummaryDTO> toPageResponse(Slice<User> page) {
         return PageMappingUtils.toPageResponse(page, this::toSummary);
     }
 }
@@ -1,9 +1,12 @@
 package com.attendify.attendify_api.user.repository;
 
+import java.util.Collection;
 import java.util.Optional;
+import java.util.Set;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -15,8 +18,16 @@ import com.attendify.attendify_api.user.entity.User;
 public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByEmail(String email);
 
+    // Fetch a user by email together with its roles in a single query
+    @Query("SELECT u FROM User u LEFT JOIN FETCH u.roles WHERE u.email = :email")
+    Optional<User> findByEmailWithRoles(@Param("email") String email);
+
     boolean existsByEmail(String email);
 
+    // IDs among the given ones that belong to active users
+    @Query("SELECT u.id FROM User u WHERE u.id IN :ids")
+    Set<Long> findExistingIds(@Param("ids") Collection<Long> ids);
+
     // Fetch a user by ID, including soft-deleted entries
     @Query(value = "SELECT * FROM users WHERE user_id = :id", nativeQuery = true)
     Optional<User> findByIdWithDeleted(@Param("id") Long id);
@@ -28,4 +39,13 @@ public interface UserRepository extends JpaRepository<User, Long> {
     // Fetch all users, including both active and soft-deleted
     @Query(value = "SELECT * FROM users", nativeQuery = true)
     Page<User> findAllWithDeleted(Pageable pageable);
+
+    // Slice variants of the listings above, they read one extra row instead of running a COUNT query
+    Slice<User> findSliceBy(Pageable pageable);
+
+    @Query(value = "SELECT * FROM users WHERE deleted_at IS NOT NULL", nativeQuery = true)
+    Slice<User> findSliceDeleted(Pageable pageable);
+
+    @Query(value = "SELECT * FROM users", nativeQuery = true)
+    Slice<User> findSliceWithDeleted(Pageable pageable);
 }
@@ -16,9 +16,9 @@ public interface UserService {
 
     void restore(Long id);
 
-    PageResponseDTO<UserSummaryDTO> findAll(Pageable pageable);
+    PageResponseDTO<UserSummaryDTO> findAll(Pageable pageable, boolean count);
 
-    PageResponseDTO<UserSummaryDTO> findAllDeleted(Pageable pageable);
+    PageResponseDTO<UserSummaryDTO> findAllDeleted(Pageable pageable, boolean count);
 
-    PageResponseDTO<UserSummaryDTO> findAllWithDeleted(Pageable pageable);
+    PageResponseDTO<UserSummaryDTO> findAllWithDeleted(Pageable pageable, boolean count);
 }
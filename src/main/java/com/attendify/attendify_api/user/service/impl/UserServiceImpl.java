@@ -1,11 +1,14 @@
 package com.attendify.attendify_api.user.service.impl;
 
-import org.springframework.data.domain.Page;
+import java.time.LocalDateTime;
+
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.attendify.attendify_api.auth.repository.TokenRepository;
+import com.attendify.attendify_api.event.cache.EventReadCache;
 import com.attendify.attendify_api.shared.dto.PageResponseDTO;
 import com.attendify.attendify_api.shared.exception.BadRequestException;
 import com.attendify.attendify_api.shared.exception.NotFoundException;
@@ -25,6 +28,7 @@ public class UserServiceImpl implements UserService {
     private final UserRepository userRepository;
     private final TokenRepository tokenRepository;
     private final SecurityUtils securityUtils;
+    private final EventReadCache eventReadCache;
 
     @Override
     @Transactional(readOnly = true)
@@ -75,28 +79,35 @@ public class UserServiceImpl implements UserService {
         user.restore();
 
         userRepository.save(user);
+        eventReadCache.evictDetailsAfterCommit();
     }
 
     @Override
     @Transactional(readOnly = true)
-    public PageResponseDTO<UserSummaryDTO> findAll(Pageable pageable) {
-        Page<User> page = userRepository.findAll(pageable);
+    public PageResponseDTO<UserSummaryDTO> findAll(Pageable pageable, boolean count) {
+        Slice<User> page = count
+                ? userRepository.findAll(pageable)
+                : userRepository.findSliceBy(pageable);
 
         return userMapper.toPageResponse(page);
     }
 
     @Override
     @Transactional(readOnly = true)
-    public PageResponseDTO<UserSummaryDTO> findAllDeleted(Pageable pageable) {
-        Page<User> page = userRepository.findAllDeleted(pageable);
+    public PageResponseDTO<UserSummaryDTO> findAllDeleted(Pageable pageable, boolean count) {
+        Slice<User> page = count
+                ? userRepository.findAllDeleted(pageable)
+                : userRepository.findSliceDeleted(pageable);
 
         return userMapper.toPageResponse(page);
     }
 
     @Override
     @Transactional(readOnly = true)
-    public PageResponseDTO<UserSummaryDTO> findAllWithDeleted(Pageable pageable) {
-        Page<User> page = userRepository.findAllWithDeleted(pageable);
+    public PageResponseDTO<UserSummaryDTO> findAllWithDeleted(Pageable pageable, boolean count) {
+        Slice<User> page = count
+                ? userRepository.findAllWithDeleted(pageable)
+                : userRepository.findSliceWithDeleted(pageable);
 
         return userMapper.toPageResponse(page);
     }
@@ -110,7 +121,9 @@ public class UserServiceImpl implements UserService {
     // Helper that performs soft deletion and revokes all tokens for the user
     private void softDeleteUser(User user) {
         user.softDelete(user.getId());
-        tokenRepository.revokeAllUserTokens(user.getId());
+        securityUtils.invalidateTokens(user);
+        tokenRepository.revokeAllUserTokens(user.getId(), LocalDateTime.now());
         userRepository.save(user);
+        eventReadCache.evictAttendeeAfterCommit(user.getId());
     }
 }
@@ -0,0 +1,9 @@
+-- Seats are claimed with one conditional update of registered_count instead of locking the event and counting its
+-- registrations. The backfill counts the active registrations as the previous COUNT(*) did.
+ALTER TABLE events ADD COLUMN IF NOT EXISTS registered_count integer NOT NULL DEFAULT 0;
+
+UPDATE events SET registered_count = (
+    SELECT count(*) FROM event_registrations r
+    WHERE r.event_id = events.event_id
+    AND r.deleted_at IS NULL
+);
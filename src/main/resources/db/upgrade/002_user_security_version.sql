@@ -0,0 +1,5 @@
+-- Bumped on credential changes and deletes, access tokens carrying an older version are rejected.
+-- Every instance follows the versions changed on the others through updated_at.
+ALTER TABLE users ADD COLUMN IF NOT EXISTS security_version bigint NOT NULL DEFAULT 0;
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_users_updated_at ON users (updated_at);
@@ -0,0 +1,28 @@
+-- Tokens are stored as the SHA-256 digest of their value instead of the raw JWT. Stored tokens predate the purpose and
+-- version claims the application now requires, so they could never be used again: they are digested to satisfy the
+-- new unique column and revoked, their users log in again.
+ALTER TABLE tokens ADD COLUMN IF NOT EXISTS token_hash bytea;
+
+DO $$
+BEGIN
+    IF EXISTS (
+        SELECT 1 FROM information_schema.columns
+        WHERE table_name = 'tokens' AND column_name = 'token'
+    ) THEN
+        UPDATE tokens
+        SET token_hash = sha256(convert_to(token, 'UTF8')), revoked = true, expired = true
+        WHERE token_hash IS NULL;
+
+        -- Also drops the unique constraint and index_token_value
+        ALTER TABLE tokens DROP COLUMN token;
+    END IF;
+END $$;
+
+ALTER TABLE tokens ALTER COLUMN token_hash SET NOT NULL;
+
+DO $$
+BEGIN
+    IF NOT EXISTS (SELECT 1 FROM pg_constraint WHERE conname = 'uk_tokens_token_hash') THEN
+        ALTER TABLE tokens ADD CONSTRAINT uk_tokens_token_hash UNIQUE (token_hash);
+    END IF;
+END $$;
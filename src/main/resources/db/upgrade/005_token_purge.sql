@@ -0,0 +1,13 @@
+-- Expiry and revocation time of each token, the purge job deletes tokens once the earlier of the two is past the
+-- retention. Existing tokens expire when the refresh expiration in force until now (7 days) says so, revoked ones
+-- count from their last update.
+ALTER TABLE tokens ADD COLUMN IF NOT EXISTS expires_at timestamp(6);
+ALTER TABLE tokens ADD COLUMN IF NOT EXISTS revoked_at timestamp(6);
+
+UPDATE tokens SET expires_at = created_at + interval '7 days' WHERE expires_at IS NULL;
+UPDATE tokens SET revoked_at = coalesce(updated_at, created_at) WHERE revoked AND revoked_at IS NULL;
+
+ALTER TABLE tokens ALTER COLUMN expires_at SET NOT NULL;
+
+-- Range scanned by the purge batches in TokenRepository.findPurgeableIds, the expression must match it exactly
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_tokens_purgeable_at ON tokens (LEAST(expires_at, revoked_at));
@@ -0,0 +1,3 @@
+-- High-demand events lease blocks of seats to each instance, counted in registered_count with the registered seats.
+-- Seats leased by an instance that crashed stay counted, recount them with the 001 backfill while no instance runs.
+ALTER TABLE events ADD COLUMN IF NOT EXISTS high_demand boolean NOT NULL DEFAULT false;
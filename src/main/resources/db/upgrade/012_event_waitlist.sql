@@ -0,0 +1,14 @@
+-- FIFO queue of full events. The identity column gives the queue order, the (event_id, waitlist_entry_id) index
+-- serves both promotion and position lookups.
+CREATE TABLE IF NOT EXISTS event_waitlist (
+    waitlist_entry_id bigint GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    user_id bigint NOT NULL REFERENCES users (user_id),
+    event_id bigint NOT NULL REFERENCES events (event_id),
+    created_at timestamp(6) NOT NULL,
+    updated_at timestamp(6),
+    created_by bigint,
+    updated_by bigint,
+    UNIQUE (event_id, user_id)
+);
+
+CREATE INDEX IF NOT EXISTS idx_event_waitlist_event_order ON event_waitlist (event_id, waitlist_entry_id);
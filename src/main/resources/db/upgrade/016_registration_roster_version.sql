@@ -0,0 +1,4 @@
+-- Registrations carry the ID of the transaction that last changed them, so roster syncs read only newer rows.
+ALTER TABLE event_registrations ADD COLUMN IF NOT EXISTS roster_version bigint NOT NULL DEFAULT 0;
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_event_registration_roster ON event_registrations (event_id, roster_version);
@@ -0,0 +1,17 @@
+-- Responses of requests sent with an Idempotency-Key. A row without status claims the key for a request still
+-- running and expires after the pending TTL.
+CREATE TABLE IF NOT EXISTS idempotency_keys (
+    key_hash varchar(64) PRIMARY KEY,
+    request_hash varchar(64) NOT NULL,
+    status integer,
+    content_type varchar(255),
+    body bytea,
+    created_at timestamp(6) NOT NULL,
+    expires_at timestamp(6) NOT NULL
+);
+
+-- Tables created before pending claims
+ALTER TABLE idempotency_keys ALTER COLUMN status DROP NOT NULL;
+ALTER TABLE idempotency_keys ALTER COLUMN body DROP NOT NULL;
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_idempotency_key_expires ON idempotency_keys (expires_at);
@@ -0,0 +1,12 @@
+-- Keyset pages of registrations are read in ID order straight from these indexes. They are built next to the
+-- single-column indexes they replace, which are dropped only once the new ones exist, so listings never lose an index.
+-- A build that fails leaves an INVALID index behind, drop it before running the script again.
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_event_registration_event_keyset
+    ON event_registrations (event_id, event_registration_id);
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_event_registration_user_keyset
+    ON event_registrations (user_id, event_registration_id);
+
+DROP INDEX CONCURRENTLY IF EXISTS idx_event_registration_event;
+
+DROP INDEX CONCURRENTLY IF EXISTS idx_event_registration_user;
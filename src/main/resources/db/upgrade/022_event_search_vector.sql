@@ -0,0 +1,14 @@
+-- Weighted words of the title and description behind FULL_TEXT search, the column is not mapped by the Event entity.
+-- Adding the generated column rewrites the events table once.
+ALTER TABLE events ADD COLUMN IF NOT EXISTS search_vector tsvector GENERATED ALWAYS AS (
+    setweight(to_tsvector('simple', coalesce(title, '')), 'A')
+    || setweight(to_tsvector('simple', coalesce(description, '')), 'B')
+) STORED;
+
+-- A concurrent build that fails leaves an INVALID index behind, drop it before running the script again
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_event_search_vector ON events USING GIN (search_vector);
+
+-- Serves lower(title) LIKE '%text%', needs a role allowed to create extensions
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_event_title_trgm ON events USING GIN (lower(title) gin_trgm_ops);
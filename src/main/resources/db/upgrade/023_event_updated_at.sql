@@ -0,0 +1,2 @@
+-- Search index and suggestion refreshes read the events changed since their last pass through updated_at.
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_event_updated_at ON events (updated_at);
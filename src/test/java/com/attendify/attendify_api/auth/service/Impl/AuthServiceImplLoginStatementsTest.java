@@ -0,0 +1,90 @@
+package com.attendify.attendify_api.auth.service.Impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import java.util.Base64;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.security.authentication.ProviderManager;
+import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+
+import com.attendify.attendify_api.auth.dto.LoginRequestDTO;
+import com.attendify.attendify_api.auth.repository.TokenRepository;
+import com.attendify.attendify_api.event.cache.EventReadCache;
+import com.attendify.attendify_api.shared.persistence.PostgresJpaTest;
+import com.attendify.attendify_api.shared.security.CustomUserDetailsService;
+import com.attendify.attendify_api.shared.security.SecurityUtils;
+import com.attendify.attendify_api.shared.security.jwt.JwtProperties;
+import com.attendify.attendify_api.shared.security.jwt.JwtService;
+import com.attendify.attendify_api.user.entity.User;
+import com.attendify.attendify_api.user.entity.enums.Role;
+import com.attendify.attendify_api.user.repository.UserRepository;
+
+// Real statements of a login: the user joined with its roles, then the combined revoke-and-insert of the refresh token
+@EnabledIfSystemProperty(named = "test.db.url", matches = ".+")
+class AuthServiceImplLoginStatementsTest extends PostgresJpaTest {
+    private static final String PASSWORD = "correct horse";
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TokenRepository tokenRepository;
+
+    private AuthServiceImpl authService;
+
+    @BeforeEach
+    void setUp() {
+        BCryptPasswordEncoder bcrypt = new BCryptPasswordEncoder(4);
+        DelegatingPasswordEncoder passwordEncoder = new DelegatingPasswordEncoder("bcrypt", Map.of("bcrypt", bcrypt));
+        CustomUserDetailsService userDetailsService = new CustomUserDetailsService(userRepository);
+
+        DaoAuthenticationProvider provider = new DaoAuthenticationProvider();
+        provider.setUserDetailsService(userDetailsService);
+        provider.setPasswordEncoder(passwordEncoder);
+        provider.setUserDetailsPasswordService(userDetailsService);
+
+        JwtProperties jwtProperties = new JwtProperties();
+        jwtProperties.setSecretKey(Base64.getEncoder().encodeToString(new byte[32]));
+        jwtProperties.setAccessExpirationMs(900_000L);
+        jwtProperties.setRefreshExpirationMs(604_800_000L);
+
+        authService = new AuthServiceImpl(userRepository, passwordEncoder, new JwtService(jwtProperties),
+                new ProviderManager(provider), tokenRepository, mock(SecurityUtils.class), jwtProperties,
+                mock(EventReadCache.class));
+
+        entityManager.persist(User.builder()
+                .email("user@example.com")
+                .password(passwordEncoder.encode(PASSWORD))
+                .roles(Set.of(Role.USER, Role.MANAGER))
+                .build());
+        flushAndClear();
+    }
+
+    @Test
+    void logsInWithTwoStatements() {
+        authService.login(new LoginRequestDTO("user@example.com", PASSWORD));
+        entityManager.flush();
+
+        assertThat(statements()).isEqualTo(2);
+    }
+
+    @Test
+    void aRepeatedLoginCostsTheSame() {
+        authService.login(new LoginRequestDTO("user@example.com", PASSWORD));
+        flushAndClear();
+
+        authService.login(new LoginRequestDTO("user@example.com", PASSWORD));
+        entityManager.flush();
+
+        assertThat(statements()).isEqualTo(2);
+    }
+}
@@ -0,0 +1,112 @@
+package com.attendify.attendify_api.auth.service.Impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+import java.util.Optional;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import com.attendify.attendify_api.auth.dto.AuthResponseDTO;
+import com.attendify.attendify_api.auth.dto.LoginRequestDTO;
+import com.attendify.attendify_api.auth.entity.enums.TokenPurpose;
+import com.attendify.attendify_api.auth.repository.TokenRepository;
+import com.attendify.attendify_api.event.cache.EventReadCache;
+import com.attendify.attendify_api.shared.security.CustomUserDetails;
+import com.attendify.attendify_api.shared.security.CustomUserDetailsService;
+import com.attendify.attendify_api.shared.security.SecurityUtils;
+import com.attendify.attendify_api.shared.security.jwt.JwtProperties;
+import com.attendify.attendify_api.shared.security.jwt.JwtService;
+import com.attendify.attendify_api.user.entity.User;
+import com.attendify.attendify_api.user.entity.enums.Role;
+import com.attendify.attendify_api.user.repository.UserRepository;
+
+// Pins which repository calls the login path makes: the user-with-roles lookup during authentication and one
+// combined revoke-and-insert. The statements they issue are counted by AuthServiceImplLoginStatementsTest.
+@ExtendWith(MockitoExtension.class)
+class AuthServiceImplLoginTest {
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private PasswordEncoder passwordEncoder;
+
+    @Mock
+    private JwtService jwtService;
+
+    @Mock
+    private AuthenticationManager authenticationManager;
+
+    @Mock
+    private TokenRepository tokenRepository;
+
+    @Mock
+    private SecurityUtils securityUtils;
+
+    @Mock
+    private JwtProperties jwtProperties;
+
+    @Mock
+    private EventReadCache eventReadCache;
+
+    @InjectMocks
+    private AuthServiceImpl authService;
+
+    @Test
+    void loginMakesOneTokenCallAfterAuthentication() {
+        CustomUserDetails principal = new CustomUserDetails(User.builder()
+                .id(7L)
+                .email("user@example.com")
+                .password("hash")
+                .roles(Set.of(Role.USER))
+                .build());
+
+        when(authenticationManager.authenticate(any()))
+                .thenReturn(new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+        when(jwtService.generateToken(principal, TokenPurpose.ACCESS)).thenReturn("access");
+        when(jwtService.generateToken(principal, TokenPurpose.REFRESH)).thenReturn("refresh");
+        when(jwtProperties.getRefreshExpirationMs()).thenReturn(60_000L);
+
+        AuthResponseDTO response = authService.login(new LoginRequestDTO("user@example.com", "secret"));
+
+        assertThat(response.accessToken()).isEqualTo("access");
+        assertThat(response.refreshToken()).isEqualTo("refresh");
+
+        verify(tokenRepository, times(1)).rotateRefreshToken(eq(7L), any(), any(), any());
+        verifyNoMoreInteractions(tokenRepository);
+        verifyNoInteractions(userRepository);
+    }
+
+    @Test
+    void authenticationUsesTheRolesFetchingLookup() {
+        UserRepository repository = mock(UserRepository.class);
+        User user = User.builder()
+                .id(7L)
+                .email("user@example.com")
+                .password("hash")
+                .roles(Set.of(Role.USER))
+                .build();
+
+        when(repository.findByEmailWithRoles("user@example.com")).thenReturn(Optional.of(user));
+
+        new CustomUserDetailsService(repository).loadUserByUsername("user@example.com");
+
+        verify(repository, times(1)).findByEmailWithRoles("user@example.com");
+        verifyNoMoreInteractions(repository);
+    }
+}
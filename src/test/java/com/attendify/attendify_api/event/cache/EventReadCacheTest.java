@@ -0,0 +1,221 @@
+package com.attendify.attendify_api.event.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.attendify.attendify_api.event.dto.CategorySimpleDTO;
+import com.attendify.attendify_api.event.dto.EventFilterDTO;
+import com.attendify.attendify_api.event.dto.EventResponseDTO;
+import com.attendify.attendify_api.event.dto.EventSimpleDTO;
+import com.attendify.attendify_api.shared.dto.PageResponseDTO;
+import com.attendify.attendify_api.user.dto.UserSummaryDTO;
+import com.attendify.attendify_api.user.entity.enums.Role;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+// Evictions run right away outside a transaction, each loader counts how often the database would have been read
+class EventReadCacheTest {
+    private final EventCacheProperties properties = new EventCacheProperties();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AtomicInteger loads = new AtomicInteger();
+
+    private EventReadCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = newCache();
+    }
+
+    @Test
+    void servesRepeatedDetailReadsFromMemoryUntilTheEventChanges() {
+        cache.detail(1L, detail(1L));
+        cache.detail(1L, detail(1L));
+        cache.detail(2L, detail(2L));
+        assertThat(loads).hasValue(2);
+
+        cache.evictEventAfterCommit(1L);
+        cache.detail(1L, detail(1L));
+        cache.detail(2L, detail(2L));
+        assertThat(loads).hasValue(3);
+
+        assertThat(meterRegistry.get("attendify.events.cache.gets")
+                .tags("cache", "detail", "result", "hit").counter().count()).isEqualTo(2);
+    }
+
+    @Test
+    void eventWritesDropEveryListingWhileRegistrationsOnlyTouchTheDetail() {
+        EventFilterDTO jazz = EventFilterDTO.builder().text("jazz").build();
+        cache.detail(1L, detail(1L));
+        cache.listing(jazz, PageRequest.of(0, 10), true, listing());
+
+        cache.evictDetailAfterCommit(1L);
+        cache.detail(1L, detail(1L));
+        cache.listing(jazz, PageRequest.of(0, 10), true, listing());
+        assertThat(loads).hasValue(3);
+
+        cache.evictEventAfterCommit(2L);
+        cache.detail(1L, detail(1L));
+        cache.listing(jazz, PageRequest.of(0, 10), true, listing());
+        assertThat(loads).hasValue(4);
+    }
+
+    @Test
+    void categoryChangesEvictOnlyTheDetailsShowingTheCategory() {
+        cache.detail(1L, detail(1L, 10L));
+        cache.detail(2L, detail(2L, 20L));
+
+        cache.evictCategoryAfterCommit(10L);
+        cache.detail(1L, detail(1L, 10L));
+        cache.detail(2L, detail(2L, 20L));
+
+        assertThat(loads).hasValue(3);
+    }
+
+    @Test
+    void userChangesEvictOnlyTheDetailsShowingTheUserUnlessTheUserIsRestored() {
+        cache.detail(1L, detailShowing(1L, 7L));
+        cache.detail(2L, detailShowing(2L, 8L));
+
+        cache.evictAttendeeAfterCommit(7L);
+        cache.detail(1L, detailShowing(1L, 7L));
+        cache.detail(2L, detailShowing(2L, 8L));
+        assertThat(loads).hasValue(3);
+
+        cache.evictDetailsAfterCommit();
+        cache.detail(1L, detailShowing(1L, 7L));
+        cache.detail(2L, detailShowing(2L, 8L));
+        assertThat(loads).hasValue(5);
+    }
+
+    @Test
+    void sharesListingsAcrossCaseAndSpacingButNotAcrossPages() {
+        cache.listing(EventFilterDTO.builder().text("Jazz  Night").build(), PageRequest.of(0, 10), true, listing());
+        cache.listing(EventFilterDTO.builder().text(" jazz night ").build(), PageRequest.of(0, 10), true, listing());
+        assertThat(loads).hasValue(1);
+
+        cache.listing(EventFilterDTO.builder().text("jazz night").build(), PageRequest.of(1, 10), true, listing());
+        cache.listing(EventFilterDTO.builder().text("jazz night").build(), PageRequest.of(0, 10), false, listing());
+        assertThat(loads).hasValue(3);
+    }
+
+    @Test
+    void doesNotKeepAValueLoadedWhileAWriteEvictedIt() {
+        cache.detail(1L, () -> {
+            cache.evictEventAfterCommit(1L);
+            return detail(1L).get();
+        });
+
+        cache.detail(1L, detail(1L));
+
+        assertThat(loads).hasValue(2);
+        assertThat(meterRegistry.get("attendify.events.cache.gets")
+                .tags("cache", "detail", "result", "miss").counter().count()).isEqualTo(2);
+    }
+
+    @Test
+    void keepsAValueLoadedWhileAKeyOfAnotherStripeWasEvicted() {
+        properties.setStripes(2);
+        cache = newCache();
+
+        cache.detail(1L, () -> {
+            cache.evictDetailAfterCommit(2L);
+            return detail(1L).get();
+        });
+
+        cache.detail(1L, detail(1L));
+
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void reloadsEntriesOlderThanTheTtl() {
+        properties.setTtl(Duration.ZERO);
+        cache = newCache();
+
+        cache.detail(1L, detail(1L));
+        cache.detail(1L, detail(1L));
+
+        assertThat(loads).hasValue(2);
+        assertThat(meterRegistry.get("attendify.events.cache.evictions")
+                .tags("cache", "detail", "cause", "expired").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void dropsTheLeastRecentlyReadEntryBeyondTheBound() {
+        properties.setStripes(1);
+        properties.setMaxDetails(2);
+        cache = newCache();
+
+        cache.detail(1L, detail(1L));
+        cache.detail(2L, detail(2L));
+        cache.detail(1L, detail(1L));
+        cache.detail(3L, detail(3L));
+        cache.detail(1L, detail(1L));
+        cache.detail(2L, detail(2L));
+
+        assertThat(loads).hasValue(4);
+        assertThat(meterRegistry.get("attendify.events.cache.size").tags("cache", "detail").gauge().value())
+                .isEqualTo(2);
+    }
+
+    @Test
+    void readsThroughWhenDisabled() {
+        properties.setEnabled(false);
+        cache = newCache();
+
+        cache.detail(1L, detail(1L));
+        cache.detail(1L, detail(1L));
+
+        assertThat(loads).hasValue(2);
+    }
+
+    private EventReadCache newCache() {
+        meterRegistry.clear();
+        return new EventReadCache(properties, mock(PlatformTransactionManager.class), meterRegistry);
+    }
+
+    private Supplier<EventResponseDTO> detail(Long id, Long... categoryIds) {
+        return () -> {
+            loads.incrementAndGet();
+            return EventResponseDTO.builder()
+                    .id(id)
+                    .registeredUsers(List.of())
+                    .categories(Stream.of(categoryIds)
+                            .map(categoryId -> new CategorySimpleDTO(categoryId, "Category " + categoryId))
+                            .collect(Collectors.toSet()))
+                    .build();
+        };
+    }
+
+    private Supplier<EventResponseDTO> detailShowing(Long id, Long userId) {
+        return () -> {
+            loads.incrementAndGet();
+            return EventResponseDTO.builder()
+                    .id(id)
+                    .registeredUsers(List.of(new UserSummaryDTO(userId, "user" + userId + "@example.com",
+                            Set.of(Role.USER))))
+                    .categories(Set.of())
+                    .build();
+        };
+    }
+
+    private Supplier<PageResponseDTO<EventSimpleDTO>> listing() {
+        return () -> {
+            loads.incrementAndGet();
+            return PageResponseDTO.<EventSimpleDTO>builder().items(List.of()).build();
+        };
+    }
+}
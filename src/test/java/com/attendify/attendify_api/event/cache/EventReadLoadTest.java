@@ -0,0 +1,97 @@
+package com.attendify.attendify_api.event.cache;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+
+// Event detail and listing reads from concurrent clients against a running instance, reporting latency percentiles.
+// Run it once against an instance started with application.events.cache.enabled=false and once with the default,
+// over the same seeded events, and compare the p99 of both runs.
+// Run with: ./mvnw test-compile exec:java -Dexec.mainClass=<this class> -Dexec.classpathScope=test
+//     -Dbench.url=http://localhost:8080 -Dbench.token=<access token> -Dbench.events=1000
+public class EventReadLoadTest {
+    private static final String[] TEXTS = { "conference", "music", "tech workshop", "summit", "meetup" };
+
+    private final HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(5)).build();
+    private final String baseUrl = System.getProperty("bench.url", "http://localhost:8080");
+    private final String token = System.getProperty("bench.token");
+    private final int events = Integer.getInteger("bench.events", 1_000);
+    private final int threads = Integer.getInteger("bench.threads", 32);
+    private final int requestsPerThread = Integer.getInteger("bench.requests", 2_000);
+
+    public static void main(String[] args) throws Exception {
+        new EventReadLoadTest().run();
+    }
+
+    private void run() throws Exception {
+        // Warm-up pass, fills the cache when it is enabled and the JIT either way
+        measure(Math.max(1, requestsPerThread / 10));
+
+        long started = System.nanoTime();
+        long[] latencies = measure(requestsPerThread);
+        double seconds = (System.nanoTime() - started) / 1e9;
+
+        Arrays.sort(latencies);
+        System.out.printf("requests=%d throughput=%.0f/s p50=%.2fms p90=%.2fms p99=%.2fms max=%.2fms%n",
+                latencies.length, latencies.length / seconds,
+                percentile(latencies, 0.50), percentile(latencies, 0.90),
+                percentile(latencies, 0.99), latencies[latencies.length - 1] / 1e6);
+    }
+
+    private long[] measure(int requests) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+
+        try {
+            List<Future<long[]>> workers = new ArrayList<>();
+            for (int i = 0; i < threads; i++)
+                workers.add(executor.submit(() -> client(requests)));
+
+            long[] latencies = new long[threads * requests];
+            for (int i = 0; i < threads; i++)
+                System.arraycopy(workers.get(i).get(), 0, latencies, i * requests, requests);
+
+            return latencies;
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    // Four detail reads for every listing read, details skewed toward a small set of popular events
+    private long[] client(int requests) throws Exception {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long[] latencies = new long[requests];
+
+        for (int i = 0; i < requests; i++) {
+            String path = random.nextInt(5) == 0
+                    ? "/attendify/v1/events?page=" + random.nextInt(3) + "&size=10&text="
+                            + TEXTS[random.nextInt(TEXTS.length)].replace(" ", "%20")
+                    : "/attendify/v1/events/" + (1 + (long) (events * Math.pow(random.nextDouble(), 3)));
+
+            HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(baseUrl + path)).GET();
+            if (token != null)
+                request.header("Authorization", "Bearer " + token);
+
+            long start = System.nanoTime();
+            HttpResponse<Void> response = client.send(request.build(), HttpResponse.BodyHandlers.discarding());
+            latencies[i] = System.nanoTime() - start;
+
+            if (response.statusCode() >= 500)
+                throw new IllegalStateException("GET " + path + " answered " + response.statusCode());
+        }
+
+        return latencies;
+    }
+
+    private static double percentile(long[] sorted, double quantile) {
+        return sorted[(int) Math.min(sorted.length - 1, Math.ceil(quantile * sorted.length) - 1)] / 1e6;
+    }
+}
@@ -0,0 +1,53 @@
+package com.attendify.attendify_api.event.checkin;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import org.junit.jupiter.api.Test;
+
+class CheckInPassCodecTest {
+    private static final byte[] SECRET = "secret-key-for-check-in-pass-tests".getBytes(StandardCharsets.US_ASCII);
+
+    private final CheckInPassCodec codec = new CheckInPassCodec(SECRET);
+    private final CheckInPass pass = new CheckInPass(10L, 3L, 42L);
+
+    @Test
+    void verifiesIssuedPass() {
+        String encoded = codec.issue(pass);
+
+        assertThat(encoded).hasSize(55);
+        assertThat(codec.verify(encoded)).isEqualTo(pass);
+    }
+
+    @Test
+    void rejectsPassWithAnyFlippedBit() {
+        byte[] bytes = Base64.getUrlDecoder().decode(codec.issue(pass));
+
+        for (int i = 0; i < bytes.length * 8; i++) {
+            byte[] tampered = bytes.clone();
+            tampered[i / 8] ^= (byte) (1 << (i % 8));
+
+            assertThat(codec.verify(Base64.getUrlEncoder().withoutPadding().encodeToString(tampered)))
+                    .as("bit %d", i)
+                    .isNull();
+        }
+    }
+
+    @Test
+    void rejectsPassSignedWithAnotherSecret() {
+        CheckInPassCodec other = new CheckInPassCodec("another-secret-key-for-pass-tests!".getBytes(StandardCharsets.US_ASCII));
+
+        assertThat(codec.verify(other.issue(pass))).isNull();
+    }
+
+    @Test
+    void rejectsMalformedInput() {
+        assertThat(codec.verify(null)).isNull();
+        assertThat(codec.verify("")).isNull();
+        assertThat(codec.verify("not a pass")).isNull();
+        assertThat(codec.verify("*".repeat(55))).isNull();
+        assertThat(codec.verify(codec.issue(pass) + "A")).isNull();
+    }
+}
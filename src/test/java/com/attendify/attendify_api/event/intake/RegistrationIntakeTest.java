@@ -0,0 +1,165 @@
+package com.attendify.attendify_api.event.intake;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.attendify.attendify_api.event.cache.EventReadCache;
+import com.attendify.attendify_api.event.entity.Event;
+import com.attendify.attendify_api.event.entity.enums.EventStatus;
+import com.attendify.attendify_api.event.intake.RegistrationTicket.Outcome;
+import com.attendify.attendify_api.event.intake.RegistrationTicket.Status;
+import com.attendify.attendify_api.event.repository.EventRegistrationRepository;
+import com.attendify.attendify_api.event.repository.EventRepository;
+import com.attendify.attendify_api.event.repository.WaitlistEntryRepository;
+import com.attendify.attendify_api.user.repository.UserRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class RegistrationIntakeTest {
+    private static final Long EVENT_ID = 3L;
+    private static final Long BLOCKING_EVENT_ID = 99L;
+
+    private final EventRepository eventRepository = mock(EventRepository.class);
+    private final EventRegistrationRepository eventRegistrationRepository = mock(EventRegistrationRepository.class);
+    private final WaitlistEntryRepository waitlistEntryRepository = mock(WaitlistEntryRepository.class);
+    private final UserRepository userRepository = mock(UserRepository.class);
+
+    // Holds the only worker busy so the tickets of the tested event pile up into a single batch
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    private RegistrationIntake intake;
+
+    @BeforeEach
+    void setUp() {
+        IntakeProperties properties = new IntakeProperties();
+        properties.setWorkers(1);
+
+        intake = new RegistrationIntake(eventRepository, eventRegistrationRepository, waitlistEntryRepository,
+                userRepository, mock(EventReadCache.class), properties,
+                mock(PlatformTransactionManager.class), new SimpleMeterRegistry());
+
+        when(eventRepository.findByIdForUpdate(BLOCKING_EVENT_ID)).thenAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            return Optional.empty();
+        });
+        when(userRepository.findExistingIds(anyCollection())).thenReturn(Set.of(1L, 2L, 3L, 4L));
+        when(eventRegistrationRepository.findRegisteredUserIds(eq(EVENT_ID), anyCollection())).thenReturn(Set.of(4L));
+        when(waitlistEntryRepository.findWaitlistedUserIds(eq(EVENT_ID), anyCollection())).thenReturn(Set.of());
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        release.countDown();
+        intake.shutdown();
+    }
+
+    @Test
+    void decidesQueuedRegistrationsWithOneLockPerBatch() throws Exception {
+        lockReturns(event(2, EventStatus.PUBLISHED));
+        when(eventRegistrationRepository.insertAllIfAbsent(eq(EVENT_ID), eq(List.of(1L, 2L)), isNull(), any()))
+                .thenReturn(Map.of(1L, 11L, 2L, 12L));
+        when(waitlistEntryRepository.enqueueAll(eq(EVENT_ID), eq(List.of(3L)), any())).thenReturn(Map.of(3L, 5L));
+
+        intake.submit(7L, BLOCKING_EVENT_ID);
+        List<RegistrationTicket> tickets = List.of(
+                intake.submit(1L, EVENT_ID),
+                intake.submit(2L, EVENT_ID),
+                intake.submit(3L, EVENT_ID),
+                intake.submit(4L, EVENT_ID));
+
+        assertThat(tickets).allMatch(ticket -> ticket.outcome().status() == Status.QUEUED);
+        release.countDown();
+
+        assertThat(decided(tickets.get(0))).isEqualTo(new Outcome(Status.REGISTERED, 11L, null, null));
+        assertThat(decided(tickets.get(1))).isEqualTo(new Outcome(Status.REGISTERED, 12L, null, null));
+        assertThat(decided(tickets.get(2))).isEqualTo(new Outcome(Status.WAITLISTED, null, 5L, null));
+        assertThat(decided(tickets.get(3)).status()).isEqualTo(Status.REJECTED);
+
+        verify(eventRepository, times(1)).findByIdForUpdate(EVENT_ID);
+        verify(eventRepository, times(1)).addSeats(EVENT_ID, 2);
+    }
+
+    @Test
+    void returnsTheQueuedTicketForARepeatedRequest() {
+        intake.submit(7L, BLOCKING_EVENT_ID);
+
+        RegistrationTicket first = intake.submit(1L, EVENT_ID);
+        RegistrationTicket repeated = intake.submit(1L, EVENT_ID);
+
+        assertThat(repeated).isSameAs(first);
+        assertThat(intake.find(first.getId())).isSameAs(first);
+    }
+
+    @Test
+    void rejectsTheWholeBatchOfADraftEvent() throws Exception {
+        lockReturns(event(10, EventStatus.DRAFT));
+
+        RegistrationTicket ticket = intake.submit(1L, EVENT_ID);
+
+        assertThat(decided(ticket).status()).isEqualTo(Status.REJECTED);
+        verify(eventRegistrationRepository, never()).insertAllIfAbsent(any(), anyList(), any(), any());
+    }
+
+    @Test
+    void failsTheBatchWhenItCannotBeWritten() throws Exception {
+        lockReturns(event(10, EventStatus.PUBLISHED));
+        when(eventRegistrationRepository.insertAllIfAbsent(eq(EVENT_ID), anyList(), isNull(), any()))
+                .thenThrow(new QueryTimeoutException("timeout"));
+
+        RegistrationTicket ticket = intake.submit(1L, EVENT_ID);
+
+        assertThat(decided(ticket).status()).isEqualTo(Status.FAILED);
+    }
+
+    @Test
+    void reportsTheTicketStillQueuedOnceTheWaitIsOver() throws Exception {
+        intake.submit(7L, BLOCKING_EVENT_ID);
+        RegistrationTicket ticket = intake.submit(1L, EVENT_ID);
+
+        Outcome outcome = intake.await(ticket, Duration.ofMillis(50)).get(5, TimeUnit.SECONDS);
+
+        assertThat(outcome.status()).isEqualTo(Status.QUEUED);
+    }
+
+    private void lockReturns(Event event) {
+        when(eventRepository.findByIdForUpdate(EVENT_ID)).thenReturn(Optional.of(event));
+    }
+
+    private Outcome decided(RegistrationTicket ticket) throws Exception {
+        return ticket.whenDecided().get(5, TimeUnit.SECONDS);
+    }
+
+    private static Event event(int capacity, EventStatus status) {
+        return Event.builder()
+                .id(EVENT_ID)
+                .capacity(capacity)
+                .status(status)
+                .startDate(LocalDateTime.now().plusDays(1))
+                .endDate(LocalDateTime.now().plusDays(2))
+                .build();
+    }
+}
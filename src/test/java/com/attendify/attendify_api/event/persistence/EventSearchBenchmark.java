@@ -0,0 +1,184 @@
+package com.attendify.attendify_api.event.persistence;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+// First page of the events listing filtered by text: CONTAINS (LIKE on title and description) against FULL_TEXT
+// (search_vector and title trigrams), on a seeded table shaped like events. Needs a PostgreSQL where pg_trgm can be
+// created, the table is seeded once and kept across runs.
+// Run with: ./mvnw test-compile exec:java -Dexec.mainClass=<this class> -Dexec.classpathScope=test
+//     -Dbench.url=jdbc:postgresql://localhost:5432/attendify -Dbench.user=... -Dbench.password=...
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EventSearchBenchmark {
+    private static final int ROWS = 1_000_000;
+    private static final int PAGE_SIZE = 10;
+
+    private static final String CREATE_TABLE = """
+                CREATE TABLE IF NOT EXISTS event_search_bench (
+                    event_id BIGSERIAL PRIMARY KEY,
+                    title VARCHAR(255) NOT NULL,
+                    description TEXT NOT NULL,
+                    search_vector tsvector GENERATED ALWAYS AS (
+                        setweight(to_tsvector('simple', coalesce(title, '')), 'A')
+                        || setweight(to_tsvector('simple', coalesce(description, '')), 'B')
+                    ) STORED
+                )
+            """;
+
+    // Titles of three and descriptions of forty words drawn from a small vocabulary, rare words included
+    private static final String SEED = """
+                WITH vocabulary AS (
+                    SELECT ARRAY['music', 'tech', 'conference', 'workshop', 'festival', 'summit', 'meetup',
+                        'design', 'data', 'cloud', 'security', 'startup', 'community', 'health', 'art',
+                        'film', 'food', 'science', 'education', 'robotics', 'finance', 'sports', 'gaming',
+                        'quantum', 'marathon', 'opera', 'hackathon', 'poetry', 'astronomy', 'chess'] AS words
+                )
+                INSERT INTO event_search_bench (title, description)
+                SELECT
+                    (SELECT string_agg(initcap(words[1 + floor(random() * array_length(words, 1))::int]), ' ')
+                        FROM generate_series(1, 3) WHERE g > 0),
+                    (SELECT string_agg(words[1 + floor(random() * array_length(words, 1))::int], ' ')
+                        FROM generate_series(1, 40) WHERE g > 0)
+                FROM generate_series(1, ?) g, vocabulary
+            """;
+
+    // Same predicates EventSpecifications renders for each mode
+    private static final String CONTAINS = """
+                SELECT event_id, title FROM event_search_bench
+                WHERE lower(title) LIKE ? OR lower(description) LIKE ?
+                LIMIT ?
+            """;
+
+    private static final String FULL_TEXT = """
+                SELECT event_id, title FROM event_search_bench
+                WHERE search_vector @@ websearch_to_tsquery('simple', ?) OR lower(title) LIKE ?
+                LIMIT ?
+            """;
+
+    private static final String FULL_TEXT_BY_RANK = """
+                SELECT event_id, title FROM event_search_bench
+                WHERE search_vector @@ websearch_to_tsquery('simple', ?) OR lower(title) LIKE ?
+                ORDER BY ts_rank(search_vector, websearch_to_tsquery('simple', ?)) DESC, event_id
+                LIMIT ?
+            """;
+
+    // A word in most rows, a word in a few rows, and one in none
+    @Param({ "conference", "quantum chess", "zeppelin" })
+    private String text;
+
+    private Connection connection;
+
+    @Setup
+    public void setup() throws SQLException {
+        connection = DriverManager.getConnection(
+                System.getProperty("bench.url", "jdbc:postgresql://localhost:5432/attendify"),
+                System.getProperty("bench.user", "postgres"),
+                System.getProperty("bench.password", "postgres"));
+
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("CREATE EXTENSION IF NOT EXISTS pg_trgm");
+            statement.execute(CREATE_TABLE);
+
+            try (ResultSet rs = statement.executeQuery("SELECT count(*) FROM event_search_bench")) {
+                rs.next();
+
+                if (rs.getLong(1) < ROWS)
+                    seed(ROWS - rs.getLong(1));
+            }
+
+            statement.execute("CREATE INDEX IF NOT EXISTS idx_bench_search_vector "
+                    + "ON event_search_bench USING GIN (search_vector)");
+            statement.execute("CREATE INDEX IF NOT EXISTS idx_bench_title_trgm "
+                    + "ON event_search_bench USING GIN (lower(title) gin_trgm_ops)");
+            statement.execute("ANALYZE event_search_bench");
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws SQLException {
+        connection.close();
+    }
+
+    @Benchmark
+    public int contains() throws SQLException {
+        String like = "%" + text.toLowerCase() + "%";
+
+        try (PreparedStatement ps = connection.prepareStatement(CONTAINS)) {
+            ps.setString(1, like);
+            ps.setString(2, like);
+            ps.setInt(3, PAGE_SIZE);
+            return count(ps);
+        }
+    }
+
+    @Benchmark
+    public int fullText() throws SQLException {
+        try (PreparedStatement ps = connection.prepareStatement(FULL_TEXT)) {
+            ps.setString(1, text);
+            ps.setString(2, "%" + text.toLowerCase() + "%");
+            ps.setInt(3, PAGE_SIZE);
+            return count(ps);
+        }
+    }
+
+    @Benchmark
+    public int fullTextByRank() throws SQLException {
+        try (PreparedStatement ps = connection.prepareStatement(FULL_TEXT_BY_RANK)) {
+            ps.setString(1, text);
+            ps.setString(2, "%" + text.toLowerCase() + "%");
+            ps.setString(3, text);
+            ps.setInt(4, PAGE_SIZE);
+            return count(ps);
+        }
+    }
+
+    private void seed(long rows) throws SQLException {
+        try (PreparedStatement ps = connection.prepareStatement(SEED)) {
+            ps.setLong(1, rows);
+            ps.executeUpdate();
+        }
+    }
+
+    private static int count(PreparedStatement ps) throws SQLException {
+        int rows = 0;
+
+        try (ResultSet rs = ps.executeQuery()) {
+            while (rs.next())
+                rows++;
+        }
+
+        return rows;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(EventSearchBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
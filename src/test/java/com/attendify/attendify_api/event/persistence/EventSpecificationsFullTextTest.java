@@ -0,0 +1,68 @@
+package com.attendify.attendify_api.event.persistence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+
+import com.attendify.attendify_api.event.dto.EventFilterDTO;
+import com.attendify.attendify_api.event.entity.Event;
+import com.attendify.attendify_api.event.entity.enums.EventLocation;
+import com.attendify.attendify_api.event.entity.enums.EventSearchMode;
+import com.attendify.attendify_api.event.entity.enums.EventStatus;
+import com.attendify.attendify_api.event.repository.EventRepository;
+import com.attendify.attendify_api.shared.persistence.PostgresJpaTest;
+
+// FULL_TEXT search against the unmapped search_vector column, added here as EventSearchIndexes does on startup
+@EnabledIfSystemProperty(named = "test.db.url", matches = ".+")
+class EventSpecificationsFullTextTest extends PostgresJpaTest {
+    @Autowired
+    private EventRepository eventRepository;
+
+    private final EventSpecifications eventSpecifications = new EventSpecifications();
+
+    @BeforeEach
+    void setUp() {
+        entityManager.getEntityManager().createNativeQuery("""
+                    ALTER TABLE events ADD COLUMN IF NOT EXISTS search_vector tsvector GENERATED ALWAYS AS (
+                        setweight(to_tsvector('simple', coalesce(title, '')), 'A')
+                        || setweight(to_tsvector('simple', coalesce(description, '')), 'B')
+                    ) STORED
+                """).executeUpdate();
+
+        seedEvent("Kotlin meetup", "Talks about coroutines");
+        seedEvent("Java conference", "A day about kotlin and the JVM");
+        seedEvent("Design sprint", "Workshops");
+        flushAndClear();
+    }
+
+    @Test
+    void ranksTitleMatchesAboveDescriptionMatches() {
+        var page = eventRepository.findAll(eventSpecifications.build(EventFilterDTO.builder()
+                .text("kotlin")
+                .searchMode(EventSearchMode.FULL_TEXT)
+                .sortByRank(true)
+                .build()), PageRequest.of(0, 10));
+
+        assertThat(page.getContent()).extracting(Event::getTitle)
+                .containsExactly("Kotlin meetup", "Java conference");
+        assertThat(page.getTotalElements()).isEqualTo(2);
+    }
+
+    private void seedEvent(String title, String description) {
+        entityManager.persist(Event.builder()
+                .title(title)
+                .description(description)
+                .startDate(LocalDateTime.now().plusDays(1))
+                .endDate(LocalDateTime.now().plusDays(2))
+                .location(EventLocation.ONLINE)
+                .capacity(100)
+                .status(EventStatus.PUBLISHED)
+                .build());
+    }
+}
@@ -0,0 +1,96 @@
+package com.attendify.attendify_api.event.reservation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import com.attendify.attendify_api.event.cache.EventReadCache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class RegistrationWriteBehindTest {
+    private static final Long EVENT_ID = 5L;
+    private static final Long BAD_USER_ID = 13L;
+
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final List<PendingRegistration> dropped = new CopyOnWriteArrayList<>();
+    private final CountDownLatch droppedLatch = new CountDownLatch(1);
+
+    private RegistrationWriteBehind writeBehind;
+
+    @BeforeEach
+    void setUp() {
+        PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+
+        // A batch holding the bad row fails as a whole, the others are written
+        when(jdbcTemplate.batchUpdate(anyString(), anyCollection(), anyInt(), any())).thenAnswer(invocation -> {
+            Collection<PendingRegistration> batch = invocation.getArgument(1);
+
+            if (batch.stream().anyMatch(registration -> registration.userId().equals(BAD_USER_ID)))
+                throw new DataIntegrityViolationException("bad row");
+
+            int[] rows = new int[batch.size()];
+            Arrays.fill(rows, 1);
+            return new int[][] { rows };
+        });
+
+        HighDemandProperties properties = new HighDemandProperties();
+        properties.setWriteAttempts(1);
+
+        writeBehind = new RegistrationWriteBehind(jdbcTemplate, transactionManager, mock(EventReadCache.class),
+                properties, meterRegistry);
+        writeBehind.onDropped(registration -> {
+            dropped.add(registration);
+            droppedLatch.countDown();
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        writeBehind.stop();
+    }
+
+    @Test
+    void dropsOnlyTheRowThatFailsOnItsOwn() throws InterruptedException {
+        for (long userId : new long[] { 11L, BAD_USER_ID, 17L })
+            writeBehind.markPending(EVENT_ID, userId);
+
+        writeBehind.start();
+        writeBehind.offer(new PendingRegistration(11L, EVENT_ID, null, LocalDateTime.now()));
+        writeBehind.offer(new PendingRegistration(BAD_USER_ID, EVENT_ID, null, LocalDateTime.now()));
+        writeBehind.offer(new PendingRegistration(17L, EVENT_ID, null, LocalDateTime.now()));
+
+        assertThat(droppedLatch.await(5, TimeUnit.SECONDS)).isTrue();
+        writeBehind.stop();
+
+        assertThat(dropped).extracting(PendingRegistration::userId).containsExactly(BAD_USER_ID);
+        assertThat(meterRegistry.counter("attendify.registrations.write-behind.written").count()).isEqualTo(2);
+        assertThat(meterRegistry.counter("attendify.registrations.write-behind.dropped").count()).isEqualTo(1);
+
+        // None of them is pending anymore, the bad row may be retried by its user
+        assertThat(writeBehind.markPending(EVENT_ID, BAD_USER_ID)).isTrue();
+        assertThat(writeBehind.markPending(EVENT_ID, 11L)).isTrue();
+    }
+}
@@ -0,0 +1,81 @@
+package com.attendify.attendify_api.event.reservation;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+// Seat claims per second from 32 threads, as in a ticket drop: the striped SeatCounter against a single lock guarded
+// counter, the in-process equivalent of the row lock taken by EventRepository.claimSeat (which adds a database round
+// trip on top in production). Every claim is released again so the counters never run out during a measurement.
+// Run with: ./mvnw test-compile exec:java -Dexec.mainClass=<this class> -Dexec.classpathScope=test
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Threads(32)
+@Fork(1)
+public class SeatCounterBenchmark {
+    private static final int CAPACITY = 250_000;
+
+    private final Object rowLock = new Object();
+    private int registeredCount;
+    private SeatCounter counter;
+
+    @Setup
+    public void setup() {
+        registeredCount = 0;
+        counter = new SeatCounter(CAPACITY, 16);
+    }
+
+    // Previous path: every claim and release serialized on one lock
+    @Benchmark
+    public boolean lockingPath() {
+        boolean claimed;
+
+        synchronized (rowLock) {
+            claimed = registeredCount < CAPACITY;
+            if (claimed)
+                registeredCount++;
+        }
+
+        if (claimed) {
+            synchronized (rowLock) {
+                registeredCount--;
+            }
+        }
+
+        return claimed;
+    }
+
+    // Current path: claims spread over independently updated stripes
+    @Benchmark
+    public boolean stripedCounter() {
+        boolean claimed = counter.tryClaim();
+
+        if (claimed)
+            counter.release();
+
+        return claimed;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(SeatCounterBenchmark.class.getSimpleName())
+                .build())
+                .run();
+    }
+}
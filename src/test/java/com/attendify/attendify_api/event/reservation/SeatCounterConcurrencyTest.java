@@ -0,0 +1,88 @@
+package com.attendify.attendify_api.event.reservation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import org.junit.jupiter.api.Test;
+
+// Hammers a seat counter from many threads, as in a ticket drop, and checks that capacity is never exceeded.
+// Throughput against the locking path is measured by SeatCounterBenchmark.
+class SeatCounterConcurrencyTest {
+    private static final int THREADS = 32;
+    private static final int ATTEMPTS_PER_THREAD = 20_000;
+    private static final int CAPACITY = 250_000;
+
+    @Test
+    void neverExceedsCapacity() throws InterruptedException {
+        SeatCounter counter = new SeatCounter(CAPACITY, 16);
+
+        int claimed = hammer(counter::tryClaim);
+
+        assertThat(claimed).isEqualTo(CAPACITY);
+        assertThat(counter.available()).isZero();
+        assertThat(counter.tryClaim()).isFalse();
+    }
+
+    @Test
+    void releasedSeatsCanBeClaimedAgain() {
+        SeatCounter counter = new SeatCounter(2, 4);
+
+        assertThat(counter.tryClaim()).isTrue();
+        assertThat(counter.tryClaim()).isTrue();
+        assertThat(counter.tryClaim()).isFalse();
+
+        counter.release();
+
+        assertThat(counter.tryClaim()).isTrue();
+        assertThat(counter.tryClaim()).isFalse();
+    }
+
+    @Test
+    void drainingTakesEverySeatLeft() {
+        SeatCounter counter = new SeatCounter(0, 4);
+
+        counter.add(5);
+        assertThat(counter.tryClaim()).isTrue();
+
+        assertThat(counter.drain()).isEqualTo(4);
+        assertThat(counter.available()).isZero();
+        assertThat(counter.tryClaim()).isFalse();
+    }
+
+    private static int hammer(BooleanSupplier claim) throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger claimed = new AtomicInteger();
+
+        try {
+            for (int t = 0; t < THREADS; t++) {
+                executor.submit(() -> {
+                    start.await();
+
+                    int local = 0;
+                    for (int i = 0; i < ATTEMPTS_PER_THREAD; i++) {
+                        if (claim.getAsBoolean())
+                            local++;
+                    }
+
+                    claimed.addAndGet(local);
+                    return null;
+                });
+            }
+
+            start.countDown();
+            executor.shutdown();
+            assertThat(executor.awaitTermination(1, TimeUnit.MINUTES)).isTrue();
+
+            return claimed.get();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
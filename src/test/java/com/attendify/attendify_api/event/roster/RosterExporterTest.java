@@ -0,0 +1,119 @@
+package com.attendify.attendify_api.event.roster;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.transaction.PlatformTransactionManager;
+
+class RosterExporterTest {
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+    private final PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+    private final RosterExporter exporter = new RosterExporter(jdbcTemplate, transactionManager);
+
+    @Test
+    void writesHeaderThenOneFixedSizeEntryPerRegistration() throws Exception {
+        returnRows(row(9L, 10L, 42L, true, false), row(9L, 11L, 43L, false, true));
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        exporter.writeChanges(3L, 5L, out);
+
+        assertThat(out.size()).isEqualTo(18 + 2 * 17);
+
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(out.toByteArray()));
+        assertThat(in.readByte()).isEqualTo(RosterExporter.FORMAT);
+        assertThat(in.readByte()).isEqualTo(RosterExporter.CHANGES);
+        assertThat(in.readLong()).isEqualTo(3L);
+        assertThat(in.readLong()).isEqualTo(9L);
+
+        assertThat(in.readLong()).isEqualTo(10L);
+        assertThat(in.readLong()).isEqualTo(42L);
+        assertThat(in.readByte()).isEqualTo((byte) RosterExporter.FLAG_CHECKED_IN);
+
+        assertThat(in.readLong()).isEqualTo(11L);
+        assertThat(in.readLong()).isEqualTo(43L);
+        assertThat(in.readByte()).isEqualTo((byte) RosterExporter.FLAG_CANCELLED);
+    }
+
+    @Test
+    void writesOnlyTheHeaderForAnEmptyRoster() throws IOException, SQLException {
+        returnRows(row(4L, null, null, false, false));
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        exporter.writeSnapshot(3L, out);
+
+        assertThat(out.size()).isEqualTo(18);
+        assertThat(out.toByteArray()[1]).isEqualTo(RosterExporter.SNAPSHOT);
+    }
+
+    @Test
+    void writesToTheDeviceOnlyAfterTheTransactionEnded() throws Exception {
+        returnRows(row(9L, 10L, 42L, true, false), row(9L, 11L, 43L, false, false));
+        boolean[] committed = { false };
+        doAnswer(invocation -> committed[0] = true).when(transactionManager).commit(any());
+
+        ByteArrayOutputStream received = new ByteArrayOutputStream();
+        exporter.writeSnapshot(3L, new OutputStream() {
+            @Override
+            public void write(int b) {
+                assertThat(committed[0]).as("connection released before the first byte").isTrue();
+                received.write(b);
+            }
+        });
+
+        assertThat(received.size()).isEqualTo(18 + 2 * 17);
+    }
+
+    @Test
+    void collectsChangesWithTheVersionTheyReach() throws SQLException {
+        ResultSet rs = row(12L, 10L, 42L, true, false);
+
+        doAnswer(invocation -> {
+            invocation.<RowCallbackHandler>getArgument(1).processRow(rs);
+            return null;
+        }).when(jdbcTemplate).query(anyString(), any(RowCallbackHandler.class), eq(5L), eq(3L));
+
+        RosterChanges changes = exporter.findChanges(3L, 5L);
+
+        assertThat(changes.version()).isEqualTo(12L);
+        assertThat(changes.entries()).containsExactly(new RosterEntry(10L, 42L, true, false));
+    }
+
+    private void returnRows(ResultSet... rows) {
+        doAnswer(invocation -> {
+            RowCallbackHandler handler = invocation.getArgument(1);
+            for (ResultSet rs : List.of(rows))
+                handler.processRow(rs);
+            return null;
+        }).when(jdbcTemplate).query(any(PreparedStatementCreator.class), any(RowCallbackHandler.class));
+    }
+
+    private static ResultSet row(Long version, Long registrationId, Long userId, boolean checkedIn, boolean cancelled)
+            throws SQLException {
+        ResultSet rs = mock(ResultSet.class);
+        when(rs.getLong(1)).thenReturn(version);
+        when(rs.getLong(2)).thenReturn(registrationId != null ? registrationId : 0L);
+        when(rs.wasNull()).thenReturn(registrationId == null);
+        when(rs.getLong(3)).thenReturn(userId != null ? userId : 0L);
+        when(rs.getBoolean(4)).thenReturn(checkedIn);
+        when(rs.getBoolean(5)).thenReturn(cancelled);
+        return rs;
+    }
+}
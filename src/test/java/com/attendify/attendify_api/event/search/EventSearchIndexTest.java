@@ -0,0 +1,172 @@
+package com.attendify.attendify_api.event.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.stubbing.Answer;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+import com.attendify.attendify_api.event.dto.EventFilterDTO;
+import com.attendify.attendify_api.event.entity.Category;
+import com.attendify.attendify_api.event.entity.Event;
+import com.attendify.attendify_api.event.entity.enums.EventLocation;
+import com.attendify.attendify_api.event.entity.enums.EventStatus;
+import com.attendify.attendify_api.event.persistence.EventSearchProperties;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+// Changes are applied right away outside a transaction, the build reads an empty database
+class EventSearchIndexTest {
+    private JdbcTemplate jdbcTemplate;
+    private EventSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = mock(JdbcTemplate.class);
+        index = new EventSearchIndex(jdbcTemplate, new EventSearchProperties(), new SimpleMeterRegistry());
+        index.build();
+    }
+
+    @Test
+    void matchesEveryWordAsAPrefixAcrossTitleDescriptionAndCategories() {
+        Category music = category(1L, "Música");
+        index.indexAfterCommit(event(10L, "Jazz night", "Live quartet downtown", Set.of(music)));
+        index.indexAfterCommit(event(11L, "Jazz workshop", "Improvisation basics", Set.of()));
+
+        assertThat(search("jaz")).containsExactly(10L, 11L);
+        assertThat(search("jazz QUART")).containsExactly(10L);
+        assertThat(search("musica jazz")).containsExactly(10L);
+        assertThat(search("jazz opera")).isEmpty();
+    }
+
+    @Test
+    void replacesUpdatedEventsAndDropsDeletedOnes() {
+        Event event = event(10L, "Jazz night", "Live quartet", Set.of());
+        index.indexAfterCommit(event);
+
+        event.setTitle("Opera night");
+        index.indexAfterCommit(event);
+
+        assertThat(search("jazz")).isEmpty();
+        assertThat(search("opera")).containsExactly(10L);
+
+        index.removeAfterCommit(10L);
+        assertThat(search("opera")).isEmpty();
+
+        index.indexAfterCommit(event);
+        assertThat(search("opera")).containsExactly(10L);
+    }
+
+    @Test
+    void reindexesEventsOfARenamedOrDeletedCategory() {
+        index.indexAfterCommit(event(10L, "Night", "Downtown", Set.of(category(1L, "Jazz"))));
+
+        index.updateCategoryAfterCommit(1L, "Blues");
+        assertThat(search("jazz")).isEmpty();
+        assertThat(search("blues")).containsExactly(10L);
+
+        index.updateCategoryAfterCommit(1L, null);
+        assertThat(search("blues")).isEmpty();
+        assertThat(search("night")).containsExactly(10L);
+    }
+
+    @Test
+    void appliesTheListingFiltersAndPagesTheMatches() {
+        for (long id = 1; id <= 5; id++) {
+            Event event = event(id, "Jazz " + id, "Live", Set.of());
+            event.setStatus(id % 2 == 0 ? EventStatus.CANCELED : EventStatus.PUBLISHED);
+            index.indexAfterCommit(event);
+        }
+
+        EventFilterDTO published = EventFilterDTO.builder().text("jazz").status(EventStatus.PUBLISHED).build();
+        EventSearchIndex.Hits firstPage = index.search(published, 0, 2);
+        EventSearchIndex.Hits lastPage = index.search(published, 2, 2);
+
+        assertThat(firstPage.ids()).containsExactly(1L, 3L);
+        assertThat(firstPage.total()).isEqualTo(3);
+        assertThat(lastPage.ids()).containsExactly(5L);
+
+        EventFilterDTO presential = EventFilterDTO.builder().text("jazz").location(EventLocation.PRESENTIAL).build();
+        assertThat(index.search(presential, 0, 10).total()).isZero();
+    }
+
+    @Test
+    void reportsTheMemoryItHolds() {
+        long empty = index.estimatedBytes();
+
+        index.indexAfterCommit(event(10L, "Jazz night", "Live quartet downtown", Set.of()));
+
+        assertThat(index.estimatedBytes()).isGreaterThan(empty);
+    }
+
+    @Test
+    void refreshesEventsAndCategoriesChangedOnOtherInstances() {
+        index.indexAfterCommit(event(10L, "Jazz night", "Live quartet downtown", Set.of()));
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        Timestamp tomorrow = Timestamp.valueOf(LocalDateTime.now().plusDays(1));
+
+        doAnswer(rows(new Object[] { 1L, "Blues", false, now }))
+                .when(jdbcTemplate).query(contains("FROM categories"), any(RowCallbackHandler.class), any(Object.class));
+        doAnswer(rows(
+                new Object[] { 11L, "Jazz brunch", "Sunday sessions", "PUBLISHED", "ONLINE", tomorrow, false, now },
+                new Object[] { 10L, "Jazz night", "Live quartet downtown", "PUBLISHED", "ONLINE", tomorrow, true, now }))
+                .when(jdbcTemplate).query(contains("FROM events"), any(RowCallbackHandler.class), any(Object.class));
+        doAnswer(rows(new Object[] { 11L, 1L }))
+                .when(jdbcTemplate).query(any(PreparedStatementCreator.class), any(RowCallbackHandler.class));
+
+        index.refresh();
+
+        assertThat(search("jazz")).containsExactly(11L);
+        assertThat(search("blues sunday")).containsExactly(11L);
+        assertThat(index.search(EventFilterDTO.builder().text("jazz").build(), 0, 20).total()).isEqualTo(1);
+    }
+
+    private List<Long> search(String text) {
+        return index.search(EventFilterDTO.builder().text(text).build(), 0, 20).ids();
+    }
+
+    private static Event event(Long id, String title, String description, Set<Category> categories) {
+        Event event = Event.builder()
+                .title(title)
+                .description(description)
+                .location(EventLocation.ONLINE)
+                .status(EventStatus.PUBLISHED)
+                .startDate(LocalDateTime.now().plusDays(1))
+                .categories(new HashSet<>(categories))
+                .build();
+        event.setId(id);
+        return event;
+    }
+
+    private static Category category(Long id, String name) {
+        Category category = Category.builder().name(name).build();
+        category.setId(id);
+        return category;
+    }
+
+    // Feeds each row to the handler, column n of a row answers every getter called with n
+    private static Answer<Void> rows(Object[]... rows) {
+        return invocation -> {
+            RowCallbackHandler handler = invocation.getArgument(1);
+
+            for (Object[] row : rows)
+                handler.processRow(mock(ResultSet.class, column -> row[(int) column.getArgument(0) - 1]));
+
+            return null;
+        };
+    }
+}
@@ -0,0 +1,126 @@
+package com.attendify.attendify_api.event.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.stubbing.Answer;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+import com.attendify.attendify_api.event.dto.EventSuggestionDTO;
+import com.attendify.attendify_api.event.dto.EventSuggestionDTO.Type;
+import com.attendify.attendify_api.event.entity.Event;
+import com.attendify.attendify_api.event.entity.enums.EventStatus;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+// Changes are applied right away outside a transaction, the build reads an empty database
+class EventSuggesterTest {
+    private JdbcTemplate jdbcTemplate;
+    private EventSuggester suggester;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = mock(JdbcTemplate.class);
+        suggester = new EventSuggester(jdbcTemplate, new SimpleMeterRegistry());
+        suggester.build();
+    }
+
+    @Test
+    void matchesTheStartOfAnyWordAcrossSeveralWords() {
+        suggester.putEventAfterCommit(event(1L, "Jazz Night", EventStatus.PUBLISHED));
+        suggester.putEventAfterCommit(event(2L, "Night of Jazz", EventStatus.PUBLISHED));
+        suggester.putCategoryAfterCommit(3L, "Música en vivo");
+
+        assertThat(ids(suggester.suggest("ni", 10))).containsExactlyInAnyOrder(1L, 2L);
+        assertThat(ids(suggester.suggest("JAZZ n", 10))).containsExactly(1L);
+        assertThat(suggester.suggest("musica", 10))
+                .containsExactly(new EventSuggestionDTO(Type.CATEGORY, 3L, "Música en vivo"));
+        assertThat(suggester.suggest("  ", 10)).isEmpty();
+    }
+
+    @Test
+    void returnsEachEventOnceUpToTheLimit() {
+        suggester.putEventAfterCommit(event(1L, "Jazz jazz jazz", EventStatus.PUBLISHED));
+        suggester.putEventAfterCommit(event(2L, "Jazz brunch", EventStatus.PUBLISHED));
+        suggester.putEventAfterCommit(event(3L, "Jazz picnic", EventStatus.PUBLISHED));
+
+        assertThat(ids(suggester.suggest("jazz", 10))).containsExactlyInAnyOrder(1L, 2L, 3L);
+        assertThat(suggester.suggest("jazz", 2)).hasSize(2);
+    }
+
+    @Test
+    void followsRenamesStatusChangesAndDeletes() {
+        Event event = event(1L, "Jazz Night", EventStatus.DRAFT);
+        suggester.putEventAfterCommit(event);
+        assertThat(suggester.suggest("jazz", 10)).isEmpty();
+
+        event.setStatus(EventStatus.PUBLISHED);
+        suggester.putEventAfterCommit(event);
+        assertThat(ids(suggester.suggest("jazz", 10))).containsExactly(1L);
+
+        event.setTitle("Blues Night");
+        suggester.putEventAfterCommit(event);
+        assertThat(suggester.suggest("jazz", 10)).isEmpty();
+        assertThat(ids(suggester.suggest("blu", 10))).containsExactly(1L);
+
+        suggester.removeEventAfterCommit(1L);
+        assertThat(suggester.suggest("night", 10)).isEmpty();
+
+        suggester.putCategoryAfterCommit(5L, "Jazz");
+        suggester.putCategoryAfterCommit(5L, null);
+        assertThat(suggester.suggest("jazz", 10)).isEmpty();
+    }
+
+    @Test
+    void refreshesNamesChangedOnOtherInstances() {
+        suggester.putEventAfterCommit(event(1L, "Jazz Night", EventStatus.PUBLISHED));
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        doAnswer(rows(new Object[] { 1L, "Jazz Night", false, now }, new Object[] { 2L, "Jazz brunch", true, now }))
+                .when(jdbcTemplate).query(contains("FROM events"), any(RowCallbackHandler.class), any(Object.class));
+        doAnswer(rows(new Object[] { 3L, "Jazz club", true, now }))
+                .when(jdbcTemplate).query(contains("FROM categories"), any(RowCallbackHandler.class), any(Object.class));
+
+        suggester.refresh();
+
+        assertThat(suggester.suggest("jazz", 10)).containsExactlyInAnyOrder(
+                new EventSuggestionDTO(Type.EVENT, 2L, "Jazz brunch"),
+                new EventSuggestionDTO(Type.CATEGORY, 3L, "Jazz club"));
+    }
+
+    private static List<Long> ids(List<EventSuggestionDTO> suggestions) {
+        return suggestions.stream().map(EventSuggestionDTO::id).toList();
+    }
+
+    private static Event event(Long id, String title, EventStatus status) {
+        Event event = Event.builder()
+                .title(title)
+                .status(status)
+                .build();
+        event.setId(id);
+        return event;
+    }
+
+    // Feeds each row to the handler, column n of a row answers every getter called with n
+    private static Answer<Void> rows(Object[]... rows) {
+        return invocation -> {
+            RowCallbackHandler handler = invocation.getArgument(1);
+
+            for (Object[] row : rows)
+                handler.processRow(mock(ResultSet.class, column -> row[(int) column.getArgument(0) - 1]));
+
+            return null;
+        };
+    }
+}
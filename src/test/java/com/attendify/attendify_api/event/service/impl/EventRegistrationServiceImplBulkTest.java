@@ -0,0 +1,143 @@
+package com.attendify.attendify_api.event.service.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.attendify.attendify_api.event.cache.EventReadCache;
+import com.attendify.attendify_api.event.dto.EventRegistrationBulkRequestDTO;
+import com.attendify.attendify_api.event.dto.EventRegistrationBulkResponseDTO;
+import com.attendify.attendify_api.event.dto.EventRegistrationBulkResponseDTO.Status;
+import com.attendify.attendify_api.event.entity.Event;
+import com.attendify.attendify_api.event.entity.enums.EventStatus;
+import com.attendify.attendify_api.event.mapper.EventRegistrationMapper;
+import com.attendify.attendify_api.event.repository.EventRegistrationRepository;
+import com.attendify.attendify_api.event.repository.EventRepository;
+import com.attendify.attendify_api.event.repository.WaitlistEntryRepository;
+import com.attendify.attendify_api.event.reservation.SeatReservationEngine;
+import com.attendify.attendify_api.event.waitlist.WaitlistPromoter;
+import com.attendify.attendify_api.shared.security.SecurityUtils;
+import com.attendify.attendify_api.user.entity.enums.Permission;
+import com.attendify.attendify_api.user.repository.UserRepository;
+
+// A roster costs one lock, two set-based lookups and one insert that skips conflicting rows, whatever its size
+@ExtendWith(MockitoExtension.class)
+class EventRegistrationServiceImplBulkTest {
+    @Spy
+    private EventRegistrationMapper eventRegistrationMapper;
+
+    @Mock
+    private EventRegistrationRepository eventRegistrationRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private EventRepository eventRepository;
+
+    @Mock
+    private SecurityUtils securityUtils;
+
+    @Mock
+    private SeatReservationEngine seatReservationEngine;
+
+    @Mock
+    private WaitlistEntryRepository waitlistEntryRepository;
+
+    @Mock
+    private WaitlistPromoter waitlistPromoter;
+
+    @Mock
+    private EventReadCache eventReadCache;
+
+    @InjectMocks
+    private EventRegistrationServiceImpl eventRegistrationService;
+
+    @Test
+    void reportsOneOutcomePerDistinctUser() {
+        Event event = Event.builder()
+                .id(3L)
+                .capacity(3)
+                .registeredCount(1)
+                .status(EventStatus.PUBLISHED)
+                .startDate(LocalDateTime.now().plusDays(1))
+                .endDate(LocalDateTime.now().plusDays(2))
+                .build();
+
+        when(eventRepository.findByIdForUpdate(event.getId())).thenReturn(Optional.of(event));
+        when(securityUtils.hasPermission(Permission.EVENT_REGISTRATION_FORCE_CREATE)).thenReturn(false);
+        when(securityUtils.getCurrentAuditorId()).thenReturn(99L);
+        when(userRepository.findExistingIds(anyCollection())).thenReturn(Set.of(1L, 2L, 3L, 4L));
+        when(eventRegistrationRepository.findRegisteredUserIds(eq(event.getId()), anyCollection()))
+                .thenReturn(Set.of(2L));
+        when(eventRegistrationRepository.insertAllIfAbsent(eq(event.getId()), eq(List.of(1L, 3L)), eq(99L), any()))
+                .thenReturn(Map.of(1L, 11L, 3L, 13L));
+
+        EventRegistrationBulkResponseDTO response = eventRegistrationService.createByForceBulk(
+                new EventRegistrationBulkRequestDTO(event.getId(), List.of(1L, 2L, 3L, 1L, 4L, 5L)));
+
+        assertThat(response.registered()).isEqualTo(2);
+        assertThat(response.results()).containsExactly(
+                new EventRegistrationBulkResponseDTO.Result(1L, Status.REGISTERED),
+                new EventRegistrationBulkResponseDTO.Result(2L, Status.ALREADY_REGISTERED),
+                new EventRegistrationBulkResponseDTO.Result(3L, Status.REGISTERED),
+                new EventRegistrationBulkResponseDTO.Result(4L, Status.EVENT_FULL),
+                new EventRegistrationBulkResponseDTO.Result(5L, Status.USER_NOT_FOUND));
+
+        verify(eventRepository, times(1)).addSeats(event.getId(), 2);
+    }
+
+    @Test
+    // High-demand events claim from registered_count too, it already counts the seats leased to reservations
+    void countsOnlyTheSeatsOfRowsInsertedForAHighDemandEvent() {
+        Event event = Event.builder()
+                .id(3L)
+                .capacity(10)
+                .registeredCount(0)
+                .highDemand(true)
+                .status(EventStatus.PUBLISHED)
+                .startDate(LocalDateTime.now().plusDays(1))
+                .endDate(LocalDateTime.now().plusDays(2))
+                .build();
+
+        when(eventRepository.findByIdForUpdate(event.getId())).thenReturn(Optional.of(event));
+        when(securityUtils.hasPermission(Permission.EVENT_REGISTRATION_FORCE_CREATE)).thenReturn(false);
+        when(securityUtils.getCurrentAuditorId()).thenReturn(99L);
+        when(userRepository.findExistingIds(anyCollection())).thenReturn(Set.of(1L, 2L));
+        when(eventRegistrationRepository.findRegisteredUserIds(eq(event.getId()), anyCollection()))
+                .thenReturn(Set.of());
+        // User 2 registered between the lookup and the insert, the conflicting row is skipped
+        when(eventRegistrationRepository.insertAllIfAbsent(eq(event.getId()), eq(List.of(1L, 2L)), eq(99L), any()))
+                .thenReturn(Map.of(1L, 11L));
+
+        EventRegistrationBulkResponseDTO response = eventRegistrationService.createByForceBulk(
+                new EventRegistrationBulkRequestDTO(event.getId(), List.of(1L, 2L)));
+
+        assertThat(response.registered()).isEqualTo(1);
+        assertThat(response.results()).containsExactly(
+                new EventRegistrationBulkResponseDTO.Result(1L, Status.REGISTERED),
+                new EventRegistrationBulkResponseDTO.Result(2L, Status.ALREADY_REGISTERED));
+
+        verify(eventRepository).addSeats(event.getId(), 1);
+        verifyNoInteractions(seatReservationEngine);
+        verify(waitlistEntryRepository).deleteByEventIdAndUserIdIn(event.getId(), Set.of(1L));
+    }
+}
@@ -0,0 +1,113 @@
+package com.attendify.attendify_api.event.service.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.attendify.attendify_api.event.dto.EventRegistrationCheckInBatchRequestDTO;
+import com.attendify.attendify_api.event.dto.EventRegistrationCheckInBatchResponseDTO;
+import com.attendify.attendify_api.event.dto.EventRegistrationCheckInBatchResponseDTO.Result;
+import com.attendify.attendify_api.event.dto.EventRegistrationCheckInBatchResponseDTO.Status;
+import com.attendify.attendify_api.event.entity.Event;
+import com.attendify.attendify_api.event.entity.enums.EventStatus;
+import com.attendify.attendify_api.event.mapper.EventRegistrationMapper;
+import com.attendify.attendify_api.event.repository.EventRegistrationRepository;
+import com.attendify.attendify_api.event.repository.EventRepository;
+import com.attendify.attendify_api.event.repository.WaitlistEntryRepository;
+import com.attendify.attendify_api.event.reservation.SeatReservationEngine;
+import com.attendify.attendify_api.event.waitlist.WaitlistPromoter;
+import com.attendify.attendify_api.shared.security.SecurityUtils;
+import com.attendify.attendify_api.user.entity.enums.Permission;
+import com.attendify.attendify_api.user.repository.UserRepository;
+
+@ExtendWith(MockitoExtension.class)
+class EventRegistrationServiceImplCheckInBatchTest {
+    @Spy
+    private EventRegistrationMapper eventRegistrationMapper;
+
+    @Mock
+    private EventRegistrationRepository eventRegistrationRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private EventRepository eventRepository;
+
+    @Mock
+    private SecurityUtils securityUtils;
+
+    @Mock
+    private SeatReservationEngine seatReservationEngine;
+
+    @Mock
+    private WaitlistEntryRepository waitlistEntryRepository;
+
+    @Mock
+    private WaitlistPromoter waitlistPromoter;
+
+    @InjectMocks
+    private EventRegistrationServiceImpl eventRegistrationService;
+
+    private final Event event = Event.builder()
+            .id(3L)
+            .status(EventStatus.PUBLISHED)
+            .startDate(LocalDateTime.now().minusHours(1))
+            .endDate(LocalDateTime.now().plusHours(3))
+            .build();
+
+    @Test
+    void reportsOneOutcomePerDistinctRegistration() {
+        when(eventRepository.findById(event.getId())).thenReturn(Optional.of(event));
+        when(securityUtils.hasPermission(Permission.EVENT_REGISTRATION_FORCE_CHECKIN)).thenReturn(false);
+        when(securityUtils.getCurrentAuditorId()).thenReturn(5L);
+        when(eventRegistrationRepository.checkInAll(eq(event.getId()), anyCollection(), eq(5L), any()))
+                .thenReturn(List.of(10L, 12L));
+        when(eventRegistrationRepository.findActiveIds(eq(event.getId()), anyCollection()))
+                .thenReturn(Set.of(10L, 11L, 12L));
+
+        EventRegistrationCheckInBatchResponseDTO response = eventRegistrationService.checkInBatch(
+                new EventRegistrationCheckInBatchRequestDTO(event.getId(), List.of(10L, 11L, 12L, 10L, 13L)));
+
+        assertThat(response.checkedIn()).isEqualTo(2);
+        assertThat(response.results()).containsExactly(
+                new Result(10L, Status.CHECKED_IN),
+                new Result(11L, Status.ALREADY_CHECKED_IN),
+                new Result(12L, Status.CHECKED_IN),
+                new Result(13L, Status.NOT_FOUND));
+
+        verify(securityUtils).checkOwnerOrPermission(isNull(), eq(Permission.EVENT_REGISTRATION_FORCE_CHECKIN), any());
+    }
+
+    @Test
+    void skipsTheLookupWhenEveryRegistrationChanged() {
+        when(eventRepository.findById(event.getId())).thenReturn(Optional.of(event));
+        when(securityUtils.hasPermission(Permission.EVENT_REGISTRATION_FORCE_CHECKIN)).thenReturn(true);
+        when(securityUtils.getCurrentAuditorId()).thenReturn(1L);
+        when(eventRegistrationRepository.checkInAll(eq(event.getId()), anyCollection(), eq(1L), any()))
+                .thenReturn(List.of(10L, 11L));
+
+        EventRegistrationCheckInBatchResponseDTO response = eventRegistrationService.checkInBatch(
+                new EventRegistrationCheckInBatchRequestDTO(event.getId(), List.of(10L, 11L)));
+
+        assertThat(response.checkedIn()).isEqualTo(2);
+        verify(eventRegistrationRepository, never()).findActiveIds(any(), anyCollection());
+    }
+}
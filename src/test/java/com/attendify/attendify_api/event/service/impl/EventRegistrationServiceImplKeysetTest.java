@@ -0,0 +1,93 @@
+package com.attendify.attendify_api.event.service.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.stream.LongStream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+
+import com.attendify.attendify_api.event.dto.EventRegistrationResponseDTO;
+import com.attendify.attendify_api.event.entity.Event;
+import com.attendify.attendify_api.event.entity.EventRegistration;
+import com.attendify.attendify_api.event.mapper.EventRegistrationMapper;
+import com.attendify.attendify_api.event.repository.EventRegistrationRepository;
+import com.attendify.attendify_api.shared.dto.CursorPageResponseDTO;
+import com.attendify.attendify_api.shared.exception.BadRequestException;
+import com.attendify.attendify_api.shared.mapper.CursorMappingUtils;
+import com.attendify.attendify_api.shared.security.SecurityUtils;
+import com.attendify.attendify_api.user.entity.User;
+
+// Every page is one keyset query for size + 1 rows, the cursor carries the last ID of the previous page
+@ExtendWith(MockitoExtension.class)
+class EventRegistrationServiceImplKeysetTest {
+    private static final Long USER_ID = 5L;
+
+    @Spy
+    private EventRegistrationMapper eventRegistrationMapper;
+
+    @Mock
+    private EventRegistrationRepository eventRegistrationRepository;
+
+    @Mock
+    private SecurityUtils securityUtils;
+
+    @InjectMocks
+    private EventRegistrationServiceImpl eventRegistrationService;
+
+    @Test
+    void returnsACursorToTheLastItemWhenMoreRowsFollow() {
+        when(securityUtils.getAuthenticatedUserId()).thenReturn(USER_ID);
+        when(eventRegistrationRepository.findByUser_IdAfter(USER_ID, 0L, Limit.of(3)))
+                .thenReturn(registrations(10L, 11L, 12L));
+
+        CursorPageResponseDTO<EventRegistrationResponseDTO> page = eventRegistrationService.getMyEventsAfter(null, 2);
+
+        assertThat(page.items()).extracting(EventRegistrationResponseDTO::id).containsExactly(10L, 11L);
+        assertThat(page.hasNext()).isTrue();
+        assertThat(CursorMappingUtils.decodeCursor(page.nextCursor())).isEqualTo(11L);
+    }
+
+    @Test
+    void readsTheNextPageAfterTheCursor() {
+        when(securityUtils.getAuthenticatedUserId()).thenReturn(USER_ID);
+        when(eventRegistrationRepository.findByUser_IdAfter(USER_ID, 11L, Limit.of(3)))
+                .thenReturn(registrations(12L));
+
+        CursorPageResponseDTO<EventRegistrationResponseDTO> page = eventRegistrationService
+                .getMyEventsAfter(CursorMappingUtils.encodeCursor(11L), 2);
+
+        assertThat(page.items()).extracting(EventRegistrationResponseDTO::id).containsExactly(12L);
+        assertThat(page.hasNext()).isFalse();
+        assertThat(page.nextCursor()).isNull();
+    }
+
+    @Test
+    void rejectsAMalformedCursorBeforeQuerying() {
+        assertThatThrownBy(() -> eventRegistrationService.getMyEventsAfter("not a cursor", 2))
+                .isInstanceOf(BadRequestException.class);
+
+        verify(eventRegistrationRepository, never()).findByUser_IdAfter(anyLong(), anyLong(), any());
+    }
+
+    private static List<EventRegistration> registrations(long... ids) {
+        User user = User.builder().id(USER_ID).build();
+        Event event = Event.builder().id(3L).build();
+
+        return LongStream.of(ids)
+                .mapToObj(id -> EventRegistration.builder().id(id).user(user).event(event).checkedIn(false).build())
+                .toList();
+    }
+}
@@ -0,0 +1,160 @@
+package com.attendify.attendify_api.event.service.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.attendify.attendify_api.event.checkin.CheckInEventCache;
+import com.attendify.attendify_api.event.checkin.CheckInEventCache.EventWindow;
+import com.attendify.attendify_api.event.checkin.CheckInPass;
+import com.attendify.attendify_api.event.checkin.CheckInPassCodec;
+import com.attendify.attendify_api.event.checkin.CheckInWriteBehind;
+import com.attendify.attendify_api.event.checkin.PendingCheckIn;
+import com.attendify.attendify_api.event.dto.EventRegistrationScanRequestDTO;
+import com.attendify.attendify_api.event.dto.EventRegistrationScanResponseDTO;
+import com.attendify.attendify_api.event.entity.enums.EventStatus;
+import com.attendify.attendify_api.event.mapper.EventRegistrationMapper;
+import com.attendify.attendify_api.event.repository.EventRegistrationRepository;
+import com.attendify.attendify_api.event.repository.EventRepository;
+import com.attendify.attendify_api.event.repository.WaitlistEntryRepository;
+import com.attendify.attendify_api.event.reservation.SeatReservationEngine;
+import com.attendify.attendify_api.event.waitlist.WaitlistPromoter;
+import com.attendify.attendify_api.shared.exception.BadRequestException;
+import com.attendify.attendify_api.shared.exception.TooManyRequestsException;
+import com.attendify.attendify_api.shared.security.SecurityUtils;
+import com.attendify.attendify_api.shared.security.jwt.JwtProperties;
+import com.attendify.attendify_api.user.entity.enums.Permission;
+import com.attendify.attendify_api.user.repository.UserRepository;
+
+@ExtendWith(MockitoExtension.class)
+class EventRegistrationServiceImplScanTest {
+    @Spy
+    private EventRegistrationMapper eventRegistrationMapper;
+
+    @Mock
+    private EventRegistrationRepository eventRegistrationRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private EventRepository eventRepository;
+
+    @Mock
+    private SecurityUtils securityUtils;
+
+    @Mock
+    private SeatReservationEngine seatReservationEngine;
+
+    @Mock
+    private WaitlistEntryRepository waitlistEntryRepository;
+
+    @Mock
+    private WaitlistPromoter waitlistPromoter;
+
+    @Spy
+    private CheckInPassCodec checkInPassCodec = codec("secret-key-for-check-in-pass-tests");
+
+    @Mock
+    private CheckInEventCache checkInEventCache;
+
+    @Mock
+    private CheckInWriteBehind checkInWriteBehind;
+
+    @InjectMocks
+    private EventRegistrationServiceImpl eventRegistrationService;
+
+    private final CheckInPass pass = new CheckInPass(10L, 3L, 42L);
+    private final EventWindow window = new EventWindow(5L, EventStatus.PUBLISHED, LocalDateTime.now().minusHours(1));
+
+    @Test
+    void queuesCheckInWithoutReadingTheRegistration() {
+        when(checkInEventCache.get(3L)).thenReturn(window);
+        when(securityUtils.hasPermission(Permission.EVENT_REGISTRATION_FORCE_CHECKIN)).thenReturn(false);
+        when(securityUtils.getCurrentAuditorId()).thenReturn(5L);
+        when(checkInWriteBehind.offer(any())).thenReturn(true);
+
+        EventRegistrationScanResponseDTO response = eventRegistrationService.scan(
+                new EventRegistrationScanRequestDTO(3L, checkInPassCodec.issue(pass)));
+
+        assertThat(response.registrationId()).isEqualTo(10L);
+        assertThat(response.userId()).isEqualTo(42L);
+
+        ArgumentCaptor<PendingCheckIn> queued = ArgumentCaptor.forClass(PendingCheckIn.class);
+        verify(checkInWriteBehind).offer(queued.capture());
+        assertThat(queued.getValue().pass()).isEqualTo(pass);
+        assertThat(queued.getValue().checkedInBy()).isEqualTo(5L);
+
+        verifyNoInteractions(eventRegistrationRepository, eventRepository);
+    }
+
+    @Test
+    void rejectsForgedPass() {
+        String forged = codec("another-secret-key-for-pass-tests!").issue(pass);
+
+        assertThatThrownBy(() -> eventRegistrationService.scan(new EventRegistrationScanRequestDTO(3L, forged)))
+                .isInstanceOf(BadRequestException.class)
+                .hasMessage("Invalid check-in pass");
+
+        verifyNoInteractions(checkInEventCache, checkInWriteBehind);
+    }
+
+    @Test
+    void rejectsPassOfAnotherEvent() {
+        String encoded = checkInPassCodec.issue(pass);
+
+        assertThatThrownBy(() -> eventRegistrationService.scan(new EventRegistrationScanRequestDTO(4L, encoded)))
+                .isInstanceOf(BadRequestException.class)
+                .hasMessage("Pass belongs to another event");
+
+        verify(checkInWriteBehind, never()).offer(any());
+    }
+
+    @Test
+    void rejectsScanBeforeEventStarts() {
+        when(checkInEventCache.get(3L))
+                .thenReturn(new EventWindow(5L, EventStatus.PUBLISHED, LocalDateTime.now().plusHours(1)));
+        when(securityUtils.hasPermission(Permission.EVENT_REGISTRATION_FORCE_CHECKIN)).thenReturn(false);
+
+        assertThatThrownBy(() -> eventRegistrationService.scan(
+                new EventRegistrationScanRequestDTO(3L, checkInPassCodec.issue(pass))))
+                .isInstanceOf(BadRequestException.class)
+                .hasMessage("Cannot check-in before event starts");
+
+        verify(checkInWriteBehind, never()).offer(any());
+    }
+
+    @Test
+    void answersTooManyRequestsWhenQueueIsFull() {
+        when(checkInEventCache.get(3L)).thenReturn(window);
+        when(securityUtils.hasPermission(Permission.EVENT_REGISTRATION_FORCE_CHECKIN)).thenReturn(true);
+        when(securityUtils.getCurrentAuditorId()).thenReturn(5L);
+        when(checkInWriteBehind.offer(any())).thenReturn(false);
+
+        assertThatThrownBy(() -> eventRegistrationService.scan(
+                new EventRegistrationScanRequestDTO(3L, checkInPassCodec.issue(pass))))
+                .isInstanceOf(TooManyRequestsException.class);
+    }
+
+    private static CheckInPassCodec codec(String secret) {
+        JwtProperties properties = new JwtProperties();
+        properties.setSecretKey(Base64.getEncoder().encodeToString(secret.getBytes(StandardCharsets.US_ASCII)));
+        return new CheckInPassCodec(properties);
+    }
+}
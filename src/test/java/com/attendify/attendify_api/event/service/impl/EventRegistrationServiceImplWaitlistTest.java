@@ -0,0 +1,115 @@
+package com.attendify.attendify_api.event.service.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.attendify.attendify_api.event.cache.EventReadCache;
+import com.attendify.attendify_api.event.dto.EventRegistrationRequestDTO;
+import com.attendify.attendify_api.event.dto.EventRegistrationResponseDTO;
+import com.attendify.attendify_api.event.entity.Event;
+import com.attendify.attendify_api.event.entity.EventRegistration;
+import com.attendify.attendify_api.event.entity.WaitlistEntry;
+import com.attendify.attendify_api.event.entity.enums.EventStatus;
+import com.attendify.attendify_api.event.mapper.EventRegistrationMapper;
+import com.attendify.attendify_api.event.repository.EventRegistrationRepository;
+import com.attendify.attendify_api.event.repository.EventRepository;
+import com.attendify.attendify_api.event.repository.WaitlistEntryRepository;
+import com.attendify.attendify_api.event.reservation.SeatReservationEngine;
+import com.attendify.attendify_api.event.waitlist.WaitlistPromoter;
+import com.attendify.attendify_api.shared.security.SecurityUtils;
+import com.attendify.attendify_api.user.entity.User;
+import com.attendify.attendify_api.user.entity.enums.Permission;
+import com.attendify.attendify_api.user.repository.UserRepository;
+
+@ExtendWith(MockitoExtension.class)
+class EventRegistrationServiceImplWaitlistTest {
+    @Spy
+    private EventRegistrationMapper eventRegistrationMapper;
+
+    @Mock
+    private EventRegistrationRepository eventRegistrationRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private EventRepository eventRepository;
+
+    @Mock
+    private SecurityUtils securityUtils;
+
+    @Mock
+    private SeatReservationEngine seatReservationEngine;
+
+    @Mock
+    private WaitlistEntryRepository waitlistEntryRepository;
+
+    @Mock
+    private WaitlistPromoter waitlistPromoter;
+
+    @Mock
+    private EventReadCache eventReadCache;
+
+    @InjectMocks
+    private EventRegistrationServiceImpl eventRegistrationService;
+
+    private final User user = User.builder().id(7L).build();
+
+    private final Event event = Event.builder()
+            .id(3L)
+            .capacity(1)
+            .status(EventStatus.PUBLISHED)
+            .startDate(LocalDateTime.now().plusDays(1))
+            .endDate(LocalDateTime.now().plusDays(2))
+            .build();
+
+    @Test
+    void fullEventQueuesTheUserInsteadOfFailing() {
+        when(securityUtils.getAuthenticatedUserId()).thenReturn(user.getId());
+        when(userRepository.findById(user.getId())).thenReturn(Optional.of(user));
+        when(eventRepository.findById(event.getId())).thenReturn(Optional.of(event));
+        when(eventRegistrationRepository.existsByUser_IdAndEvent_Id(user.getId(), event.getId())).thenReturn(false);
+        when(eventRepository.claimSeat(event.getId())).thenReturn(0);
+        when(waitlistEntryRepository.findPosition(event.getId(), user.getId())).thenReturn(4L);
+
+        EventRegistrationResponseDTO response = eventRegistrationService.create(
+                new EventRegistrationRequestDTO(event.getId()));
+
+        assertThat(response.id()).isNull();
+        assertThat(response.waitlistPosition()).isEqualTo(4L);
+
+        verify(eventRegistrationRepository).delete(any(EventRegistration.class));
+        verify(waitlistEntryRepository).saveAndFlush(any(WaitlistEntry.class));
+    }
+
+    @Test
+    void cancellationSignalsThePromoterInsteadOfPromotingInline() {
+        EventRegistration registration = EventRegistration.builder()
+                .id(11L)
+                .user(user)
+                .event(event)
+                .build();
+
+        when(eventRegistrationRepository.findByIdWithDeleted(registration.getId()))
+                .thenReturn(Optional.of(registration));
+        when(securityUtils.hasPermission(Permission.EVENT_REGISTRATION_FORCE_DELETE)).thenReturn(false);
+        when(securityUtils.getCurrentAuditorId()).thenReturn(user.getId());
+
+        eventRegistrationService.delete(registration.getId());
+
+        verify(eventRepository).releaseSeat(event.getId());
+        verify(waitlistPromoter).requestPromotionAfterCommit(event.getId());
+    }
+}
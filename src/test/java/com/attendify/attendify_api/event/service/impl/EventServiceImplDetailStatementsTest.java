@@ -0,0 +1,128 @@
+package com.attendify.attendify_api.event.service.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.attendify.attendify_api.event.cache.EventCacheProperties;
+import com.attendify.attendify_api.event.cache.EventReadCache;
+import com.attendify.attendify_api.event.checkin.CheckInEventCache;
+import com.attendify.attendify_api.event.dto.EventResponseDTO;
+import com.attendify.attendify_api.event.entity.Category;
+import com.attendify.attendify_api.event.entity.Event;
+import com.attendify.attendify_api.event.entity.EventRegistration;
+import com.attendify.attendify_api.event.entity.enums.EventLocation;
+import com.attendify.attendify_api.event.entity.enums.EventStatus;
+import com.attendify.attendify_api.event.mapper.CategoryMapper;
+import com.attendify.attendify_api.event.mapper.EventMapper;
+import com.attendify.attendify_api.event.persistence.EventSpecifications;
+import com.attendify.attendify_api.event.repository.CategoryRepository;
+import com.attendify.attendify_api.event.repository.EventRegistrationRepository;
+import com.attendify.attendify_api.event.repository.EventRepository;
+import com.attendify.attendify_api.event.reservation.SeatReservationEngine;
+import com.attendify.attendify_api.event.search.EventSearchIndex;
+import com.attendify.attendify_api.event.search.EventSuggester;
+import com.attendify.attendify_api.event.waitlist.WaitlistPromoter;
+import com.attendify.attendify_api.shared.persistence.PostgresJpaTest;
+import com.attendify.attendify_api.shared.security.SecurityUtils;
+import com.attendify.attendify_api.user.entity.User;
+import com.attendify.attendify_api.user.entity.enums.Role;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+// Real statements of an uncached event detail: the event, its categories and one bounded attendee projection,
+// however many users are registered
+@EnabledIfSystemProperty(named = "test.db.url", matches = ".+")
+class EventServiceImplDetailStatementsTest extends PostgresJpaTest {
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private EventRegistrationRepository eventRegistrationRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private EventServiceImpl eventService;
+
+    @BeforeEach
+    void setUp() {
+        EventCacheProperties cacheProperties = new EventCacheProperties();
+        cacheProperties.setEnabled(false);
+
+        eventService = new EventServiceImpl(
+                new EventMapper(new CategoryMapper()),
+                eventRepository,
+                eventRegistrationRepository,
+                categoryRepository,
+                mock(EventSpecifications.class),
+                mock(SecurityUtils.class),
+                mock(SeatReservationEngine.class),
+                mock(WaitlistPromoter.class),
+                mock(CheckInEventCache.class),
+                mock(EventSearchIndex.class),
+                mock(EventSuggester.class),
+                new EventReadCache(cacheProperties, transactionManager, new SimpleMeterRegistry()));
+    }
+
+    @Test
+    void readsTheDetailWithThreeStatementsWhateverTheRosterSize() {
+        Category category = entityManager.persist(Category.builder()
+                .name("Technology")
+                .description("Software and hardware")
+                .build());
+        Event small = seedEvent("Meetup", category, 1);
+        Event large = seedEvent("Conference", category, EventServiceImpl.DETAIL_ATTENDEES + 15);
+        flushAndClear();
+
+        EventResponseDTO smallDetail = eventService.findById(small.getId());
+        long smallStatements = statements();
+        flushAndClear();
+
+        EventResponseDTO largeDetail = eventService.findById(large.getId());
+        long largeStatements = statements();
+
+        assertThat(smallStatements).isEqualTo(3);
+        assertThat(largeStatements).isEqualTo(3);
+        assertThat(smallDetail.categories()).hasSize(1);
+        assertThat(largeDetail.registeredUsers()).hasSize(EventServiceImpl.DETAIL_ATTENDEES)
+                .allSatisfy(user -> assertThat(user.roles()).containsExactlyInAnyOrder(Role.USER, Role.MANAGER));
+    }
+
+    private Event seedEvent(String title, Category category, int attendees) {
+        Event event = entityManager.persist(Event.builder()
+                .title(title)
+                .description(title + " description")
+                .startDate(LocalDateTime.now().plusDays(1))
+                .endDate(LocalDateTime.now().plusDays(2))
+                .location(EventLocation.ONLINE)
+                .capacity(1_000)
+                .status(EventStatus.PUBLISHED)
+                .registeredCount(attendees)
+                .categories(new HashSet<>(Set.of(category)))
+                .build());
+
+        for (int i = 0; i < attendees; i++) {
+            User user = entityManager.persist(User.builder()
+                    .email(title.toLowerCase() + i + "@example.com")
+                    .password("hash")
+                    .roles(Set.of(Role.USER, Role.MANAGER))
+                    .build());
+            entityManager.persist(EventRegistration.builder().user(user).event(event).build());
+        }
+
+        return event;
+    }
+}
@@ -0,0 +1,155 @@
+package com.attendify.attendify_api.event.service.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.attendify.attendify_api.event.cache.EventReadCache;
+import com.attendify.attendify_api.event.dto.EventRequestDTO;
+import com.attendify.attendify_api.event.dto.EventResponseDTO;
+import com.attendify.attendify_api.event.entity.Event;
+import com.attendify.attendify_api.event.entity.EventRegistration;
+import com.attendify.attendify_api.event.entity.enums.EventLocation;
+import com.attendify.attendify_api.event.entity.enums.EventStatus;
+import com.attendify.attendify_api.event.mapper.CategoryMapper;
+import com.attendify.attendify_api.event.mapper.EventMapper;
+import com.attendify.attendify_api.event.repository.EventRegistrationRepository;
+import com.attendify.attendify_api.event.repository.EventRegistrationRepository.AttendeeView;
+import com.attendify.attendify_api.event.repository.EventRepository;
+import com.attendify.attendify_api.event.search.EventSearchIndex;
+import com.attendify.attendify_api.event.search.EventSuggester;
+import com.attendify.attendify_api.user.dto.UserSummaryDTO;
+import com.attendify.attendify_api.user.entity.enums.Role;
+
+// Pins which repository calls the detail makes: the event lookup plus one bounded attendee projection, never the
+// registrations collection. The statements they issue are counted by EventServiceImplDetailStatementsTest.
+@ExtendWith(MockitoExtension.class)
+class EventServiceImplDetailTest {
+    private static final Long EVENT_ID = 7L;
+
+    @Spy
+    private EventMapper eventMapper = new EventMapper(new CategoryMapper());
+
+    @Mock
+    private EventRepository eventRepository;
+
+    @Mock
+    private EventRegistrationRepository eventRegistrationRepository;
+
+    @Mock
+    private EventSearchIndex eventSearchIndex;
+
+    @Mock
+    private EventSuggester eventSuggester;
+
+    @Mock
+    private EventReadCache eventReadCache;
+
+    @InjectMocks
+    private EventServiceImpl eventService;
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void readsTheDetailWithOneBoundedProjectionInsteadOfWalkingRegistrations() {
+        Set<EventRegistration> registrations = mock(Set.class);
+        loadThroughCache();
+        when(eventRepository.findById(EVENT_ID)).thenReturn(Optional.of(event(registrations, 1_500)));
+        when(eventRegistrationRepository.findFirstAttendees(EVENT_ID, EventServiceImpl.DETAIL_ATTENDEES))
+                .thenReturn(List.of(attendee(1L, "ADMIN,USER"), attendee(2L, "USER")));
+
+        EventResponseDTO detail = eventService.findById(EVENT_ID);
+
+        assertThat(detail.registeredCount()).isEqualTo(1_500);
+        assertThat(detail.registeredUsers()).extracting(UserSummaryDTO::id).containsExactly(1L, 2L);
+        assertThat(detail.registeredUsers().get(0).roles()).containsExactlyInAnyOrder(Role.ADMIN, Role.USER);
+
+        verify(eventRepository).findById(EVENT_ID);
+        verify(eventRegistrationRepository).findFirstAttendees(EVENT_ID, EventServiceImpl.DETAIL_ATTENDEES);
+        verifyNoMoreInteractions(eventRepository, eventRegistrationRepository);
+        verifyNoInteractions(registrations);
+    }
+
+    @Test
+    void mapsAttendeesWithoutRolesToAnEmptySet() {
+        loadThroughCache();
+        when(eventRepository.findById(EVENT_ID)).thenReturn(Optional.of(event(Set.of(), 1)));
+        when(eventRegistrationRepository.findFirstAttendees(EVENT_ID, EventServiceImpl.DETAIL_ATTENDEES))
+                .thenReturn(List.of(attendee(3L, null)));
+
+        EventResponseDTO detail = eventService.findById(EVENT_ID);
+
+        assertThat(detail.registeredUsers()).singleElement()
+                .satisfies(user -> assertThat(user.roles()).isEmpty());
+    }
+
+    @Test
+    void skipsTheAttendeeQueryForANewEvent() {
+        when(eventRepository.save(any(Event.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        EventResponseDTO created = eventService.create(new EventRequestDTO("Meetup", "Monthly meetup",
+                LocalDateTime.now().plusDays(1), LocalDateTime.now().plusDays(2), EventLocation.ONLINE, 50,
+                EventStatus.DRAFT, null, Set.of()));
+
+        assertThat(created.registeredUsers()).isEmpty();
+        verify(eventRegistrationRepository, never()).findFirstAttendees(anyLong(), anyInt());
+    }
+
+    // Every read misses, so the loader behind the cache is what gets measured
+    @SuppressWarnings("unchecked")
+    private void loadThroughCache() {
+        when(eventReadCache.detail(eq(EVENT_ID), any()))
+                .thenAnswer(invocation -> ((Supplier<EventResponseDTO>) invocation.getArgument(1)).get());
+    }
+
+    private static Event event(Set<EventRegistration> registrations, int registeredCount) {
+        Event event = Event.builder()
+                .title("Conference")
+                .capacity(2_000)
+                .status(EventStatus.PUBLISHED)
+                .registrations(registrations)
+                .build();
+        event.setId(EVENT_ID);
+        event.setRegisteredCount(registeredCount);
+        return event;
+    }
+
+    private static AttendeeView attendee(Long id, String roles) {
+        return new AttendeeView() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public String getEmail() {
+                return "user" + id + "@example.com";
+            }
+
+            @Override
+            public String getRoles() {
+                return roles;
+            }
+        };
+    }
+}
@@ -0,0 +1,176 @@
+package com.attendify.attendify_api.shared.idempotency;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.servlet.HandlerExceptionResolver;
+
+import com.attendify.attendify_api.shared.exception.BadRequestException;
+import com.attendify.attendify_api.shared.exception.DuplicateException;
+import com.attendify.attendify_api.shared.security.CustomUserDetails;
+import com.attendify.attendify_api.shared.security.TokenHashUtils;
+import com.attendify.attendify_api.user.entity.enums.Role;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.http.HttpServletResponse;
+
+class IdempotencyFilterTest {
+    private static final String PATH = "/attendify/v1/registrations";
+    private static final String BODY = "{\"eventId\":3}";
+
+    private final AtomicInteger executions = new AtomicInteger();
+    private final FilterChain createRegistration = (request, response) -> {
+        executions.incrementAndGet();
+        request.getInputStream().readAllBytes();
+
+        HttpServletResponse http = (HttpServletResponse) response;
+        http.setStatus(201);
+        http.setContentType("application/json");
+        http.getOutputStream().write(("{\"id\":" + executions.get() + "}").getBytes(StandardCharsets.UTF_8));
+    };
+
+    private IdempotencyRecordRepository repository;
+    private HandlerExceptionResolver handlerExceptionResolver;
+    private IdempotencyFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        IdempotencyProperties properties = new IdempotencyProperties();
+        IdempotencyProperties.Endpoint register = new IdempotencyProperties.Endpoint();
+        register.setMethod("POST");
+        register.setPath(PATH);
+        properties.getEndpoints().put("register", register);
+
+        repository = mock(IdempotencyRecordRepository.class);
+        when(repository.findByKeyHashAndExpiresAtAfter(anyString(), any())).thenReturn(Optional.empty());
+        when(repository.claim(anyString(), anyString(), any(), any())).thenReturn(1);
+
+        handlerExceptionResolver = mock(HandlerExceptionResolver.class);
+        filter = new IdempotencyFilter(new IdempotencyStore(repository, properties, new SimpleMeterRegistry()),
+                properties, handlerExceptionResolver);
+
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+                CustomUserDetails.fromClaims(7L, "user@example.com", Set.of(Role.USER), 0L), null, Set.of()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void replaysTheFirstResponseWithoutRunningTheRequestAgain() throws Exception {
+        MockHttpServletResponse first = send("key-1", BODY, createRegistration);
+        MockHttpServletResponse retry = send("key-1", BODY, createRegistration);
+
+        assertThat(executions).hasValue(1);
+        assertThat(retry.getStatus()).isEqualTo(201);
+        assertThat(retry.getContentAsString()).isEqualTo(first.getContentAsString());
+        assertThat(retry.getHeader(IdempotencyFilter.REPLAYED_HEADER)).isEqualTo("true");
+        verify(repository).complete(anyString(), anyInt(), any(), any(), any());
+    }
+
+    @Test
+    void rejectsAKeyReusedWithAnotherBody() throws Exception {
+        send("key-1", BODY, createRegistration);
+        send("key-1", "{\"eventId\":4}", createRegistration);
+
+        ArgumentCaptor<Exception> captor = ArgumentCaptor.forClass(Exception.class);
+        verify(handlerExceptionResolver).resolveException(any(), any(), isNull(), captor.capture());
+
+        assertThat(executions).hasValue(1);
+        assertThat(captor.getValue()).isInstanceOf(BadRequestException.class);
+    }
+
+    @Test
+    void runsAgainAfterAServerError() throws Exception {
+        FilterChain failing = (request, response) -> {
+            executions.incrementAndGet();
+            ((HttpServletResponse) response).setStatus(503);
+        };
+
+        send("key-1", BODY, failing);
+        MockHttpServletResponse retry = send("key-1", BODY, createRegistration);
+
+        assertThat(executions).hasValue(2);
+        assertThat(retry.getStatus()).isEqualTo(201);
+        assertThat(retry.getHeader(IdempotencyFilter.REPLAYED_HEADER)).isNull();
+        verify(repository).deletePending(anyString());
+    }
+
+    @Test
+    void rejectsAKeyClaimedOnAnotherNode() throws Exception {
+        when(repository.claim(anyString(), anyString(), any(), any())).thenReturn(0);
+        when(repository.findByKeyHashAndExpiresAtAfter(anyString(), any())).thenReturn(Optional.of(
+                IdempotencyRecord.builder()
+                        .requestHash(HexFormat.of().formatHex(TokenHashUtils.sha256(BODY)))
+                        .expiresAt(LocalDateTime.now().plusMinutes(2))
+                        .build()));
+
+        send("key-1", BODY, createRegistration);
+
+        ArgumentCaptor<Exception> captor = ArgumentCaptor.forClass(Exception.class);
+        verify(handlerExceptionResolver).resolveException(any(), any(), isNull(), captor.capture());
+
+        assertThat(executions).hasValue(0);
+        assertThat(captor.getValue()).isInstanceOf(DuplicateException.class);
+    }
+
+    @Test
+    void scopesKeysToTheUser() throws Exception {
+        send("key-1", BODY, createRegistration);
+
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+                CustomUserDetails.fromClaims(8L, "other@example.com", Set.of(Role.USER), 0L), null, Set.of()));
+        send("key-1", BODY, createRegistration);
+
+        assertThat(executions).hasValue(2);
+    }
+
+    @Test
+    void ignoresRequestsWithoutKey() throws Exception {
+        send(null, BODY, createRegistration);
+        send(null, BODY, createRegistration);
+
+        assertThat(executions).hasValue(2);
+        verify(repository, never()).findByKeyHashAndExpiresAtAfter(anyString(), any());
+    }
+
+    private MockHttpServletResponse send(String key, String body, FilterChain chain) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", PATH);
+        request.setServletPath(PATH);
+        request.setContentType("application/json");
+        request.setContent(body.getBytes(StandardCharsets.UTF_8));
+
+        if (key != null)
+            request.addHeader(IdempotencyFilter.HEADER, key);
+
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, chain);
+
+        return response;
+    }
+}
@@ -0,0 +1,39 @@
+package com.attendify.attendify_api.shared.mapper;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
+
+import com.attendify.attendify_api.shared.dto.PageResponseDTO;
+
+class PageMappingUtilsTest {
+    @Test
+    void fillsTotalsFromACountedPage() {
+        PageResponseDTO<String> response = PageMappingUtils.toPageResponse(
+                new PageImpl<>(List.of(1, 2), PageRequest.of(0, 2), 5), String::valueOf);
+
+        assertThat(response.items()).containsExactly("1", "2");
+        assertThat(response.totalItems()).isEqualTo(5L);
+        assertThat(response.totalPages()).isEqualTo(3L);
+        assertThat(response.hasNext()).isTrue();
+        assertThat(response.isLast()).isFalse();
+    }
+
+    @Test
+    void leavesTotalsEmptyForASlice() {
+        PageResponseDTO<String> response = PageMappingUtils.toPageResponse(
+                new SliceImpl<>(List.of(3), PageRequest.of(1, 2), false), String::valueOf);
+
+        assertThat(response.items()).containsExactly("3");
+        assertThat(response.page()).isEqualTo(1);
+        assertThat(response.totalItems()).isNull();
+        assertThat(response.totalPages()).isNull();
+        assertThat(response.hasNext()).isFalse();
+        assertThat(response.isLast()).isTrue();
+    }
+}
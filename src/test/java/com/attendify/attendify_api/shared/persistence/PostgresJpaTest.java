@@ -0,0 +1,61 @@
+package com.attendify.attendify_api.shared.persistence;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import com.attendify.attendify_api.shared.config.JpaConfig;
+
+import jakarta.persistence.EntityManagerFactory;
+
+// Repository slice on a real PostgreSQL, the native queries and generated columns do not run anywhere else.
+// Counts every JDBC statement Hibernate prepares, native queries and lazy loads included.
+// Subclasses are skipped unless a database is given, JUnit does not inherit the condition so each one carries
+// @EnabledIfSystemProperty(named = "test.db.url", matches = ".+"). Run with:
+//     ./mvnw test -Dtest.db.url=jdbc:postgresql://localhost:5432/attendify_test -Dtest.db.user=... -Dtest.db.password=...
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(JpaConfig.class)
+public abstract class PostgresJpaTest {
+    @Autowired
+    protected TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @DynamicPropertySource
+    static void database(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", () -> System.getProperty("test.db.url"));
+        registry.add("spring.datasource.username", () -> System.getProperty("test.db.user", "postgres"));
+        registry.add("spring.datasource.password", () -> System.getProperty("test.db.password", "postgres"));
+        registry.add("spring.jpa.hibernate.ddl-auto", () -> "create-drop");
+        registry.add("spring.jpa.properties.hibernate.generate_statistics", () -> "true");
+    }
+
+    @BeforeEach
+    void resetStatistics() {
+        statistics().clear();
+    }
+
+    // Writes the seeded rows and forgets them, so the code under test reads everything from the database
+    protected void flushAndClear() {
+        entityManager.flush();
+        entityManager.clear();
+        statistics().clear();
+    }
+
+    protected long statements() {
+        return statistics().getPrepareStatementCount();
+    }
+
+    private Statistics statistics() {
+        return entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+}
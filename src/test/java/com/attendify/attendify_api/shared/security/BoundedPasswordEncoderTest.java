@@ -0,0 +1,140 @@
+package com.attendify.attendify_api.shared.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+
+import com.attendify.attendify_api.shared.exception.GlobalExceptionHandler;
+import com.attendify.attendify_api.shared.exception.TooManyRequestsException;
+import com.attendify.attendify_api.user.entity.User;
+import com.attendify.attendify_api.user.entity.enums.Role;
+
+// Provider wired as in ApplicationConfig, on a one-thread executor without a queue so it can be saturated on demand
+class BoundedPasswordEncoderTest {
+    private static final String PASSWORD = "correct horse";
+
+    private final BCryptPasswordEncoder bcrypt = new BCryptPasswordEncoder(4);
+    private final AtomicInteger submitted = new AtomicInteger();
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    private ThreadPoolExecutor executor;
+    private CustomUserDetailsService userDetailsService;
+    private DaoAuthenticationProvider provider;
+
+    @BeforeEach
+    void setUp() {
+        executor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS, new SynchronousQueue<>()) {
+            @Override
+            protected void beforeExecute(Thread thread, Runnable task) {
+                submitted.incrementAndGet();
+            }
+        };
+
+        DelegatingPasswordEncoder delegating = new DelegatingPasswordEncoder("bcrypt", Map.of("bcrypt", bcrypt));
+        delegating.setDefaultPasswordEncoderForMatches(bcrypt);
+        BoundedPasswordEncoder encoder = new BoundedPasswordEncoder(delegating, executor, Duration.ofSeconds(5));
+
+        userDetailsService = mock(CustomUserDetailsService.class);
+        when(userDetailsService.updatePassword(any(), anyString()))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+
+        provider = new DaoAuthenticationProvider();
+        provider.setUserDetailsService(userDetailsService);
+        provider.setPasswordEncoder(encoder.forAuthentication());
+        provider.setHideUserNotFoundExceptions(false);
+        provider.setUserDetailsPasswordService(userDetailsService);
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        executor.shutdownNow();
+    }
+
+    @Test
+    void answers429WithRetryAfterWhenTheExecutorIsFull() {
+        givenStoredHash("{bcrypt}" + bcrypt.encode(PASSWORD));
+        executor.execute(() -> awaitRelease());
+
+        assertThatThrownBy(this::login)
+                .isInstanceOfSatisfying(TooManyRequestsException.class, ex -> {
+                    var response = new GlobalExceptionHandler().handleTooManyRequestsException(ex);
+
+                    assertThat(response.getStatusCode()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS);
+                    assertThat(response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER)).isEqualTo("1");
+                });
+    }
+
+    @Test
+    void upgradesALegacyHashWithoutUsingTheExecutor() {
+        givenStoredHash(bcrypt.encode(PASSWORD));
+
+        assertThat(login().isAuthenticated()).isTrue();
+
+        ArgumentCaptor<String> upgraded = ArgumentCaptor.forClass(String.class);
+        verify(userDetailsService).updatePassword(any(), upgraded.capture());
+
+        assertThat(upgraded.getValue()).startsWith("{bcrypt}");
+        assertThat(bcrypt.matches(PASSWORD, upgraded.getValue().substring("{bcrypt}".length()))).isTrue();
+        // Only the verification went through the executor, the upgrade ran on the caller thread
+        assertThat(submitted).hasValue(1);
+    }
+
+    @Test
+    void keepsCurrentHashesAsTheyAre() {
+        givenStoredHash("{bcrypt}" + bcrypt.encode(PASSWORD));
+
+        assertThat(login().isAuthenticated()).isTrue();
+
+        verify(userDetailsService, never()).updatePassword(any(), anyString());
+    }
+
+    private void givenStoredHash(String hash) {
+        UserDetails user = new CustomUserDetails(User.builder()
+                .id(1L)
+                .email("user@example.com")
+                .password(hash)
+                .roles(Set.of(Role.USER))
+                .build());
+        when(userDetailsService.loadUserByUsername("user@example.com")).thenReturn(user);
+    }
+
+    private Authentication login() {
+        return provider.authenticate(UsernamePasswordAuthenticationToken.unauthenticated("user@example.com", PASSWORD));
+    }
+
+    private void awaitRelease() {
+        try {
+            release.await();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
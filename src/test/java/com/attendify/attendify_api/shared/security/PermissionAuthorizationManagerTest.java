@@ -0,0 +1,219 @@
+package com.attendify.attendify_api.shared.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.aopalliance.intercept.MethodInvocation;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.core.type.filter.AnnotationTypeFilter;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.authorization.AuthorityAuthorizationManager;
+import org.springframework.security.authorization.AuthorizationResult;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.util.ClassUtils;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.attendify.attendify_api.user.entity.enums.Permission;
+import com.attendify.attendify_api.user.entity.enums.Role;
+
+// Enumerates every mapped endpoint and checks that @RequiresPermission grants exactly
+// what the former @PreAuthorize("hasAuthority('...')") expressions granted
+class PermissionAuthorizationManagerTest {
+    private static final String BASE_PACKAGE = "com.attendify.attendify_api";
+
+    // Endpoints that were guarded by hasAuthority, with the authority they required
+    private static final Map<String, Permission> GUARDED = Map.ofEntries(
+            Map.entry("POST /attendify/v1/auth/register", Permission.USER_FORCE_CREATE),
+
+            Map.entry("GET /attendify/v1/users/{id}", Permission.USER_FORCE_READ),
+            Map.entry("DELETE /attendify/v1/users/{id}", Permission.USER_FORCE_DELETE),
+            Map.entry("PUT /attendify/v1/users/{id}/restore", Permission.USER_RESTORE),
+            Map.entry("GET /attendify/v1/users", Permission.USER_READ_ALL),
+            Map.entry("GET /attendify/v1/users/deleted", Permission.USER_READ_DELETED),
+            Map.entry("GET /attendify/v1/users/with-deleted", Permission.USER_READ_WITH_DELETED),
+
+            Map.entry("POST /attendify/v1/events", Permission.EVENT_CREATE),
+            Map.entry("PUT /attendify/v1/events/{id}", Permission.EVENT_UPDATE),
+            Map.entry("DELETE /attendify/v1/events/{id}", Permission.EVENT_DELETE),
+            Map.entry("PUT /attendify/v1/events/{id}/restore", Permission.EVENT_RESTORE),
+            Map.entry("GET /attendify/v1/events/deleted", Permission.EVENT_READ_DELETED),
+            Map.entry("GET /attendify/v1/events/with-deleted", Permission.EVENT_READ_WITH_DELETED),
+
+            Map.entry("POST /attendify/v1/categories", Permission.CATEGORY_CREATE),
+            Map.entry("PUT /attendify/v1/categories/{id}", Permission.CATEGORY_UPDATE),
+            Map.entry("DELETE /attendify/v1/categories/{id}", Permission.CATEGORY_DELETE),
+            Map.entry("PUT /attendify/v1/categories/{id}/restore", Permission.CATEGORY_RESTORE),
+            Map.entry("GET /attendify/v1/categories/deleted", Permission.CATEGORY_READ_DELETED),
+            Map.entry("GET /attendify/v1/categories/with-deleted", Permission.CATEGORY_READ_WITH_DELETED),
+
+            Map.entry("POST /attendify/v1/registrations/force", Permission.EVENT_REGISTRATION_CREATE),
+            Map.entry("POST /attendify/v1/registrations/force/bulk", Permission.EVENT_REGISTRATION_CREATE),
+            Map.entry("DELETE /attendify/v1/registrations/{id}", Permission.EVENT_REGISTRATION_DELETE),
+            Map.entry("PUT /attendify/v1/registrations/{id}/restore", Permission.EVENT_REGISTRATION_RESTORE),
+            Map.entry("PUT /attendify/v1/registrations/{id}/check-in", Permission.EVENT_REGISTRATION_CHECKIN),
+            Map.entry("PUT /attendify/v1/registrations/check-in/batch", Permission.EVENT_REGISTRATION_CHECKIN),
+            Map.entry("POST /attendify/v1/registrations/check-in/scan", Permission.EVENT_REGISTRATION_CHECKIN),
+            Map.entry("GET /attendify/v1/registrations/roster/{eventId}", Permission.EVENT_REGISTRATION_READ_BY_EVENT),
+            Map.entry("GET /attendify/v1/registrations/roster/{eventId}/changes", Permission.EVENT_REGISTRATION_READ_BY_EVENT),
+            Map.entry("POST /attendify/v1/registrations/roster/{eventId}/reconcile", Permission.EVENT_REGISTRATION_CHECKIN),
+            Map.entry("GET /attendify/v1/registrations/{eventId}", Permission.EVENT_REGISTRATION_READ_BY_EVENT),
+            Map.entry("GET /attendify/v1/registrations/{eventId}/cursor", Permission.EVENT_REGISTRATION_READ_BY_EVENT),
+            Map.entry("GET /attendify/v1/registrations", Permission.EVENT_REGISTRATION_FORCE_READ),
+            Map.entry("GET /attendify/v1/registrations/deleted", Permission.EVENT_REGISTRATION_READ_DELETED),
+            Map.entry("GET /attendify/v1/registrations/with-deleted",
+                    Permission.EVENT_REGISTRATION_READ_WITH_DELETED));
+
+    // Endpoints open to any caller that passes the filter chain
+    private static final Set<String> UNGUARDED = Set.of(
+            "POST /attendify/v1/auth/register-user",
+            "POST /attendify/v1/auth/login",
+            "POST /attendify/v1/auth/refresh-token",
+            "POST /attendify/v1/auth/logout",
+            "POST /attendify/v1/auth/password",
+            "POST /attendify/v1/auth/email",
+
+            "GET /attendify/v1/users/me",
+            "DELETE /attendify/v1/users/me",
+
+            "GET /attendify/v1/events/{id}",
+            "GET /attendify/v1/events",
+            "GET /attendify/v1/events/suggest",
+            "GET /attendify/v1/events/{id}/category",
+
+            "GET /attendify/v1/categories/{id}",
+            "GET /attendify/v1/categories",
+
+            "POST /attendify/v1/registrations",
+            "POST /attendify/v1/registrations/intake",
+            "GET /attendify/v1/registrations/intake/{ticketId}",
+            "GET /attendify/v1/registrations/me",
+            "GET /attendify/v1/registrations/me/cursor",
+            "GET /attendify/v1/registrations/waitlist/{eventId}",
+            "DELETE /attendify/v1/registrations/waitlist/{eventId}",
+            "GET /attendify/v1/registrations/{id}/pass");
+
+    private static final Map<String, Method> endpoints = new HashMap<>();
+
+    private final PermissionAuthorizationManager manager = new PermissionAuthorizationManager();
+
+    @BeforeAll
+    static void scanEndpoints() throws ClassNotFoundException {
+        var scanner = new ClassPathScanningCandidateComponentProvider(false);
+        scanner.addIncludeFilter(new AnnotationTypeFilter(RestController.class));
+
+        for (var definition : scanner.findCandidateComponents(BASE_PACKAGE)) {
+            Class<?> controller = ClassUtils.forName(definition.getBeanClassName(), null);
+            RequestMapping classMapping = AnnotatedElementUtils.findMergedAnnotation(controller, RequestMapping.class);
+            String prefix = classMapping != null && classMapping.path().length > 0 ? classMapping.path()[0] : "";
+
+            for (Method method : controller.getDeclaredMethods()) {
+                RequestMapping mapping = AnnotatedElementUtils.findMergedAnnotation(method, RequestMapping.class);
+
+                if (mapping == null)
+                    continue;
+
+                String path = mapping.path().length > 0 ? mapping.path()[0] : "";
+                String key = mapping.method()[0] + " " + prefix + path;
+
+                assertThat(endpoints.put(key, method)).as("duplicate mapping %s", key).isNull();
+            }
+        }
+    }
+
+    @Test
+    void everyEndpointIsListed() {
+        Set<String> expected = new HashSet<>(GUARDED.keySet());
+        expected.addAll(UNGUARDED);
+
+        assertThat(endpoints.keySet()).containsExactlyInAnyOrderElementsOf(expected);
+    }
+
+    @Test
+    void noEndpointUsesExpressionBasedAuthorization() {
+        endpoints.forEach((key, method) -> assertThat(
+                AnnotatedElementUtils.hasAnnotation(method, PreAuthorize.class))
+                .as(key)
+                .isFalse());
+    }
+
+    @Test
+    void resolvesTheRequiredPermissionOfEveryEndpoint() {
+        endpoints.forEach((key, method) -> assertThat(manager.resolve(method, method.getDeclaringClass()))
+                .as(key)
+                .isEqualTo(GUARDED.get(key)));
+    }
+
+    @Test
+    void grantsExactlyWhatHasAuthorityGranted() {
+        List<Authentication> callers = callers();
+
+        GUARDED.forEach((key, permission) -> {
+            Method method = endpoints.get(key);
+            MethodInvocation invocation = invocationOf(method);
+            var reference = AuthorityAuthorizationManager.<MethodInvocation>hasAuthority(permission.name());
+
+            for (Authentication caller : callers) {
+                AuthorizationResult actual = manager.authorize(() -> caller, invocation);
+                AuthorizationResult expected = reference.authorize(() -> caller, invocation);
+
+                assertThat(actual.isGranted())
+                        .as("%s for %s", key, caller.getAuthorities())
+                        .isEqualTo(expected.isGranted());
+            }
+        });
+    }
+
+    @Test
+    void abstainsOnUnguardedEndpoints() {
+        Authentication caller = callers().get(0);
+
+        for (String key : UNGUARDED)
+            assertThat(manager.authorize(() -> caller, invocationOf(endpoints.get(key)))).as(key).isNull();
+    }
+
+    // One principal per role and role combination, plus generic and anonymous tokens
+    private static List<Authentication> callers() {
+        List<Authentication> callers = new ArrayList<>();
+
+        for (Role role : Role.values())
+            callers.add(authenticated(Set.of(role)));
+
+        callers.add(authenticated(Set.of(Role.USER, Role.MANAGER)));
+        callers.add(authenticated(Set.of()));
+        callers.add(new TestingAuthenticationToken("other", null, Permission.EVENT_CREATE.name()));
+        callers.add(new AnonymousAuthenticationToken("key", "anonymous",
+                AuthorityUtils.createAuthorityList("ROLE_ANONYMOUS")));
+
+        return callers;
+    }
+
+    private static Authentication authenticated(Set<Role> roles) {
+        CustomUserDetails userDetails = CustomUserDetails.fromClaims(1L, "user@attendify.com", roles, 0L);
+
+        return new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
+    }
+
+    private static MethodInvocation invocationOf(Method method) {
+        MethodInvocation invocation = mock(MethodInvocation.class);
+
+        when(invocation.getMethod()).thenReturn(method);
+        return invocation;
+    }
+}
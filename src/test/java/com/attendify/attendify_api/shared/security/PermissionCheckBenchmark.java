@@ -0,0 +1,74 @@
+package com.attendify.attendify_api.shared.security;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import com.attendify.attendify_api.user.entity.User;
+import com.attendify.attendify_api.user.entity.enums.Permission;
+import com.attendify.attendify_api.user.entity.enums.Role;
+
+// Cost of a single SecurityUtils.hasPermission check: streamed authorities against the precomputed bitmask.
+// Run with: ./mvnw test-compile exec:java -Dexec.mainClass=<this class> -Dexec.classpathScope=test
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PermissionCheckBenchmark {
+    private Set<Role> roles;
+    private CustomUserDetails principal;
+
+    @Setup
+    public void setup() {
+        roles = Set.of(Role.USER, Role.MANAGER);
+        principal = new CustomUserDetails(User.builder()
+                .id(1L)
+                .email("bench@example.com")
+                .password("irrelevant")
+                .roles(roles)
+                .build());
+    }
+
+    // Previous path: rebuild the authority set from the roles, then compare names
+    @Benchmark
+    public boolean streamedAuthorities() {
+        Set<GrantedAuthority> authorities = roles.stream()
+                .flatMap(role -> role.getPermissions().stream())
+                .map(permission -> new SimpleGrantedAuthority(permission.name()))
+                .collect(Collectors.toUnmodifiableSet());
+
+        return authorities.stream()
+                .anyMatch(a -> a.getAuthority().equals(Permission.EVENT_REGISTRATION_FORCE_CREATE.name()));
+    }
+
+    // Current path: one AND against the principal's mask
+    @Benchmark
+    public boolean bitmask() {
+        return principal.hasPermission(Permission.EVENT_REGISTRATION_FORCE_CREATE);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(PermissionCheckBenchmark.class.getSimpleName())
+                .build())
+                .run();
+    }
+}
@@ -0,0 +1,101 @@
+package com.attendify.attendify_api.shared.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+import com.attendify.attendify_api.shared.security.jwt.JwtProperties;
+
+// Rows returned by the mocked query stand in for users changed on any instance
+class SecurityVersionRegistryTest {
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+    private final List<long[]> changedUsers = new ArrayList<>();
+
+    private SecurityVersionRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        JwtProperties jwtProperties = new JwtProperties();
+        jwtProperties.setAccessExpirationMs(900_000L);
+        jwtProperties.setRefreshExpirationMs(604_800_000L);
+
+        registry = new SecurityVersionRegistry(jwtProperties, jdbcTemplate);
+
+        doAnswer(invocation -> {
+            RowCallbackHandler handler = invocation.getArgument(1);
+            for (long[] user : changedUsers)
+                handler.processRow(row(user[0], user[1]));
+            return null;
+        }).when(jdbcTemplate).query(anyString(), any(RowCallbackHandler.class), any(Object.class));
+    }
+
+    @Test
+    void rejectsEveryTokenUntilTheVersionsAreLoaded() {
+        assertThat(registry.isCurrent(1L, 0)).isFalse();
+
+        registry.seed();
+
+        assertThat(registry.isCurrent(1L, 0)).isTrue();
+    }
+
+    @Test
+    void keepsRevocationsMadeBeforeARestart() {
+        changedUsers.add(new long[] { 7L, 3L });
+
+        registry.seed();
+
+        assertThat(registry.isCurrent(7L, 2)).isFalse();
+        assertThat(registry.isCurrent(7L, 3)).isTrue();
+        assertThat(registry.isCurrent(8L, 0)).isTrue();
+    }
+
+    @Test
+    void followsVersionsBumpedOnAnotherInstance() {
+        registry.seed();
+        assertThat(registry.isCurrent(7L, 0)).isTrue();
+
+        changedUsers.add(new long[] { 7L, 1L });
+        registry.sync();
+
+        assertThat(registry.isCurrent(7L, 0)).isFalse();
+    }
+
+    @Test
+    void retriesTheSeedWhenTheDatabaseWasUnavailable() {
+        doThrow(new DataAccessResourceFailureException("down"))
+                .when(jdbcTemplate).query(anyString(), any(RowCallbackHandler.class), any(Object.class));
+
+        registry.seed();
+        assertThat(registry.isCurrent(1L, 0)).isFalse();
+
+        doAnswer(invocation -> null)
+                .when(jdbcTemplate).query(anyString(), any(RowCallbackHandler.class), any(Object.class));
+        registry.sync();
+
+        assertThat(registry.isCurrent(1L, 0)).isTrue();
+    }
+
+    private static ResultSet row(long userId, long securityVersion) throws Exception {
+        ResultSet rs = mock(ResultSet.class);
+        when(rs.getLong(1)).thenReturn(userId);
+        when(rs.getLong(2)).thenReturn(securityVersion);
+        when(rs.getTimestamp(3)).thenReturn(Timestamp.valueOf(LocalDateTime.now()));
+        return rs;
+    }
+}
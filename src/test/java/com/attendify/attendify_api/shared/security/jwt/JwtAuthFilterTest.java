@@ -0,0 +1,74 @@
+package com.attendify.attendify_api.shared.security.jwt;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.Base64;
+import java.util.Set;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import com.attendify.attendify_api.auth.entity.enums.TokenPurpose;
+import com.attendify.attendify_api.shared.security.CustomUserDetails;
+import com.attendify.attendify_api.shared.security.SecurityConstants;
+import com.attendify.attendify_api.shared.security.SecurityVersionRegistry;
+import com.attendify.attendify_api.user.entity.enums.Role;
+
+class JwtAuthFilterTest {
+    private final CustomUserDetails user = CustomUserDetails.fromClaims(1L, "user@example.com", Set.of(Role.USER), 0L);
+
+    private JwtService jwtService;
+    private JwtAuthFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        JwtProperties properties = new JwtProperties();
+        properties.setSecretKey(Base64.getEncoder().encodeToString(new byte[32]));
+        properties.setAccessExpirationMs(900_000L);
+        properties.setRefreshExpirationMs(604_800_000L);
+
+        SecurityVersionRegistry securityVersionRegistry = mock(SecurityVersionRegistry.class);
+        when(securityVersionRegistry.isCurrent(anyLong(), anyLong())).thenReturn(true);
+
+        jwtService = new JwtService(properties);
+        filter = new JwtAuthFilter(jwtService, securityVersionRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void authenticatesAccessTokens() throws Exception {
+        Authentication authentication = filter(jwtService.generateToken(user, TokenPurpose.ACCESS));
+
+        assertThat(authentication).isNotNull();
+        assertThat(authentication.getPrincipal()).isInstanceOfSatisfying(CustomUserDetails.class,
+                principal -> assertThat(principal.getId()).isEqualTo(1L));
+    }
+
+    @Test
+    void ignoresRefreshTokensSentAsBearer() throws Exception {
+        assertThat(filter(jwtService.generateToken(user, TokenPurpose.REFRESH))).isNull();
+    }
+
+    private Authentication filter(String token) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/attendify/v1/events");
+        request.setServletPath("/attendify/v1/events");
+        request.addHeader(SecurityConstants.AUTHORIZATION_HEADER, SecurityConstants.BEARER_PREFIX + token);
+
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+
+        return SecurityContextHolder.getContext().getAuthentication();
+    }
+}
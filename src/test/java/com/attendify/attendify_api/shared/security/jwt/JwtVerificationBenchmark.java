@@ -0,0 +1,98 @@
+package com.attendify.attendify_api.shared.security.jwt;
+
+import java.util.Date;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import javax.crypto.SecretKey;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.attendify.attendify_api.auth.entity.enums.TokenPurpose;
+import com.attendify.attendify_api.shared.security.CustomUserDetails;
+import com.attendify.attendify_api.user.entity.User;
+import com.attendify.attendify_api.user.entity.enums.Role;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+
+// Per-request cost of verifying an access token: the previous per-call key/parser path against the cached parser.
+// Run with: ./mvnw test-compile exec:java -Dexec.mainClass=<this class> -Dexec.classpathScope=test
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtVerificationBenchmark {
+    private static final String SECRET = "c2VjcmV0LWtleS1mb3ItYmVuY2htYXJrcy1vbmx5LTAxMjM0NTY3ODk=";
+
+    private JwtService jwtService;
+    private String token;
+
+    @Setup
+    public void setup() {
+        JwtProperties properties = new JwtProperties();
+        properties.setSecretKey(SECRET);
+        properties.setAccessExpirationMs(900_000L);
+        properties.setRefreshExpirationMs(604_800_000L);
+
+        jwtService = new JwtService(properties);
+
+        User user = User.builder()
+                .id(42L)
+                .email("bench@example.com")
+                .password("irrelevant")
+                .roles(Set.of(Role.MANAGER))
+                .build();
+
+        token = jwtService.generateToken(new CustomUserDetails(user), TokenPurpose.ACCESS);
+    }
+
+    // Previous filter path: extractUserId, then isTokenValid re-parsed for the subject and the expiration,
+    // decoding the secret and building a parser on every call
+    @Benchmark
+    public boolean perCallParser() {
+        Long userId = Long.valueOf(legacyParse(token).getSubject());
+        Long tokenUserId = Long.valueOf(legacyParse(token).getSubject());
+        Date expiration = legacyParse(token).getExpiration();
+
+        return userId.equals(tokenUserId) && !expiration.before(new Date());
+    }
+
+    // Current filter path: one verification with the cached parser
+    @Benchmark
+    public CustomUserDetails cachedParser() {
+        return jwtService.extractUserDetails(jwtService.verify(token));
+    }
+
+    private io.jsonwebtoken.Claims legacyParse(String jwt) {
+        SecretKey key = Keys.hmacShaKeyFor(Decoders.BASE64.decode(SECRET));
+
+        return Jwts.parser()
+                .verifyWith(key)
+                .build()
+                .parseSignedClaims(jwt)
+                .getPayload();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(JwtVerificationBenchmark.class.getSimpleName())
+                .build())
+                .run();
+    }
+}
@@ -0,0 +1,129 @@
+package com.attendify.attendify_api.shared.security.ratelimit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.util.StreamUtils;
+import org.springframework.web.servlet.HandlerExceptionResolver;
+
+import com.attendify.attendify_api.shared.exception.BadRequestException;
+import com.attendify.attendify_api.shared.exception.TooManyRequestsException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+class RateLimitFilterTest {
+    private static final String LOGIN_PATH = "/attendify/v1/auth/login";
+
+    private HandlerExceptionResolver handlerExceptionResolver;
+    private RateLimitFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        RateLimitProperties properties = new RateLimitProperties();
+        RateLimitProperties.Endpoint login = new RateLimitProperties.Endpoint();
+        login.setPath(LOGIN_PATH);
+        login.setPerIp(limit(100));
+        login.setPerEmail(limit(2));
+        properties.getEndpoints().put("login", login);
+
+        handlerExceptionResolver = mock(HandlerExceptionResolver.class);
+        filter = new RateLimitFilter(new RateLimiter(properties), properties, new ObjectMapper(),
+                handlerExceptionResolver);
+    }
+
+    @Test
+    void limitsTheSameEmailAcrossClientIps() throws Exception {
+        assertThat(login("10.0.0.1", "Victim@Example.com").getRequest()).isNotNull();
+        assertThat(login("10.0.0.2", "victim@example.com").getRequest()).isNotNull();
+
+        MockFilterChain rejected = login("10.0.0.3", " victim@example.com ");
+
+        ArgumentCaptor<Exception> captor = ArgumentCaptor.forClass(Exception.class);
+        verify(handlerExceptionResolver).resolveException(any(), any(), isNull(), captor.capture());
+
+        assertThat(rejected.getRequest()).isNull();
+        assertThat(captor.getValue()).isInstanceOfSatisfying(TooManyRequestsException.class,
+                ex -> assertThat(ex.getRetryAfterSeconds()).isEqualTo(30L));
+    }
+
+    @Test
+    void replaysThePeekedBodyDownstream() throws Exception {
+        String body = "{\"email\":\"user@example.com\",\"password\":\"secret\"}";
+
+        MockFilterChain chain = send("10.0.0.1", body);
+        HttpServletRequest forwarded = (HttpServletRequest) chain.getRequest();
+
+        assertThat(StreamUtils.copyToString(forwarded.getInputStream(), StandardCharsets.UTF_8)).isEqualTo(body);
+        verify(handlerExceptionResolver, never()).resolveException(any(), any(), any(), any());
+    }
+
+    @Test
+    void rejectsBodiesTooLargeToReadTheEmailFrom() throws Exception {
+        String padding = "x".repeat(5_000);
+
+        for (int i = 0; i < 3; i++) {
+            MockFilterChain rejected = send("10.0.0." + i,
+                    "{\"padding\":\"" + padding + "\",\"email\":\"victim@example.com\",\"password\":\"secret\"}");
+
+            assertThat(rejected.getRequest()).isNull();
+        }
+
+        ArgumentCaptor<Exception> captor = ArgumentCaptor.forClass(Exception.class);
+        verify(handlerExceptionResolver, times(3)).resolveException(any(), any(), isNull(), captor.capture());
+
+        assertThat(captor.getAllValues()).allSatisfy(ex -> assertThat(ex).isInstanceOf(BadRequestException.class));
+    }
+
+    @Test
+    void ignoresOtherPaths() throws Exception {
+        for (int i = 0; i < 10; i++) {
+            MockHttpServletRequest request = new MockHttpServletRequest("POST", "/attendify/v1/auth/logout");
+            request.setServletPath("/attendify/v1/auth/logout");
+            MockFilterChain chain = new MockFilterChain();
+
+            filter.doFilter(request, new MockHttpServletResponse(), chain);
+
+            assertThat(chain.getRequest()).isSameAs(request);
+        }
+    }
+
+    private MockFilterChain login(String ip, String email) throws Exception {
+        return send(ip, "{\"email\":\"" + email + "\",\"password\":\"secret\"}");
+    }
+
+    private MockFilterChain send(String ip, String body) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", LOGIN_PATH);
+        request.setServletPath(LOGIN_PATH);
+        request.setRemoteAddr(ip);
+        request.setContentType("application/json");
+        request.setContent(body.getBytes(StandardCharsets.UTF_8));
+
+        MockFilterChain chain = new MockFilterChain();
+        filter.doFilter(request, new MockHttpServletResponse(), chain);
+
+        return chain;
+    }
+
+    private static RateLimitProperties.Limit limit(int capacity) {
+        RateLimitProperties.Limit limit = new RateLimitProperties.Limit();
+        limit.setCapacity(capacity);
+        limit.setRefillPeriod(Duration.ofMinutes(1));
+
+        return limit;
+    }
+}
@@ -0,0 +1,87 @@
+package com.attendify.attendify_api.shared.security.ratelimit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class RateLimiterTest {
+    private final AtomicLong clock = new AtomicLong();
+    private RateLimitProperties properties;
+    private RateLimitProperties.Limit limit;
+
+    @BeforeEach
+    void setUp() {
+        properties = new RateLimitProperties();
+        properties.setStripes(4);
+        properties.setMaxBucketsPerStripe(1000);
+        properties.setIdleTimeout(Duration.ofMinutes(10));
+
+        limit = new RateLimitProperties.Limit();
+        limit.setCapacity(3);
+        limit.setRefillPeriod(Duration.ofSeconds(3));
+    }
+
+    @Test
+    void allowsBurstThenReportsWaitUntilNextToken() {
+        RateLimiter rateLimiter = new RateLimiter(properties, clock::get);
+
+        for (int i = 0; i < 3; i++)
+            assertThat(rateLimiter.tryAcquire("login:ip:10.0.0.1", limit)).isZero();
+
+        assertThat(rateLimiter.tryAcquire("login:ip:10.0.0.1", limit))
+                .isEqualTo(Duration.ofSeconds(1).toNanos());
+
+        // Other keys keep their own bucket
+        assertThat(rateLimiter.tryAcquire("login:ip:10.0.0.2", limit)).isZero();
+    }
+
+    @Test
+    void refillsContinuously() {
+        RateLimiter rateLimiter = new RateLimiter(properties, clock::get);
+
+        for (int i = 0; i < 3; i++)
+            rateLimiter.tryAcquire("key", limit);
+
+        clock.addAndGet(Duration.ofMillis(1500).toNanos());
+
+        assertThat(rateLimiter.tryAcquire("key", limit)).isZero();
+        assertThat(rateLimiter.tryAcquire("key", limit))
+                .isEqualTo(Duration.ofMillis(500).toNanos());
+    }
+
+    @Test
+    void evictsRefilledAndIdleBuckets() {
+        RateLimiter rateLimiter = new RateLimiter(properties, clock::get);
+
+        rateLimiter.tryAcquire("refilled", limit);
+        for (int i = 0; i < 3; i++)
+            rateLimiter.tryAcquire("drained", limit);
+
+        clock.addAndGet(Duration.ofSeconds(1).toNanos());
+        rateLimiter.evictIdle();
+
+        // The first bucket is full again and indistinguishable from a new one
+        assertThat(rateLimiter.size()).isEqualTo(1);
+
+        clock.addAndGet(Duration.ofSeconds(5).toNanos());
+        rateLimiter.evictIdle();
+
+        assertThat(rateLimiter.size()).isZero();
+    }
+
+    @Test
+    void boundsBucketsPerStripe() {
+        properties.setStripes(1);
+        properties.setMaxBucketsPerStripe(100);
+        RateLimiter rateLimiter = new RateLimiter(properties, clock::get);
+
+        for (int i = 0; i < 1000; i++)
+            rateLimiter.tryAcquire("login:ip:" + i, limit);
+
+        assertThat(rateLimiter.size()).isEqualTo(100);
+    }
+}
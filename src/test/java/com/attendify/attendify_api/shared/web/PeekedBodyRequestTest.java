@@ -0,0 +1,98 @@
+package com.attendify.attendify_api.shared.web;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletInputStream;
+
+class PeekedBodyRequestTest {
+
+    @Test
+    void replaysACompleteBodyToAnAsynchronousReader() throws Exception {
+        PeekedBodyRequest peeked = PeekedBodyRequest.peek(request("{\"email\":\"user@example.com\"}"), 64);
+        ServletInputStream input = peeked.getInputStream();
+        ByteArrayOutputStream read = new ByteArrayOutputStream();
+        boolean[] ended = { false };
+
+        input.setReadListener(new ReadListener() {
+            @Override
+            public void onDataAvailable() throws IOException {
+                byte[] buffer = new byte[8];
+                int count;
+
+                while (input.isReady() && (count = input.read(buffer)) != -1)
+                    read.write(buffer, 0, count);
+            }
+
+            @Override
+            public void onAllDataRead() {
+                ended[0] = true;
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+                throw new AssertionError(throwable);
+            }
+        });
+
+        assertThat(read.toString(StandardCharsets.UTF_8)).isEqualTo("{\"email\":\"user@example.com\"}");
+        assertThat(ended[0]).isTrue();
+        assertThat(input.isFinished()).isTrue();
+    }
+
+    @Test
+    void continuesWithTheRemainderOfALargerBody() throws Exception {
+        PeekedBodyRequest peeked = PeekedBodyRequest.peek(request("0123456789"), 4);
+
+        assertThat(peeked.getCompleteBody()).isNull();
+        assertThat(new String(peeked.getInputStream().readAllBytes(), StandardCharsets.UTF_8)).isEqualTo("0123456789");
+    }
+
+    // Container stream that reports its end as soon as a listener is set once everything was read, as Tomcat does
+    private static MockHttpServletRequest request(String body) {
+        ByteArrayInputStream bytes = new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8));
+        ServletInputStream stream = new ServletInputStream() {
+            @Override
+            public int read() {
+                return bytes.read();
+            }
+
+            @Override
+            public boolean isFinished() {
+                return bytes.available() == 0;
+            }
+
+            @Override
+            public boolean isReady() {
+                return true;
+            }
+
+            @Override
+            public void setReadListener(ReadListener readListener) {
+                try {
+                    if (!isFinished())
+                        readListener.onDataAvailable();
+
+                    readListener.onAllDataRead();
+                } catch (IOException ex) {
+                    readListener.onError(ex);
+                }
+            }
+        };
+
+        return new MockHttpServletRequest() {
+            @Override
+            public ServletInputStream getInputStream() {
+                return stream;
+            }
+        };
+    }
+}